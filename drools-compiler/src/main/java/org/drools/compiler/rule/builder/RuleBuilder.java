@@ -422,7 +422,7 @@ public class RuleBuilder {
         
         if ( "cron".equals( protocol ) ) {
             try {
-                return new CronTimer( exprCreator.apply(startDate), exprCreator.apply(endDate), repeatLimit, new CronExpression( body ) );
+                return new CronTimer( exprCreator.apply(startDate), exprCreator.apply(endDate), repeatLimit, CronExpression.of( body ) );
             } catch ( ParseException e ) {
                 errorManager.accept( "Unable to build set timer '" + timerString + "'" );
                 return null;
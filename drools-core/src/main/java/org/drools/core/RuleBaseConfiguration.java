@@ -28,6 +28,7 @@ import java.util.Properties;
 
 import org.drools.core.base.CoreComponentsBuilder;
 import org.drools.core.common.AgendaGroupFactory;
+import org.drools.core.common.SalienceBucketAgendaGroupFactory;
 import org.drools.core.reteoo.RuntimeComponentFactory;
 import org.drools.core.runtime.rule.impl.DefaultConsequenceExceptionHandler;
 import org.drools.core.spi.ConflictResolver;
@@ -50,16 +51,22 @@ import org.kie.api.conf.SingleValueKieBaseOption;
 import org.kie.api.runtime.rule.ConsequenceExceptionHandler;
 import org.kie.internal.builder.conf.ClassLoaderCacheOption;
 import org.kie.internal.conf.AlphaRangeIndexThresholdOption;
+import org.kie.internal.conf.AgendaQueueOption;
 import org.kie.internal.conf.AlphaThresholdOption;
+import org.kie.internal.conf.CompactEventHandlesOption;
 import org.kie.internal.conf.CompositeKeyDepthOption;
 import org.kie.internal.conf.ConsequenceExceptionHandlerOption;
 import org.kie.internal.conf.ConstraintJittingThresholdOption;
+import org.kie.internal.conf.FromSourceCacheOption;
 import org.kie.internal.conf.IndexLeftBetaMemoryOption;
 import org.kie.internal.conf.IndexPrecedenceOption;
 import org.kie.internal.conf.IndexRightBetaMemoryOption;
+import org.kie.internal.conf.LeftTuplePoolSizeOption;
 import org.kie.internal.conf.MaxThreadsOption;
 import org.kie.internal.conf.MultithreadEvaluationOption;
+import org.kie.internal.conf.ParallelJoinThresholdOption;
 import org.kie.internal.conf.PermGenThresholdOption;
+import org.kie.internal.conf.PrimitiveIndexOption;
 import org.kie.internal.conf.SequentialAgendaOption;
 import org.kie.internal.conf.ShareAlphaNodesOption;
 import org.kie.internal.conf.ShareBetaNodesOption;
@@ -97,6 +104,12 @@ import static org.drools.core.util.MemoryUtil.hasPermGen;
  * drools.alphaNodeHashingThreshold = &lt;1...n&gt;
  * drools.alphaNodeRangeIndexThreshold = &lt;1...n&gt;
  * drools.betaNodeRangeIndexEnabled = &lt;true|false&gt;
+ * drools.parallelJoinThreshold = &lt;1...n&gt;
+ * drools.leftTuplePoolSize = &lt;1...n&gt;
+ * drools.compactEventHandles = &lt;true|false&gt;
+ * drools.fromSourceCache = &lt;true|false&gt;
+ * drools.primitiveIndex = &lt;true|false&gt;
+ * drools.agendaQueue = &lt;binaryheap|saliencefifo|saliencelifo&gt;
  * drools.sessionPool = &lt;1...n&gt;
  * drools.compositeKeyDepth = &lt;1..3&gt;
  * drools.indexLeftBetaMemory = &lt;true/false&gt;
@@ -142,6 +155,12 @@ public class RuleBaseConfiguration
     private int             alphaNodeHashingThreshold;
     private int             alphaNodeRangeIndexThreshold;
     private boolean         betaNodeRangeIndexEnabled;
+    private int             parallelJoinThreshold;
+    private int             leftTuplePoolSize;
+    private boolean         compactEventHandles;
+    private boolean         fromSourceCache;
+    private boolean         primitiveIndex;
+    private AgendaQueueOption agendaQueue;
     private int             compositeKeyDepth;
     private boolean         indexLeftBetaMemory;
     private boolean         indexRightBetaMemory;
@@ -217,6 +236,12 @@ public class RuleBaseConfiguration
         out.writeBoolean(declarativeAgenda);
         out.writeInt(sessionPoolSize);
         out.writeBoolean(mutabilityEnabled);
+        out.writeInt(parallelJoinThreshold);
+        out.writeInt(leftTuplePoolSize);
+        out.writeBoolean(compactEventHandles);
+        out.writeObject(agendaQueue);
+        out.writeBoolean(fromSourceCache);
+        out.writeBoolean(primitiveIndex);
     }
 
     public void readExternal(ObjectInput in) throws IOException,
@@ -250,6 +275,12 @@ public class RuleBaseConfiguration
         declarativeAgenda = in.readBoolean();
         sessionPoolSize = in.readInt();
         mutabilityEnabled = in.readBoolean();
+        parallelJoinThreshold = in.readInt();
+        leftTuplePoolSize = in.readInt();
+        compactEventHandles = in.readBoolean();
+        agendaQueue = (AgendaQueueOption) in.readObject();
+        fromSourceCache = in.readBoolean();
+        primitiveIndex = in.readBoolean();
     }
 
     /**
@@ -317,6 +348,18 @@ public class RuleBaseConfiguration
             setAlphaNodeRangeIndexThreshold( StringUtils.isEmpty( value ) ? AlphaRangeIndexThresholdOption.DEFAULT_VALUE : Integer.parseInt(value));
         } else if ( name.equals( BetaRangeIndexOption.PROPERTY_NAME ) ) {
             setBetaNodeRangeIndexEnabled( StringUtils.isEmpty( value ) ? false : Boolean.valueOf(value));
+        } else if ( name.equals( ParallelJoinThresholdOption.PROPERTY_NAME ) ) {
+            setParallelJoinThreshold( StringUtils.isEmpty( value ) ? ParallelJoinThresholdOption.DEFAULT_VALUE : Integer.parseInt(value));
+        } else if ( name.equals( LeftTuplePoolSizeOption.PROPERTY_NAME ) ) {
+            setLeftTuplePoolSize( StringUtils.isEmpty( value ) ? LeftTuplePoolSizeOption.DEFAULT_VALUE : Integer.parseInt(value));
+        } else if ( name.equals( CompactEventHandlesOption.PROPERTY_NAME ) ) {
+            setCompactEventHandles( StringUtils.isEmpty( value ) ? false : Boolean.valueOf(value));
+        } else if ( name.equals( FromSourceCacheOption.PROPERTY_NAME ) ) {
+            setFromSourceCache( StringUtils.isEmpty( value ) ? false : Boolean.valueOf(value));
+        } else if ( name.equals( PrimitiveIndexOption.PROPERTY_NAME ) ) {
+            setPrimitiveIndex( StringUtils.isEmpty( value ) ? true : Boolean.valueOf(value));
+        } else if ( name.equals( AgendaQueueOption.PROPERTY_NAME ) ) {
+            setAgendaQueue( AgendaQueueOption.determineAgendaQueue( StringUtils.isEmpty( value ) ? "binaryheap" : value));
         } else if ( name.equals( SessionsPoolOption.PROPERTY_NAME ) ) {
             setSessionPoolSize( StringUtils.isEmpty( value ) ? -1 : Integer.parseInt(value));
         } else if ( name.equals( CompositeKeyDepthOption.PROPERTY_NAME ) ) {
@@ -376,6 +419,18 @@ public class RuleBaseConfiguration
             return Integer.toString( getAlphaNodeRangeIndexThreshold() );
         } else if ( name.equals( BetaRangeIndexOption.PROPERTY_NAME ) ) {
             return Boolean.toString( isBetaNodeRangeIndexEnabled() );
+        } else if ( name.equals( ParallelJoinThresholdOption.PROPERTY_NAME ) ) {
+            return Integer.toString( getParallelJoinThreshold() );
+        } else if ( name.equals( LeftTuplePoolSizeOption.PROPERTY_NAME ) ) {
+            return Integer.toString( getLeftTuplePoolSize() );
+        } else if ( name.equals( CompactEventHandlesOption.PROPERTY_NAME ) ) {
+            return Boolean.toString( isCompactEventHandles() );
+        } else if ( name.equals( FromSourceCacheOption.PROPERTY_NAME ) ) {
+            return Boolean.toString( isFromSourceCache() );
+        } else if ( name.equals( PrimitiveIndexOption.PROPERTY_NAME ) ) {
+            return Boolean.toString( isPrimitiveIndex() );
+        } else if ( name.equals( AgendaQueueOption.PROPERTY_NAME ) ) {
+            return getAgendaQueue().getMode();
         } else if ( name.equals( SessionsPoolOption.PROPERTY_NAME ) ) {
             return Integer.toString( getSessionPoolSize() );
         } else if ( name.equals( CompositeKeyDepthOption.PROPERTY_NAME ) ) {
@@ -458,6 +513,18 @@ public class RuleBaseConfiguration
 
         setBetaNodeRangeIndexEnabled(Boolean.valueOf(this.chainedProperties.getProperty(BetaRangeIndexOption.PROPERTY_NAME, "false")));
 
+        setParallelJoinThreshold(Integer.parseInt(this.chainedProperties.getProperty(ParallelJoinThresholdOption.PROPERTY_NAME, "" + ParallelJoinThresholdOption.DEFAULT_VALUE)));
+
+        setLeftTuplePoolSize(Integer.parseInt(this.chainedProperties.getProperty(LeftTuplePoolSizeOption.PROPERTY_NAME, "" + LeftTuplePoolSizeOption.DEFAULT_VALUE)));
+
+        setCompactEventHandles(Boolean.valueOf(this.chainedProperties.getProperty(CompactEventHandlesOption.PROPERTY_NAME, "false")));
+
+        setFromSourceCache(Boolean.valueOf(this.chainedProperties.getProperty(FromSourceCacheOption.PROPERTY_NAME, "false")));
+
+        setPrimitiveIndex(Boolean.valueOf(this.chainedProperties.getProperty(PrimitiveIndexOption.PROPERTY_NAME, "true")));
+
+        setAgendaQueue(AgendaQueueOption.determineAgendaQueue(this.chainedProperties.getProperty(AgendaQueueOption.PROPERTY_NAME, "binaryheap")));
+
         setSessionPoolSize(Integer.parseInt(this.chainedProperties.getProperty( SessionsPoolOption.PROPERTY_NAME, "-1")));
 
         setCompositeKeyDepth(Integer.parseInt(this.chainedProperties.getProperty(CompositeKeyDepthOption.PROPERTY_NAME, "3")));
@@ -617,6 +684,60 @@ public class RuleBaseConfiguration
         this.alphaNodeRangeIndexThreshold = alphaNodeRangeIndexThreshold;
     }
 
+    public int getParallelJoinThreshold() {
+        return this.parallelJoinThreshold;
+    }
+
+    public void setParallelJoinThreshold(final int parallelJoinThreshold) {
+        checkCanChange();
+        this.parallelJoinThreshold = parallelJoinThreshold;
+    }
+
+    public int getLeftTuplePoolSize() {
+        return this.leftTuplePoolSize;
+    }
+
+    public void setLeftTuplePoolSize(final int leftTuplePoolSize) {
+        checkCanChange();
+        this.leftTuplePoolSize = leftTuplePoolSize;
+    }
+
+    public boolean isCompactEventHandles() {
+        return this.compactEventHandles;
+    }
+
+    public void setCompactEventHandles(final boolean compactEventHandles) {
+        checkCanChange();
+        this.compactEventHandles = compactEventHandles;
+    }
+
+    public boolean isFromSourceCache() {
+        return this.fromSourceCache;
+    }
+
+    public void setFromSourceCache(final boolean fromSourceCache) {
+        checkCanChange();
+        this.fromSourceCache = fromSourceCache;
+    }
+
+    public boolean isPrimitiveIndex() {
+        return this.primitiveIndex;
+    }
+
+    public void setPrimitiveIndex(final boolean primitiveIndex) {
+        checkCanChange();
+        this.primitiveIndex = primitiveIndex;
+    }
+
+    public AgendaQueueOption getAgendaQueue() {
+        return this.agendaQueue;
+    }
+
+    public void setAgendaQueue(final AgendaQueueOption agendaQueue) {
+        checkCanChange();
+        this.agendaQueue = agendaQueue;
+    }
+
     public boolean isBetaNodeRangeIndexEnabled() {
         return this.betaNodeRangeIndexEnabled;
     }
@@ -714,7 +835,14 @@ public class RuleBaseConfiguration
     }
 
     public AgendaGroupFactory getAgendaGroupFactory() {
-        return RuntimeComponentFactory.get().getAgendaGroupFactory();
+        switch (agendaQueue) {
+            case SALIENCE_FIFO:
+                return SalienceBucketAgendaGroupFactory.getFifoInstance();
+            case SALIENCE_LIFO:
+                return SalienceBucketAgendaGroupFactory.getLifoInstance();
+            default:
+                return RuntimeComponentFactory.get().getAgendaGroupFactory();
+        }
     }
 
     public SequentialAgenda getSequentialAgenda() {
@@ -1071,6 +1199,18 @@ public class RuleBaseConfiguration
             return (T) AlphaRangeIndexThresholdOption.get(alphaNodeRangeIndexThreshold);
         } else if (BetaRangeIndexOption.class.equals(option)) {
             return (T) (this.betaNodeRangeIndexEnabled ? BetaRangeIndexOption.ENABLED : BetaRangeIndexOption.DISABLED);
+        } else if (ParallelJoinThresholdOption.class.equals(option)) {
+            return (T) ParallelJoinThresholdOption.get(parallelJoinThreshold);
+        } else if (LeftTuplePoolSizeOption.class.equals(option)) {
+            return (T) LeftTuplePoolSizeOption.get(leftTuplePoolSize);
+        } else if (CompactEventHandlesOption.class.equals(option)) {
+            return (T) (this.compactEventHandles ? CompactEventHandlesOption.ENABLED : CompactEventHandlesOption.DISABLED);
+        } else if (FromSourceCacheOption.class.equals(option)) {
+            return (T) (this.fromSourceCache ? FromSourceCacheOption.ENABLED : FromSourceCacheOption.DISABLED);
+        } else if (PrimitiveIndexOption.class.equals(option)) {
+            return (T) (this.primitiveIndex ? PrimitiveIndexOption.ENABLED : PrimitiveIndexOption.DISABLED);
+        } else if (AgendaQueueOption.class.equals(option)) {
+            return (T) getAgendaQueue();
         } else if ( SessionsPoolOption.class.equals(option)) {
             return (T) SessionsPoolOption.get(sessionPoolSize);
         } else if (CompositeKeyDepthOption.class.equals(option)) {
@@ -1132,6 +1272,18 @@ public class RuleBaseConfiguration
             setAlphaNodeRangeIndexThreshold( ( (AlphaRangeIndexThresholdOption) option ).getThreshold());
         } else if (option instanceof BetaRangeIndexOption) {
             setBetaNodeRangeIndexEnabled( ( (BetaRangeIndexOption) option ).isBetaRangeIndexEnabled());
+        } else if (option instanceof ParallelJoinThresholdOption) {
+            setParallelJoinThreshold( ( (ParallelJoinThresholdOption) option ).getThreshold());
+        } else if (option instanceof LeftTuplePoolSizeOption) {
+            setLeftTuplePoolSize( ( (LeftTuplePoolSizeOption) option ).getSize());
+        } else if (option instanceof CompactEventHandlesOption) {
+            setCompactEventHandles( ( (CompactEventHandlesOption) option ).isCompactEventHandles());
+        } else if (option instanceof FromSourceCacheOption) {
+            setFromSourceCache( ( (FromSourceCacheOption) option ).isFromSourceCache());
+        } else if (option instanceof PrimitiveIndexOption) {
+            setPrimitiveIndex( ( (PrimitiveIndexOption) option ).isPrimitiveIndex());
+        } else if (option instanceof AgendaQueueOption) {
+            setAgendaQueue( (AgendaQueueOption) option);
         } else if (option instanceof SessionsPoolOption ) {
             setSessionPoolSize( ( ( SessionsPoolOption ) option ).getSize());
         } else if (option instanceof CompositeKeyDepthOption) {
@@ -42,8 +42,12 @@ import org.kie.api.runtime.conf.TimedRuleExecutionOption;
 import org.kie.api.runtime.conf.TimerJobFactoryOption;
 import org.kie.api.runtime.conf.WorkItemHandlerOption;
 import org.kie.api.runtime.process.WorkItemHandler;
+import org.kie.internal.runtime.conf.ExpirationBucketsOption;
 import org.kie.internal.runtime.conf.ForceEagerActivationFilter;
 import org.kie.internal.runtime.conf.ForceEagerActivationOption;
+import org.kie.internal.runtime.conf.LockFreePropagationOption;
+import org.kie.internal.runtime.conf.MaterializedQueriesOption;
+import org.kie.internal.runtime.conf.TimingWheelOption;
 
 public abstract class SessionConfiguration implements KieSessionConfiguration, Externalizable {
 
@@ -61,6 +65,17 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
     public abstract boolean isDirectFiring();
     public abstract void setThreadSafe(boolean threadSafe);
     public abstract boolean isThreadSafe();
+    public abstract void setLockFreePropagation(boolean lockFreePropagation);
+    public abstract boolean isLockFreePropagation();
+
+    public abstract void setTimingWheel(boolean timingWheel);
+    public abstract boolean isTimingWheel();
+
+    public abstract void setExpirationBuckets(boolean expirationBuckets);
+    public abstract boolean isExpirationBuckets();
+
+    public abstract void setMaterializedQueries(boolean materializedQueries);
+    public abstract boolean isMaterializedQueries();
     public abstract void setAccumulateNullPropagation(boolean accumulateNullPropagation);
     public abstract boolean isAccumulateNullPropagation();
 
@@ -118,6 +133,14 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             setDirectFiring(((DirectFiringOption) option).isDirectFiring());
         } else if ( option instanceof ThreadSafeOption ) {
             setThreadSafe(((ThreadSafeOption) option).isThreadSafe());
+        } else if ( option instanceof LockFreePropagationOption ) {
+            setLockFreePropagation(((LockFreePropagationOption) option).isLockFreePropagation());
+        } else if ( option instanceof TimingWheelOption ) {
+            setTimingWheel(((TimingWheelOption) option).isTimingWheel());
+        } else if ( option instanceof ExpirationBucketsOption ) {
+            setExpirationBuckets(((ExpirationBucketsOption) option).isExpirationBuckets());
+        } else if ( option instanceof MaterializedQueriesOption ) {
+            setMaterializedQueries(((MaterializedQueriesOption) option).isMaterializedQueries());
         } else if ( option instanceof AccumulateNullPropagationOption ) {
             setAccumulateNullPropagation(((AccumulateNullPropagationOption) option).isAccumulateNullPropagation());
         } else if ( option instanceof ForceEagerActivationOption ) {
@@ -144,6 +167,14 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             return (T) (isDirectFiring() ? DirectFiringOption.YES : DirectFiringOption.NO);
         } else if ( ThreadSafeOption.class.equals( option ) ) {
             return (T) (isThreadSafe() ? ThreadSafeOption.YES : ThreadSafeOption.NO);
+        } else if ( LockFreePropagationOption.class.equals( option ) ) {
+            return (T) (isLockFreePropagation() ? LockFreePropagationOption.YES : LockFreePropagationOption.NO);
+        } else if ( TimingWheelOption.class.equals( option ) ) {
+            return (T) (isTimingWheel() ? TimingWheelOption.YES : TimingWheelOption.NO);
+        } else if ( ExpirationBucketsOption.class.equals( option ) ) {
+            return (T) (isExpirationBuckets() ? ExpirationBucketsOption.YES : ExpirationBucketsOption.NO);
+        } else if ( MaterializedQueriesOption.class.equals( option ) ) {
+            return (T) (isMaterializedQueries() ? MaterializedQueriesOption.YES : MaterializedQueriesOption.NO);
         } else if ( AccumulateNullPropagationOption.class.equals( option ) ) {
             return (T) (isAccumulateNullPropagation() ? AccumulateNullPropagationOption.YES : AccumulateNullPropagationOption.NO);
         } else if ( TimerJobFactoryOption.class.equals( option ) ) {
@@ -179,6 +210,14 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             setDirectFiring(!StringUtils.isEmpty(value) && Boolean.parseBoolean(value));
         }else if ( name.equals( ThreadSafeOption.PROPERTY_NAME ) ) {
             setThreadSafe( StringUtils.isEmpty( value ) || Boolean.parseBoolean( value ) );
+        } else if ( name.equals( LockFreePropagationOption.PROPERTY_NAME ) ) {
+            setLockFreePropagation( !StringUtils.isEmpty( value ) && Boolean.parseBoolean( value ) );
+        } else if ( name.equals( TimingWheelOption.PROPERTY_NAME ) ) {
+            setTimingWheel( !StringUtils.isEmpty( value ) && Boolean.parseBoolean( value ) );
+        } else if ( name.equals( ExpirationBucketsOption.PROPERTY_NAME ) ) {
+            setExpirationBuckets( !StringUtils.isEmpty( value ) && Boolean.parseBoolean( value ) );
+        } else if ( name.equals( MaterializedQueriesOption.PROPERTY_NAME ) ) {
+            setMaterializedQueries( !StringUtils.isEmpty( value ) && Boolean.parseBoolean( value ) );
         } else if ( name.equals( AccumulateNullPropagationOption.PROPERTY_NAME ) ) {
             setAccumulateNullPropagation( !StringUtils.isEmpty( value ) && Boolean.parseBoolean( value ) );
         } else if ( name.equals( ForceEagerActivationOption.PROPERTY_NAME ) ) {
@@ -209,6 +248,14 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             return Boolean.toString(isDirectFiring());
         }else if ( name.equals( ThreadSafeOption.PROPERTY_NAME ) ) {
             return Boolean.toString(isThreadSafe());
+        } else if ( name.equals( LockFreePropagationOption.PROPERTY_NAME ) ) {
+            return Boolean.toString(isLockFreePropagation());
+        } else if ( name.equals( TimingWheelOption.PROPERTY_NAME ) ) {
+            return Boolean.toString(isTimingWheel());
+        } else if ( name.equals( ExpirationBucketsOption.PROPERTY_NAME ) ) {
+            return Boolean.toString(isExpirationBuckets());
+        } else if ( name.equals( MaterializedQueriesOption.PROPERTY_NAME ) ) {
+            return Boolean.toString(isMaterializedQueries());
         } else if ( name.equals( AccumulateNullPropagationOption.PROPERTY_NAME ) ) {
             return Boolean.toString(isAccumulateNullPropagation());
         } else if ( name.equals( ClockTypeOption.PROPERTY_NAME ) ) {
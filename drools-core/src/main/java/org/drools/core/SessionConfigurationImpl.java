@@ -42,8 +42,12 @@ import org.kie.api.runtime.conf.TimedRuleExecutionFilter;
 import org.kie.api.runtime.conf.TimedRuleExecutionOption;
 import org.kie.api.runtime.conf.TimerJobFactoryOption;
 import org.kie.api.runtime.process.WorkItemHandler;
+import org.kie.internal.runtime.conf.ExpirationBucketsOption;
 import org.kie.internal.runtime.conf.ForceEagerActivationFilter;
 import org.kie.internal.runtime.conf.ForceEagerActivationOption;
+import org.kie.internal.runtime.conf.LockFreePropagationOption;
+import org.kie.internal.runtime.conf.MaterializedQueriesOption;
+import org.kie.internal.runtime.conf.TimingWheelOption;
 import org.kie.internal.utils.ChainedProperties;
 
 /**
@@ -78,6 +82,14 @@ public class SessionConfigurationImpl extends SessionConfiguration {
 
     private boolean                        threadSafe;
 
+    private boolean                        lockFreePropagation;
+
+    private boolean                        timingWheel;
+
+    private boolean                        expirationBuckets;
+
+    private boolean                        materializedQueries;
+
     private boolean                        accumulateNullPropagation;
 
     private ForceEagerActivationFilter     forceEagerActivationFilter;
@@ -169,6 +181,14 @@ public class SessionConfigurationImpl extends SessionConfiguration {
 
         setThreadSafe(Boolean.valueOf( getPropertyValue( ThreadSafeOption.PROPERTY_NAME, "true" ) ));
 
+        setLockFreePropagation(Boolean.valueOf( getPropertyValue( LockFreePropagationOption.PROPERTY_NAME, "false" ) ));
+
+        setTimingWheel(Boolean.valueOf( getPropertyValue( TimingWheelOption.PROPERTY_NAME, "false" ) ));
+
+        setExpirationBuckets(Boolean.valueOf( getPropertyValue( ExpirationBucketsOption.PROPERTY_NAME, "false" ) ));
+
+        setMaterializedQueries(Boolean.valueOf( getPropertyValue( MaterializedQueriesOption.PROPERTY_NAME, "false" ) ));
+
         setAccumulateNullPropagation(Boolean.valueOf( getPropertyValue( AccumulateNullPropagationOption.PROPERTY_NAME, "false" ) ));
 
         setForceEagerActivationFilter(ForceEagerActivationOption.resolve( getPropertyValue( ForceEagerActivationOption.PROPERTY_NAME, "false" ) ).getFilter());
@@ -245,6 +265,42 @@ public class SessionConfigurationImpl extends SessionConfiguration {
         return this.threadSafe;
     }
 
+    public void setLockFreePropagation(boolean lockFreePropagation) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.lockFreePropagation = lockFreePropagation;
+    }
+
+    public boolean isLockFreePropagation() {
+        return this.lockFreePropagation;
+    }
+
+    public void setTimingWheel(boolean timingWheel) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.timingWheel = timingWheel;
+    }
+
+    public boolean isTimingWheel() {
+        return this.timingWheel;
+    }
+
+    public void setExpirationBuckets(boolean expirationBuckets) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.expirationBuckets = expirationBuckets;
+    }
+
+    public boolean isExpirationBuckets() {
+        return this.expirationBuckets;
+    }
+
+    public void setMaterializedQueries(boolean materializedQueries) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.materializedQueries = materializedQueries;
+    }
+
+    public boolean isMaterializedQueries() {
+        return this.materializedQueries;
+    }
+
     public void setAccumulateNullPropagation(boolean accumulateNullPropagation) {
         checkCanChange(); // throws an exception if a change isn't possible;
         this.accumulateNullPropagation = accumulateNullPropagation;
@@ -25,6 +25,10 @@ public abstract class AbstractQueryViewListener implements InternalViewChangedEv
     public abstract InternalFactHandle getHandle(InternalFactHandle originalHandle);
 
     public void rowAdded(RuleImpl rule, LeftTuple tuple, ReteEvaluator reteEvaluator) {
+        this.results.add( createRow( tuple ) );
+    }
+
+    public QueryRowWithSubruleIndex createRow(LeftTuple tuple) {
         InternalFactHandle[] handles = new InternalFactHandle[((LeftTupleNode)tuple.getTupleSink()).getObjectCount()];
         LeftTuple entry = (LeftTuple) tuple.skipEmptyHandles();
 
@@ -37,7 +41,7 @@ public abstract class AbstractQueryViewListener implements InternalViewChangedEv
         }
 
         QueryTerminalNode node = tuple.getTupleSink();
-        this.results.add( new QueryRowWithSubruleIndex(handles, node.getSubruleIndex()) );
+        return new QueryRowWithSubruleIndex(handles, node.getSubruleIndex());
     }
 
     public void rowRemoved( RuleImpl rule, LeftTuple tuple, ReteEvaluator reteEvaluator ) {
@@ -44,7 +44,7 @@ public final class DroolsQuery extends ArrayElements {
 
     private WorkingMemoryAction action;
 
-    private final TupleSets<LeftTuple> resultLeftTuples;
+    private TupleSets<LeftTuple> resultLeftTuples;
 
     private QueryElementNodeMemory qmem;
 
@@ -83,15 +83,49 @@ public final class DroolsQuery extends ArrayElements {
         // build the indexes to the Variables  
         if ( params != null ) {
             vars = new Variable[params.length];
-            for ( int i = 0; i < params.length; i++ ) {
-                if ( params[i] == Variable.v ) {
-                    vars[i] = Variable.v;
-                    params[i] = null;
-                }
-            }
+            indexVariables( params );
         }        
     }
 
+    private void indexVariables(final Object[] params) {
+        for ( int i = 0; i < params.length; i++ ) {
+            if ( params[i] == Variable.v ) {
+                vars[i] = Variable.v;
+                params[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Prepares this closed query, whose evaluation is over, for another invocation from the same node,
+     * reusing its variables array when the number of parameters doesn't change
+     */
+    public void reuse(final Object[] params,
+                      final StackEntry stackEntry,
+                      final List<PathMemory> pmems,
+                      final QueryElementNodeMemory qmem,
+                      final LeftTupleSink sink) {
+        setElements( params );
+        if ( vars != null && vars.length == params.length ) {
+            Arrays.fill( vars, null );
+        } else {
+            vars = new Variable[params.length];
+        }
+        indexVariables( params );
+
+        this.stackEntry = stackEntry;
+        this.pmems = pmems;
+        // the result tuples of the memory are replaced when its sinks change, so they can't be kept
+        this.resultLeftTuples = qmem.getResultLeftTuples();
+        this.qmem = qmem;
+        this.sink = sink;
+        this.query = null;
+        this.action = null;
+        this.resultInsertRightTupleList = null;
+        this.resultUpdateRightTupleList = null;
+        this.resultRetractRightTupleList = null;
+    }
+
     public String getName() {
         return this.name;
     }
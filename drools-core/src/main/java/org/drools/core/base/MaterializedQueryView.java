@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.core.common.InternalFactHandle;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.definitions.rule.impl.RuleImpl;
+import org.drools.core.reteoo.LeftTuple;
+import org.drools.core.reteoo.QueryTerminalNode;
+import org.drools.core.rule.Declaration;
+import org.drools.core.util.AbstractBaseLinkedListNode;
+import org.drools.core.util.LinkedList;
+
+/**
+ * The rows of an open query kept up to date as the query terminal node propagates its deltas. Each row is linked
+ * in a list and referenced by the context object of the tuple producing it, so both updates and removals are
+ * constant time and reading the results of the query costs only a copy of its current rows. The handles of the
+ * rows are created by the given query listener, so they are cloned or not according to the QueryListenerOption.
+ */
+public class MaterializedQueryView implements InternalViewChangedEventListener {
+
+    private final AbstractQueryViewListener rowFactory;
+
+    private final LinkedList<Row> rows = new LinkedList<>();
+
+    private InternalFactHandle queryHandle;
+
+    private QueryTerminalNode[] terminalNodes;
+
+    private Map<String, Declaration>[] declarations;
+
+    private Declaration[] parameters;
+
+    public MaterializedQueryView(AbstractQueryViewListener rowFactory) {
+        this.rowFactory = rowFactory;
+    }
+
+    public void rowAdded(RuleImpl rule, LeftTuple tuple, ReteEvaluator reteEvaluator) {
+        Row row = new Row( rowFactory.createRow( tuple ) );
+        tuple.setContextObject( row );
+        rows.add( row );
+    }
+
+    public void rowRemoved(RuleImpl rule, LeftTuple tuple, ReteEvaluator reteEvaluator) {
+        Row row = (Row) tuple.getContextObject();
+        if ( row != null ) {
+            rows.remove( row );
+            tuple.setContextObject( null );
+        }
+    }
+
+    public void rowUpdated(RuleImpl rule, LeftTuple tuple, ReteEvaluator reteEvaluator) {
+        Row row = (Row) tuple.getContextObject();
+        if ( row != null ) {
+            row.value = rowFactory.createRow( tuple );
+        }
+    }
+
+    /**
+     * Returns a copy of the current rows, so it isn't affected by the following changes of the view
+     */
+    public List<QueryRowWithSubruleIndex> getResults() {
+        List<QueryRowWithSubruleIndex> results = new ArrayList<>( rows.size() );
+        for ( Row row = rows.getFirst(); row != null; row = row.getNext() ) {
+            results.add( row.value );
+        }
+        return results;
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    public InternalFactHandle getQueryHandle() {
+        return queryHandle;
+    }
+
+    public String getQueryName() {
+        return ((DroolsQuery) queryHandle.getObject()).getName();
+    }
+
+    public QueryTerminalNode[] getTerminalNodes() {
+        return terminalNodes;
+    }
+
+    public Map<String, Declaration>[] getDeclarations() {
+        return declarations;
+    }
+
+    public Declaration[] getParameters() {
+        return parameters;
+    }
+
+    public void init(InternalFactHandle queryHandle, QueryTerminalNode[] terminalNodes, Map<String, Declaration>[] declarations, Declaration[] parameters) {
+        this.queryHandle = queryHandle;
+        this.terminalNodes = terminalNodes;
+        this.declarations = declarations;
+        this.parameters = parameters;
+    }
+
+    private static class Row extends AbstractBaseLinkedListNode<Row> {
+        private QueryRowWithSubruleIndex value;
+
+        private Row(QueryRowWithSubruleIndex value) {
+            this.value = value;
+        }
+    }
+}
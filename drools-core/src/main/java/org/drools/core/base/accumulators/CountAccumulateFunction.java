@@ -24,7 +24,7 @@ import java.io.ObjectOutput;
 /**
  * An implementation of an accumulator capable of counting occurences
  */
-public class CountAccumulateFunction extends AbstractAccumulateFunction<CountAccumulateFunction.CountData> {
+public class CountAccumulateFunction extends AbstractAccumulateFunction<CountAccumulateFunction.CountData> implements PrimitiveAccumulateFunction<CountAccumulateFunction.CountData> {
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
 
@@ -83,6 +83,22 @@ public class CountAccumulateFunction extends AbstractAccumulateFunction<CountAcc
         data.count--;
     }
 
+    public void accumulateLong(CountData data, long value) {
+        data.count++;
+    }
+
+    public void reverseLong(CountData data, long value) {
+        data.count--;
+    }
+
+    public void accumulateDouble(CountData data, double value) {
+        data.count++;
+    }
+
+    public void reverseDouble(CountData data, double value) {
+        data.count--;
+    }
+
     /* (non-Javadoc)
      * @see org.kie.base.accumulators.AccumulateFunction#getResult(java.lang.Object)
      */
@@ -35,16 +35,16 @@ public class IntegerMinAccumulateFunction extends AbstractAccumulateFunction<Int
     }
 
     protected static class MinData implements Externalizable {
-        public Integer min = null;
+        public final SortedValueCounts<Integer> values = new SortedValueCounts<>();
 
         public MinData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            min = (Integer) in.readObject();
+            values.readFrom(in);
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(min);
+            values.writeTo(out);
         }
 
         @Override
@@ -58,36 +58,32 @@ public class IntegerMinAccumulateFunction extends AbstractAccumulateFunction<Int
     }
 
     public void init( MinData data) {
-        data.min = null;
+        data.values.clear();
     }
 
     public void accumulate( MinData data,
                             Object value) {
         if (value != null) {
-            Integer number = (Integer)value;
-            data.min = data.min == null || data.min > number ? number : data.min;
+            data.values.add( (Integer) value );
         }
     }
 
     public void reverse( MinData data,
                          Object value) {
+        tryReverse( data, value );
     }
 
     @Override
     public boolean tryReverse( MinData data, Object value ) {
-        if (value != null) {
-            Integer number = (Integer)value;
-            return data.min < number;
-        }
-        return true;
+        return data.values.tryRemove( value );
     }
 
     public Object getResult( MinData data ) {
-        return data.min;
+        return data.values.first();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
@@ -22,7 +22,7 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serializable;
 
-public class IntegerSumAccumulateFunction extends AbstractAccumulateFunction<IntegerSumAccumulateFunction.SumData> {
+public class IntegerSumAccumulateFunction extends AbstractAccumulateFunction<IntegerSumAccumulateFunction.SumData> implements PrimitiveAccumulateFunction<IntegerSumAccumulateFunction.SumData> {
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException { }
 
@@ -62,6 +62,28 @@ public class IntegerSumAccumulateFunction extends AbstractAccumulateFunction<Int
         }
     }
 
+    public void accumulateLong(SumData data, long value) {
+        data.total += (int) value;
+    }
+
+    public void reverseLong(SumData data, long value) {
+        data.total -= (int) value;
+    }
+
+    public void accumulateDouble(SumData data, double value) {
+        throw new UnsupportedOperationException( "IntegerSumAccumulateFunction can't sum floating point values unboxed" );
+    }
+
+    public void reverseDouble(SumData data, double value) {
+        throw new UnsupportedOperationException( "IntegerSumAccumulateFunction can't sum floating point values unboxed" );
+    }
+
+    @Override
+    public boolean supportsDoubleValues() {
+        // narrowing the values here would silently truncate them
+        return false;
+    }
+
     public Object getResult(SumData data) {
         return data.total;
     }
@@ -37,7 +37,7 @@ import org.kie.internal.security.KiePolicyHelper;
  */
 public class JavaAccumulatorFunctionExecutor
     implements
-    Accumulator,
+    SlidingWindowAccumulator.FunctionAccumulator,
     Externalizable,
     Wireable {
 
@@ -99,18 +99,32 @@ public class JavaAccumulatorFunctionExecutor
                            Declaration[] innerDeclarations,
                            ReteEvaluator reteEvaluator) {
         try {
-            Object value = this.expression.evaluate( handle,
-                                                     leftTuple,
-                                                     declarations,
-                                                     innerDeclarations,
-                                                     reteEvaluator,
-                                                     workingMemoryContext ).getValue();
+            Object value = evaluate( workingMemoryContext,
+                                     leftTuple,
+                                     handle,
+                                     declarations,
+                                     innerDeclarations,
+                                     reteEvaluator );
             return this.function.accumulateValue( (Serializable) context, value );
         } catch (Exception e) {
             throw new RuntimeException( e );
         }
     }
 
+    public Object evaluate(Object workingMemoryContext,
+                           Tuple leftTuple,
+                           InternalFactHandle handle,
+                           Declaration[] declarations,
+                           Declaration[] innerDeclarations,
+                           ReteEvaluator reteEvaluator) throws Exception {
+        return this.expression.evaluate( handle,
+                                         leftTuple,
+                                         declarations,
+                                         innerDeclarations,
+                                         reteEvaluator,
+                                         workingMemoryContext ).getValue();
+    }
+
     public boolean tryReverse(Object workingMemoryContext,
                               Object context,
                               Tuple leftTuple,
@@ -141,6 +155,15 @@ public class JavaAccumulatorFunctionExecutor
         return this.function.supportsReverse();
     }
 
+    @Override
+    public Accumulator forSlidingWindow(boolean timeOrdered) {
+        return SlidingWindowAccumulator.decorate( this, timeOrdered );
+    }
+
+    public org.kie.api.runtime.rule.AccumulateFunction getAccumulateFunction() {
+        return function;
+    }
+
     public ReturnValueExpression getExpression() {
         return expression;
     }
@@ -35,16 +35,16 @@ public class LongMaxAccumulateFunction extends AbstractAccumulateFunction<LongMa
     }
 
     protected static class MaxData implements Externalizable {
-        public Long max = null;
+        public final SortedValueCounts<Long> values = new SortedValueCounts<>();
 
         public MaxData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            max = (Long) in.readObject();
+            values.readFrom(in);
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(max);
+            values.writeTo(out);
         }
 
         @Override
@@ -58,36 +58,32 @@ public class LongMaxAccumulateFunction extends AbstractAccumulateFunction<LongMa
     }
 
     public void init(MaxData data) {
-        data.max = null;
+        data.values.clear();
     }
 
     public void accumulate(MaxData data,
                            Object value) {
         if (value != null) {
-            Long number = (Long)value;
-            data.max = data.max == null || data.max < number ? number : data.max;
+            data.values.add( (Long) value );
         }
     }
 
     public void reverse(MaxData data,
                         Object value) {
+        tryReverse( data, value );
     }
 
     @Override
     public boolean tryReverse( MaxData data, Object value ) {
-        if (value != null) {
-            Long number = (Long)value;
-            return data.max > number;
-        }
-        return true;
+        return data.values.tryRemove( value );
     }
 
     public Object getResult(MaxData data) {
-        return data.max;
+        return data.values.last();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
@@ -35,16 +35,16 @@ public class LongMinAccumulateFunction extends AbstractAccumulateFunction<LongMi
     }
 
     protected static class MinData implements Externalizable {
-        public Long min = null;
+        public final SortedValueCounts<Long> values = new SortedValueCounts<>();
 
         public MinData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            min = (Long) in.readObject();
+            values.readFrom(in);
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(min);
+            values.writeTo(out);
         }
 
         @Override
@@ -58,36 +58,32 @@ public class LongMinAccumulateFunction extends AbstractAccumulateFunction<LongMi
     }
 
     public void init( MinData data) {
-        data.min = null;
+        data.values.clear();
     }
 
     public void accumulate( MinData data,
                             Object value) {
         if (value != null) {
-            Long number = (Long)value;
-            data.min = data.min == null || data.min > number ? number : data.min;
+            data.values.add( (Long) value );
         }
     }
 
     public void reverse( MinData data,
                          Object value) {
+        tryReverse( data, value );
     }
 
     @Override
     public boolean tryReverse( MinData data, Object value ) {
-        if (value != null) {
-            Long number = (Long)value;
-            return data.min < number;
-        }
-        return true;
+        return data.values.tryRemove( value );
     }
 
     public Object getResult( MinData data) {
-        return data.min;
+        return data.values.first();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
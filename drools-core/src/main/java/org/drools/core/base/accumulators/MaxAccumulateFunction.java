@@ -35,16 +35,16 @@ public class MaxAccumulateFunction extends AbstractAccumulateFunction<MaxAccumul
     }
 
     protected static class MaxData implements Externalizable {
-        public Comparable max = null;
+        public final SortedValueCounts<Comparable> values = new SortedValueCounts<>();
 
         public MaxData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            max = (Comparable) in.readObject();
+            values.readFrom(in);
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(max);
+            values.writeTo(out);
         }
 
         @Override
@@ -58,36 +58,32 @@ public class MaxAccumulateFunction extends AbstractAccumulateFunction<MaxAccumul
     }
 
     public void init(MaxData data) {
-        data.max = null;
+        data.values.clear();
     }
 
     public void accumulate(MaxData data,
                            Object value) {
         if (value != null) {
-            data.max = data.max == null || data.max.compareTo( value ) < 0 ?
-                       (Comparable) value :
-                       data.max;
+            data.values.add( (Comparable) value );
         }
     }
 
     public void reverse(MaxData data,
                         Object value) {
+        tryReverse( data, value );
     }
 
     @Override
     public boolean tryReverse( MaxData data, Object value ) {
-        if (value != null) {
-            return data.max.compareTo( value ) > 0;
-        }
-        return true;
+        return data.values.tryRemove( value );
     }
 
     public Object getResult(MaxData data) {
-        return data.max;
+        return data.values.last();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
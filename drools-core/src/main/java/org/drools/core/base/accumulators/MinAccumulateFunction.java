@@ -35,16 +35,16 @@ public class MinAccumulateFunction extends AbstractAccumulateFunction<MinAccumul
     }
 
     protected static class MinData implements Externalizable {
-        public Comparable min = null;
+        public final SortedValueCounts<Comparable> values = new SortedValueCounts<>();
         
         public MinData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            min = (Comparable) in.readObject();
+            values.readFrom(in);
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(min);
+            values.writeTo(out);
         }
 
         @Override
@@ -58,36 +58,32 @@ public class MinAccumulateFunction extends AbstractAccumulateFunction<MinAccumul
     }
 
     public void init(MinData data) {
-        data.min = null;
+        data.values.clear();
     }
 
     public void accumulate(MinData data,
                            Object value) {
         if (value != null) {
-            data.min = data.min == null || data.min.compareTo( value ) > 0 ?
-                       (Comparable) value :
-                       data.min;
+            data.values.add( (Comparable) value );
         }
     }
 
     @Override
     public boolean tryReverse( MinData data, Object value ) {
-        if (value != null) {
-            return data.min.compareTo( value ) < 0;
-        }
-        return true;
+        return data.values.tryRemove( value );
     }
 
     public void reverse(MinData data,
                         Object value) {
+        tryReverse( data, value );
     }
 
     public Object getResult(MinData data) {
-        return data.min;
+        return data.values.first();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
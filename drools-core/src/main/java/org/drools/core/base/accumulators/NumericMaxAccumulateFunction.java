@@ -20,12 +20,15 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.Comparator;
 
 /**
  * An implementation of an accumulator capable of calculating maximum values
  */
 public class NumericMaxAccumulateFunction extends AbstractAccumulateFunction<NumericMaxAccumulateFunction.MaxData> {
 
+    private static final Comparator<Number> DOUBLE_VALUE_ORDER = Comparator.comparingDouble( Number::doubleValue );
+
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
 
     }
@@ -35,16 +38,16 @@ public class NumericMaxAccumulateFunction extends AbstractAccumulateFunction<Num
     }
 
     protected static class MaxData implements Externalizable {
-        public Number max = null;
+        public final SortedValueCounts<Number> values = new SortedValueCounts<>( DOUBLE_VALUE_ORDER );
 
         public MaxData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            max = (Number) in.readObject();
+            values.readFrom(in);
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(max);
+            values.writeTo(out);
         }
 
         @Override
@@ -58,36 +61,32 @@ public class NumericMaxAccumulateFunction extends AbstractAccumulateFunction<Num
     }
 
     public void init(MaxData data) {
-        data.max = null;
+        data.values.clear();
     }
 
     public void accumulate(MaxData data,
                            Object value) {
         if (value != null) {
-            Number number = (Number)value;
-            data.max = data.max == null || data.max.doubleValue() < number.doubleValue() ? number : data.max;
+            data.values.add( (Number) value );
         }
     }
 
     public void reverse(MaxData data,
                         Object value) {
+        tryReverse( data, value );
     }
 
     @Override
     public boolean tryReverse( MaxData data, Object value ) {
-        if (value != null) {
-            Number number = (Number)value;
-            return data.max.doubleValue() > number.doubleValue();
-        }
-        return true;
+        return data.values.tryRemove( value );
     }
 
     public Object getResult(MaxData data) {
-        return data.max;
+        return data.values.last();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
@@ -20,12 +20,15 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.Comparator;
 
 /**
  * An implementation of an accumulator capable of calculating maximum values
  */
 public class NumericMinAccumulateFunction extends AbstractAccumulateFunction<NumericMinAccumulateFunction.MinData> {
 
+    private static final Comparator<Number> DOUBLE_VALUE_ORDER = Comparator.comparingDouble( Number::doubleValue );
+
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
 
     }
@@ -35,16 +38,16 @@ public class NumericMinAccumulateFunction extends AbstractAccumulateFunction<Num
     }
 
     protected static class MinData implements Externalizable {
-        public Number min = null;
+        public final SortedValueCounts<Number> values = new SortedValueCounts<>( DOUBLE_VALUE_ORDER );
 
         public MinData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            min = (Double) in.readObject();
+            values.readFrom(in);
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(min);
+            values.writeTo(out);
         }
 
         @Override
@@ -58,36 +61,32 @@ public class NumericMinAccumulateFunction extends AbstractAccumulateFunction<Num
     }
 
     public void init( MinData data) {
-        data.min = null;
+        data.values.clear();
     }
 
     public void accumulate( MinData data,
                             Object value) {
         if (value != null) {
-            Number number = (Number)value;
-            data.min = data.min == null || data.min.doubleValue() > number.doubleValue() ? number : data.min;
+            data.values.add( (Number) value );
         }
     }
 
     @Override
     public boolean tryReverse( MinData data, Object value ) {
-        if (value != null) {
-            Number number = (Number)value;
-            return data.min.doubleValue() < number.doubleValue();
-        }
-        return true;
+        return data.values.tryRemove( value );
     }
 
     public void reverse( MinData data,
                          Object value) {
+        tryReverse( data, value );
     }
 
     public Object getResult( MinData data) {
-        return data.min;
+        return data.values.first();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import java.io.Serializable;
+
+import org.kie.api.runtime.rule.AccumulateFunction;
+
+/**
+ * An accumulate function that can also accumulate and reverse unboxed numbers. When the source of an accumulate
+ * is known to be numeric, the engine invokes these methods in place of the ones taking an Object and keeps the
+ * accumulated value unboxed in the match, so it can be reversed later without holding any Number instance.
+ * A value accumulated through one of these methods is always reversed through its counterpart of the same type.
+ */
+public interface PrimitiveAccumulateFunction<C extends Serializable> extends AccumulateFunction<C> {
+
+    void accumulateLong(C context, long value);
+
+    void reverseLong(C context, long value);
+
+    void accumulateDouble(C context, double value);
+
+    void reverseDouble(C context, double value);
+
+    /**
+     * Returns true if this function can accumulate floating point values through accumulateDouble. When it can't,
+     * floating point sources are accumulated boxed, through the methods taking an Object.
+     */
+    default boolean supportsDoubleValues() {
+        return true;
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.kie.api.runtime.rule.AccumulateFunction;
+
+/**
+ * An accumulator capable of calculating minimum or maximum values over a sliding window. The facts of a window are
+ * almost always removed in the same order they have been inserted, so differently from the MinAccumulateFunction and
+ * MaxAccumulateFunction it doesn't need to keep the values sorted, and both adding and expiring a value take constant
+ * amortized time instead of a logarithmic one.
+ *
+ * The values are ordered as the window removes them: by the timestamp of their events for time windows, and by their
+ * arrival for length windows, that accumulate all their values with the same timestamp. Values with the same timestamp
+ * are ordered by their arrival.
+ *
+ * The values are kept with the two stacks algorithm: the new values are pushed on a back stack tracking the best value
+ * among them. When the oldest value has to be removed and the front stack is empty, all the values of the back stack
+ * are sorted and moved to the front stack, each one with the best value among itself and the newer values below it.
+ * Then the oldest value is always on top of the front stack and the result is the best between the top of the front
+ * stack and the best of the back stack. The values moved together are almost always already sorted or in reverse
+ * order, so every operation takes constant amortized time. A late event older than some values already moved to the
+ * front stack is inserted there in its position, so expiring it never breaks the order of the stacks.
+ *
+ * The accumulated values are returned wrapped in an entry, so when an entry is reversed it is just marked as removed.
+ * The removed entries are popped from the front stack when the result is requested: if some of them are not the
+ * oldest ones, because a fact has been deleted or modified before expiring, the stacks are rebuilt from the remaining
+ * values.
+ */
+public class SlidingWindowAccumulateFunction extends AbstractAccumulateFunction<SlidingWindowAccumulateFunction.SlidingWindowData> {
+
+    private static final Entry NULL_ENTRY = new Entry( null, 0, -1 );
+
+    private static final Comparator<Entry> AGE_COMPARATOR = Comparator.<Entry>comparingLong( e -> e.timestamp ).thenComparingLong( e -> e.sequence );
+
+    private AccumulateFunction<?> delegate;
+    private boolean max;
+    private boolean numeric;
+
+    public SlidingWindowAccumulateFunction() { }
+
+    private SlidingWindowAccumulateFunction(AccumulateFunction<?> delegate, boolean max, boolean numeric) {
+        this.delegate = delegate;
+        this.max = max;
+        this.numeric = numeric;
+    }
+
+    /**
+     * Returns a SlidingWindowAccumulateFunction calculating the same result of the given function if it is one of the
+     * min or max functions, or the given function itself otherwise.
+     */
+    public static AccumulateFunction<?> forSlidingWindow(AccumulateFunction<?> function) {
+        Class<?> functionClass = function.getClass();
+        if ( functionClass == MinAccumulateFunction.class || functionClass == IntegerMinAccumulateFunction.class || functionClass == LongMinAccumulateFunction.class ) {
+            return new SlidingWindowAccumulateFunction( function, false, false );
+        }
+        if ( functionClass == MaxAccumulateFunction.class || functionClass == IntegerMaxAccumulateFunction.class || functionClass == LongMaxAccumulateFunction.class ) {
+            return new SlidingWindowAccumulateFunction( function, true, false );
+        }
+        if ( functionClass == NumericMinAccumulateFunction.class ) {
+            return new SlidingWindowAccumulateFunction( function, false, true );
+        }
+        if ( functionClass == NumericMaxAccumulateFunction.class ) {
+            return new SlidingWindowAccumulateFunction( function, true, true );
+        }
+        return function;
+    }
+
+    public AccumulateFunction<?> getDelegate() {
+        return delegate;
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        delegate = (AccumulateFunction<?>) in.readObject();
+        max = in.readBoolean();
+        numeric = in.readBoolean();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeObject( delegate );
+        out.writeBoolean( max );
+        out.writeBoolean( numeric );
+    }
+
+    public SlidingWindowData createContext() {
+        return new SlidingWindowData();
+    }
+
+    public void init(SlidingWindowData data) {
+        data.clear();
+    }
+
+    public void accumulate(SlidingWindowData data,
+                           Object value) {
+        accumulateValue( data, value );
+    }
+
+    @Override
+    public Object accumulateValue(SlidingWindowData data, Object value) {
+        return accumulateValue( data, value, 0 );
+    }
+
+    /**
+     * Accumulates the given value, returning the entry that has to be reversed when the value is removed. The values
+     * are expected to be removed in order of timestamp and, for the same timestamp, in the order they are accumulated.
+     */
+    public Object accumulateValue(SlidingWindowData data, Object value, long timestamp) {
+        if ( value == null ) {
+            return NULL_ENTRY;
+        }
+        Entry entry = new Entry( value, timestamp, data.nextSequence++ );
+        data.push( entry, this );
+        return entry;
+    }
+
+    public void reverse(SlidingWindowData data,
+                        Object value) {
+        tryReverse( data, value );
+    }
+
+    @Override
+    public boolean tryReverse(SlidingWindowData data, Object value) {
+        Entry entry = (Entry) value;
+        if ( entry != NULL_ENTRY && !entry.removed ) {
+            entry.removed = true;
+            data.removed++;
+        }
+        return true;
+    }
+
+    public Object getResult(SlidingWindowData data) {
+        Entry best = data.getBest( this );
+        return best != null ? best.value : null;
+    }
+
+    public boolean supportsReverse() {
+        return true;
+    }
+
+    public Class<?> getResultType() {
+        return delegate.getResultType();
+    }
+
+    /**
+     * Returns the better between two entries, preferring the older one when they are equal
+     */
+    private Entry better(Entry e1, Entry e2) {
+        if ( e1 == null ) {
+            return e2;
+        }
+        if ( e2 == null ) {
+            return e1;
+        }
+        int comparison = numeric ?
+                Double.compare( ((Number) e1.value).doubleValue(), ((Number) e2.value).doubleValue() ) :
+                ((Comparable) e1.value).compareTo( e2.value );
+        if ( comparison == 0 ) {
+            return AGE_COMPARATOR.compare( e1, e2 ) <= 0 ? e1 : e2;
+        }
+        return (max ? comparison > 0 : comparison < 0) ? e1 : e2;
+    }
+
+    @Override
+    public boolean equals( Object o ) {
+        return this == o || o != null && getClass() == o.getClass() && delegate.equals( ((SlidingWindowAccumulateFunction) o).delegate );
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getClass().getName().hashCode() + delegate.hashCode();
+    }
+
+    private static class Entry implements Serializable {
+        private final Object value;
+        private final long timestamp;
+        private final long sequence;
+        private boolean removed;
+
+        private Entry(Object value, long timestamp, long sequence) {
+            this.value = value;
+            this.timestamp = timestamp;
+            this.sequence = sequence;
+        }
+
+        private Object readResolve() {
+            return sequence < 0 ? NULL_ENTRY : this;
+        }
+    }
+
+    public static class SlidingWindowData implements Externalizable {
+
+        // the newest values, not necessarily sorted
+        private Entry[] back = new Entry[8];
+        private int backSize;
+        private Entry backBest;
+
+        // the oldest values, with the oldest one on top
+        private Entry[] front = new Entry[8];
+        private Entry[] frontBest = new Entry[8];
+        private int frontSize;
+
+        // the number of entries marked as removed but still in the stacks
+        private int removed;
+
+        // the arrival order of the next value, breaking the ties between values with the same timestamp
+        private long nextSequence;
+
+        public SlidingWindowData() { }
+
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+            // the entries are read as objects, so they are still the same ones held by the matches reversing them
+            backSize = in.readInt();
+            back = new Entry[Math.max( 8, backSize )];
+            for (int i = 0; i < backSize; i++) {
+                back[i] = (Entry) in.readObject();
+            }
+            backBest = (Entry) in.readObject();
+            frontSize = in.readInt();
+            front = new Entry[Math.max( 8, frontSize )];
+            frontBest = new Entry[front.length];
+            for (int i = 0; i < frontSize; i++) {
+                front[i] = (Entry) in.readObject();
+                frontBest[i] = (Entry) in.readObject();
+            }
+            removed = in.readInt();
+            nextSequence = in.readLong();
+        }
+
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeInt( backSize );
+            for (int i = 0; i < backSize; i++) {
+                out.writeObject( back[i] );
+            }
+            out.writeObject( backBest );
+            out.writeInt( frontSize );
+            for (int i = 0; i < frontSize; i++) {
+                out.writeObject( front[i] );
+                out.writeObject( frontBest[i] );
+            }
+            out.writeInt( removed );
+            out.writeLong( nextSequence );
+        }
+
+        private void clear() {
+            Arrays.fill( back, 0, backSize, null );
+            Arrays.fill( front, 0, frontSize, null );
+            Arrays.fill( frontBest, 0, frontSize, null );
+            backSize = 0;
+            frontSize = 0;
+            backBest = null;
+            removed = 0;
+            nextSequence = 0;
+        }
+
+        private void push(Entry entry, SlidingWindowAccumulateFunction function) {
+            if ( frontSize > 0 && AGE_COMPARATOR.compare( entry, front[0] ) < 0 ) {
+                // a late event expiring before some values already moved to the front stack
+                insertInFront( entry, function );
+                return;
+            }
+            if ( backSize == back.length ) {
+                back = Arrays.copyOf( back, backSize * 2 );
+            }
+            back[backSize++] = entry;
+            backBest = function.better( backBest, entry );
+        }
+
+        private void insertInFront(Entry entry, SlidingWindowAccumulateFunction function) {
+            if ( frontSize == front.length ) {
+                front = Arrays.copyOf( front, frontSize * 2 );
+                frontBest = Arrays.copyOf( frontBest, frontSize * 2 );
+            }
+            // the front stack goes from the newest value at the bottom to the oldest one on top
+            int low = 1;
+            int high = frontSize;
+            while ( low < high ) {
+                int mid = (low + high) >>> 1;
+                if ( AGE_COMPARATOR.compare( front[mid], entry ) > 0 ) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            System.arraycopy( front, low, front, low + 1, frontSize - low );
+            front[low] = entry;
+            frontSize++;
+            for (int i = low; i < frontSize; i++) {
+                frontBest[i] = function.better( front[i], frontBest[i - 1] );
+            }
+        }
+
+        private Entry getBest(SlidingWindowAccumulateFunction function) {
+            while ( removed > 0 ) {
+                if ( frontSize == 0 ) {
+                    if ( backSize == 0 ) {
+                        break;
+                    }
+                    moveBackToFront( function );
+                }
+                Entry top = front[frontSize - 1];
+                if ( !top.removed ) {
+                    break;
+                }
+                front[--frontSize] = null;
+                frontBest[frontSize] = null;
+                removed--;
+            }
+            if ( removed != 0 ) {
+                // some entries have been removed out of order
+                rebuild( function );
+            }
+            return frontSize == 0 ? backBest : function.better( frontBest[frontSize - 1], backBest );
+        }
+
+        private void moveBackToFront(SlidingWindowAccumulateFunction function) {
+            if ( front.length < backSize ) {
+                front = new Entry[back.length];
+                frontBest = new Entry[back.length];
+            }
+            Arrays.sort( back, 0, backSize, AGE_COMPARATOR );
+            Entry best = null;
+            for (int i = backSize - 1; i >= 0; i--) {
+                best = function.better( back[i], best );
+                front[frontSize] = back[i];
+                frontBest[frontSize++] = best;
+                back[i] = null;
+            }
+            backSize = 0;
+            backBest = null;
+        }
+
+        private void rebuild(SlidingWindowAccumulateFunction function) {
+            Entry[] entries = new Entry[Math.max( 8, frontSize + backSize )];
+            int size = 0;
+            for (int i = frontSize - 1; i >= 0; i--) {
+                if ( !front[i].removed ) {
+                    entries[size++] = front[i];
+                }
+            }
+            for (int i = 0; i < backSize; i++) {
+                if ( !back[i].removed ) {
+                    entries[size++] = back[i];
+                }
+            }
+            Arrays.fill( front, 0, frontSize, null );
+            Arrays.fill( frontBest, 0, frontSize, null );
+            frontSize = 0;
+            back = entries;
+            backSize = size;
+            backBest = null;
+            for (int i = 0; i < size; i++) {
+                backBest = function.better( backBest, entries[i] );
+            }
+            removed = 0;
+        }
+
+        @Override
+        public String toString() {
+            return "slidingWindow";
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Objects;
+
+import org.drools.core.base.accumulators.SlidingWindowAccumulateFunction.SlidingWindowData;
+import org.drools.core.common.EventFactHandle;
+import org.drools.core.common.InternalFactHandle;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.rule.Declaration;
+import org.drools.core.spi.Accumulator;
+import org.drools.core.spi.Tuple;
+import org.kie.api.runtime.rule.AccumulateFunction;
+
+/**
+ * A decorator of the accumulator of a min or max function used by an AccumulateNode whose source is a sliding window.
+ * The values are still evaluated by the decorated accumulator, but they are accumulated in a
+ * SlidingWindowAccumulateFunction, ordered by the start timestamp of their events when the window expires them by time.
+ *
+ * The decorator is owned by a single node, so the decorated accumulator, that belongs to the rule and can be shared,
+ * is never changed.
+ */
+public class SlidingWindowAccumulator implements Accumulator, Externalizable {
+
+    /**
+     * An accumulator applying an AccumulateFunction to the value it evaluates for each accumulated fact
+     */
+    public interface FunctionAccumulator extends Accumulator {
+
+        AccumulateFunction<?> getAccumulateFunction();
+
+        Object evaluate(Object workingMemoryContext,
+                        Tuple leftTuple,
+                        InternalFactHandle handle,
+                        Declaration[] declarations,
+                        Declaration[] innerDeclarations,
+                        ReteEvaluator reteEvaluator) throws Exception;
+    }
+
+    private FunctionAccumulator delegate;
+    private SlidingWindowAccumulateFunction function;
+    private boolean timeOrdered;
+
+    public SlidingWindowAccumulator() { }
+
+    private SlidingWindowAccumulator(FunctionAccumulator delegate, SlidingWindowAccumulateFunction function, boolean timeOrdered) {
+        this.delegate = delegate;
+        this.function = function;
+        this.timeOrdered = timeOrdered;
+    }
+
+    /**
+     * Returns a decorator of the given accumulator if its function is a min or max one, or the accumulator itself
+     * otherwise.
+     *
+     * @param timeOrdered true when the window expires its facts by timestamp, false when it removes them in the
+     *                    order they arrive
+     */
+    public static Accumulator decorate(FunctionAccumulator accumulator, boolean timeOrdered) {
+        AccumulateFunction<?> function = accumulator.getAccumulateFunction();
+        AccumulateFunction<?> windowFunction = SlidingWindowAccumulateFunction.forSlidingWindow( function );
+        return windowFunction == function ?
+                accumulator :
+                new SlidingWindowAccumulator( accumulator, (SlidingWindowAccumulateFunction) windowFunction, timeOrdered );
+    }
+
+    public Accumulator getDelegate() {
+        return delegate;
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        delegate = (FunctionAccumulator) in.readObject();
+        function = (SlidingWindowAccumulateFunction) in.readObject();
+        timeOrdered = in.readBoolean();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeObject( delegate );
+        out.writeObject( function );
+        out.writeBoolean( timeOrdered );
+    }
+
+    public Object createWorkingMemoryContext() {
+        return delegate.createWorkingMemoryContext();
+    }
+
+    public Object createContext() {
+        return function.createContext();
+    }
+
+    public Object init(Object workingMemoryContext,
+                       Object context,
+                       Tuple leftTuple,
+                       Declaration[] declarations,
+                       ReteEvaluator reteEvaluator) {
+        return function.initContext( (SlidingWindowData) context );
+    }
+
+    public Object accumulate(Object workingMemoryContext,
+                             Object context,
+                             Tuple leftTuple,
+                             InternalFactHandle handle,
+                             Declaration[] declarations,
+                             Declaration[] innerDeclarations,
+                             ReteEvaluator reteEvaluator) {
+        Object value;
+        try {
+            value = delegate.evaluate( workingMemoryContext, leftTuple, handle, declarations, innerDeclarations, reteEvaluator );
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException( e );
+        }
+        long timestamp = timeOrdered && handle instanceof EventFactHandle ? ((EventFactHandle) handle).getStartTimestamp() : 0;
+        return function.accumulateValue( (SlidingWindowData) context, value, timestamp );
+    }
+
+    public boolean tryReverse(Object workingMemoryContext,
+                              Object context,
+                              Tuple leftTuple,
+                              InternalFactHandle handle,
+                              Object value,
+                              Declaration[] declarations,
+                              Declaration[] innerDeclarations,
+                              ReteEvaluator reteEvaluator) {
+        return function.tryReverse( (SlidingWindowData) context, value );
+    }
+
+    public Object getResult(Object workingMemoryContext,
+                            Object context,
+                            Tuple leftTuple,
+                            Declaration[] declarations,
+                            ReteEvaluator reteEvaluator) {
+        return function.getResult( (SlidingWindowData) context );
+    }
+
+    public boolean supportsReverse() {
+        return true;
+    }
+
+    @Override
+    public boolean equals( Object o ) {
+        if ( this == o ) {
+            return true;
+        }
+        if ( o == null || getClass() != o.getClass() ) {
+            return false;
+        }
+        SlidingWindowAccumulator that = (SlidingWindowAccumulator) o;
+        return timeOrdered == that.timeOrdered && delegate.equals( that.delegate );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash( delegate, timeOrdered );
+    }
+}
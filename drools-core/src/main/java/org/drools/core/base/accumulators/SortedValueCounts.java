@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A sorted multiset of the values accumulated by the min and max functions, storing each distinct value once
+ * with the number of its occurrences. Both adding and removing a value take O(log n), so the min and max
+ * functions can reverse any value without accumulating again all the remaining ones.
+ */
+public class SortedValueCounts<T> {
+
+    private final TreeMap<T, Integer> counts;
+
+    public SortedValueCounts() {
+        this.counts = new TreeMap<>();
+    }
+
+    public SortedValueCounts(Comparator<? super T> comparator) {
+        this.counts = new TreeMap<>( comparator );
+    }
+
+    public void add(T value) {
+        counts.merge( value, 1, Integer::sum );
+    }
+
+    /**
+     * Removes one occurrence of the given value, returning false if it was not present.
+     */
+    public boolean remove(T value) {
+        Integer count = counts.get( value );
+        if ( count == null ) {
+            return false;
+        }
+        if ( count == 1 ) {
+            counts.remove( value );
+        } else {
+            counts.put( value, count - 1 );
+        }
+        return true;
+    }
+
+    /**
+     * Reverses the accumulation of the given value, if not null. It returns false when the value cannot be found,
+     * e.g. because it has been mutated after being accumulated, so the accumulate node knows that it has to
+     * accumulate again all the remaining values.
+     */
+    public boolean tryRemove(Object value) {
+        return value == null || remove( (T) value );
+    }
+
+    public T first() {
+        return counts.isEmpty() ? null : counts.firstKey();
+    }
+
+    public T last() {
+        return counts.isEmpty() ? null : counts.lastKey();
+    }
+
+    public boolean isEmpty() {
+        return counts.isEmpty();
+    }
+
+    public void clear() {
+        counts.clear();
+    }
+
+    public void writeTo(ObjectOutput out) throws IOException {
+        out.writeInt( counts.size() );
+        for ( Map.Entry<T, Integer> entry : counts.entrySet() ) {
+            out.writeObject( entry.getKey() );
+            out.writeInt( entry.getValue() );
+        }
+    }
+
+    public void readFrom(ObjectInput in) throws IOException, ClassNotFoundException {
+        counts.clear();
+        int size = in.readInt();
+        for ( int i = 0; i < size; i++ ) {
+            counts.put( (T) in.readObject(), in.readInt() );
+        }
+    }
+
+    @Override
+    public String toString() {
+        return counts.toString();
+    }
+}
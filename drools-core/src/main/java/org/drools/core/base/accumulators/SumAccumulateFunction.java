@@ -24,7 +24,7 @@ import java.io.ObjectOutput;
 /**
  * An implementation of an accumulator capable of calculating sum of values
  */
-public class SumAccumulateFunction extends AbstractAccumulateFunction<SumAccumulateFunction.SumData> {
+public class SumAccumulateFunction extends AbstractAccumulateFunction<SumAccumulateFunction.SumData> implements PrimitiveAccumulateFunction<SumAccumulateFunction.SumData> {
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException { }
 
@@ -67,6 +67,22 @@ public class SumAccumulateFunction extends AbstractAccumulateFunction<SumAccumul
         data.total -= ((Number) value).doubleValue();
     }
 
+    public void accumulateLong(SumData data, long value) {
+        data.total += value;
+    }
+
+    public void reverseLong(SumData data, long value) {
+        data.total -= value;
+    }
+
+    public void accumulateDouble(SumData data, double value) {
+        data.total += value;
+    }
+
+    public void reverseDouble(SumData data, double value) {
+        data.total -= value;
+    }
+
     public Object getResult(SumData data) {
         return data.total;
     }
@@ -99,7 +99,9 @@ public abstract class AbstractFactHandleFactory implements FactHandleFactory  {
             if ( type != null && type.getDurationExtractor() != null ) {
                 duration = type.getDurationExtractor().getLongValue( reteEvaluator, object );
             }
-            return createEventFactHandle(id, object, recency, entryPoint, isTrait, timestamp, duration);
+            return conf.isCompactEvent() ?
+                   createCompactEventFactHandle(id, object, recency, entryPoint, timestamp, duration) :
+                   createEventFactHandle(id, object, recency, entryPoint, isTrait, timestamp, duration);
         } else {
             return createDefaultFactHandle(id, object, recency, entryPoint, isTrait);
         }
@@ -113,6 +115,10 @@ public abstract class AbstractFactHandleFactory implements FactHandleFactory  {
         return new EventFactHandle(id, object, recency, timestamp, duration, entryPoint, isTrait);
     }
 
+    protected EventFactHandle createCompactEventFactHandle(long id, Object object, long recency, WorkingMemoryEntryPoint entryPoint, long timestamp, long duration) {
+        return new CompactEventFactHandle(id, object, recency, timestamp, duration, entryPoint);
+    }
+
     protected WorkingMemoryEntryPoint getWmEntryPoint(ReteEvaluator reteEvaluator, WorkingMemoryEntryPoint wmEntryPoint) {
         if (wmEntryPoint != null) {
             return wmEntryPoint;
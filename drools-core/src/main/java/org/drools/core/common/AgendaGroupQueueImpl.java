@@ -90,10 +90,14 @@ public class AgendaGroupQueueImpl
         if (reteEvaluator != null && reteEvaluator.getSessionConfiguration().isDirectFiring()) {
             this.priorityQueue = new ArrayQueue();
         } else {
-            this.priorityQueue = new BinaryHeapQueue(new PhreakConflictResolver());
+            this.priorityQueue = createPriorityQueue();
         }
     }
 
+    protected Queue createPriorityQueue() {
+        return new BinaryHeapQueue(new PhreakConflictResolver());
+    }
+
     @Override
     public void hasRuleFlowListener(boolean hasRuleFlowLister) {
         this.hasRuleFlowLister = hasRuleFlowLister;
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.common;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.drools.core.WorkingMemoryEntryPoint;
+import org.drools.core.factmodel.traits.TraitTypeEnum;
+import org.drools.core.reteoo.LeftTuple;
+import org.drools.core.reteoo.RightTuple;
+import org.drools.core.rule.EntryPointId;
+import org.drools.core.spi.Tuple;
+
+/**
+ * A fact handle for the events that are never updated or logically inserted. It never holds an equality key
+ * and allocates its tuple links only while the event is actually matched by some node, releasing them as soon
+ * as the last tuple is removed, so the events just waiting to expire take as little memory as possible.
+ */
+public class CompactEventFactHandle extends EventFactHandle {
+
+    private static final long serialVersionUID = 510l;
+
+    public CompactEventFactHandle() {
+        super();
+    }
+
+    public CompactEventFactHandle(long id,
+                                  Object object,
+                                  long recency,
+                                  long timestamp,
+                                  long duration,
+                                  WorkingMemoryEntryPoint wmEntryPoint) {
+        super( id, determineIdentityHashCode( object ), object, recency, timestamp, duration,
+               wmEntryPoint.getEntryPoint(), TraitTypeEnum.NON_TRAIT );
+        this.wmEntryPoint = wmEntryPoint;
+    }
+
+    private CompactEventFactHandle(long id,
+                                   int identityHashCode,
+                                   Object object,
+                                   long recency,
+                                   long timestamp,
+                                   long duration,
+                                   EntryPointId entryPointId) {
+        super( id, identityHashCode, object, recency, timestamp, duration, entryPointId, TraitTypeEnum.NON_TRAIT );
+    }
+
+    @Override
+    public void setEqualityKey( EqualityKey key ) {
+        if ( key != null ) {
+            throw new UnsupportedOperationException( "The event " + getObject() + " has a compact fact handle and cannot be logically inserted" );
+        }
+    }
+
+    private LinkedTuples tuples() {
+        if ( linkedTuples == null ) {
+            linkedTuples = new SingleLinkedTuples();
+        }
+        return linkedTuples;
+    }
+
+    private void releaseTuplesIfEmpty() {
+        SingleLinkedTuples tuples = (SingleLinkedTuples) linkedTuples;
+        if ( tuples.getFirstLeftTuple() == null && tuples.getFirstRightTuple() == null ) {
+            linkedTuples = null;
+        }
+    }
+
+    @Override
+    public void addFirstLeftTuple( LeftTuple leftTuple ) {
+        tuples().addFirstLeftTuple( leftTuple );
+    }
+
+    @Override
+    public void addLastLeftTuple( LeftTuple leftTuple ) {
+        tuples().addLastLeftTuple( leftTuple );
+    }
+
+    @Override
+    public void addTupleInPosition( Tuple tuple ) {
+        tuples().addTupleInPosition( tuple );
+    }
+
+    @Override
+    public void removeLeftTuple( LeftTuple leftTuple ) {
+        if ( linkedTuples != null ) {
+            linkedTuples.removeLeftTuple( leftTuple );
+            releaseTuplesIfEmpty();
+        }
+    }
+
+    @Override
+    public void addFirstRightTuple( RightTuple rightTuple ) {
+        tuples().addFirstRightTuple( rightTuple );
+    }
+
+    @Override
+    public void addLastRightTuple( RightTuple rightTuple ) {
+        tuples().addLastRightTuple( rightTuple );
+    }
+
+    @Override
+    public void removeRightTuple( RightTuple rightTuple ) {
+        if ( linkedTuples != null ) {
+            linkedTuples.removeRightTuple( rightTuple );
+            releaseTuplesIfEmpty();
+        }
+    }
+
+    @Override
+    public void clearLeftTuples() {
+        if ( linkedTuples != null ) {
+            linkedTuples.clearLeftTuples();
+            releaseTuplesIfEmpty();
+        }
+    }
+
+    @Override
+    public void clearRightTuples() {
+        if ( linkedTuples != null ) {
+            linkedTuples.clearRightTuples();
+            releaseTuplesIfEmpty();
+        }
+    }
+
+    @Override
+    public void forEachRightTuple( Consumer<RightTuple> rightTupleConsumer ) {
+        if ( linkedTuples != null ) {
+            linkedTuples.forEachRightTuple( rightTupleConsumer );
+        }
+    }
+
+    @Override
+    public RightTuple findFirstRightTuple( Predicate<RightTuple> rightTuplePredicate ) {
+        return linkedTuples != null ? linkedTuples.findFirstRightTuple( rightTuplePredicate ) : null;
+    }
+
+    @Override
+    public void forEachLeftTuple( Consumer<LeftTuple> leftTupleConsumer ) {
+        if ( linkedTuples != null ) {
+            linkedTuples.forEachLeftTuple( leftTupleConsumer );
+        }
+    }
+
+    @Override
+    public LeftTuple findFirstLeftTuple( Predicate<LeftTuple> leftTuplePredicate ) {
+        return linkedTuples != null ? linkedTuples.findFirstLeftTuple( leftTuplePredicate ) : null;
+    }
+
+    @Override
+    public LeftTuple getFirstLeftTuple() {
+        return linkedTuples != null ? ( (SingleLinkedTuples) linkedTuples ).getFirstLeftTuple() : null;
+    }
+
+    @Override
+    public void setFirstLeftTuple( LeftTuple firstLeftTuple ) {
+        if ( firstLeftTuple != null || linkedTuples != null ) {
+            ( (SingleLinkedTuples) tuples() ).setFirstLeftTuple( firstLeftTuple );
+        }
+    }
+
+    @Override
+    public RightTuple getFirstRightTuple() {
+        return linkedTuples != null ? ( (SingleLinkedTuples) linkedTuples ).getFirstRightTuple() : null;
+    }
+
+    @Override
+    public LinkedTuples getLinkedTuples() {
+        return tuples();
+    }
+
+    @Override
+    public LinkedTuples detachLinkedTuples() {
+        LinkedTuples detached = tuples();
+        linkedTuples = null;
+        return detached;
+    }
+
+    @Override
+    public CompactEventFactHandle clone() {
+        CompactEventFactHandle clone = new CompactEventFactHandle( getId(),
+                                                                   getIdentityHashCode(),
+                                                                   getObject(),
+                                                                   getRecency(),
+                                                                   getStartTimestamp(),
+                                                                   getDuration(),
+                                                                   getEntryPointId() );
+        clone.setActivationsCount( getActivationsCount() );
+        clone.setOtnCount( getOtnCount() );
+        clone.setExpired( isExpired() );
+        clone.linkedTuples = this.linkedTuples != null ? this.linkedTuples.clone() : null;
+        clone.setObjectHashCode( getObjectHashCode() );
+        clone.wmEntryPoint = this.wmEntryPoint;
+        return clone;
+    }
+
+    @Override
+    public EventFactHandle cloneAndLink() {
+        // the linked clone is a plain event handle, created from an empty instance of the tuple links of this one
+        tuples();
+        return super.cloneAndLink();
+    }
+}
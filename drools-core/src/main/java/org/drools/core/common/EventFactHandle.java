@@ -42,7 +42,8 @@ public class EventFactHandle extends DefaultFactHandle implements Comparable<Eve
 
     private AtomicInteger     notExpiredPartitions;
 
-    private final transient LinkedList<JobHandle> jobs = new LinkedList<JobHandle>();
+    // allocated with the first job, most events never have any
+    private transient LinkedList<JobHandle> jobs;
 
     // ----------------------------------------------------------------------
     // Constructors
@@ -133,6 +134,11 @@ public class EventFactHandle extends DefaultFactHandle implements Comparable<Eve
         return startTimestamp;
     }
 
+    // the timestamps can only change before the event is propagated into the network
+    void setStartTimestamp(long startTimestamp) {
+        this.startTimestamp = startTimestamp;
+    }
+
     /**
      * Returns the duration of this event. In case this is a primitive event,
      * returns 0 (zero).
@@ -143,6 +149,10 @@ public class EventFactHandle extends DefaultFactHandle implements Comparable<Eve
         return duration;
     }
 
+    void setDuration(long duration) {
+        this.duration = duration;
+    }
+
     /**
      * Returns the end timestamp for this event. This is the same as:
      *
@@ -326,24 +336,27 @@ public class EventFactHandle extends DefaultFactHandle implements Comparable<Eve
     }
 
     public void addJob(JobHandle job) {
-        synchronized (jobs) {
+        synchronized (this) {
+            if (jobs == null) {
+                jobs = new LinkedList<JobHandle>();
+            }
             jobs.add(job);
         }
     }
 
     public void removeJob(JobHandle job) {
-        synchronized (jobs) {
+        synchronized (this) {
             // the job could have been already removed if the event has been just retracted
             // and then the unscheduleAllJobs method has been invoked concurrently
-            if (jobs.contains(job)) {
+            if (jobs != null && jobs.contains(job)) {
                 jobs.remove(job);
             }
         }
     }
 
     public void unscheduleAllJobs(ReteEvaluator reteEvaluator) {
-        if (!jobs.isEmpty()) {
-            synchronized (jobs) {
+        if (jobs != null && !jobs.isEmpty()) {
+            synchronized (this) {
                 TimerService clock = reteEvaluator.getTimerService();
                 while ( !jobs.isEmpty() ) {
                     JobHandle job = jobs.removeFirst();
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.common;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Holds the events of an entry point that arrived out of order until the watermark passes their timestamp, so that
+ * they can be propagated into the network in timestamp order.
+ *
+ * The watermark follows the highest timestamp seen so far minus the allowed lateness, and can also be moved forward
+ * explicitly when the source of the events knows that no older ones will arrive. It never moves backward, so all the
+ * held events always have a timestamp after the watermark. The events with the same timestamp are released in the
+ * order they have been inserted.
+ *
+ * The held events are not in the object store of the entry point yet, so they are also tracked by the identity of
+ * their objects, allowing to find the handle of an event inserted again before being released.
+ *
+ * This class is not thread safe: the entry point using it is in charge of its synchronization.
+ */
+public class EventReorderBuffer {
+
+    private static final Comparator<EventFactHandle> TIMESTAMP_COMPARATOR =
+            Comparator.comparingLong( EventFactHandle::getStartTimestamp ).thenComparingLong( EventFactHandle::getId );
+
+    private final PriorityQueue<EventFactHandle> events = new PriorityQueue<>( TIMESTAMP_COMPARATOR );
+
+    private final Map<Object, EventFactHandle> handlesByObject = new IdentityHashMap<>();
+
+    private long allowedLateness;
+
+    private long watermark = Long.MIN_VALUE;
+
+    public EventReorderBuffer(long allowedLateness) {
+        setAllowedLateness( allowedLateness );
+    }
+
+    public long getAllowedLateness() {
+        return allowedLateness;
+    }
+
+    public void setAllowedLateness(long allowedLateness) {
+        if ( allowedLateness < 0 ) {
+            throw new IllegalArgumentException( "The allowed lateness cannot be negative: " + allowedLateness );
+        }
+        this.allowedLateness = allowedLateness;
+    }
+
+    public long getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * Moves the watermark forward to the given time, returning false if it was already there or later
+     */
+    public boolean advanceWatermark(long watermark) {
+        if ( watermark <= this.watermark ) {
+            return false;
+        }
+        this.watermark = watermark;
+        return true;
+    }
+
+    /**
+     * Returns true if an event with the given timestamp is late, meaning that the watermark already passed it,
+     * so it cannot be reordered anymore
+     */
+    public boolean isLate(long timestamp) {
+        return timestamp <= watermark;
+    }
+
+    public void add(EventFactHandle handle) {
+        events.add( handle );
+        handlesByObject.put( handle.getObject(), handle );
+        long timestamp = handle.getStartTimestamp();
+        if ( timestamp > Long.MIN_VALUE + allowedLateness ) {
+            advanceWatermark( timestamp - allowedLateness );
+        }
+    }
+
+    /**
+     * Returns and removes the oldest event that the watermark already passed, or null if there isn't any
+     */
+    public EventFactHandle poll() {
+        EventFactHandle first = events.peek();
+        if ( first == null || first.getStartTimestamp() > watermark ) {
+            return null;
+        }
+        events.poll();
+        handlesByObject.remove( first.getObject() );
+        return first;
+    }
+
+    /**
+     * Returns the handle of the held event for the given object, or null if this object isn't held
+     */
+    public EventFactHandle getHandleForObject(Object object) {
+        return handlesByObject.get( object );
+    }
+
+    public boolean contains(InternalFactHandle handle) {
+        return handle.isEvent() && handlesByObject.get( handle.getObject() ) == handle;
+    }
+
+    public boolean remove(InternalFactHandle handle) {
+        if ( !contains( handle ) ) {
+            return false;
+        }
+        handlesByObject.remove( handle.getObject() );
+        events.removeIf( e -> e == handle );
+        return true;
+    }
+
+    /**
+     * Replaces the object of a held event, moving it to the position of its new timestamp. As for a newly added event,
+     * the new timestamp can move the watermark forward, and if the watermark already passed it the event is released
+     * with the next poll.
+     */
+    public void update(EventFactHandle handle, Object object, long timestamp, long duration) {
+        remove( handle );
+        handle.setObject( object );
+        handle.setStartTimestamp( timestamp );
+        handle.setDuration( duration );
+        add( handle );
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    public boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    public void clear() {
+        events.clear();
+        handlesByObject.clear();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.common;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import org.drools.core.impl.RuleBase;
+import org.drools.core.util.Queue;
+import org.drools.core.util.SalienceBucketQueue;
+
+/**
+ * Creates agenda groups keeping their activations in a {@link SalienceBucketQueue} instead of a binary heap.
+ * It is used when the AgendaQueueOption of the kie base is SALIENCE_FIFO or SALIENCE_LIFO.
+ */
+public class SalienceBucketAgendaGroupFactory implements AgendaGroupFactory, Externalizable {
+
+    private static final AgendaGroupFactory FIFO_INSTANCE = new SalienceBucketAgendaGroupFactory(false);
+    private static final AgendaGroupFactory LIFO_INSTANCE = new SalienceBucketAgendaGroupFactory(true);
+
+    private boolean lifo;
+
+    public static AgendaGroupFactory getFifoInstance() {
+        return FIFO_INSTANCE;
+    }
+
+    public static AgendaGroupFactory getLifoInstance() {
+        return LIFO_INSTANCE;
+    }
+
+    public SalienceBucketAgendaGroupFactory() { }
+
+    private SalienceBucketAgendaGroupFactory(boolean lifo) {
+        this.lifo = lifo;
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        lifo = in.readBoolean();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeBoolean(lifo);
+    }
+
+    public InternalAgendaGroup createAgendaGroup(String name, RuleBase kBase) {
+        return new SalienceBucketAgendaGroup( name, kBase, lifo );
+    }
+
+    public static class SalienceBucketAgendaGroup extends AgendaGroupQueueImpl {
+
+        private final boolean lifo;
+
+        public SalienceBucketAgendaGroup(String name, RuleBase kBase, boolean lifo) {
+            super( name, kBase );
+            this.lifo = lifo;
+        }
+
+        @Override
+        protected Queue createPriorityQueue() {
+            // a sequential rule base relies on the load order of the rules to discard the already fired activations
+            return isSequential() ? super.createPriorityQueue() : new SalienceBucketQueue( lifo );
+        }
+    }
+}
@@ -15,6 +15,7 @@
 
 package org.drools.core.concurrent;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
@@ -28,23 +29,34 @@ import javax.naming.InitialContext;
 import javax.naming.NamingException;
 
 import org.kie.api.concurrent.KieExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ExecutorProviderImpl implements KieExecutors {
 
+    private static final Logger log = LoggerFactory.getLogger( ExecutorProviderImpl.class );
+
     public static final String EXECUTOR_SERVICE_PROPERTY = "drools.executorService";
     public static final String DEFAULT_JEE_EXECUTOR_SERVICE_NAME = "java:comp/env/concurrent/ThreadPool";
 
     public static final String THREAD_FACTORY_PROPERTY = "drools.threadFactory";
 
+    // if true and the JVM supports them, the tasks are executed on virtual threads, one per task, instead of on a fixed pool
+    public static final String VIRTUAL_THREADS_PROPERTY = "drools.virtualThreads";
+
     private static class ExecutorHolder {
         private static final ExecutorService executor;
         private static final ThreadFactory threadFactory;
+        private static final boolean virtualThreads;
 
         static {
             String threadFactoryClass = System.getProperty( THREAD_FACTORY_PROPERTY );
 
+            ThreadFactory virtualThreadFactory = Boolean.getBoolean( VIRTUAL_THREADS_PROPERTY ) ? createVirtualThreadFactory() : null;
+            virtualThreads = virtualThreadFactory != null;
+
             if ( threadFactoryClass == null ) {
-                threadFactory = new DaemonThreadFactory();
+                threadFactory = virtualThreads ? virtualThreadFactory : new DaemonThreadFactory();
             } else {
                 try {
                     threadFactory = (ThreadFactory) Class.forName( threadFactoryClass ).newInstance();
@@ -67,6 +79,10 @@ public class ExecutorProviderImpl implements KieExecutors {
                 }
             }
 
+            if (newExecutor == null && virtualThreads) {
+                newExecutor = newThreadPerTaskExecutor( virtualThreadFactory );
+            }
+
             if (newExecutor == null) {
                 newExecutor = new ThreadPoolExecutor( Pool.SIZE, Pool.SIZE,
                                                       60L, TimeUnit.SECONDS,
@@ -78,6 +94,35 @@ public class ExecutorProviderImpl implements KieExecutors {
         }
     }
 
+    /**
+     * Returns a factory of virtual threads or null if they aren't supported by this JVM. They are looked up
+     * reflectively because they are only available since JDK 21, while this module is compiled with release 8.
+     */
+    static ThreadFactory createVirtualThreadFactory() {
+        try {
+            Class<?> builderClass = Class.forName( "java.lang.Thread$Builder" );
+            Object builder = Thread.class.getMethod( "ofVirtual" ).invoke( null );
+            builder = builderClass.getMethod( "name", String.class, long.class ).invoke( builder, "drools-virtual-worker-", 1L );
+            return (ThreadFactory) builderClass.getMethod( "factory" ).invoke( builder );
+        } catch (Exception e) {
+            log.warn( "Virtual threads are not supported by this JVM, the platform threads pool will be used instead" );
+            return null;
+        }
+    }
+
+    private static ExecutorService newThreadPerTaskExecutor( ThreadFactory threadFactory ) {
+        try {
+            Method newThreadPerTaskExecutor = Executors.class.getMethod( "newThreadPerTaskExecutor", ThreadFactory.class );
+            return (ExecutorService) newThreadPerTaskExecutor.invoke( null, threadFactory );
+        } catch (Exception e) {
+            throw new RuntimeException( "Unable to create an ExecutorService running its tasks on virtual threads", e );
+        }
+    }
+
+    public static boolean isUsingVirtualThreads() {
+        return ExecutorHolder.virtualThreads;
+    }
+
     public ExecutorService getExecutor() {
         return ExecutorHolder.executor;
     }
@@ -38,6 +38,7 @@ import org.drools.core.concurrent.SequentialRuleEvaluator;
 import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.event.AgendaEventSupport;
 import org.drools.core.phreak.ExecutableEntry;
+import org.drools.core.phreak.LockFreePropagationList;
 import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.phreak.PropagationList;
 import org.drools.core.phreak.RuleAgendaItem;
@@ -86,7 +87,9 @@ public class ActivationsManagerImpl implements ActivationsManager {
     public ActivationsManagerImpl(ReteEvaluator reteEvaluator) {
         this.reteEvaluator = reteEvaluator;
         this.agendaGroupsManager = new AgendaGroupsManager.SimpleAgendaGroupsManager(reteEvaluator);
-        this.propagationList = new SynchronizedPropagationList(reteEvaluator);
+        this.propagationList = reteEvaluator.getSessionConfiguration().isLockFreePropagation() ?
+                new LockFreePropagationList(reteEvaluator) :
+                new SynchronizedPropagationList(reteEvaluator);
         this.ruleEvaluator = new SequentialRuleEvaluator( this );
         if (reteEvaluator.getKnowledgeBase().getConfiguration().getEventProcessingMode() == EventProcessingOption.STREAM) {
             expirationContexts = new ArrayList<>();
@@ -72,6 +72,10 @@ public class WorkingMemoryReteExpireAction
     }
 
     public void execute(ReteEvaluator reteEvaluator) {
+        expire( reteEvaluator, factHandle );
+    }
+
+    public static void expire(ReteEvaluator reteEvaluator, EventFactHandle factHandle) {
         if (!factHandle.isValid()) {
             return;
         }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.phreak;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.drools.core.common.ReteEvaluator;
+
+/**
+ * A PropagationList that can be fed by many producer threads without locking and is consumed by the single thread
+ * evaluating the session. The producers push the entries on a stack with a compare-and-set and the consumer detaches
+ * the whole stack at once, reversing it to restore the insertion order.
+ *
+ * Differently from SynchronizedPropagationList the consumer waiting for new entries while firing until halt is
+ * parked instead of waiting on this object's monitor, so that neither the producers nor the notifying threads
+ * have to acquire it.
+ */
+public class LockFreePropagationList implements PropagationList {
+
+    private final ReteEvaluator reteEvaluator;
+
+    // the most recently added entry, linked to the previous ones through their next pointers
+    private final AtomicReference<PropagationEntry> top = new AtomicReference<>();
+
+    private volatile Thread waitingConsumer;
+    private volatile boolean notified = false;
+
+    private volatile boolean disposed = false;
+
+    private volatile boolean hasEntriesDeferringExpiration = false;
+
+    private volatile boolean firingUntilHalt = false;
+
+    public LockFreePropagationList(ReteEvaluator reteEvaluator) {
+        this.reteEvaluator = reteEvaluator;
+    }
+
+    @Override
+    public void addEntry(final PropagationEntry entry) {
+        if (entry.requiresImmediateFlushing()) {
+            if (entry.isCalledFromRHS()) {
+                entry.execute(reteEvaluator);
+            } else {
+                reteEvaluator.getActivationsManager().executeTask( new ExecutableEntry() {
+                    @Override
+                    public void execute() {
+                        if (entry instanceof PhreakTimerNode.TimerAction) {
+                            ( (PhreakTimerNode.TimerAction) entry ).execute( reteEvaluator, true );
+                        } else {
+                            entry.execute( reteEvaluator );
+                        }
+                    }
+
+                    @Override
+                    public void enqueue() {
+                        internalAddEntry( entry );
+                    }
+                } );
+            }
+        } else {
+            internalAddEntry( entry );
+        }
+    }
+
+    void internalAddEntry( PropagationEntry entry ) {
+        PropagationEntry previous;
+        do {
+            previous = top.get();
+            entry.setNext( previous );
+        } while ( !top.compareAndSet( previous, entry ) );
+
+        // set after the entry is visible, so that a concurrent takeAll() can't reset it while the entry is still in the list
+        if ( entry.defersExpiration() ) {
+            hasEntriesDeferringExpiration = true;
+        }
+
+        if ( previous == null && firingUntilHalt ) {
+            notifyWaitOnRest();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+    }
+
+    @Override
+    public void flush() {
+        flush( takeAll() );
+    }
+
+    @Override
+    public void flush(PropagationEntry currentHead) {
+        for (PropagationEntry entry = currentHead; !disposed && entry != null; entry = entry.getNext()) {
+            entry.execute(reteEvaluator);
+        }
+    }
+
+    @Override
+    public boolean hasEntriesDeferringExpiration() {
+        return hasEntriesDeferringExpiration;
+    }
+
+    @Override
+    public PropagationEntry takeAll() {
+        if ( top.get() == null ) {
+            return null;
+        }
+        hasEntriesDeferringExpiration = false;
+        return reverse( top.getAndSet( null ) );
+    }
+
+    private static PropagationEntry reverse( PropagationEntry entry ) {
+        PropagationEntry reversed = null;
+        while ( entry != null ) {
+            PropagationEntry next = entry.getNext();
+            entry.setNext( reversed );
+            reversed = entry;
+            entry = next;
+        }
+        return reversed;
+    }
+
+    @Override
+    public void reset() {
+        top.set( null );
+        disposed = false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    @Override
+    public void waitOnRest() {
+        waitingConsumer = Thread.currentThread();
+        // a notification or an entry arrived after the consumer last looked at this list doesn't have to be waited for
+        if ( !notified && isEmpty() ) {
+            LockSupport.park( this );
+        }
+        waitingConsumer = null;
+        notified = false;
+    }
+
+    @Override
+    public boolean isWaitOnRestLockFree() {
+        return true;
+    }
+
+    @Override
+    public void notifyWaitOnRest() {
+        notified = true;
+        Thread consumer = waitingConsumer;
+        if ( consumer != null ) {
+            LockSupport.unpark( consumer );
+        }
+    }
+
+    @Override
+    public Iterator<PropagationEntry> iterator() {
+        List<PropagationEntry> entries = new ArrayList<>();
+        for ( PropagationEntry entry = top.get(); entry != null; entry = entry.getNext() ) {
+            entries.add( entry );
+        }
+        Collections.reverse( entries );
+        return entries.iterator();
+    }
+
+    @Override
+    public void onEngineInactive() { }
+
+    @Override
+    public void setFiringUntilHalt( boolean firingUntilHalt ) {
+        this.firingUntilHalt = firingUntilHalt;
+    }
+}
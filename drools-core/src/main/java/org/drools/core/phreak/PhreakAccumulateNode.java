@@ -20,6 +20,7 @@ import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.ReteEvaluator;
 import org.drools.core.common.TupleSets;
 import org.drools.core.common.TupleSetsImpl;
+import org.drools.core.reteoo.AccumulateMatchLeftTuple;
 import org.drools.core.reteoo.AccumulateNode;
 import org.drools.core.reteoo.AccumulateNode.AccumulateContext;
 import org.drools.core.reteoo.AccumulateNode.AccumulateContextEntry;
@@ -727,6 +728,18 @@ public class PhreakAccumulateNode {
 
         accctx.setPropagationContext(rightTuple.getPropagationContext());
 
+        if (accumulate.isPrimitive()) {
+            // the match is created first, so the accumulated value can be stored in it without boxing
+            AccumulateMatchLeftTuple match = useLeftMemory ?
+                    accNode.createMatchLeftTuple(leftTuple, rightTuple, currentLeftChild, currentRightChild) :
+                    null;
+            accumulate.accumulatePrimitive(am.workingMemoryContext, accctx, tuple, handle, match, reteEvaluator);
+            if (match != null) {
+                postAccumulate(accNode, accctx, match);
+            }
+            return;
+        }
+
         Object value = accumulate.accumulate(am.workingMemoryContext,
                                              accctx, tuple,
                                              handle, reteEvaluator);
@@ -822,6 +835,12 @@ public class PhreakAccumulateNode {
                     childHandle = rightTuple.getFactHandleForEvaluation();
                 }
 
+                if (accumulate.isPrimitive()) {
+                    accumulate.accumulatePrimitive(am.workingMemoryContext, accctx, tuple, childHandle, (AccumulateMatchLeftTuple) childMatch, reteEvaluator);
+                    postAccumulate(accNode, accctx, childMatch);
+                    continue;
+                }
+
                 Object value = accumulate.accumulate(am.workingMemoryContext, accctx, tuple, childHandle, reteEvaluator);
                 postAccumulate(accNode, accctx, childMatch);
                 childMatch.setContextObject(value);
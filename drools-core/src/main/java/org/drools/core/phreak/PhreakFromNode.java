@@ -26,9 +26,11 @@ import org.drools.core.common.TupleSets;
 import org.drools.core.reteoo.BetaMemory;
 import org.drools.core.reteoo.FromNode;
 import org.drools.core.reteoo.FromNode.FromMemory;
+import org.drools.core.reteoo.FromSourceCache;
 import org.drools.core.reteoo.LeftTuple;
 import org.drools.core.reteoo.LeftTupleSink;
 import org.drools.core.reteoo.RightTuple;
+import org.drools.core.reteoo.RightTupleImpl;
 import org.drools.core.reteoo.TupleMemory;
 import org.drools.core.rule.ContextEntry;
 import org.drools.core.spi.AlphaNodeFieldConstraint;
@@ -94,23 +96,37 @@ public class PhreakFromNode {
 
             betaConstraints.updateFromTuple(context, reteEvaluator, leftTuple);
 
-            for (final java.util.Iterator<?> it = dataProvider.getResults(leftTuple, reteEvaluator,
-                                                                          propagationContext,
-                                                                          fm.providerContext); it.hasNext(); ) {
-                final Object object = it.next();
-                if ( (object == null) || !resultClass.isAssignableFrom( object.getClass() ) ) {
-                    continue; // skip anything if it not assignable
+            FromSourceCache sourceCache = getValidSourceCache(fromNode, fm, leftTuple, reteEvaluator, propagationContext);
+            if (sourceCache != null) {
+                FastIterator cacheIt = sourceCache.fastIterator();
+                for (RightTuple cached = sourceCache.getFirst(leftTuple); cached != null; cached = (RightTuple) cacheIt.next(cached)) {
+                    RightTuple rightTuple = new RightTupleImpl(cached.getFactHandle());
+                    propagate( sink, leftTuple, rightTuple, betaConstraints, propagationContext, context, useLeftMemory, trgLeftTuples, null );
+
+                    if (useLeftMemory) {
+                        fromNode.addToCreatedHandlesMap(matches,
+                                                        rightTuple);
+                    }
                 }
+            } else {
+                for (final java.util.Iterator<?> it = dataProvider.getResults(leftTuple, reteEvaluator,
+                                                                              propagationContext,
+                                                                              fm.providerContext); it.hasNext(); ) {
+                    final Object object = it.next();
+                    if ( (object == null) || !resultClass.isAssignableFrom( object.getClass() ) ) {
+                        continue; // skip anything if it not assignable
+                    }
 
-                RightTuple rightTuple = fromNode.createRightTuple(leftTuple, propagationContext, reteEvaluator, object);
+                    RightTuple rightTuple = fromNode.createRightTuple(leftTuple, propagationContext, reteEvaluator, object);
 
-                if ( isAllowed( rightTuple.getFactHandle(), alphaConstraints, reteEvaluator, fm ) ) {
-                    propagate( sink, leftTuple, rightTuple, betaConstraints, propagationContext, context, useLeftMemory, trgLeftTuples, null );
-                }
+                    if ( isAllowed( rightTuple.getFactHandle(), alphaConstraints, reteEvaluator, fm ) ) {
+                        propagate( sink, leftTuple, rightTuple, betaConstraints, propagationContext, context, useLeftMemory, trgLeftTuples, null );
+                    }
 
-                if (useLeftMemory) {
-                    fromNode.addToCreatedHandlesMap(matches,
-                                                    rightTuple);
+                    if (useLeftMemory) {
+                        fromNode.addToCreatedHandlesMap(matches,
+                                                        rightTuple);
+                    }
                 }
             }
 
@@ -146,32 +162,40 @@ public class PhreakFromNode {
             betaConstraints.updateFromTuple(context, reteEvaluator, leftTuple);
 
             FastIterator rightIt = LinkedList.fastIterator;
-            for (final java.util.Iterator<?> it = dataProvider.getResults(leftTuple, reteEvaluator, propagationContext, fm.providerContext); it.hasNext(); ) {
-                final Object object = it.next();
-                if ( (object == null) || !resultClass.isAssignableFrom( object.getClass() ) ) {
-                    continue; // skip anything if it not assignable
-                }
-
-                RightTuple rightTuple = previousMatches.remove(object);
-
-                if (rightTuple == null) {
-                    // new match, propagate assert
-                    rightTuple = fromNode.createRightTuple(leftTuple, propagationContext, reteEvaluator, object);
-                } else {
-                    // previous match, so reevaluate and propagate modify
-                    if (rightIt.next(rightTuple) != null) {
-                        // handle the odd case where more than one object has the same hashcode/equals value
-                        previousMatches.put(object,
-                                            (RightTuple) rightIt.next(rightTuple));
-                        rightTuple.setNext(null);
+            FromSourceCache sourceCache = getValidSourceCache(fromNode, fm, leftTuple, reteEvaluator, propagationContext);
+            if (sourceCache != null) {
+                FastIterator cacheIt = sourceCache.fastIterator();
+                for (RightTuple cached = sourceCache.getFirst(leftTuple); cached != null; cached = (RightTuple) cacheIt.next(cached)) {
+                    RightTuple rightTuple = removePreviousMatch(previousMatches, cached.getFactHandle().getObject(), rightIt);
+
+                    if (rightTuple == null) {
+                        // new match, propagate assert
+                        rightTuple = new RightTupleImpl(cached.getFactHandle());
                     }
-                }
 
-                if ( isAllowed( rightTuple.getFactHandle(), alphaConstraints, reteEvaluator, fm ) ) {
                     propagate( sink, leftTuple, rightTuple, betaConstraints, propagationContext, context, true, trgLeftTuples, stagedLeftTuples );
                     fromNode.addToCreatedHandlesMap(newMatches, rightTuple);
-                } else {
-                    deleteChildLeftTuple(propagationContext, trgLeftTuples, stagedLeftTuples, rightTuple.getFirstChild());
+                }
+            } else {
+                for (final java.util.Iterator<?> it = dataProvider.getResults(leftTuple, reteEvaluator, propagationContext, fm.providerContext); it.hasNext(); ) {
+                    final Object object = it.next();
+                    if ( (object == null) || !resultClass.isAssignableFrom( object.getClass() ) ) {
+                        continue; // skip anything if it not assignable
+                    }
+
+                    RightTuple rightTuple = removePreviousMatch(previousMatches, object, rightIt);
+
+                    if (rightTuple == null) {
+                        // new match, propagate assert
+                        rightTuple = fromNode.createRightTuple(leftTuple, propagationContext, reteEvaluator, object);
+                    }
+
+                    if ( isAllowed( rightTuple.getFactHandle(), alphaConstraints, reteEvaluator, fm ) ) {
+                        propagate( sink, leftTuple, rightTuple, betaConstraints, propagationContext, context, true, trgLeftTuples, stagedLeftTuples );
+                        fromNode.addToCreatedHandlesMap(newMatches, rightTuple);
+                    } else {
+                        deleteChildLeftTuple(propagationContext, trgLeftTuples, stagedLeftTuples, rightTuple.getFirstChild());
+                    }
                 }
             }
 
@@ -187,6 +211,58 @@ public class PhreakFromNode {
         betaConstraints.resetTuple(context);
     }
 
+    private static RightTuple removePreviousMatch(Map<Object, RightTuple> previousMatches, Object object, FastIterator rightIt) {
+        RightTuple rightTuple = previousMatches.remove(object);
+        // previous match, so reevaluate and propagate modify
+        if (rightTuple != null && rightIt.next(rightTuple) != null) {
+            // handle the odd case where more than one object has the same hashcode/equals value
+            previousMatches.put(object,
+                                (RightTuple) rightIt.next(rightTuple));
+            rightTuple.setNext(null);
+        }
+        return rightTuple;
+    }
+
+    /**
+     * Returns the cache of the objects returned by the data provider, rebuilding it if the provider no longer returns
+     * the source it has been built from, or null if the node doesn't cache its source or the source cannot be cached
+     */
+    private static FromSourceCache getValidSourceCache(FromNode fromNode,
+                                                       FromMemory fm,
+                                                       LeftTuple leftTuple,
+                                                       ReteEvaluator reteEvaluator,
+                                                       PropagationContext propagationContext) {
+        FromSourceCache sourceCache = fm.getSourceCache();
+        if (sourceCache == null) {
+            return null;
+        }
+
+        DataProvider dataProvider = fromNode.getDataProvider();
+        Object source = dataProvider.getResultSource(leftTuple, reteEvaluator);
+        if (source == null || source instanceof java.util.Iterator) {
+            // an iterator can be consumed only once
+            return null;
+        }
+
+        if (!sourceCache.isValidFor(source)) {
+            sourceCache.reset(source);
+            AlphaNodeFieldConstraint[] alphaConstraints = fromNode.getAlphaConstraints();
+            Class<?> resultClass = fromNode.getResultClass();
+            for (final java.util.Iterator<?> it = dataProvider.getResults(leftTuple, reteEvaluator, propagationContext, fm.providerContext); it.hasNext(); ) {
+                final Object object = it.next();
+                if ( (object == null) || !resultClass.isAssignableFrom( object.getClass() ) ) {
+                    continue; // skip anything if it not assignable
+                }
+
+                InternalFactHandle factHandle = fromNode.createFactHandle(reteEvaluator, object);
+                if ( isAllowed( factHandle, alphaConstraints, reteEvaluator, fm ) ) {
+                    sourceCache.add(factHandle);
+                }
+            }
+        }
+        return sourceCache;
+    }
+
     public void doLeftDeletes(FromMemory fm,
                               TupleSets<LeftTuple> srcLeftTuples,
                               TupleSets<LeftTuple> trgLeftTuples,
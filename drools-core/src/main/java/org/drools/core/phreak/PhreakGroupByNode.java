@@ -17,6 +17,7 @@ package org.drools.core.phreak;
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.ReteEvaluator;
 import org.drools.core.common.TupleSets;
+import org.drools.core.reteoo.AccumulateMatchLeftTuple;
 import org.drools.core.reteoo.AccumulateNode;
 import org.drools.core.reteoo.AccumulateNode.AccumulateContextEntry;
 import org.drools.core.reteoo.AccumulateNode.AccumulateMemory;
@@ -111,6 +112,12 @@ public class PhreakGroupByNode extends PhreakAccumulateNode {
                         childHandle = rightTuple.getFactHandleForEvaluation();
                     }
 
+                    if (accumulate.isPrimitive()) {
+                        accumulate.accumulatePrimitive(am.workingMemoryContext, tuple, childHandle,
+                                                       groupByContext, tupleList, (AccumulateMatchLeftTuple) childMatch, reteEvaluator);
+                        continue;
+                    }
+
                     Object value = accumulate.accumulate(am.workingMemoryContext, tuple, childHandle,
                                                          groupByContext, tupleList, reteEvaluator);
 
@@ -135,9 +142,7 @@ public class PhreakGroupByNode extends PhreakAccumulateNode {
     @Override
     protected void propagateDelete( TupleSets<LeftTuple> trgLeftTuples, TupleSets<LeftTuple> stagedLeftTuples, Object accctx ) {
         GroupByContext groupByContext = (GroupByContext)accctx;
-        for ( TupleList<AccumulateContextEntry> tupleList : groupByContext.getGroups().values()) {
-            super.propagateDelete(trgLeftTuples, stagedLeftTuples, tupleList.getContext());
-        }
+        groupByContext.getGroups().forEach( tupleList -> super.propagateDelete(trgLeftTuples, stagedLeftTuples, tupleList.getContext()) );
     }
 
     void postAccumulate(AccumulateNode accNode, Object accctx, LeftTuple match) {
@@ -15,13 +15,22 @@
 
 package org.drools.core.phreak;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
 import org.drools.core.common.BetaConstraints;
 import org.drools.core.common.ReteEvaluator;
 import org.drools.core.common.TupleSets;
 import org.drools.core.reteoo.BetaMemory;
 import org.drools.core.reteoo.JoinNode;
+import org.drools.core.reteoo.JoinNodeLeftTuple;
 import org.drools.core.reteoo.LeftTuple;
+import org.drools.core.reteoo.LeftTuplePool;
 import org.drools.core.reteoo.LeftTupleSink;
+import org.drools.core.reteoo.NodeTypeEnums;
 import org.drools.core.reteoo.RightTuple;
 import org.drools.core.reteoo.TupleMemory;
 import org.drools.core.rule.ContextEntry;
@@ -44,7 +53,7 @@ public class PhreakJoinNode {
         }
 
         if (srcLeftTuples.getDeleteFirst() != null) {
-            doLeftDeletes(bm, srcLeftTuples, trgLeftTuples, stagedLeftTuples);
+            doLeftDeletes(bm, reteEvaluator, srcLeftTuples, trgLeftTuples, stagedLeftTuples);
         }
 
         if (srcRightTuples.getUpdateFirst() != null) {
@@ -85,6 +94,7 @@ public class PhreakJoinNode {
         TupleMemory rtm = bm.getRightTupleMemory();
         ContextEntry[] contextEntry = bm.getContext();
         BetaConstraints constraints = joinNode.getRawConstraints();
+        LeftTuplePool pool = getChildTuplePool(bm, sink);
 
         for (LeftTuple leftTuple = srcLeftTuples.getInsertFirst(); leftTuple != null; ) {
             LeftTuple next = leftTuple.getStagedNext();
@@ -103,7 +113,8 @@ public class PhreakJoinNode {
 
             for (RightTuple rightTuple = joinNode.getFirstRightTuple( leftTuple, rtm, it ); rightTuple != null; rightTuple = (RightTuple) it.next(rightTuple)) {
                 if (constraints.isAllowedCachedLeft( contextEntry, rightTuple.getFactHandle() )) {
-                    insertChildLeftTuple(trgLeftTuples,
+                    insertChildLeftTuple(pool,
+                                         trgLeftTuples,
                                          leftTuple,
                                          rightTuple,
                                          null,
@@ -134,6 +145,13 @@ public class PhreakJoinNode {
             ((AbstractHashTable) rtm).ensureCapacity(srcRightTuples.getInsertSize());
         }
 
+        LeftTuplePool pool = getChildTuplePool(bm, sink);
+
+        if ( isParallelJoinEnabled( joinNode, ltm, reteEvaluator, srcRightTuples ) ) {
+            doRightInsertsInParallel( joinNode, sink, pool, ltm, rtm, reteEvaluator, srcRightTuples, trgLeftTuples );
+            return;
+        }
+
         for (RightTuple rightTuple = srcRightTuples.getInsertFirst(); rightTuple != null; ) {
             RightTuple next = rightTuple.getStagedNext();
             rtm.add( rightTuple );
@@ -153,7 +171,8 @@ public class PhreakJoinNode {
 
                     if ( constraints.isAllowedCachedRight( contextEntry,
                                                            leftTuple ) ) {
-                        insertChildLeftTuple( trgLeftTuples,
+                        insertChildLeftTuple( pool,
+                                              trgLeftTuples,
                                               leftTuple,
                                               rightTuple,
                                               null,
@@ -169,6 +188,125 @@ public class PhreakJoinNode {
         constraints.resetFactHandle( contextEntry );
     }
 
+    private static boolean isParallelJoinEnabled(JoinNode joinNode,
+                                                 TupleMemory ltm,
+                                                 ReteEvaluator reteEvaluator,
+                                                 TupleSets<RightTuple> srcRightTuples) {
+        int threshold = reteEvaluator.getKnowledgeBase().getConfiguration().getParallelJoinThreshold();
+        // unification joins and subnetworks use iterators sharing their state, so they are always evaluated sequentially
+        return threshold > 0 && srcRightTuples.getInsertSize() >= threshold &&
+               ltm != null && ltm.size() > 0 &&
+               !joinNode.isIndexedUnificationJoin() && !joinNode.isRightInputIsRiaNode();
+    }
+
+    /**
+     * Splits the staged right insertions in chunks whose matches against the left memory are searched in parallel.
+     * Only the constraints evaluation happens concurrently: the memories are updated and the child left tuples are
+     * created by the evaluating thread, chunk after chunk, so the result is the same of the sequential evaluation.
+     */
+    private static void doRightInsertsInParallel(JoinNode joinNode,
+                                                 LeftTupleSink sink,
+                                                 LeftTuplePool pool,
+                                                 TupleMemory ltm,
+                                                 TupleMemory rtm,
+                                                 ReteEvaluator reteEvaluator,
+                                                 TupleSets<RightTuple> srcRightTuples,
+                                                 TupleSets<LeftTuple> trgLeftTuples) {
+        int size = srcRightTuples.getInsertSize();
+        RightTuple[] rightTuples = new RightTuple[size];
+        LeftTuple[] firstLeftTuples = new LeftTuple[size];
+
+        int i = 0;
+        for (RightTuple rightTuple = srcRightTuples.getInsertFirst(); rightTuple != null; rightTuple = rightTuple.getStagedNext()) {
+            rtm.add( rightTuple );
+            rightTuples[i] = rightTuple;
+            // not all the left memories can be looked up concurrently, so the first candidates are found upfront
+            firstLeftTuples[i] = joinNode.getFirstLeftTuple( rightTuple, ltm, null );
+            i++;
+        }
+
+        int chunkNr = Math.min( size, Math.max( 2, ForkJoinPool.getCommonPoolParallelism() ) );
+        int chunkSize = ( size + chunkNr - 1 ) / chunkNr;
+        List<RightInsertsChunk> chunks = new ArrayList<>( chunkNr );
+        for (int start = 0; start < size; start += chunkSize) {
+            chunks.add( new RightInsertsChunk( joinNode, ltm, reteEvaluator, rightTuples, firstLeftTuples, start, Math.min( start + chunkSize, size ) ) );
+        }
+        ForkJoinTask.invokeAll( chunks );
+
+        for (RightInsertsChunk chunk : chunks) {
+            chunk.insertChildLeftTuples( sink, pool, trgLeftTuples );
+        }
+        for (RightTuple rightTuple : rightTuples) {
+            rightTuple.clearStaged();
+        }
+    }
+
+    private static class RightInsertsChunk extends RecursiveAction {
+        private final JoinNode joinNode;
+        private final TupleMemory ltm;
+        private final ReteEvaluator reteEvaluator;
+        private final RightTuple[] rightTuples;
+        private final LeftTuple[] firstLeftTuples;
+        private final int start;
+        private final int end;
+
+        // matching pairs, in the order they would have been found by the sequential evaluation
+        private final List<LeftTuple> matchedLeftTuples = new ArrayList<>();
+        private final List<RightTuple> matchedRightTuples = new ArrayList<>();
+
+        private RightInsertsChunk(JoinNode joinNode, TupleMemory ltm, ReteEvaluator reteEvaluator,
+                                  RightTuple[] rightTuples, LeftTuple[] firstLeftTuples, int start, int end) {
+            this.joinNode = joinNode;
+            this.ltm = ltm;
+            this.reteEvaluator = reteEvaluator;
+            this.rightTuples = rightTuples;
+            this.firstLeftTuples = firstLeftTuples;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            BetaConstraints constraints = joinNode.getRawConstraints();
+            ContextEntry[] contextEntry = constraints.createContext();
+            FastIterator it = joinNode.getLeftIterator( ltm );
+
+            for (int i = start; i < end; i++) {
+                RightTuple rightTuple = rightTuples[i];
+                constraints.updateFromFactHandle( contextEntry,
+                                                  reteEvaluator,
+                                                  rightTuple.getFactHandleForEvaluation() );
+
+                for ( LeftTuple leftTuple = firstLeftTuples[i]; leftTuple != null; leftTuple = (LeftTuple) it.next( leftTuple ) ) {
+                    if ( leftTuple.getStagedType() == LeftTuple.UPDATE ) {
+                        // ignore, as it will get processed via left iteration. Children cannot be processed twice
+                        continue;
+                    }
+
+                    if ( constraints.isAllowedCachedRight( contextEntry,
+                                                           leftTuple ) ) {
+                        matchedLeftTuples.add( leftTuple );
+                        matchedRightTuples.add( rightTuple );
+                    }
+                }
+            }
+            constraints.resetFactHandle( contextEntry );
+        }
+
+        private void insertChildLeftTuples(LeftTupleSink sink, LeftTuplePool pool, TupleSets<LeftTuple> trgLeftTuples) {
+            for (int i = 0; i < matchedLeftTuples.size(); i++) {
+                insertChildLeftTuple( pool,
+                                      trgLeftTuples,
+                                      matchedLeftTuples.get( i ),
+                                      matchedRightTuples.get( i ),
+                                      null,
+                                      null,
+                                      sink,
+                                      true );
+            }
+        }
+    }
+
     public void doLeftUpdates(JoinNode joinNode,
                               LeftTupleSink sink,
                               BetaMemory bm,
@@ -179,6 +317,7 @@ public class PhreakJoinNode {
         TupleMemory rtm = bm.getRightTupleMemory();
         ContextEntry[] contextEntry = bm.getContext();
         BetaConstraints constraints = joinNode.getRawConstraints();
+        LeftTuplePool pool = getChildTuplePool(bm, sink);
 
         for (LeftTuple leftTuple = srcLeftTuples.getUpdateFirst(); leftTuple != null; ) {
             LeftTuple next = leftTuple.getStagedNext();
@@ -205,7 +344,7 @@ public class PhreakJoinNode {
 
             // we can't do anything if RightTupleMemory is empty
             if (rightTuple != null) {
-                doLeftUpdatesProcessChildren(leftTuple.getFirstChild(), leftTuple, rightTuple, stagedLeftTuples, contextEntry, constraints, sink, it, trgLeftTuples);
+                doLeftUpdatesProcessChildren(leftTuple.getFirstChild(), leftTuple, rightTuple, stagedLeftTuples, contextEntry, constraints, sink, pool, it, trgLeftTuples);
             }
             leftTuple.clearStaged();
             leftTuple = next;
@@ -220,6 +359,7 @@ public class PhreakJoinNode {
                                                   ContextEntry[] contextEntry,
                                                   BetaConstraints constraints,
                                                   LeftTupleSink sink,
+                                                  LeftTuplePool pool,
                                                   FastIterator it,
                                                   TupleSets<LeftTuple> trgLeftTuples) {
         if (childLeftTuple == null) {
@@ -228,7 +368,8 @@ public class PhreakJoinNode {
             for (; rightTuple != null; rightTuple = (RightTuple) it.next(rightTuple)) {
                 if (constraints.isAllowedCachedLeft(contextEntry,
                                                     rightTuple.getFactHandle())) {
-                    insertChildLeftTuple(trgLeftTuples,
+                    insertChildLeftTuple(pool,
+                                         trgLeftTuples,
                                          leftTuple,
                                          rightTuple,
                                          null,
@@ -244,7 +385,8 @@ public class PhreakJoinNode {
                                                     rightTuple.getFactHandle())) {
                     // insert, childLeftTuple is not updated
                     if (childLeftTuple == null || childLeftTuple.getRightParent() != rightTuple) {
-                        insertChildLeftTuple(trgLeftTuples,
+                        insertChildLeftTuple(pool,
+                                             trgLeftTuples,
                                              leftTuple,
                                              rightTuple,
                                              childLeftTuple,
@@ -282,6 +424,7 @@ public class PhreakJoinNode {
         TupleMemory ltm = bm.getLeftTupleMemory();
         ContextEntry[] contextEntry = bm.getContext();
         BetaConstraints constraints = joinNode.getRawConstraints();
+        LeftTuplePool pool = getChildTuplePool(bm, sink);
 
         for (RightTuple rightTuple = srcRightTuples.getUpdateFirst(); rightTuple != null; ) {
             RightTuple next = rightTuple.getStagedNext();
@@ -310,7 +453,7 @@ public class PhreakJoinNode {
 
                 // we can't do anything if LeftTupleMemory is empty
                 if ( leftTuple != null ) {
-                    doRightUpdatesProcessChildren( childLeftTuple, leftTuple, rightTuple, stagedLeftTuples, contextEntry, constraints, sink, it, trgLeftTuples );
+                    doRightUpdatesProcessChildren( childLeftTuple, leftTuple, rightTuple, stagedLeftTuples, contextEntry, constraints, sink, pool, it, trgLeftTuples );
                 }
             }
             rightTuple.clearStaged();
@@ -326,6 +469,7 @@ public class PhreakJoinNode {
                                                    ContextEntry[] contextEntry,
                                                    BetaConstraints constraints,
                                                    LeftTupleSink sink,
+                                                   LeftTuplePool pool,
                                                    FastIterator it,
                                                    TupleSets<LeftTuple> trgLeftTuples) {
         if (childLeftTuple == null) {
@@ -339,7 +483,8 @@ public class PhreakJoinNode {
 
                 if (constraints.isAllowedCachedRight(contextEntry,
                                                      leftTuple)) {
-                    insertChildLeftTuple(trgLeftTuples,
+                    insertChildLeftTuple(pool,
+                                         trgLeftTuples,
                                          leftTuple,
                                          rightTuple,
                                          null,
@@ -359,7 +504,8 @@ public class PhreakJoinNode {
                                                      leftTuple)) {
                     // insert, childLeftTuple is not updated
                     if (childLeftTuple == null || childLeftTuple.getLeftParent() != leftTuple) {
-                        insertChildLeftTuple(trgLeftTuples,
+                        insertChildLeftTuple(pool,
+                                             trgLeftTuples,
                                              leftTuple,
                                              rightTuple,
                                              null,
@@ -389,10 +535,13 @@ public class PhreakJoinNode {
     }
 
     public void doLeftDeletes(BetaMemory bm,
+                              ReteEvaluator reteEvaluator,
                               TupleSets<LeftTuple> srcLeftTuples,
                               TupleSets<LeftTuple> trgLeftTuples,
                               TupleSets<LeftTuple> stagedLeftTuples) {
         TupleMemory ltm = bm.getLeftTupleMemory();
+        // all the join node memories have a pool when the left tuple pooling is enabled
+        boolean reuseTuples = bm.getChildTuplePool() != null;
 
         for (LeftTuple leftTuple = srcLeftTuples.getDeleteFirst(); leftTuple != null; ) {
             LeftTuple next = leftTuple.getStagedNext();
@@ -411,6 +560,9 @@ public class PhreakJoinNode {
                 }
             }
             leftTuple.clearStaged();
+            if (reuseTuples) {
+                releaseLeftTuple(leftTuple, reteEvaluator);
+            }
             leftTuple = next;
         }
     }
@@ -464,7 +616,8 @@ public class PhreakJoinNode {
         }
     }
 
-    private static void insertChildLeftTuple( TupleSets<LeftTuple> trgLeftTuples,
+    private static void insertChildLeftTuple( LeftTuplePool pool,
+                                              TupleSets<LeftTuple> trgLeftTuples,
                                               LeftTuple leftTuple,
                                               RightTuple rightTuple,
                                               LeftTuple currentLeftChild,
@@ -472,12 +625,27 @@ public class PhreakJoinNode {
                                               LeftTupleSink sink,
                                               boolean leftTupleMemoryEnabled ) {
         if (!leftTuple.isExpired() && !rightTuple.isExpired()) {
-            trgLeftTuples.addInsert(sink.createLeftTuple(leftTuple,
-                                                         rightTuple,
-                                                         currentLeftChild,
-                                                         currentRightChild,
-                                                         sink,
-                                                         leftTupleMemoryEnabled));
+            trgLeftTuples.addInsert(pool != null ?
+                                    pool.acquire(leftTuple, rightTuple, currentLeftChild, currentRightChild, sink, leftTupleMemoryEnabled) :
+                                    sink.createLeftTuple(leftTuple, rightTuple, currentLeftChild, currentRightChild, sink, leftTupleMemoryEnabled));
+        }
+    }
+
+    private static LeftTuplePool getChildTuplePool(BetaMemory bm, LeftTupleSink sink) {
+        // the pool contains only JoinNodeLeftTuples, so they can be reused only as the children for another join node
+        return sink.getType() == NodeTypeEnums.JoinNode ? bm.getChildTuplePool() : null;
+    }
+
+    /**
+     * Gives back a deleted left tuple to the pool of the join node that created it, if nothing else can still reference it.
+     */
+    private static void releaseLeftTuple(LeftTuple leftTuple, ReteEvaluator reteEvaluator) {
+        if (leftTuple instanceof JoinNodeLeftTuple && ((JoinNodeLeftTuple) leftTuple).isReusable()) {
+            LeftTupleSink parentNode = leftTuple.getLeftParent().getTupleSink();
+            if (parentNode.getType() == NodeTypeEnums.JoinNode) {
+                BetaMemory parentMemory = (BetaMemory) reteEvaluator.getNodeMemory( (JoinNode) parentNode );
+                parentMemory.getChildTuplePool().release( (JoinNodeLeftTuple) leftTuple );
+            }
         }
     }
 }
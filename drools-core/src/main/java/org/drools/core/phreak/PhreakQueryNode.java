@@ -61,14 +61,30 @@ public class PhreakQueryNode {
 
             PropagationContext pCtx = leftTuple.getPropagationContext();
 
-            InternalFactHandle handle = queryNode.createFactHandle(pCtx,
-                                                                   reteEvaluator,
-                                                                   leftTuple);
+            boolean closedQuery = !queryNode.isExecutedAsOpenQuery(leftTuple);
+            InternalFactHandle handle = closedQuery && pCtx.getReaderContext() == null ? qmem.acquireQueryHandle() : null;
+
+            DroolsQuery dquery;
+            if (handle != null) {
+                dquery = queryNode.reuseDroolsQuery(leftTuple, handle, stackEntry,
+                                                    qmem.getSegmentMemory().getPathMemories(),
+                                                    qmem,
+                                                    stackEntry.getSink(), reteEvaluator);
+            } else {
+                handle = queryNode.createFactHandle(pCtx,
+                                                    reteEvaluator,
+                                                    leftTuple);
+
+                dquery = queryNode.createDroolsQuery(leftTuple, handle, stackEntry,
+                                                     qmem.getSegmentMemory().getPathMemories(),
+                                                     qmem,
+                                                     stackEntry.getSink(), reteEvaluator);
+            }
 
-            DroolsQuery dquery = queryNode.createDroolsQuery(leftTuple, handle, stackEntry,
-                                                             qmem.getSegmentMemory().getPathMemories(),
-                                                             qmem,
-                                                             stackEntry.getSink(), reteEvaluator);
+            if (closedQuery && queryNode.isInvokedByClosedQuery(leftTuple)) {
+                // the caller tuple isn't retained, so nothing will update or delete it
+                stackEntry.addTransientQueryHandle(handle);
+            }
 
             LeftInputAdapterNode lian = (LeftInputAdapterNode) qmem.getQuerySegmentMemory().getRootNode();
             LiaNodeMemory lm = (LiaNodeMemory) qmem.getQuerySegmentMemory().getNodeMemories().get(0);
@@ -131,6 +147,8 @@ public class PhreakQueryNode {
                     RuleNetworkEvaluator.unlinkAndDeleteChildLeftTuple( childLeftTuple, trgLeftTuples, stagedLeftTuples );
                     childLeftTuple = nextChild;
                 }
+                leftTuple.setContextObject(null);
+                qmem.releaseQueryHandle(fh);
             }
 
             leftTuple.clearStaged();
@@ -241,8 +241,14 @@ public interface PropagationEntry {
             EventFactHandle eventFactHandle = (EventFactHandle) handle;
             long nextTimestamp = getNextTimestamp( insertionTime, expirationOffset, eventFactHandle );
 
+            boolean expired = nextTimestamp <= reteEvaluator.getTimerService().getCurrentTime();
+            if ( !expired && otn != null && useExpirationQueue( reteEvaluator ) &&
+                    reteEvaluator.getNodeMemory( otn ).getExpirationQueue().offer( eventFactHandle, nextTimestamp, reteEvaluator ) ) {
+                return;
+            }
+
             WorkingMemoryReteExpireAction action = new WorkingMemoryReteExpireAction( (EventFactHandle) handle, otn );
-            if (nextTimestamp <= reteEvaluator.getTimerService().getCurrentTime()) {
+            if (expired) {
                 reteEvaluator.addPropagation( action );
             } else {
                 JobContext jobctx = new ObjectTypeNode.ExpireJobContext( action, reteEvaluator );
@@ -255,6 +261,11 @@ public interface PropagationEntry {
             }
         }
 
+        private static boolean useExpirationQueue( ReteEvaluator reteEvaluator ) {
+            // the expirations of partitioned sessions have to be split among the partitions
+            return reteEvaluator.getSessionConfiguration().isExpirationBuckets() && !reteEvaluator.getKnowledgeBase().getConfiguration().isMultithreadEvaluation();
+        }
+
         private static long getNextTimestamp( long insertionTime, long expirationOffset, EventFactHandle eventFactHandle ) {
             long effectiveEnd = eventFactHandle.getEndTimestamp() + expirationOffset;
             return Math.max( insertionTime, effectiveEnd >= 0 ? effectiveEnd : Long.MAX_VALUE );
@@ -266,6 +277,51 @@ public interface PropagationEntry {
         }
     }
 
+    class InsertBatch extends AbstractPropagationEntry {
+        private final InternalFactHandle[] handles;
+        private final PropagationContext[] contexts;
+        private final ObjectTypeConf objectTypeConf;
+
+        public InsertBatch( InternalFactHandle[] handles, PropagationContext[] contexts, ReteEvaluator reteEvaluator, ObjectTypeConf objectTypeConf) {
+            this.handles = handles;
+            this.contexts = contexts;
+            this.objectTypeConf = objectTypeConf;
+
+            if ( objectTypeConf.isEvent() ) {
+                scheduleExpiration( reteEvaluator, handles, contexts, objectTypeConf );
+            }
+        }
+
+        public static void execute( InternalFactHandle[] handles, PropagationContext[] contexts, ReteEvaluator reteEvaluator, ObjectTypeConf objectTypeConf) {
+            if ( objectTypeConf.isEvent() ) {
+                scheduleExpiration( reteEvaluator, handles, contexts, objectTypeConf );
+            }
+            propagate( handles, contexts, reteEvaluator, objectTypeConf );
+        }
+
+        private static void propagate( InternalFactHandle[] handles, PropagationContext[] contexts, ReteEvaluator reteEvaluator, ObjectTypeConf objectTypeConf ) {
+            for ( ObjectTypeNode otn : objectTypeConf.getObjectTypeNodes() ) {
+                otn.propagateAssert( handles, contexts, reteEvaluator );
+            }
+        }
+
+        private static void scheduleExpiration( ReteEvaluator reteEvaluator, InternalFactHandle[] handles, PropagationContext[] contexts, ObjectTypeConf objectTypeConf ) {
+            long insertionTime = reteEvaluator.getTimerService().getCurrentTime();
+            for ( int i = 0; i < handles.length; i++ ) {
+                Insert.scheduleExpiration( reteEvaluator, handles[i], contexts[i], objectTypeConf, insertionTime );
+            }
+        }
+
+        public void execute( ReteEvaluator reteEvaluator ) {
+            propagate( handles, contexts, reteEvaluator, objectTypeConf );
+        }
+
+        @Override
+        public String toString() {
+            return "Insert of " + handles.length + " " + objectTypeConf.getTypeName() + " facts";
+        }
+    }
+
     class Update extends AbstractPropagationEntry {
         private final InternalFactHandle handle;
         private final PropagationContext context;
@@ -35,6 +35,14 @@ public interface PropagationList {
 
     void waitOnRest();
 
+    /**
+     * Returns true if waitOnRest() doesn't need to be invoked while holding the monitor of this list, so that
+     * a consumer running on a virtual thread doesn't pin its carrier while waiting
+     */
+    default boolean isWaitOnRestLockFree() {
+        return false;
+    }
+
     void notifyWaitOnRest();
 
     void onEngineInactive();
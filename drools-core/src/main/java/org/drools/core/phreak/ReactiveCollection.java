@@ -25,9 +25,24 @@ public class ReactiveCollection<T, W extends Collection<T>> extends AbstractReac
 
     protected final W wrapped;
 
+    private int modificationCount;
+
     public ReactiveCollection(W wrapped) {
         this.wrapped = wrapped;
     }
+
+    /**
+     * Returns how many times an element has been added to or removed from this collection, so anything caching
+     * its content can tell if it is still up to date
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    protected void notifyElementModification(Object element, ModificationType type) {
+        modificationCount++;
+        ReactiveObjectUtil.notifyModification(element, getLeftTuples(), type);
+    }
     
     @Override
     public int size() {
@@ -63,7 +78,7 @@ public class ReactiveCollection<T, W extends Collection<T>> extends AbstractReac
     public boolean add(T t) {
         boolean result = wrapped.add(t);
         if (result) {
-            ReactiveObjectUtil.notifyModification(t, getLeftTuples(), ModificationType.ADD);
+            notifyElementModification(t, ModificationType.ADD);
             if (t instanceof ReactiveObject) {
                 for (Tuple lts : getLeftTuples()) {
                     ((ReactiveObject) t).addLeftTuple(lts);
@@ -107,6 +122,7 @@ public class ReactiveCollection<T, W extends Collection<T>> extends AbstractReac
         for ( T elem : wrapped ) {
             wrapped.remove(elem);
         }
+        modificationCount++;
     }
     
     @Override
@@ -118,7 +134,7 @@ public class ReactiveCollection<T, W extends Collection<T>> extends AbstractReac
                     ((ReactiveObject) o).removeLeftTuple(lts);
                 }
             }
-            ReactiveObjectUtil.notifyModification(o, getLeftTuples(), ModificationType.REMOVE);
+            notifyElementModification(o, ModificationType.REMOVE);
         }
         return result;
     }
@@ -157,7 +173,7 @@ public class ReactiveCollection<T, W extends Collection<T>> extends AbstractReac
                         ((ReactiveObject) last).removeLeftTuple(lts);
                     }
                 }
-                ReactiveObjectUtil.notifyModification(last, getLeftTuples(), ModificationType.REMOVE);
+                notifyElementModification(last, ModificationType.REMOVE);
                 last = null;
             }
         }
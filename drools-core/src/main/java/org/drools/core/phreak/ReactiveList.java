@@ -39,7 +39,7 @@ public class ReactiveList<T> extends ReactiveCollection<T, List<T>> implements L
         boolean result = wrapped.addAll(index, c);
         if (result) {
             for ( T element : c ) {
-                ReactiveObjectUtil.notifyModification(element, getLeftTuples(), ModificationType.ADD);
+                notifyElementModification(element, ModificationType.ADD);
                 if ( element instanceof ReactiveObject ) {
                     for (Tuple lts : getLeftTuples()) {
                         ((ReactiveObject) element).addLeftTuple(lts);
@@ -59,7 +59,7 @@ public class ReactiveList<T> extends ReactiveCollection<T, List<T>> implements L
     public T set(int index, T element) {
         T previous = wrapped.set(index, element);
         if ( previous != element ) { // this is indeed intended != to check by reference
-            ReactiveObjectUtil.notifyModification(element, getLeftTuples(), ModificationType.ADD);
+            notifyElementModification(element, ModificationType.ADD);
             if ( element instanceof ReactiveObject ) {
                 for (Tuple lts : getLeftTuples()) {
                     ((ReactiveObject) element).addLeftTuple(lts);
@@ -71,7 +71,7 @@ public class ReactiveList<T> extends ReactiveCollection<T, List<T>> implements L
                     ((ReactiveObject) previous).removeLeftTuple(lts);
                 }
             }
-            ReactiveObjectUtil.notifyModification(previous, getLeftTuples(), ModificationType.REMOVE);
+            notifyElementModification(previous, ModificationType.REMOVE);
         }
         return previous;
     }
@@ -79,7 +79,7 @@ public class ReactiveList<T> extends ReactiveCollection<T, List<T>> implements L
     @Override
     public void add(int index, T element) {
         wrapped.add(index, element);
-        ReactiveObjectUtil.notifyModification(element, getLeftTuples(), ModificationType.ADD);
+        notifyElementModification(element, ModificationType.ADD);
         if ( element instanceof ReactiveObject ) {
             for (Tuple lts : getLeftTuples()) {
                 ((ReactiveObject) element).addLeftTuple(lts);
@@ -95,7 +95,7 @@ public class ReactiveList<T> extends ReactiveCollection<T, List<T>> implements L
                 ((ReactiveObject) result).removeLeftTuple(lts);
             }
         }
-        ReactiveObjectUtil.notifyModification(result, getLeftTuples(), ModificationType.REMOVE);
+        notifyElementModification(result, ModificationType.REMOVE);
         return result;
     }
 
@@ -168,7 +168,7 @@ public class ReactiveList<T> extends ReactiveCollection<T, List<T>> implements L
             if ( last != null ) {
                 wrapped.set(e);
                 if ( last != e ) { // this is indeed intended != to check by reference
-                    ReactiveObjectUtil.notifyModification(e, getLeftTuples(), ModificationType.ADD);
+                    notifyElementModification(e, ModificationType.ADD);
                     if ( e instanceof ReactiveObject ) {
                         for (Tuple lts : getLeftTuples()) {
                             ((ReactiveObject) e).addLeftTuple(lts);
@@ -180,7 +180,7 @@ public class ReactiveList<T> extends ReactiveCollection<T, List<T>> implements L
                             ((ReactiveObject) last).removeLeftTuple(lts);
                         }
                     }
-                    ReactiveObjectUtil.notifyModification(last, getLeftTuples(), ModificationType.REMOVE);
+                    notifyElementModification(last, ModificationType.REMOVE);
                 }
                 last = e;
             }
@@ -190,7 +190,7 @@ public class ReactiveList<T> extends ReactiveCollection<T, List<T>> implements L
         public void add(T e) {
             wrapped.add(e);
             // the line above either throws UnsupportedOperationException or follows with:
-            ReactiveObjectUtil.notifyModification(e, getLeftTuples(), ModificationType.ADD);
+            notifyElementModification(e, ModificationType.ADD);
             if ( e instanceof ReactiveObject ) {
                 for (Tuple lts : getLeftTuples()) {
                     ((ReactiveObject) e).addLeftTuple(lts);
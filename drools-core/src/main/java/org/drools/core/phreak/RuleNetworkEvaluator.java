@@ -200,6 +200,8 @@ public class RuleNetworkEvaluator {
             QueryElementNodeMemory qmem = (QueryElementNodeMemory) nodeMem;
             qmem.setNodeCleanWithoutNotify();
             qmem.getResultLeftTuples().addTo(trgTuples);
+            // the closed queries invoked by a closed query are over, so their DroolsQuery can be reused
+            entry.releaseTransientQueryHandles(qmem);
         }
 
         LeftTupleSinkNode sink = entry.getSink();
@@ -15,6 +15,10 @@
 
 package org.drools.core.phreak;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.Memory;
 import org.drools.core.common.NetworkNode;
 import org.drools.core.common.TupleSets;
@@ -22,6 +26,7 @@ import org.drools.core.reteoo.LeftInputAdapterNode;
 import org.drools.core.reteoo.LeftTuple;
 import org.drools.core.reteoo.LeftTupleSinkNode;
 import org.drools.core.reteoo.PathMemory;
+import org.drools.core.reteoo.QueryElementNode.QueryElementNodeMemory;
 import org.drools.core.reteoo.SegmentMemory;
 import org.drools.core.util.AbstractBaseLinkedListNode;
 
@@ -44,6 +49,9 @@ public class StackEntry extends AbstractBaseLinkedListNode<StackEntry> {
     private final boolean              resumeFromNextNode;
     private final boolean              processRian;
 
+    // the handles of the closed queries invoked by a closed query, which can be reused once this entry is resumed
+    private List<InternalFactHandle>   transientQueryHandles;
+
 
     public StackEntry(NetworkNode node,
                       long bit,
@@ -107,4 +115,21 @@ public class StackEntry extends AbstractBaseLinkedListNode<StackEntry> {
     public boolean isProcessRian() {
         return processRian;
     }
+
+    public void addTransientQueryHandle(InternalFactHandle handle) {
+        if (transientQueryHandles == null) {
+            transientQueryHandles = new ArrayList<>();
+        }
+        transientQueryHandles.add(handle);
+    }
+
+    public void releaseTransientQueryHandles(QueryElementNodeMemory qmem) {
+        if (transientQueryHandles != null) {
+            for (int i = 0, length = transientQueryHandles.size(); i < length; i++) {
+                qmem.releaseQueryHandle(transientQueryHandles.get(i));
+            }
+            // an entry can be resumed more than once, but its handles must be released only the first time
+            transientQueryHandles = null;
+        }
+    }
 }
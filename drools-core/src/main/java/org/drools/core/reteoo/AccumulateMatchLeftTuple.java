@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.reteoo;
+
+/**
+ * The match between a left tuple and a fact accumulated by a primitive accumulator. It keeps the accumulated
+ * number unboxed, so the accumulator can reverse it without having stored a boxed value as context object.
+ */
+public class AccumulateMatchLeftTuple extends FromNodeLeftTuple {
+    private static final long serialVersionUID = 540l;
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte LONG_VALUE = 1;
+    private static final byte INT_VALUE = 2;
+    private static final byte SHORT_VALUE = 3;
+    private static final byte BYTE_VALUE = 4;
+    private static final byte DOUBLE_VALUE = 5;
+    private static final byte FLOAT_VALUE = 6;
+
+    private long value;
+    private byte valueType;
+
+    public AccumulateMatchLeftTuple() {
+        // constructor needed for serialisation
+    }
+
+    public AccumulateMatchLeftTuple(final LeftTuple leftTuple,
+                                    final RightTuple rightTuple,
+                                    final LeftTuple currentLeftChild,
+                                    final LeftTuple currentRightChild,
+                                    final Sink sink,
+                                    final boolean leftTupleMemoryEnabled) {
+        super( leftTuple,
+               rightTuple,
+               currentLeftChild,
+               currentRightChild,
+               sink,
+               leftTupleMemoryEnabled );
+    }
+
+    /**
+     * Stores the given integral number unboxed, remembering its type so it can be boxed back to it
+     */
+    public void setIntegralValue(Number number) {
+        this.value = number.longValue();
+        if (number instanceof Integer) {
+            this.valueType = INT_VALUE;
+        } else if (number instanceof Short) {
+            this.valueType = SHORT_VALUE;
+        } else if (number instanceof Byte) {
+            this.valueType = BYTE_VALUE;
+        } else {
+            this.valueType = LONG_VALUE;
+        }
+    }
+
+    /**
+     * Stores the given floating point number unboxed, remembering its type so it can be boxed back to it
+     */
+    public void setFloatingPointValue(Number number) {
+        this.value = Double.doubleToRawLongBits( number.doubleValue() );
+        this.valueType = number instanceof Float ? FLOAT_VALUE : DOUBLE_VALUE;
+    }
+
+    public void setNullValue() {
+        this.value = 0;
+        this.valueType = NULL_VALUE;
+    }
+
+    public long getLongValue() {
+        return value;
+    }
+
+    public double getDoubleValue() {
+        return Double.longBitsToDouble( value );
+    }
+
+    public boolean isNullValue() {
+        return valueType == NULL_VALUE;
+    }
+
+    /**
+     * Returns the accumulated value boxed to the same type it had when it was accumulated, only meant to be used
+     * when inspecting the accumulated objects
+     */
+    public Object getAccumulatedObject() {
+        switch (valueType) {
+            case LONG_VALUE:
+                return value;
+            case INT_VALUE:
+                return (int) value;
+            case SHORT_VALUE:
+                return (short) value;
+            case BYTE_VALUE:
+                return (byte) value;
+            case DOUBLE_VALUE:
+                return getDoubleValue();
+            case FLOAT_VALUE:
+                return (float) getDoubleValue();
+            default:
+                return null;
+        }
+    }
+}
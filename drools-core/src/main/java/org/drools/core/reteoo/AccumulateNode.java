@@ -17,9 +17,7 @@
 package org.drools.core.reteoo;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.base.ClassObjectType;
@@ -366,7 +364,7 @@ public class AccumulateNode extends BetaNode {
 
     public static class GroupByContext implements BaseAccumulation {
         private PropagationContext                              propagationContext;
-        private Map<Object, TupleList<AccumulateContextEntry> > groupsMap = new HashMap<>();
+        private GroupByMap                                      groupsMap = new GroupByMap();
         private TupleList<AccumulateContextEntry>               lastTupleList;
         private TupleList<AccumulateContextEntry>               toPropagateList;
 
@@ -378,18 +376,22 @@ public class AccumulateNode extends BetaNode {
             this.propagationContext = propagationContext;
         }
 
-        public Map<Object, TupleList<AccumulateContextEntry>> getGroups() {
+        public GroupByMap getGroups() {
             return groupsMap;
         }
 
         public TupleList<AccumulateContextEntry> getGroup(Object workingMemoryContext, Accumulate accumulate, Tuple leftTuple,
                                                           Object key, ReteEvaluator reteEvaluator) {
-            return groupsMap.computeIfAbsent(key, k -> {
+            // the groups are looked up for each accumulated object, so avoid any allocation when it already exists
+            TupleList<AccumulateContextEntry> group = groupsMap.get(key);
+            if (group == null) {
                 AccumulateContextEntry entry = new AccumulateContextEntry(key);
                 entry.setFunctionContext( accumulate.init(workingMemoryContext, entry, accumulate.createFunctionContext(), leftTuple, reteEvaluator) );
                 PhreakAccumulateNode.initContext(workingMemoryContext, reteEvaluator, accumulate, leftTuple, entry);
-                return new TupleList<>(entry);
-            });
+                group = new TupleList<>(entry);
+                groupsMap.add(group);
+            }
+            return group;
         }
 
         public void removeGroup(Object key) {
@@ -429,12 +431,12 @@ public class AccumulateNode extends BetaNode {
         }
 
         public void clear() {
-            for (TupleList<AccumulateContextEntry> list : groupsMap.values()) {
+            groupsMap.forEach( list -> {
                 for ( Tuple tuple = list.getFirst(); list.getFirst() != null; tuple = list.getFirst()) {
                     list.remove(tuple);
                     tuple.setContextObject(null);
                 }
-            }
+            });
             groupsMap.clear();
             toPropagateList = null;
             lastTupleList = null;
@@ -475,6 +477,16 @@ public class AccumulateNode extends BetaNode {
     }
 
 
+    /**
+     * Creates the tuple recording a match of a primitive accumulate, which keeps the accumulated value unboxed
+     */
+    public AccumulateMatchLeftTuple createMatchLeftTuple(LeftTuple leftTuple,
+                                                         RightTuple rightTuple,
+                                                         LeftTuple currentLeftChild,
+                                                         LeftTuple currentRightChild) {
+        return new AccumulateMatchLeftTuple(leftTuple, rightTuple, currentLeftChild, currentRightChild, this, true);
+    }
+
     public LeftTuple createPeer(LeftTuple original) {
         FromNodeLeftTuple peer = new FromNodeLeftTuple();
         peer.initPeer((BaseLeftTuple) original, this);
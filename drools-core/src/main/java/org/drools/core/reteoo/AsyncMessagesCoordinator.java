@@ -16,11 +16,11 @@
 
 package org.drools.core.reteoo;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 public class AsyncMessagesCoordinator {
@@ -35,22 +35,26 @@ public class AsyncMessagesCoordinator {
         return Holder.INSTANCE;
     }
 
-    private final Map<String, List<Consumer<AsyncMessage>>> listeners = new HashMap<>();
+    // messages are propagated from many threads, possibly virtual ones, so no monitor is held while doing it
+    private final Map<String, List<Consumer<AsyncMessage>>> listeners = new ConcurrentHashMap<>();
 
     public void propagate(String messageId, AsyncMessage leftTuple) {
         listeners.getOrDefault( messageId, Collections.emptyList() ).forEach( c -> c.accept( leftTuple ) );
     }
 
-    synchronized void registerReceiver(String messageId, Consumer<AsyncMessage> receiver) {
-        listeners.computeIfAbsent( messageId, s -> new ArrayList<>() ).add( receiver );
+    void registerReceiver(String messageId, Consumer<AsyncMessage> receiver) {
+        listeners.compute( messageId, (id, consumers) -> {
+            List<Consumer<AsyncMessage>> result = consumers != null ? consumers : new CopyOnWriteArrayList<>();
+            result.add( receiver );
+            return result;
+        } );
     }
 
-    synchronized void deregisterReceiver(String messageId, Consumer<AsyncMessage> receiver) {
-        List<Consumer<AsyncMessage>> consumers = listeners.get( messageId );
-        consumers.remove( receiver );
-        if (consumers.isEmpty()) {
-            listeners.remove( messageId );
-        }
+    void deregisterReceiver(String messageId, Consumer<AsyncMessage> receiver) {
+        listeners.computeIfPresent( messageId, (id, consumers) -> {
+            consumers.remove( receiver );
+            return consumers.isEmpty() ? null : consumers;
+        } );
     }
 
     public Map<String, List<Consumer<AsyncMessage>>> getListeners() {
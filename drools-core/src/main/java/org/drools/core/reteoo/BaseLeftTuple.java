@@ -51,6 +51,9 @@ public class BaseLeftTuple extends BaseTuple implements LeftTuple {
 
     private short              stagedTypeForQueries;
 
+    // true if this tuple has ever been the parent of another one, which may still reference it
+    private boolean            hadChildren;
+
     public BaseLeftTuple() {
         // constructor needed for serialisation
     }
@@ -149,6 +152,15 @@ public class BaseLeftTuple extends BaseTuple implements LeftTuple {
                          LeftTuple currentRightChild,
                          Sink sink,
                          boolean leftTupleMemoryEnabled) {
+        initChild( leftTuple, rightTuple, currentLeftChild, currentRightChild, sink, leftTupleMemoryEnabled );
+    }
+
+    final void initChild(LeftTuple leftTuple,
+                         RightTuple rightTuple,
+                         LeftTuple currentLeftChild,
+                         LeftTuple currentRightChild,
+                         Sink sink,
+                         boolean leftTupleMemoryEnabled) {
         setFactHandle( rightTuple.getFactHandle() );
         this.index = leftTuple.getIndex() + 1;
         this.parent = leftTuple.getNextParentWithHandle();
@@ -535,6 +547,9 @@ public class BaseLeftTuple extends BaseTuple implements LeftTuple {
     @Override
     public void setFirstChild(LeftTuple firstChild) {
         this.firstChild = firstChild;
+        if ( firstChild != null ) {
+            this.hadChildren = true;
+        }
     }
 
     @Override
@@ -627,6 +642,33 @@ public class BaseLeftTuple extends BaseTuple implements LeftTuple {
         this.memory = null;
     }
 
+    /**
+     * Returns true if nothing else can still reference this tuple once it has been deleted, so that it can be reused.
+     * This is the case only for a tuple created by a join for a right match, without peers, that has never been
+     * the parent of other tuples. A peer is never reusable, even when it is the last one of its chain, because the
+     * previous tuple of the chain still references it: this is guaranteed by initPeer not setting the right parent.
+     */
+    public boolean isReusable() {
+        return this.rightParent != null && this.peer == null && !this.hadChildren && getContextObject() == null;
+    }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        this.index = 0;
+        this.parent = null;
+        this.leftParent = null;
+        this.rightParent = null;
+        this.rightParentPrevious = null;
+        this.rightParentNext = null;
+        this.firstChild = null;
+        this.lastChild = null;
+        this.memory = null;
+        this.peer = null;
+        this.stagedTypeForQueries = 0;
+        this.hadChildren = false;
+    }
+
     public void initPeer(BaseLeftTuple original, LeftTupleSink sink) {
         this.index = original.index;
         this.parent = original.parent;
@@ -126,6 +126,24 @@ public abstract class BaseTuple implements Tuple {
         this.next = null;
     }
 
+    /**
+     * Drops all the state of this tuple, so that it can be reused without retaining any reference to its former content
+     */
+    protected void reset() {
+        this.stagedType = LeftTuple.NONE;
+        this.contextObject = null;
+        this.handle = null;
+        this.propagationContext = null;
+        this.stagedNext = null;
+        this.stagedPrevious = null;
+        this.previous = null;
+        this.next = null;
+        this.sink = null;
+        this.handlePrevious = null;
+        this.handleNext = null;
+        this.expired = false;
+    }
+
     @Override
     public InternalFactHandle get( Declaration declaration ) {
         return get(declaration.getTupleIndex());
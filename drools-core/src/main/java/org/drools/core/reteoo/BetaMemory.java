@@ -38,6 +38,8 @@ public class BetaMemory extends AbstractBaseLinkedListNode<Memory>
     private long                       nodePosMaskBit;
     private int                        counter;
     private RiaPathMemory              riaRuleMemory;
+    // deleted children of the tuples of this node, kept for reuse when the left tuple pooling is enabled
+    private LeftTuplePool              childTuplePool;
 
     public BetaMemory() {
     }
@@ -84,6 +86,14 @@ public class BetaMemory extends AbstractBaseLinkedListNode<Memory>
         return context;
     }
 
+    public LeftTuplePool getChildTuplePool() {
+        return childTuplePool;
+    }
+
+    public void setChildTuplePool(LeftTuplePool childTuplePool) {
+        this.childTuplePool = childTuplePool;
+    }
+
     public boolean linkNode(LeftTupleSource tupleSource, ReteEvaluator reteEvaluator) {
         return linkNode(tupleSource, reteEvaluator, true);
     }
@@ -170,6 +180,9 @@ public class BetaMemory extends AbstractBaseLinkedListNode<Memory>
             rightTupleMemory.clear();
         }
         stagedRightTuples.resetAll();
+        if (childTuplePool != null) {
+            childTuplePool.clear();
+        }
         counter = 0;
     }
 }
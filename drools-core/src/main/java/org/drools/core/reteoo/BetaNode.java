@@ -394,7 +394,7 @@ public abstract class BetaNode extends LeftTupleSource
         if ( this.indexedUnificationJoin ) {
             return (RightTuple) it.next( null );
         } else {
-            return (RightTuple) memory.getFirst(leftTuple);
+            return (RightTuple) memory.getFirst(leftTuple, it);
         }
     }
 
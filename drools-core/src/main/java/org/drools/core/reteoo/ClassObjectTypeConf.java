@@ -64,6 +64,8 @@ public class ClassObjectTypeConf
 
     private boolean isEvent;
 
+    private boolean isCompactEvent;
+
     private long expirationOffset = -1;
 
     private boolean isTrait;
@@ -100,6 +102,9 @@ public class ClassObjectTypeConf
 
         isTrait = determineTraitStatus();
 
+        isCompactEvent = isEvent && !isTrait && !isDynamic() && !ruleBase.getConfiguration().isMultithreadEvaluation() &&
+                         ( ruleBase.getConfiguration().isCompactEventHandles() || hasCompactRole( clazz ) );
+
         this.objectType = ruleBase.getClassFieldAccessorCache().getClassObjectType( new ClassObjectType( clazz, isEvent ), false );
 
         this.concreteObjectTypeNode = ruleBase.getRete().getObjectTypeNodes( entryPoint ).get( objectType );
@@ -117,6 +122,7 @@ public class ClassObjectTypeConf
         isEvent = stream.readBoolean();
         isTrait = stream.readBoolean();
         expirationOffset = stream.readLong();
+        isCompactEvent = stream.readBoolean();
     }
 
     public void writeExternal(ObjectOutput stream) throws IOException {
@@ -130,6 +136,7 @@ public class ClassObjectTypeConf
         stream.writeBoolean( isEvent );
         stream.writeBoolean(isTrait);
         stream.writeLong(expirationOffset);
+        stream.writeBoolean(isCompactEvent);
     }
 
     public boolean isAssignableFrom(Object object) {
@@ -214,6 +221,15 @@ public class ClassObjectTypeConf
         return this.isEvent;
     }
 
+    public boolean isCompactEvent() {
+        return this.isCompactEvent;
+    }
+
+    private static boolean hasCompactRole(Class<?> clazz) {
+        Role role = clazz.getAnnotation(Role.class);
+        return role != null && role.compact();
+    }
+
     public boolean isTrait() {
         return isTrait;
     }
@@ -244,6 +260,9 @@ public class ClassObjectTypeConf
     }
 
     public void enableTMS() {
+        if ( isCompactEvent ) {
+            throw new UnsupportedOperationException( "The events of type " + getClassName() + " have compact fact handles and cannot be logically inserted" );
+        }
         this.tmsEnabled = true;
     }
 
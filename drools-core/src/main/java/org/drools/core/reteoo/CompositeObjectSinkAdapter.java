@@ -38,6 +38,7 @@ import org.drools.core.spi.AlphaNodeFieldConstraint;
 import org.drools.core.spi.FieldValue;
 import org.drools.core.spi.InternalReadAccessor;
 import org.drools.core.spi.PropagationContext;
+import org.drools.core.util.index.AlphaCompositeHashIndex;
 import org.drools.core.util.index.AlphaRangeIndex;
 import org.drools.core.util.index.IndexUtil.ConstraintType;
 
@@ -69,6 +70,10 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
     private Map<NetworkNode, NetworkNode> sinksMap;
 
+    // the composite hash indexes depend also on the sinks of the hashed AlphaNodes, so they are lazily rebuilt
+    // after any change to this propagator or to the ones of the AlphaNodes below it
+    private volatile boolean compositeHashIndexesDirty = true;
+
     public CompositeObjectSinkAdapter() {
         this( 3, 3 );
     }
@@ -129,6 +134,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
     public ObjectSinkPropagator addObjectSink(ObjectSink sink, int alphaNodeHashingThreshold, int alphaNodeRangeIndexThreshold) {
         this.sinks = null; // dirty it, so it'll rebuild on next get
+        this.compositeHashIndexesDirty = true;
         if (this.sinksMap != null) {
             this.sinksMap.put( sink, sink );
         }
@@ -192,7 +198,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         return this;
     }
 
-    static InternalReadAccessor getHashableAccessor(AlphaNode alphaNode) {
+    public static InternalReadAccessor getHashableAccessor(AlphaNode alphaNode) {
         AlphaNodeFieldConstraint fieldConstraint = alphaNode.getConstraint();
         if ( fieldConstraint instanceof IndexableConstraint ) {
             IndexableConstraint indexableConstraint = (IndexableConstraint) fieldConstraint;
@@ -212,6 +218,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
     public ObjectSinkPropagator removeObjectSink(final ObjectSink sink) {
         this.sinks = null; // dirty it, so it'll rebuild on next get
+        this.compositeHashIndexesDirty = true;
         if (this.sinksMap != null) {
             this.sinksMap.remove( sink );
         }
@@ -546,7 +553,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
                     continue;
                 }
                 // this field is hashed so set the existing hashKey and see if there is a sink for it
-                final AlphaNode sink = this.hashedSinkMap.get( new HashKey( fieldIndex, object ) );
+                final AlphaNode sink = getHashedSinkForAssert( fieldIndex, object );
                 if ( sink != null ) {
                     // go straight to the AlphaNode's propagator, as we know it's true and no need to retest
                     sink.getObjectSinkPropagator().propagateAssertObject( factHandle, context, reteEvaluator );
@@ -599,6 +606,34 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         }
     }
 
+    /**
+     * Returns the hashed AlphaNode matching the given object on the given field. If the chains of AlphaNodes starting
+     * from this field are covered by a composite hash index, this is the last AlphaNode of the matching chain.
+     * Modifications don't use the composite hash index because the AlphaNodes in the middle of the chains could
+     * need to bypass the modification according to their property reactivity masks.
+     */
+    private AlphaNode getHashedSinkForAssert(FieldIndex fieldIndex, Object object) {
+        if ( this.compositeHashIndexesDirty ) {
+            buildCompositeHashIndexes();
+        }
+        AlphaCompositeHashIndex compositeHashIndex = fieldIndex.getCompositeHashIndex();
+        return compositeHashIndex != null ?
+                compositeHashIndex.get( object ) :
+                this.hashedSinkMap.get( new HashKey( fieldIndex, object ) );
+    }
+
+    private void buildCompositeHashIndexes() {
+        for ( FieldIndex fieldIndex : this.hashedFieldIndexes ) {
+            fieldIndex.setCompositeHashIndex( fieldIndex.isHashed() ? AlphaCompositeHashIndex.build( fieldIndex, this.hashedSinkMap ) : null );
+        }
+        this.compositeHashIndexesDirty = false;
+    }
+
+    @Override
+    public void resetCompositeHashIndexes() {
+        this.compositeHashIndexesDirty = true;
+    }
+
     public void propagateModifyObject(final InternalFactHandle factHandle,
                                       final ModifyPreviousTuples modifyPreviousTuples,
                                       final PropagationContext context,
@@ -999,6 +1034,8 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         private boolean              hashed;
         private boolean              rangeIndexed;
 
+        private AlphaCompositeHashIndex compositeHashIndex;
+
         public FieldIndex() {
         }
 
@@ -1053,6 +1090,14 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
             this.rangeIndexed = rangeIndexed;
         }
 
+        public AlphaCompositeHashIndex getCompositeHashIndex() {
+            return compositeHashIndex;
+        }
+
+        public void setCompositeHashIndex(AlphaCompositeHashIndex compositeHashIndex) {
+            this.compositeHashIndex = compositeHashIndex;
+        }
+
         public void increaseCounter() {
             this.count++;
         }
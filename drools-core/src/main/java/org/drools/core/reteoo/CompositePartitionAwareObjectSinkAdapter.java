@@ -105,6 +105,13 @@ public class CompositePartitionAwareObjectSinkAdapter implements ObjectSinkPropa
         partitionedPropagators[newP] = partitionedPropagators[newP].addObjectSink( sink, alphaNodeHashingThreshold, alphaNodeRangeIndexThreshold );
     }
 
+    @Override
+    public void resetCompositeHashIndexes() {
+        for ( ObjectSinkPropagator partitionedPropagator : partitionedPropagators ) {
+            partitionedPropagator.resetCompositeHashIndexes();
+        }
+    }
+
     @Override
     public void propagateAssertObject( InternalFactHandle factHandle, PropagationContext context, ReteEvaluator reteEvaluator ) {
         ActivationsManager compositeAgenda = reteEvaluator.getActivationsManager();
@@ -200,6 +200,25 @@ public class EntryPointNode extends ObjectSource implements ObjectSink {
         }
     }
 
+    /**
+     * Inserts several facts of the same type at once, each one with its own propagation context, using a single
+     * propagation entry when the insertion has to be enqueued.
+     */
+    public void assertObjects(final InternalFactHandle[] handles,
+                              final PropagationContext[] contexts,
+                              final ObjectTypeConf objectTypeConf,
+                              final ReteEvaluator reteEvaluator) {
+        if ( log.isTraceEnabled() ) {
+            log.trace("Insert batch of {} facts", handles.length);
+        }
+
+        if ( partitionsEnabled || !reteEvaluator.isThreadSafe() ) {
+            PropagationEntry.InsertBatch.execute( handles, contexts, reteEvaluator, objectTypeConf );
+        } else {
+            reteEvaluator.addPropagation( new PropagationEntry.InsertBatch( handles, contexts, reteEvaluator, objectTypeConf ) );
+        }
+    }
+
 
     public void modifyObject(final InternalFactHandle handle,
                              final PropagationContext pctx,
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.reteoo;
+
+import java.util.Arrays;
+import java.util.function.ObjLongConsumer;
+
+import org.drools.core.common.EventFactHandle;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.impl.WorkingMemoryReteExpireAction;
+import org.drools.core.phreak.PropagationEntry;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.JobHandle;
+import org.drools.core.time.impl.PointInTimeTrigger;
+
+/**
+ * The events of an ObjectTypeNode waiting to expire, kept in a ring buffer in order of expiration time. Instead of
+ * a timer job for each event, a single job is scheduled for the first event to expire. When it fires, the job takes
+ * all the events due by then out of the buffer, adds a single propagation expiring them and schedules itself again
+ * for the next event. The events are taken out when the job fires, and not when the propagation is executed, so that
+ * they are expired after their insertion and before the events inserted later, as with a job for each event.
+ *
+ * When the events of a type with a fixed expiration offset arrive in order, as in most streams, their expiration
+ * times are in order too, so an event is always appended at the end of the buffer. An event expiring before the
+ * last one is refused, and its expiration is then scheduled on its own as usual. The deleted events are not removed
+ * from the buffer, they are just skipped when expiring.
+ *
+ * The events are offered by the thread inserting them, while they are taken out by the one running the timer jobs,
+ * so the buffer is guarded by the monitor of the queue.
+ */
+public class ExpirationQueue {
+
+    private static final ExpireQueueJob job = new ExpireQueueJob();
+
+    private EventFactHandle[] handles = new EventFactHandle[16];
+    private long[] times = new long[16];
+    private int head;
+    private int size;
+
+    // true while a job is scheduled for the first event
+    private boolean expirationPending;
+
+    /**
+     * Adds the given event to the queue if it doesn't expire before the last one, scheduling its expiration if it is
+     * the first one. Returns false if the event has not been added.
+     */
+    public synchronized boolean offer(EventFactHandle handle, long expirationTime, ReteEvaluator reteEvaluator) {
+        if ( size > 0 && expirationTime < times[(head + size - 1) & (times.length - 1)] ) {
+            return false;
+        }
+        if ( size == handles.length ) {
+            grow();
+        }
+        int tail = (head + size) & (handles.length - 1);
+        handles[tail] = handle;
+        times[tail] = expirationTime;
+        size++;
+        handle.increaseOtnCount();
+
+        if ( !expirationPending ) {
+            schedule( expirationTime, reteEvaluator );
+        }
+        return true;
+    }
+
+    /**
+     * Removes and returns all the events due by the current time of the session, then schedules the expiration of
+     * the next one
+     */
+    public synchronized EventFactHandle[] pollExpired(ReteEvaluator reteEvaluator) {
+        long now = reteEvaluator.getTimerService().getCurrentTime();
+        int mask = handles.length - 1;
+        int expiredNr = 0;
+        while ( expiredNr < size && times[(head + expiredNr) & mask] <= now ) {
+            expiredNr++;
+        }
+        EventFactHandle[] expired = new EventFactHandle[expiredNr];
+        for (int i = 0; i < expiredNr; i++) {
+            expired[i] = handles[head];
+            handles[head] = null;
+            head = (head + 1) & mask;
+        }
+        size -= expiredNr;
+
+        if ( size > 0 ) {
+            schedule( times[head], reteEvaluator );
+        } else {
+            expirationPending = false;
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Passes each event still waiting to expire, together with its expiration time, to the given consumer
+     */
+    public synchronized void forEach(ObjLongConsumer<EventFactHandle> consumer) {
+        int mask = handles.length - 1;
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) & mask;
+            consumer.accept( handles[index], times[index] );
+        }
+    }
+
+    private void schedule(long expirationTime, ReteEvaluator reteEvaluator) {
+        expirationPending = true;
+        ExpireQueueJobContext jobContext = new ExpireQueueJobContext( this, reteEvaluator );
+        JobHandle jobHandle = reteEvaluator.getTimerService().scheduleJob( job, jobContext,
+                                                                           PointInTimeTrigger.createPointInTimeTrigger( expirationTime, null ) );
+        jobContext.setJobHandle( jobHandle );
+    }
+
+    private void grow() {
+        int capacity = handles.length * 2;
+        EventFactHandle[] newHandles = new EventFactHandle[capacity];
+        long[] newTimes = new long[capacity];
+        int firstPart = Math.min( size, handles.length - head );
+        System.arraycopy( handles, head, newHandles, 0, firstPart );
+        System.arraycopy( handles, 0, newHandles, firstPart, size - firstPart );
+        System.arraycopy( times, head, newTimes, 0, firstPart );
+        System.arraycopy( times, 0, newTimes, firstPart, size - firstPart );
+        handles = newHandles;
+        times = newTimes;
+        head = 0;
+    }
+
+    synchronized void clear() {
+        Arrays.fill( handles, null );
+        head = 0;
+        size = 0;
+        expirationPending = false;
+    }
+
+    public static class ExpireQueueJob
+            implements
+            Job {
+
+        @Override
+        public void execute(JobContext ctx) {
+            ExpireQueueJobContext context = (ExpireQueueJobContext) ctx;
+            EventFactHandle[] expired = context.queue.pollExpired( context.reteEvaluator );
+            if ( expired.length > 0 ) {
+                context.reteEvaluator.addPropagation( new ExpireQueueAction( expired ), true );
+            }
+        }
+    }
+
+    public static class ExpireQueueJobContext
+            implements
+            JobContext {
+
+        private final transient ExpirationQueue queue;
+        private final transient ReteEvaluator reteEvaluator;
+        private JobHandle jobHandle;
+
+        public ExpireQueueJobContext(ExpirationQueue queue, ReteEvaluator reteEvaluator) {
+            this.queue = queue;
+            this.reteEvaluator = reteEvaluator;
+        }
+
+        public ExpirationQueue getQueue() {
+            return queue;
+        }
+
+        @Override
+        public JobHandle getJobHandle() {
+            return jobHandle;
+        }
+
+        @Override
+        public void setJobHandle(JobHandle jobHandle) {
+            this.jobHandle = jobHandle;
+        }
+
+        @Override
+        public ReteEvaluator getReteEvaluator() {
+            return reteEvaluator;
+        }
+    }
+
+    public static class ExpireQueueAction extends PropagationEntry.AbstractPropagationEntry {
+
+        private final EventFactHandle[] handles;
+
+        public ExpireQueueAction(EventFactHandle[] handles) {
+            this.handles = handles;
+        }
+
+        @Override
+        public void execute(ReteEvaluator reteEvaluator) {
+            // each event still needs its own expiration context: the agenda retracts the fact handle of each
+            // registered context and the timer nodes check whether it is expired, so they cannot be shared
+            for (EventFactHandle handle : handles) {
+                WorkingMemoryReteExpireAction.expire( reteEvaluator, handle );
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Expiration of " + handles.length + " events";
+        }
+    }
+}
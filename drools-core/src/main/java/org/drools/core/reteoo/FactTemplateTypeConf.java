@@ -107,6 +107,10 @@ public class FactTemplateTypeConf
         return false;
     }
 
+    public boolean isCompactEvent() {
+        return false;
+    }
+
     public boolean isTrait() {
         return false;
     }
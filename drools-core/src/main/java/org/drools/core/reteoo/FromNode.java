@@ -31,9 +31,12 @@ import org.drools.core.common.MemoryFactory;
 import org.drools.core.common.ReteEvaluator;
 import org.drools.core.common.UpdateContext;
 import org.drools.core.reteoo.builder.BuildContext;
+import org.drools.core.rule.Declaration;
 import org.drools.core.rule.From;
+import org.drools.core.rule.IndexableConstraint;
 import org.drools.core.rule.Pattern;
 import org.drools.core.spi.AlphaNodeFieldConstraint;
+import org.drools.core.spi.BetaNodeFieldConstraint;
 import org.drools.core.spi.DataProvider;
 import org.drools.core.spi.ObjectType;
 import org.drools.core.spi.PropagationContext;
@@ -65,6 +68,8 @@ public class FromNode<T extends FromNode.FromMemory> extends LeftTupleSource
 
     protected boolean                    tupleMemoryEnabled;
 
+    protected boolean                    sourceCached;
+
     protected transient ObjectTypeConf   objectTypeConf;
 
     public FromNode() {
@@ -88,6 +93,7 @@ public class FromNode<T extends FromNode.FromMemory> extends LeftTupleSource
         this.betaConstraints.init(context, getType());
         this.tupleMemoryEnabled = tupleMemoryEnabled;
         this.from = from;
+        this.sourceCached = context != null && context.getRuleBase().getConfiguration().isFromSourceCache() && isSourceCacheable();
 
         initMasks(context, tupleSource);
 
@@ -127,6 +133,27 @@ public class FromNode<T extends FromNode.FromMemory> extends LeftTupleSource
                betaConstraints.equals( other.betaConstraints );
     }
 
+    /**
+     * The objects returned by the data provider can be cached only when they don't depend on the tuple,
+     * i.e. when the only declarations required by the provider are globals. Reactive froms always need
+     * to evaluate the provider, because this registers the tuple on the returned objects.
+     */
+    private boolean isSourceCacheable() {
+        if ( getType() != NodeTypeEnums.FromNode || dataProvider.isReactive() ) {
+            return false;
+        }
+        for (Declaration declaration : dataProvider.getRequiredDeclarations()) {
+            if ( !declaration.isGlobal() ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isSourceCached() {
+        return sourceCached;
+    }
+
     public DataProvider getDataProvider() {
         return dataProvider;
     }
@@ -237,8 +264,22 @@ public class FromNode<T extends FromNode.FromMemory> extends LeftTupleSource
                                           null,
                                           this.betaConstraints.createContext(),
                                           NodeTypeEnums.FromNode );
-        return (T) new FromMemory( beta,
-                                   this.dataProvider );
+        FromMemory memory = new FromMemory( beta,
+                                            this.dataProvider );
+        if ( sourceCached ) {
+            memory.setSourceCache( new FromSourceCache( createSourceIndex( config ) ) );
+        }
+        return (T) memory;
+    }
+
+    private TupleMemory createSourceIndex(RuleBaseConfiguration config) {
+        for (BetaNodeFieldConstraint constraint : betaConstraints.getConstraints()) {
+            if ( constraint instanceof IndexableConstraint && ((IndexableConstraint) constraint).isUnification() ) {
+                return new TupleList();
+            }
+        }
+        // the cached objects play the role of the right input of a join having the same constraints
+        return betaConstraints.createBetaMemory( config, NodeTypeEnums.JoinNode ).getRightTupleMemory();
     }
    
 
@@ -309,6 +350,8 @@ public class FromNode<T extends FromNode.FromMemory> extends LeftTupleSource
         private final BetaMemory         betaMemory;
         public Object                    providerContext;
 
+        private FromSourceCache          sourceCache;
+
         public FromMemory(BetaMemory betaMemory,
                           DataProvider dataProvider) {
             this.betaMemory = betaMemory;
@@ -332,9 +375,20 @@ public class FromNode<T extends FromNode.FromMemory> extends LeftTupleSource
             return betaMemory;
         }
 
+        public FromSourceCache getSourceCache() {
+            return sourceCache;
+        }
+
+        public void setSourceCache(FromSourceCache sourceCache) {
+            this.sourceCache = sourceCache;
+        }
+
         public void reset() {
             this.betaMemory.reset();
             this.providerContext = dataProvider.createContext();
+            if ( sourceCache != null ) {
+                sourceCache.clear();
+            }
         }
 
         @Override
@@ -92,7 +92,9 @@ public class FromNodeLeftTuple extends BaseLeftTuple {
         Collection<Object> result = new ArrayList<>();
         if ( getContextObject() instanceof AccumulateNode.AccumulateContext ) {
             for (LeftTuple child = getFirstChild(); child != null; child = child.getHandleNext()) {
-                result.add(child.getContextObject());
+                result.add(child instanceof AccumulateMatchLeftTuple ?
+                           (( AccumulateMatchLeftTuple ) child).getAccumulatedObject() :
+                           child.getContextObject());
             }
         }
         if ( getFirstChild().getRightParent() instanceof SubnetworkTuple ) {
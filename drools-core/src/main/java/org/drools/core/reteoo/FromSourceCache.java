@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.reteoo;
+
+import org.drools.core.common.InternalFactHandle;
+import org.drools.core.phreak.ReactiveCollection;
+import org.drools.core.spi.Tuple;
+import org.drools.core.util.FastIterator;
+
+/**
+ * The objects returned by the expression of a FromNode not depending on the tuple, already filtered by the alpha
+ * constraints of the node. They are stored as right tuples in a memory indexed like the right memory of a join
+ * with the same constraints, so each left tuple only visits its candidate objects. The cache is valid as long as
+ * the expression returns the same instance it has been built from, and, if this instance is a ReactiveCollection,
+ * until the collection is modified.
+ */
+public class FromSourceCache {
+
+    private final TupleMemory index;
+
+    private Object source;
+    private int sourceModificationCount;
+
+    public FromSourceCache(TupleMemory index) {
+        this.index = index;
+    }
+
+    public boolean isValidFor(Object source) {
+        return this.source == source &&
+               ( !(source instanceof ReactiveCollection) || ((ReactiveCollection) source).getModificationCount() == sourceModificationCount );
+    }
+
+    /**
+     * Empties this cache and binds it to the given source, whose objects are then expected to be added
+     */
+    public void reset(Object source) {
+        index.clear();
+        this.source = source;
+        this.sourceModificationCount = source instanceof ReactiveCollection ? ((ReactiveCollection) source).getModificationCount() : 0;
+    }
+
+    public void add(InternalFactHandle factHandle) {
+        index.add( new RightTupleImpl( factHandle ) );
+    }
+
+    public RightTuple getFirst(Tuple leftTuple) {
+        return (RightTuple) index.getFirst( leftTuple );
+    }
+
+    public FastIterator fastIterator() {
+        return index.fastIterator();
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public void clear() {
+        index.clear();
+        this.source = null;
+        this.sourceModificationCount = 0;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.reteoo;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.drools.core.reteoo.AccumulateNode.AccumulateContextEntry;
+import org.drools.core.util.index.TupleList;
+
+/**
+ * The groups of a groupBy, indexed by their key. It is an open addressing hash table with linear probing that
+ * stores the tuple list of each group directly in its slots, reading the key from the context of the list and
+ * caching its hash code in a parallel array. Compared to a HashMap it doesn't allocate any entry per group and
+ * a lookup doesn't need to dereference any node, which matters when a groupBy has to deal with a large
+ * number of groups. Null is a valid key.
+ */
+public class GroupByMap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private TupleList<AccumulateContextEntry>[] groups;
+    private int[] hashCodes;
+    private int size;
+    private int threshold;
+
+    public GroupByMap() {
+        init( DEFAULT_CAPACITY );
+    }
+
+    private void init(int capacity) {
+        this.groups = new TupleList[capacity];
+        this.hashCodes = new int[capacity];
+        this.threshold = capacity - ( capacity >>> 2 ); // load factor 0.75
+    }
+
+    public TupleList<AccumulateContextEntry> get(Object key) {
+        int hashCode = hash( key );
+        int mask = groups.length - 1;
+        for (int i = hashCode & mask; groups[i] != null; i = (i + 1) & mask) {
+            if ( hashCodes[i] == hashCode && Objects.equals( key, groups[i].getContext().getKey() ) ) {
+                return groups[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds a group, whose key must not be already present
+     */
+    public void add(TupleList<AccumulateContextEntry> group) {
+        if ( size >= threshold ) {
+            resize();
+        }
+        insert( group, hash( group.getContext().getKey() ) );
+        size++;
+    }
+
+    private void insert(TupleList<AccumulateContextEntry> group, int hashCode) {
+        int mask = groups.length - 1;
+        int i = hashCode & mask;
+        while ( groups[i] != null ) {
+            i = (i + 1) & mask;
+        }
+        groups[i] = group;
+        hashCodes[i] = hashCode;
+    }
+
+    public TupleList<AccumulateContextEntry> remove(Object key) {
+        int hashCode = hash( key );
+        int mask = groups.length - 1;
+        for (int i = hashCode & mask; groups[i] != null; i = (i + 1) & mask) {
+            if ( hashCodes[i] == hashCode && Objects.equals( key, groups[i].getContext().getKey() ) ) {
+                TupleList<AccumulateContextEntry> removed = groups[i];
+                deleteSlot( i );
+                size--;
+                return removed;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Empties the given slot, shifting back the following groups of the same probe sequence,
+     * so the lookups never need any tombstone
+     */
+    private void deleteSlot(int slot) {
+        int mask = groups.length - 1;
+        int hole = slot;
+        for (int i = (slot + 1) & mask; groups[i] != null; i = (i + 1) & mask) {
+            int home = hashCodes[i] & mask;
+            // the group can fill the hole only if its home slot doesn't lie cyclically in (hole, i]
+            if ( hole <= i ? ( home <= hole || home > i ) : ( home <= hole && home > i ) ) {
+                groups[hole] = groups[i];
+                hashCodes[hole] = hashCodes[i];
+                hole = i;
+            }
+        }
+        groups[hole] = null;
+        hashCodes[hole] = 0;
+    }
+
+    private void resize() {
+        TupleList<AccumulateContextEntry>[] oldGroups = groups;
+        int[] oldHashCodes = hashCodes;
+        init( oldGroups.length << 1 );
+        for (int i = 0; i < oldGroups.length; i++) {
+            if ( oldGroups[i] != null ) {
+                insert( oldGroups[i], oldHashCodes[i] );
+            }
+        }
+    }
+
+    private static int hash(Object key) {
+        if ( key == null ) {
+            return 0;
+        }
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    public void forEach(Consumer<TupleList<AccumulateContextEntry>> consumer) {
+        for (TupleList<AccumulateContextEntry> group : groups) {
+            if ( group != null ) {
+                consumer.accept( group );
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        if ( size > 0 ) {
+            Arrays.fill( groups, null );
+            Arrays.fill( hashCodes, 0 );
+            size = 0;
+        }
+    }
+}
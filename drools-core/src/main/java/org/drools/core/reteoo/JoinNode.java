@@ -16,8 +16,10 @@
 
 package org.drools.core.reteoo;
 
+import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.common.BetaConstraints;
 import org.drools.core.common.InternalFactHandle;
+import org.drools.core.common.Memory;
 import org.drools.core.common.ReteEvaluator;
 import org.drools.core.reteoo.builder.BuildContext;
 import org.drools.core.spi.PropagationContext;
@@ -52,6 +54,15 @@ public class JoinNode extends BetaNode {
         return "[JoinNode(" + this.getId() + ") - " + getObjectTypeNode().getObjectType() + "]";
     }
     
+    @Override
+    public Memory createMemory(RuleBaseConfiguration config, ReteEvaluator reteEvaluator) {
+        BetaMemory memory = (BetaMemory) super.createMemory( config, reteEvaluator );
+        if ( config.getLeftTuplePoolSize() > 0 && !config.isMultithreadEvaluation() ) {
+            memory.setChildTuplePool( new LeftTuplePool( config.getLeftTuplePoolSize() ) );
+        }
+        return memory;
+    }
+
     public LeftTuple createPeer(LeftTuple original) {
         JoinNodeLeftTuple peer = new JoinNodeLeftTuple();
         peer.initPeer( (BaseLeftTuple) original, this );
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.reteoo;
+
+/**
+ * A bounded stack of deleted JoinNodeLeftTuples kept by a join node to create its children for a following join node
+ * without allocating new tuples. It is part of the join node memory, so it is confined to the thread evaluating
+ * the session and doesn't need any synchronization.
+ */
+public class LeftTuplePool {
+
+    private final int capacity;
+
+    private JoinNodeLeftTuple[] tuples;
+    private int size;
+
+    public LeftTuplePool(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public LeftTuple acquire(LeftTuple leftTuple,
+                             RightTuple rightTuple,
+                             LeftTuple currentLeftChild,
+                             LeftTuple currentRightChild,
+                             Sink sink,
+                             boolean leftTupleMemoryEnabled) {
+        if ( size == 0 ) {
+            return new JoinNodeLeftTuple( leftTuple, rightTuple, currentLeftChild, currentRightChild, sink, leftTupleMemoryEnabled );
+        }
+        JoinNodeLeftTuple tuple = tuples[--size];
+        tuples[size] = null;
+        tuple.initChild( leftTuple, rightTuple, currentLeftChild, currentRightChild, sink, leftTupleMemoryEnabled );
+        return tuple;
+    }
+
+    /**
+     * Gives back a deleted tuple to this pool. The caller must have already checked that nothing else can still
+     * reference it, see {@link BaseLeftTuple#isReusable()}.
+     *
+     * @return false if the pool is already full and the tuple has been left to the garbage collector
+     */
+    public boolean release(JoinNodeLeftTuple tuple) {
+        if ( size == capacity ) {
+            return false;
+        }
+        if ( tuples == null ) {
+            // allocated lazily, most join nodes never see a deletion
+            tuples = new JoinNodeLeftTuple[Math.min( capacity, 16 )];
+        } else if ( size == tuples.length ) {
+            JoinNodeLeftTuple[] newTuples = new JoinNodeLeftTuple[Math.min( capacity, size * 2 )];
+            System.arraycopy( tuples, 0, newTuples, 0, size );
+            tuples = newTuples;
+        }
+        tuple.reset();
+        tuples[size++] = tuple;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        tuples = null;
+        size = 0;
+    }
+}
@@ -33,6 +33,11 @@ public interface ObjectSinkPropagator
 
     default void changeSinkPartition( ObjectSink sink, RuleBasePartitionId oldPartition, RuleBasePartitionId newPartition, int alphaNodeHashingThreshold, int alphaNodeRangeIndexThreshold ) { }
 
+    /**
+     * Notifies this propagator that the sinks of one of the AlphaNodes below it have changed.
+     */
+    default void resetCompositeHashIndexes() { }
+
     void propagateAssertObject(InternalFactHandle factHandle,
                                PropagationContext context,
                                ReteEvaluator reteEvaluator);
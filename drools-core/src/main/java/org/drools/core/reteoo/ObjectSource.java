@@ -192,6 +192,7 @@ public abstract class ObjectSource extends BaseNode {
      */
     public void addObjectSink(final ObjectSink objectSink) {
         this.sink = this.sink.addObjectSink( objectSink, this.alphaNodeHashingThreshold, this.alphaNodeRangeIndexThreshold );
+        resetAncestorsCompositeHashIndexes();
     }
 
     /**
@@ -202,6 +203,17 @@ public abstract class ObjectSource extends BaseNode {
      */
     public void removeObjectSink(final ObjectSink objectSink) {
         this.sink = this.sink.removeObjectSink( objectSink );
+        resetAncestorsCompositeHashIndexes();
+    }
+
+    /**
+     * The composite hash indexes of the propagators above an AlphaNode also cover its sinks,
+     * so they have to be rebuilt when those sinks change.
+     */
+    private void resetAncestorsCompositeHashIndexes() {
+        for ( ObjectSource node = this; node.getType() == NodeTypeEnums.AlphaNode; node = node.source ) {
+            node.source.sink.resetCompositeHashIndexes();
+        }
     }
 
     public abstract void updateSink(ObjectSink sink, PropagationContext context, InternalWorkingMemory workingMemory);
@@ -34,6 +34,9 @@ public interface ObjectTypeConf {
 
     boolean isEvent();
 
+    /** Whether or not, the events of this type are wrapped in compact fact handles. */
+    boolean isCompactEvent();
+
     boolean isTrait();
 
     boolean isDynamic();
@@ -265,6 +265,13 @@ public class ObjectTypeNode extends ObjectSource implements ObjectSink, MemoryFa
         this.sink.propagateAssertObject(factHandle, context, reteEvaluator);
     }
 
+    public void propagateAssert(InternalFactHandle[] factHandles, PropagationContext[] contexts, ReteEvaluator reteEvaluator) {
+        checkDirty();
+        for (int i = 0; i < factHandles.length; i++) {
+            this.sink.propagateAssertObject(factHandles[i], contexts[i], reteEvaluator);
+        }
+    }
+
     /**
      * Retract the <code>FactHandleimpl</code> from the <code>Rete</code> network. Also remove the
      * <code>FactHandleImpl</code> from the node memory.
@@ -597,6 +604,7 @@ public class ObjectTypeNode extends ObjectSource implements ObjectSink, MemoryFa
     public static class ObjectTypeNodeMemory implements Memory {
         private FactHandleClassStore store;
         private Class<?> classType;
+        private ExpirationQueue expirationQueue;
 
         ObjectTypeNodeMemory(Class<?> classType) {
             this.classType = classType;
@@ -616,6 +624,20 @@ public class ObjectTypeNode extends ObjectSource implements ObjectSink, MemoryFa
             return store.iterator();
         }
 
+        public synchronized ExpirationQueue getExpirationQueue() {
+            if ( expirationQueue == null ) {
+                expirationQueue = new ExpirationQueue();
+            }
+            return expirationQueue;
+        }
+
+        /**
+         * Returns the expiration queue of this memory, or null if no event has been queued in it yet
+         */
+        public synchronized ExpirationQueue peekExpirationQueue() {
+            return expirationQueue;
+        }
+
         @Override
         public SegmentMemory getSegmentMemory() {
             return null;
@@ -652,7 +674,11 @@ public class ObjectTypeNode extends ObjectSource implements ObjectSink, MemoryFa
         }
 
         @Override
-        public void reset() { }
+        public void reset() {
+            if ( expirationQueue != null ) {
+                expirationQueue.clear();
+            }
+        }
 
         @Override
         public String toString() {
@@ -16,6 +16,7 @@
 
 package org.drools.core.reteoo;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.drools.core.RuleBaseConfiguration;
@@ -136,20 +137,11 @@ public class QueryElementNode extends LeftTupleSource implements LeftTupleSinkNo
                                          LeftTupleSink sink,
                                          ReteEvaluator reteEvaluator) {
         UnificationNodeViewChangedEventListener collector = createCollector( leftTuple, queryElement.getVariableIndexes(), this.tupleMemoryEnabled );
-        
-        boolean executeAsOpenQuery = openQuery;
-        if ( executeAsOpenQuery ) {
-            // There is no point in doing an open query if the caller is a non-open query.
-            Object object = leftTuple.get( 0 ).getObject();
-            if ( object instanceof DroolsQuery && !((DroolsQuery) object).isOpen() ) {
-                executeAsOpenQuery = false;
-            }          
-        }
 
         DroolsQuery queryObject = new DroolsQuery( this.queryElement.getQueryName(),
                                                    getActualArguments( leftTuple, reteEvaluator ),
                                                    collector,
-                                                   executeAsOpenQuery,
+                                                   isExecutedAsOpenQuery( leftTuple ),
                                                    stackEntry,
                                                    pmems,
                                                    qmem != null ? qmem.getResultLeftTuples() : null,
@@ -161,8 +153,51 @@ public class QueryElementNode extends LeftTupleSource implements LeftTupleSinkNo
         return queryObject;
     }
 
+    /**
+     * Reinitializes the closed DroolsQuery of a handle taken from the pool of the given memory for a new invocation,
+     * reusing its collector and its arguments array
+     */
+    public DroolsQuery reuseDroolsQuery(LeftTuple leftTuple,
+                                        InternalFactHandle handle,
+                                        StackEntry stackEntry,
+                                        final List<PathMemory> pmems,
+                                        QueryElementNodeMemory qmem,
+                                        LeftTupleSink sink,
+                                        ReteEvaluator reteEvaluator) {
+        DroolsQuery queryObject = (DroolsQuery) handle.getObject();
+        UnificationNodeViewChangedEventListener collector = (UnificationNodeViewChangedEventListener) queryObject.getQueryResultCollector();
+        collector.reset( leftTuple, this.tupleMemoryEnabled );
+
+        queryObject.reuse( getActualArguments( leftTuple, reteEvaluator, queryObject.getElements() ),
+                           stackEntry,
+                           pmems,
+                           qmem,
+                           sink );
+        leftTuple.setContextObject( handle ); // so it can be retracted later and destroyed
+        return queryObject;
+    }
+
+    public boolean isExecutedAsOpenQuery(LeftTuple leftTuple) {
+        // There is no point in doing an open query if the caller is a non-open query.
+        return openQuery && !isInvokedByClosedQuery( leftTuple );
+    }
+
+    /**
+     * Returns true if the tuple comes from the evaluation of a closed query, so it won't be retained
+     * and the invocation of this query is over as soon as its results are propagated
+     */
+    public boolean isInvokedByClosedQuery(LeftTuple leftTuple) {
+        Object object = leftTuple.get( 0 ).getObject();
+        return object instanceof DroolsQuery && !((DroolsQuery) object).isOpen();
+    }
+
     public Object[] getActualArguments( LeftTuple leftTuple, ReteEvaluator reteEvaluator ) {
-        Object[] args = new Object[argsTemplate.length]; // the actual args, to be created from the  template
+        return getActualArguments( leftTuple, reteEvaluator, null );
+    }
+
+    private Object[] getActualArguments( LeftTuple leftTuple, ReteEvaluator reteEvaluator, Object[] reusableArgs ) {
+        // the actual args, to be created from the template
+        Object[] args = reusableArgs != null && reusableArgs.length == argsTemplate.length ? reusableArgs : new Object[argsTemplate.length];
         for (int i = 0; i < argsTemplate.length; i++) {
             args[i] = argsTemplate[i].getValue( reteEvaluator, leftTuple );
         }
@@ -257,6 +292,11 @@ public class QueryElementNode extends LeftTupleSource implements LeftTupleSinkNo
             this.variables = variables;
         }
 
+        public void reset(LeftTuple leftTuple, boolean tupleMemoryEnabled) {
+            this.leftTuple = leftTuple;
+            this.tupleMemoryEnabled = tupleMemoryEnabled;
+        }
+
         @Override
         public void rowAdded(RuleImpl rule, LeftTuple resultLeftTuple, ReteEvaluator reteEvaluator) {
 
@@ -491,6 +531,8 @@ public class QueryElementNode extends LeftTupleSource implements LeftTupleSinkNo
     }
     
     public static class QueryElementNodeMemory extends AbstractBaseLinkedListNode<Memory> implements SegmentNodeMemory {
+        private static final int MAX_POOLED_QUERY_HANDLES = 1024;
+
         private QueryElementNode node;
 
         private SegmentMemory smem;
@@ -501,6 +543,10 @@ public class QueryElementNode extends LeftTupleSource implements LeftTupleSinkNo
 
         private long nodePosMaskBit;
 
+        // the handles of the closed queries already evaluated, whose DroolsQuery can be reused by the next invocations
+        private InternalFactHandle[] pooledQueryHandles = new InternalFactHandle[16];
+        private int pooledQueryHandlesSize;
+
         public QueryElementNodeMemory(QueryElementNode node) {
             this.node = node;
 
@@ -541,6 +587,31 @@ public class QueryElementNode extends LeftTupleSource implements LeftTupleSinkNo
             return resultLeftTuples;
         }
 
+        /**
+         * Returns the handle of a closed query that can be reused, or null if none is available
+         */
+        public InternalFactHandle acquireQueryHandle() {
+            if ( pooledQueryHandlesSize == 0 ) {
+                return null;
+            }
+            InternalFactHandle handle = pooledQueryHandles[--pooledQueryHandlesSize];
+            pooledQueryHandles[pooledQueryHandlesSize] = null;
+            return handle;
+        }
+
+        /**
+         * Makes the handle of a closed query, whose evaluation is over, available to the next invocations
+         */
+        public void releaseQueryHandle(InternalFactHandle handle) {
+            if ( handle.getFirstLeftTuple() != null || pooledQueryHandlesSize == MAX_POOLED_QUERY_HANDLES ) {
+                return;
+            }
+            if ( pooledQueryHandlesSize == pooledQueryHandles.length ) {
+                pooledQueryHandles = Arrays.copyOf( pooledQueryHandles, pooledQueryHandles.length << 1 );
+            }
+            pooledQueryHandles[pooledQueryHandlesSize++] = handle;
+        }
+
         public void correctMemoryOnSinksChanged(TerminalNode removingTN) {
             if (resultLeftTuples instanceof QueryTupleSets ) {
                 if (!SegmentUtilities.isTipNode( node, removingTN )) {
@@ -582,6 +653,8 @@ public class QueryElementNode extends LeftTupleSource implements LeftTupleSinkNo
         @Override
         public void reset() {
             resultLeftTuples.resetAll();
+            Arrays.fill( pooledQueryHandles, 0, pooledQueryHandlesSize, null );
+            pooledQueryHandlesSize = 0;
         }
 
         public static class QueryTupleSets extends TupleSetsImpl<LeftTuple> {
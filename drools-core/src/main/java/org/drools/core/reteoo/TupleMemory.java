@@ -38,6 +38,14 @@ public interface TupleMemory {
      * the same as the context fact.
      */
     Tuple getFirst( Tuple leftTuple );
+
+    /**
+     * As getFirst(Tuple), but also allows the memory to prepare the given iterator, obtained from this memory,
+     * for iterating the tuples that could match the given one
+     */
+    default Tuple getFirst( Tuple leftTuple, FastIterator it ) {
+        return getFirst( leftTuple );
+    }
     
     void removeAdd( Tuple rightTuple );
 
@@ -24,7 +24,9 @@ import org.drools.core.reteoo.AccumulateNode;
 import org.drools.core.reteoo.CoreComponentFactory;
 import org.drools.core.reteoo.LeftTupleSource;
 import org.drools.core.reteoo.RightInputAdapterNode;
+import org.drools.core.reteoo.WindowNode;
 import org.drools.core.rule.Accumulate;
+import org.drools.core.rule.Behavior;
 import org.drools.core.rule.GroupElement;
 import org.drools.core.rule.RuleConditionElement;
 import org.drools.core.spi.AlphaNodeFieldConstraint;
@@ -40,7 +42,7 @@ public class AccumulateBuilder
     public void build(final BuildContext context,
                       final BuildUtils utils,
                       final RuleConditionElement rce) {
-        final Accumulate accumulate = (Accumulate) rce;
+        Accumulate accumulate = (Accumulate) rce;
         context.pushRuleComponent( accumulate );
 
         final List<BetaNodeFieldConstraint> resultBetaConstraints = context.getBetaconstraints();
@@ -65,6 +67,11 @@ public class AccumulateBuilder
                        utils,
                        source );
 
+        if ( context.getObjectSource() instanceof WindowNode ) {
+            // the facts of a sliding window are removed in about the same order they have been accumulated
+            accumulate = accumulate.forSlidingWindow( isTimeOrdered( (WindowNode) context.getObjectSource() ) );
+        }
+
         // if object source is null, then we need to adapt tuple source into a subnetwork
         if ( context.getObjectSource() == null ) {
             // attach right input adapter node to convert tuple source into an object source
@@ -109,6 +116,15 @@ public class AccumulateBuilder
         context.popRuleComponent();
     }
 
+    private static boolean isTimeOrdered(WindowNode windowNode) {
+        for ( Behavior behavior : windowNode.getBehaviors() ) {
+            if ( behavior.getType() == Behavior.BehaviorType.TIME_WINDOW ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * @inheritDoc
      */
@@ -27,6 +27,7 @@ import java.util.Map;
 
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.ReteEvaluator;
+import org.drools.core.reteoo.AccumulateMatchLeftTuple;
 import org.drools.core.reteoo.AccumulateNode;
 import org.drools.core.reteoo.AccumulateNode.GroupByContext;
 import org.drools.core.reteoo.LeftTuple;
@@ -123,6 +124,15 @@ public abstract class Accumulate extends ConditionalElement
 
     public abstract Accumulate clone();
 
+    /**
+     * Returns a copy of this accumulate using the accumulators returned by Accumulator.forSlidingWindow, or this
+     * accumulate itself when none of them changes. The copy is used only by the AccumulateNode whose source is
+     * the sliding window, so it is not registered as a clone and the accumulators of the rule are never replaced.
+     */
+    public Accumulate forSlidingWindow(boolean timeOrdered) {
+        return this;
+    }
+
     protected void registerClone(Accumulate clone) {
         if ( this.cloned == Collections.EMPTY_LIST ) {
             this.cloned = new ArrayList<>( 1 );
@@ -203,4 +213,33 @@ public abstract class Accumulate extends ConditionalElement
 
     public abstract Object accumulate(Object workingMemoryContext, Tuple match, InternalFactHandle childHandle,
                                       GroupByContext groupByContext, TupleList<AccumulateNode.AccumulateContextEntry> tupleList, ReteEvaluator reteEvaluator);
+
+    /**
+     * Returns true if this accumulate keeps the accumulated values unboxed in its matches
+     */
+    public boolean isPrimitive() {
+        return false;
+    }
+
+    /**
+     * Executes the accumulate (action) code for the given fact handle, storing the unboxed accumulated value
+     * in the given match, that is null when the matches are not kept in memory. By default the value is accumulated
+     * through accumulate and kept boxed as the context object of the match.
+     */
+    public void accumulatePrimitive(Object workingMemoryContext, Object context, Tuple leftTuple, InternalFactHandle handle,
+                                    AccumulateMatchLeftTuple match, ReteEvaluator reteEvaluator) {
+        Object value = accumulate( workingMemoryContext, context, leftTuple, handle, reteEvaluator );
+        if ( match != null ) {
+            match.setContextObject( value );
+        }
+    }
+
+    public void accumulatePrimitive(Object workingMemoryContext, Tuple leftTuple, InternalFactHandle childHandle,
+                                    GroupByContext groupByContext, TupleList<AccumulateNode.AccumulateContextEntry> tupleList,
+                                    AccumulateMatchLeftTuple match, ReteEvaluator reteEvaluator) {
+        Object value = accumulate( workingMemoryContext, leftTuple, childHandle, groupByContext, tupleList, reteEvaluator );
+        if ( match != null ) {
+            match.setContextObject( value );
+        }
+    }
 }
@@ -20,6 +20,7 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.Arrays;
 import java.util.List;
 
 import org.drools.core.common.InternalFactHandle;
@@ -51,6 +52,16 @@ public class BehaviorManager
         this.behaviors = behaviors;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof BehaviorManager && Arrays.equals( behaviors, ((BehaviorManager) o).behaviors );
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode( behaviors );
+    }
+
     public void readExternal(ObjectInput in) throws IOException,
                                             ClassNotFoundException {
         behaviors = (Behavior[]) in.readObject();
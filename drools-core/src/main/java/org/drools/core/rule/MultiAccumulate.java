@@ -201,6 +201,19 @@ public class MultiAccumulate extends Accumulate {
         return clone;
     }
 
+    @Override
+    public Accumulate forSlidingWindow(boolean timeOrdered) {
+        Accumulator[] windowAccumulators = new Accumulator[this.accumulators.length];
+        boolean changed = false;
+        for ( int i = 0; i < this.accumulators.length; i++ ) {
+            windowAccumulators[i] = this.accumulators[i].forSlidingWindow( timeOrdered );
+            changed |= windowAccumulators[i] != this.accumulators[i];
+        }
+        return changed ?
+                new MultiAccumulate( this.source, this.requiredDeclarations, windowAccumulators, this.arraySize ) :
+                this;
+    }
+
     public Object[] createWorkingMemoryContext() {
         Object[] ctx = new Object[ this.accumulators.length ];
         for( int i = 0; i < this.accumulators.length; i++ ) {
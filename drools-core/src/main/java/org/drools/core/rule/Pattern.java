@@ -27,6 +27,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.drools.core.base.ClassObjectType;
@@ -433,7 +434,7 @@ public class Pattern
             return false;
         }
 
-        if ( this.behaviors != other.behaviors || (this.behaviors != null && !this.behaviors.equals( other.behaviors )) ) {
+        if ( !Objects.equals( this.behaviors, other.behaviors ) ) {
             return false;
         }
 
@@ -23,6 +23,7 @@ import java.util.Arrays;
 
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.ReteEvaluator;
+import org.drools.core.reteoo.AccumulateMatchLeftTuple;
 import org.drools.core.reteoo.AccumulateNode.AccumulateContextEntry;
 import org.drools.core.reteoo.AccumulateNode.GroupByContext;
 import org.drools.core.reteoo.LeftTuple;
@@ -102,6 +103,24 @@ public class SingleAccumulate extends Accumulate {
                                             reteEvaluator );
     }
 
+    @Override
+    public boolean isPrimitive() {
+        return this.accumulator.isPrimitive();
+    }
+
+    @Override
+    public void accumulatePrimitive(Object workingMemoryContext, Object context, Tuple leftTuple, InternalFactHandle handle,
+                                    AccumulateMatchLeftTuple match, ReteEvaluator reteEvaluator) {
+        this.accumulator.accumulatePrimitive( workingMemoryContext,
+                                              ((AccumulateContextEntry)context).getFunctionContext(),
+                                              leftTuple,
+                                              handle,
+                                              match,
+                                              this.requiredDeclarations,
+                                              getInnerDeclarationCache(),
+                                              reteEvaluator );
+    }
+
     @Override
     public Object accumulate(Object workingMemoryContext, Tuple match, InternalFactHandle childHandle,
                              GroupByContext groupByContext, TupleList<AccumulateContextEntry> tupleList, ReteEvaluator reteEvaluator) {
@@ -116,6 +135,16 @@ public class SingleAccumulate extends Accumulate {
                               final RightTuple rightParent,
                               final LeftTuple match,
                               final ReteEvaluator reteEvaluator) {
+        if ( match instanceof AccumulateMatchLeftTuple ) {
+            return this.accumulator.tryReversePrimitive( workingMemoryContext,
+                                                         ((AccumulateContextEntry)context).getFunctionContext(),
+                                                         leftTuple,
+                                                         handle,
+                                                         (AccumulateMatchLeftTuple) match,
+                                                         this.requiredDeclarations,
+                                                         getInnerDeclarationCache(),
+                                                         reteEvaluator );
+        }
         return this.accumulator.tryReverse( workingMemoryContext,
                                             ((AccumulateContextEntry)context).getFunctionContext(),
                                             leftTuple,
@@ -151,6 +180,14 @@ public class SingleAccumulate extends Accumulate {
         return clone;
     }
 
+    @Override
+    public Accumulate forSlidingWindow(boolean timeOrdered) {
+        Accumulator windowAccumulator = this.accumulator.forSlidingWindow( timeOrdered );
+        return windowAccumulator == this.accumulator ?
+                this :
+                new SingleAccumulate( this.source, this.requiredDeclarations, windowAccumulator );
+    }
+
     public void replaceAccumulatorDeclaration(Declaration declaration, Declaration resolved) {
         if (accumulator instanceof MvelAccumulator ) {
             ( (MvelAccumulator) accumulator ).replaceDeclaration( declaration, resolved );
@@ -145,6 +145,16 @@ public class SlidingLengthWindow
         return -1;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o != null && getClass() == o.getClass() && size == ((SlidingLengthWindow) o).size;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getClass().getName().hashCode() + size;
+    }
+
     public String toString() {
         return "SlidingLengthWindow( size=" + size + " )";
     }
@@ -20,7 +20,10 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.PriorityQueue;
 
 import org.drools.core.common.EventFactHandle;
@@ -158,6 +161,7 @@ public class SlidingTimeWindow
             }
             if ( queue.isEmpty() && queue.getJobHandle() != null ) {
                 reteEvaluator.getTimerService().removeJob( queue.getJobHandle() );
+                queue.setJobHandle( null );
             }
         }
     }
@@ -169,6 +173,11 @@ public class SlidingTimeWindow
         TimerService clock = reteEvaluator.getTimerService();
         long currentTime = clock.getCurrentTime();
         SlidingTimeWindowContext queue = (SlidingTimeWindowContext) context;
+        queue.setExpirationPending( false );
+        if ( queue.getJobHandle() != null && queue.getJobTime() <= currentTime ) {
+            // the job that triggered this expiration has already been executed
+            queue.setJobHandle( null );
+        }
 
         EventFactHandle handle = queue.peek();
         while ( handle != null && isExpired( currentTime,
@@ -205,11 +214,17 @@ public class SlidingTimeWindow
             if ( nextTimestamp < clock.getCurrentTime() ) {
                 // Past and out-of-order events should not be insert,
                 // but the engine silently accepts them anyway, resulting in possibly undesirable behaviors
-                reteEvaluator.addPropagation(new BehaviorExpireWMAction(nodeId, this, context), true);
+                addExpireAction( reteEvaluator, nodeId, this, context );
             } else {
-                // if there exists already another job it meeans that the new one to be created
-                // has to be triggered before the existing one and then we can remove the old one
+                SlidingTimeWindowContext windowContext = (SlidingTimeWindowContext) context;
                 if ( context.getJobHandle() != null ) {
+                    if ( windowContext.getJobTime() <= nextTimestamp ) {
+                        // the existing job will fire before the new expiration, there is no need to reschedule it:
+                        // when executed it will expire all the due events and then schedule the next expiration
+                        return;
+                    }
+                    // if there exists already another job it meeans that the new one to be created
+                    // has to be triggered before the existing one and then we can remove the old one
                     reteEvaluator.getTimerService().removeJob( context.getJobHandle() );
                 }
 
@@ -218,31 +233,71 @@ public class SlidingTimeWindow
                                                       jobctx,
                                                       PointInTimeTrigger.createPointInTimeTrigger( nextTimestamp, null ) );
                 jobctx.setJobHandle( handle );
+                windowContext.setJobTime( nextTimestamp );
             }
         }
     }
 
+    private static void addExpireAction(ReteEvaluator reteEvaluator, int nodeId, Behavior behavior, Behavior.Context context) {
+        // all the expirations happening before the pending action is executed are batched into that action
+        if ( context instanceof SlidingTimeWindowContext && !((SlidingTimeWindowContext) context).markExpirationPending() ) {
+            return;
+        }
+        reteEvaluator.addPropagation( new BehaviorExpireWMAction( nodeId, behavior, context ), true );
+    }
+
     @Override
     public long getExpirationOffset() {
         return this.size;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        // the node id is not compared, as it is only assigned once the window is attached to a node
+        return this == o || o != null && getClass() == o.getClass() && size == ((SlidingTimeWindow) o).size;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getClass().getName().hashCode() + Long.hashCode( size );
+    }
+
     @Override
     public String toString() {
         return "SlidingTimeWindow( size=" + size + " )";
     }
 
+    /**
+     * Keeps the events of the window in order of timestamp. Since the events usually arrive in timestamp order they are
+     * appended to a ring buffer, so both the insertion and the expiration of an event take constant time. The removal
+     * of an event from the middle of the window, when it is deleted before expiring, binary searches its timestamp and
+     * just clears its slot. Only when an event arrives out of order all the events are moved to a priority queue,
+     * which is used until the window becomes empty again.
+     */
     public static class SlidingTimeWindowContext
             implements
             Behavior.Context,
             Externalizable {
 
+        private static final int INITIAL_CAPACITY = 16;
+
+        private EventFactHandle[]              handles;
+        private long[]                         timestamps;
+        private int                            head;
+        // the number of slots in use from the head, including the cleared ones
+        private int                            length;
+        private int                            size;
+
         private PriorityQueue<EventFactHandle> queue;
+
         private EventFactHandle                expiringHandle;
         private JobHandle                      jobHandle;
+        private long                           jobTime;
+        private volatile boolean               expirationPending;
 
         public SlidingTimeWindowContext() {
-            this.queue = new PriorityQueue<>(16); // arbitrary size... can we improve it?
+            this.handles = new EventFactHandle[INITIAL_CAPACITY];
+            this.timestamps = new long[INITIAL_CAPACITY];
         }
 
         @Override
@@ -255,17 +310,44 @@ public class SlidingTimeWindow
             this.jobHandle = jobHandle;
         }
 
+        public long getJobTime() {
+            return jobTime;
+        }
+
+        public void setJobTime(long jobTime) {
+            this.jobTime = jobTime;
+        }
+
+        public void setExpirationPending(boolean expirationPending) {
+            this.expirationPending = expirationPending;
+        }
+
+        /**
+         * Returns true if there wasn't already an expiration action pending for this window
+         */
+        public boolean markExpirationPending() {
+            if ( expirationPending ) {
+                return false;
+            }
+            expirationPending = true;
+            return true;
+        }
+
         @Override
         @SuppressWarnings("unchecked")
         public void readExternal(ObjectInput in) throws IOException,
                                                         ClassNotFoundException {
-            this.queue = (PriorityQueue<EventFactHandle>) in.readObject();
+            PriorityQueue<EventFactHandle> events = (PriorityQueue<EventFactHandle>) in.readObject();
+            EventFactHandle handle;
+            while ( (handle = events.poll()) != null ) {
+                add( handle );
+            }
             this.expiringHandle = (EventFactHandle) in.readObject();
         }
 
         @Override
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject( this.queue );
+            out.writeObject( new PriorityQueue<>( getFactHandles() ) );
             out.writeObject( this.expiringHandle );
         }
 
@@ -278,32 +360,166 @@ public class SlidingTimeWindow
         }
 
         public void add(EventFactHandle handle) {
-            queue.add( handle );
+            if ( queue != null ) {
+                queue.add( handle );
+                return;
+            }
+            long timestamp = handle.getStartTimestamp();
+            if ( length > 0 && timestamps[slot( length - 1 )] > timestamp ) {
+                moveToQueue();
+                queue.add( handle );
+                return;
+            }
+            if ( length == handles.length ) {
+                resize();
+            }
+            int slot = slot( length++ );
+            handles[slot] = handle;
+            timestamps[slot] = timestamp;
+            size++;
         }
 
         public void remove(EventFactHandle handle) {
-            queue.remove( handle );
+            if ( queue != null ) {
+                queue.remove( handle );
+                checkQueue();
+                return;
+            }
+            int pos = indexOf( handle );
+            if ( pos >= 0 ) {
+                handles[slot( pos )] = null;
+                size--;
+                trim();
+            }
         }
 
         public boolean isEmpty() {
-            return queue.isEmpty();
+            return queue != null ? queue.isEmpty() : size == 0;
+        }
+
+        public int size() {
+            return queue != null ? queue.size() : size;
         }
 
         public EventFactHandle peek() {
-            return queue.peek( );
+            if ( queue != null ) {
+                return queue.peek();
+            }
+            return length > 0 ? handles[head] : null;
         }
 
         public EventFactHandle poll() {
-            return queue.poll( );
+            if ( queue != null ) {
+                EventFactHandle handle = queue.poll();
+                checkQueue();
+                return handle;
+            }
+            if ( length == 0 ) {
+                return null;
+            }
+            EventFactHandle handle = handles[head];
+            handles[head] = null;
+            size--;
+            trim();
+            return handle;
         }
 
         public EventFactHandle remove() {
-            return queue.remove( );
+            EventFactHandle handle = poll();
+            if ( handle == null ) {
+                throw new NoSuchElementException();
+            }
+            return handle;
         }
 
         @Override
         public Collection<EventFactHandle> getFactHandles() {
-            return queue;
+            if ( queue != null ) {
+                return queue;
+            }
+            List<EventFactHandle> list = new ArrayList<>( size );
+            for (int i = 0; i < length; i++) {
+                EventFactHandle handle = handles[slot( i )];
+                if ( handle != null ) {
+                    list.add( handle );
+                }
+            }
+            return list;
+        }
+
+        private int slot(int pos) {
+            return (head + pos) & (handles.length - 1);
+        }
+
+        private int indexOf(EventFactHandle handle) {
+            long timestamp = handle.getStartTimestamp();
+            // the cleared slots keep their timestamp, so the timestamps are always sorted
+            int low = 0;
+            int high = length;
+            while ( low < high ) {
+                int mid = (low + high) >>> 1;
+                if ( timestamps[slot( mid )] < timestamp ) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            for (int pos = low; pos < length && timestamps[slot( pos )] == timestamp; pos++) {
+                if ( handle.equals( handles[slot( pos )] ) ) {
+                    return pos;
+                }
+            }
+            return -1;
+        }
+
+        private void trim() {
+            while ( length > 0 && handles[head] == null ) {
+                head = (head + 1) & (handles.length - 1);
+                length--;
+            }
+            while ( length > 0 && handles[slot( length - 1 )] == null ) {
+                length--;
+            }
+        }
+
+        private void resize() {
+            // doubles the buffer only if it is mostly used by live events, otherwise just compacts it
+            int capacity = size > handles.length / 2 ? handles.length * 2 : handles.length;
+            EventFactHandle[] newHandles = new EventFactHandle[capacity];
+            long[] newTimestamps = new long[capacity];
+            int newLength = 0;
+            for (int i = 0; i < length; i++) {
+                int slot = slot( i );
+                if ( handles[slot] != null ) {
+                    newHandles[newLength] = handles[slot];
+                    newTimestamps[newLength++] = timestamps[slot];
+                }
+            }
+            handles = newHandles;
+            timestamps = newTimestamps;
+            head = 0;
+            length = newLength;
+        }
+
+        private void moveToQueue() {
+            queue = new PriorityQueue<>( Math.max( INITIAL_CAPACITY, size * 2 ) );
+            for (int i = 0; i < length; i++) {
+                int slot = slot( i );
+                if ( handles[slot] != null ) {
+                    queue.add( handles[slot] );
+                    handles[slot] = null;
+                }
+            }
+            head = 0;
+            length = 0;
+            size = 0;
+        }
+
+        private void checkQueue() {
+            if ( queue.isEmpty() ) {
+                // the out of order events are gone, goes back to the ring buffer
+                queue = null;
+            }
         }
     }
 
@@ -367,7 +583,7 @@ public class SlidingTimeWindow
         @Override
         public void execute(JobContext ctx) {
             BehaviorJobContext context = (BehaviorJobContext) ctx;
-            context.reteEvaluator.addPropagation( new BehaviorExpireWMAction( context.nodeId, context.behavior, context.behaviorContext ), true );
+            addExpireAction( context.reteEvaluator, context.nodeId, context.behavior, context.behaviorContext );
         }
 
     }
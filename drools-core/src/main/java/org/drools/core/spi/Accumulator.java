@@ -24,6 +24,7 @@ import java.security.PrivilegedExceptionAction;
 
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.ReteEvaluator;
+import org.drools.core.reteoo.AccumulateMatchLeftTuple;
 import org.drools.core.rule.Declaration;
 import org.kie.internal.security.KiePolicyHelper;
 
@@ -128,6 +129,61 @@ public interface Accumulator
                      Declaration[] declarations,
                      ReteEvaluator reteEvaluator);
 
+    /**
+     * Returns the accumulator to be used by an accumulate node whose source is a sliding window, that removes the
+     * accumulated facts in about the same order they have been accumulated, or this accumulator itself when it can't
+     * take advantage of it. The returned accumulator belongs to that node only, so this one is never changed.
+     *
+     * @param timeOrdered true when the window expires its facts by timestamp, false when it removes them in the order
+     *                    they arrive
+     */
+    default Accumulator forSlidingWindow(boolean timeOrdered) {
+        return this;
+    }
+
+    /**
+     * Returns true if this accumulator reads the accumulated values as unboxed numbers. In this case the
+     * engine accumulates and reverses them through accumulatePrimitive and tryReversePrimitive, keeping each
+     * value in its match instead of the boxed value returned by accumulate
+     */
+    default boolean isPrimitive() {
+        return false;
+    }
+
+    /**
+     * Executes the accumulate action for the given fact handle, storing the unboxed accumulated value in the
+     * given match, that is null when the matches are not kept in memory. By default the value is accumulated
+     * through accumulate and kept boxed as the context object of the match.
+     */
+    default void accumulatePrimitive(Object workingMemoryContext,
+                                     Object context,
+                                     Tuple leftTuple,
+                                     InternalFactHandle handle,
+                                     AccumulateMatchLeftTuple match,
+                                     Declaration[] declarations,
+                                     Declaration[] innerDeclarations,
+                                     ReteEvaluator reteEvaluator) {
+        Object value = accumulate( workingMemoryContext, context, leftTuple, handle, declarations, innerDeclarations, reteEvaluator );
+        if ( match != null ) {
+            match.setContextObject( value );
+        }
+    }
+
+    /**
+     * Reverses the accumulate action for the unboxed value stored in the given match. By default the boxed value
+     * kept as the context object of the match is reversed through tryReverse.
+     */
+    default boolean tryReversePrimitive(Object workingMemoryContext,
+                                        Object context,
+                                        Tuple leftTuple,
+                                        InternalFactHandle handle,
+                                        AccumulateMatchLeftTuple match,
+                                        Declaration[] declarations,
+                                        Declaration[] innerDeclarations,
+                                        ReteEvaluator reteEvaluator) {
+        return tryReverse( workingMemoryContext, context, leftTuple, handle, match.getContextObject(), declarations, innerDeclarations, reteEvaluator );
+    }
+
     /**
      * This class is used as a wrapper delegate when a security 
      * policy is in place.
@@ -244,6 +300,12 @@ public interface Accumulator
             }
         }
         
+        @Override
+        public Accumulator forSlidingWindow(boolean timeOrdered) {
+            Accumulator windowAccumulator = delegate.forSlidingWindow( timeOrdered );
+            return windowAccumulator == delegate ? this : new SafeAccumulator( windowAccumulator );
+        }
+
         public boolean wrapsCompiledInvoker() {
             return delegate instanceof CompiledInvoker;
         }
@@ -36,6 +36,15 @@ public interface DataProvider
                         PropagationContext ctx,
                         Object providerContext);
 
+    /**
+     * Evaluates the from expression returning its result as it is, before it gets iterated. A FromNode caching
+     * the objects returned by an expression not depending on the tuple uses it to check if they are still valid.
+     * Providers not able to do it return null.
+     */
+    default Object getResultSource(Tuple tuple, ReteEvaluator reteEvaluator) {
+        return null;
+    }
+
     DataProvider clone();
 
     void replaceDeclaration(Declaration declaration,
@@ -19,8 +19,10 @@ package org.drools.core.time.impl;
 import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Map;
 import java.util.SortedSet;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provides a parser and evaluator for unix-like cron expressions. Cron
@@ -184,6 +186,11 @@ import java.util.TimeZone;
  */
 public class CronExpression extends KieCronExpression implements Cloneable {
 
+    // expressions generated at runtime could be unbounded in number
+    private static final int MAX_PARSED_EXPRESSIONS = 1024;
+
+    private static final Map<String, CronExpression> PARSED_EXPRESSIONS = new ConcurrentHashMap<>();
+
     private TimeZone timeZone = null;
 
     /**
@@ -198,6 +205,34 @@ public class CronExpression extends KieCronExpression implements Cloneable {
         super(cronExpression);
     }
 
+    private CronExpression(CronExpression other) {
+        super(other);
+    }
+
+    /**
+     * Returns a new <CODE>CronExpression</CODE> for the given expression,
+     * sharing the parsed and compiled fields with the other ones created
+     * through this method for the same expression, so that it is parsed only
+     * once. The returned instance can be freely modified, as setting its time
+     * zone doesn't affect the others.
+     * @param cronExpression String representation of the cron expression
+     * @throws java.text.ParseException if the string expression cannot be parsed into a valid
+     * <CODE>CronExpression</CODE>
+     */
+    public static CronExpression of(String cronExpression) throws ParseException {
+        if (cronExpression == null) {
+            throw new IllegalArgumentException("cronExpression cannot be null");
+        }
+        CronExpression parsed = PARSED_EXPRESSIONS.get(cronExpression);
+        if (parsed == null) {
+            parsed = new CronExpression(cronExpression);
+            if (PARSED_EXPRESSIONS.size() < MAX_PARSED_EXPRESSIONS) {
+                PARSED_EXPRESSIONS.putIfAbsent(cronExpression, parsed);
+            }
+        }
+        return new CronExpression(parsed);
+    }
+
     /**
      * Indicates whether the given date satisfies the cron expression. Note that
      * milliseconds are ignored, so two Dates falling on different milliseconds
@@ -296,6 +331,21 @@ public class CronExpression extends KieCronExpression implements Cloneable {
     ////////////////////////////////////////////////////////////////////////////
 
     protected Date getTimeAfter(Date afterTime) {
+        long timeAfter = getTimeAfter(afterTime.getTime());
+        return timeAfter != CronSchedule.UNSUPPORTED ? new Date(timeAfter) : computeTimeAfter(afterTime);
+    }
+
+    /**
+     * Returns the next fire time, in milliseconds, after the given one as
+     * calculated by the compiled schedule of this expression, or
+     * {@link CronSchedule#UNSUPPORTED} when it has to be computed with the
+     * calendar.
+     */
+    long getTimeAfter(long afterTime) {
+        return schedule != null ? schedule.getTimeAfter(afterTime, getTimeZone()) : CronSchedule.UNSUPPORTED;
+    }
+
+    protected Date computeTimeAfter(Date afterTime) {
 
         Calendar cl = Calendar.getInstance(getTimeZone());
 
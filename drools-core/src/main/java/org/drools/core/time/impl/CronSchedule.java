@@ -0,0 +1,188 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.time.impl;
+
+import java.util.TimeZone;
+import java.util.TreeSet;
+
+/**
+ * The fields of a parsed cron expression compiled into bit masks, so that the next fire time can be found with a few
+ * bit scans and plain day arithmetic, without any Calendar or TreeSet lookup.
+ *
+ * Only the expressions using plain values, ranges, lists and increments are compiled: the 'L', 'W' and '#' options
+ * and an explicit year field are not supported. For them, and when the offset of the time zone changes between the
+ * given time and the next fire time, or around it, as with a daylight saving time transition, getTimeAfter() returns
+ * UNSUPPORTED and the caller has to fall back to the calendar based evaluation.
+ */
+class CronSchedule {
+
+    static final long UNSUPPORTED = Long.MIN_VALUE;
+
+    // the fire times further away are left to the calendar based evaluation
+    private static final int MAX_DAYS_AHEAD = 400;
+
+    // 2300-01-01, after KieCronExpression.YEAR_TO_GIVEUP_SCHEDULING_AT
+    private static final long LAST_EPOCH_DAY = 120530L;
+
+    private static final int SECONDS_PER_DAY = 86400;
+
+    // wider than any daylight saving shift, so that a wall time repeated when the clocks go back is never compiled
+    private static final long TRANSITION_MARGIN = 3 * 3600 * 1000L;
+
+    private final boolean supported;
+
+    private final long secondsMask;
+    private final long minutesMask;
+    private final long hoursMask;
+    private final long daysOfMonthMask;
+    private final long monthsMask;
+    private final long daysOfWeekMask;
+
+    private final boolean dayOfMonthRule;
+    private final boolean everyDay;
+
+    private CronSchedule(KieCronExpression expression) {
+        this.secondsMask = toMask(expression.seconds, 0, 59);
+        this.minutesMask = toMask(expression.minutes, 0, 59);
+        this.hoursMask = toMask(expression.hours, 0, 23);
+        this.daysOfMonthMask = toMask(expression.daysOfMonth, 1, 31);
+        this.monthsMask = toMask(expression.months, 1, 12);
+        this.daysOfWeekMask = toMask(expression.daysOfWeek, 1, 7);
+        this.dayOfMonthRule = !expression.daysOfMonth.contains(KieCronExpression.NO_SPEC);
+
+        this.supported = !expression.lastdayOfMonth && !expression.nearestWeekday &&
+                         !expression.lastdayOfWeek && expression.nthdayOfWeek == 0 &&
+                         expression.years.contains(KieCronExpression.ALL_SPEC) &&
+                         secondsMask != 0 && minutesMask != 0 && hoursMask != 0 &&
+                         (dayOfMonthRule ? daysOfMonthMask : daysOfWeekMask) != 0 && monthsMask != 0;
+
+        this.everyDay = monthsMask == toMask(1, 12) &&
+                        (dayOfMonthRule ? daysOfMonthMask == toMask(1, 31) : daysOfWeekMask == toMask(1, 7));
+    }
+
+    static CronSchedule compile(KieCronExpression expression) {
+        return new CronSchedule(expression);
+    }
+
+    boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * Returns the first fire time, in milliseconds, at least one second after the given time, or UNSUPPORTED if it
+     * cannot be computed from the masks.
+     */
+    long getTimeAfter(long afterTime, TimeZone timeZone) {
+        if (!supported) {
+            return UNSUPPORTED;
+        }
+
+        long startTime = afterTime + 1000;
+        int offset = timeZone.getOffset(startTime);
+        if (offset % 1000 != 0) {
+            return UNSUPPORTED;
+        }
+
+        long localSeconds = Math.floorDiv(startTime + offset, 1000);
+        long epochDay = Math.floorDiv(localSeconds, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(localSeconds, SECONDS_PER_DAY);
+
+        for (int i = 0; i < MAX_DAYS_AHEAD && epochDay < LAST_EPOCH_DAY; i++, epochDay++, secondOfDay = 0) {
+            if (!everyDay && !matchesDay(epochDay)) {
+                continue;
+            }
+            int nextSecond = nextSecondOfDay(secondOfDay);
+            if (nextSecond >= 0) {
+                long timeAfter = (epochDay * SECONDS_PER_DAY + nextSecond) * 1000 - offset;
+                return hasOffset(timeZone, timeAfter, offset) ? timeAfter : UNSUPPORTED;
+            }
+        }
+        return UNSUPPORTED;
+    }
+
+    private static boolean hasOffset(TimeZone timeZone, long time, int offset) {
+        return timeZone.getOffset(time) == offset &&
+               timeZone.getOffset(time - TRANSITION_MARGIN) == offset &&
+               timeZone.getOffset(time + TRANSITION_MARGIN) == offset;
+    }
+
+    private int nextSecondOfDay(int secondOfDay) {
+        int fromHour = secondOfDay / 3600;
+        int fromMinute = (secondOfDay / 60) % 60;
+        int fromSecond = secondOfDay % 60;
+
+        for (int hour = nextBit(hoursMask, fromHour); hour >= 0; hour = nextBit(hoursMask, hour + 1)) {
+            boolean sameHour = hour == fromHour;
+            for (int minute = nextBit(minutesMask, sameHour ? fromMinute : 0); minute >= 0; minute = nextBit(minutesMask, minute + 1)) {
+                int second = nextBit(secondsMask, sameHour && minute == fromMinute ? fromSecond : 0);
+                if (second >= 0) {
+                    return hour * 3600 + minute * 60 + second;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private boolean matchesDay(long epochDay) {
+        // civil date from the epoch day, see http://howardhinnant.github.io/date_algorithms.html
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int dayOfMonth = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+
+        if ((monthsMask & (1L << month)) == 0) {
+            return false;
+        }
+        if (dayOfMonthRule) {
+            return (daysOfMonthMask & (1L << dayOfMonth)) != 0;
+        }
+        // the epoch day 0 is a thursday, that is 5 as Calendar.DAY_OF_WEEK
+        int dayOfWeek = (int) Math.floorMod(epochDay + 4, 7) + 1;
+        return (daysOfWeekMask & (1L << dayOfWeek)) != 0;
+    }
+
+    private static int nextBit(long mask, int from) {
+        if (from >= 64) {
+            return -1;
+        }
+        long bits = mask & (-1L << from);
+        return bits == 0 ? -1 : Long.numberOfTrailingZeros(bits);
+    }
+
+    private static long toMask(TreeSet values, int min, int max) {
+        long mask = 0;
+        for (Object value : values) {
+            int i = (Integer) value;
+            if (i >= min && i <= max) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    private static long toMask(int min, int max) {
+        long mask = 0;
+        for (int i = min; i <= max; i++) {
+            mask |= 1L << i;
+        }
+        return mask;
+    }
+}
@@ -71,7 +71,7 @@ public class CronTimer extends BaseTimer
         this.repeatLimit = in.readInt();
         String string = (String) in.readObject();
         try {
-            this.cronExpression = new CronExpression( string );
+            this.cronExpression = CronExpression.of( string );
         } catch ( ParseException e ) {
             throw new RuntimeException( "Unable to marshal CronExpression '" + string + "'",
                                         e );
@@ -279,7 +279,7 @@ public class CronTrigger
 
     public static CronExpression determineCronExpression(String cronExpression) {
         try {
-            return new CronExpression( cronExpression );
+            return CronExpression.of( cronExpression );
         } catch ( Exception e ) {
             throw new RuntimeException( "Unable to parse cron expression '" + cronExpression + "'",
                                         e );
@@ -242,6 +242,8 @@ public class KieCronExpression implements Serializable {
     protected transient boolean nearestWeekday = false;
     protected transient boolean expressionParsed = false;
 
+    protected transient CronSchedule schedule;
+
     /**
      * Constructs a new <CODE>CronExpression</CODE> based on the specified
      * parameter.
@@ -260,6 +262,28 @@ public class KieCronExpression implements Serializable {
         buildExpression(this.cronExpression);
     }
 
+    /**
+     * Constructs a new <CODE>CronExpression</CODE> sharing the parsed fields
+     * of the given one, which are never modified once the expression is built.
+     * @param other the already parsed cron expression
+     */
+    protected KieCronExpression(KieCronExpression other) {
+        this.cronExpression = other.cronExpression;
+        this.seconds = other.seconds;
+        this.minutes = other.minutes;
+        this.hours = other.hours;
+        this.daysOfMonth = other.daysOfMonth;
+        this.months = other.months;
+        this.daysOfWeek = other.daysOfWeek;
+        this.years = other.years;
+        this.lastdayOfWeek = other.lastdayOfWeek;
+        this.nthdayOfWeek = other.nthdayOfWeek;
+        this.lastdayOfMonth = other.lastdayOfMonth;
+        this.nearestWeekday = other.nearestWeekday;
+        this.expressionParsed = other.expressionParsed;
+        this.schedule = other.schedule;
+    }
+
     /**
      * Returns the string representation of the <CODE>CronExpression</CODE>
      * @return a string representation of the <CODE>CronExpression</CODE>
@@ -362,6 +386,8 @@ public class KieCronExpression implements Serializable {
                 throw new ParseException(
                         "Support for specifying both or none of day-of-week AND a day-of-month parameters is not implemented.", 0);
             }
+
+            schedule = CronSchedule.compile(this);
         } catch (ParseException pe) {
             throw pe;
         } catch (Exception e) {
@@ -42,6 +42,9 @@ import org.slf4j.LoggerFactory;
 /**
  * A PseudoClockScheduler is a scheduler based on a user controlled clock 
  * that allows the user to explicitly control current time.
+ *
+ * By default the scheduled jobs are kept in a priority queue, when created with
+ * timingWheel = true they are kept in a {@link TimingWheel} instead.
  */
 public class PseudoClockScheduler
     implements
@@ -54,6 +57,7 @@ public class PseudoClockScheduler
 
     private AtomicLong                      timer;
     private PriorityBlockingQueue<DefaultTimerJobInstance>   queue;
+    private TimingWheel<TimerJobInstance>   wheel;
     private transient InternalWorkingMemory session;
 
     private TimerJobFactoryManager          jobFactoryManager = DefaultTimerJobFactoryManager.instance;
@@ -65,9 +69,20 @@ public class PseudoClockScheduler
     }
 
     public PseudoClockScheduler(InternalWorkingMemory session) {
+        this( session, false );
+    }
+
+    public PseudoClockScheduler(boolean timingWheel) {
+        this( null, timingWheel );
+    }
+
+    public PseudoClockScheduler(InternalWorkingMemory session, boolean timingWheel) {
         this.timer = new AtomicLong(0);
         this.queue = new PriorityBlockingQueue<>();
         this.session = session;
+        if ( timingWheel ) {
+            this.wheel = new TimingWheel<>( 0 );
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -78,6 +93,14 @@ public class PseudoClockScheduler
         if ( tmp != null ) {
             queue = tmp;
         }
+        if ( in.readBoolean() ) {
+            wheel = new TimingWheel<>( 0 );
+            // the jobs are scheduled in the order of the queue, so the ones with the same fire time keep their order
+            DefaultTimerJobInstance jobInstance;
+            while ( (jobInstance = queue.poll()) != null ) {
+                scheduleInWheel( jobInstance );
+            }
+        }
         session = ((DroolsObjectInputStream) in).getWorkingMemory();
     }
 
@@ -85,7 +108,19 @@ public class PseudoClockScheduler
         out.writeLong( timer.get() );
         // this is a work around to a bug in the object stream code, where it raises exceptions
         // when trying to de-serialize an empty priority queue.
-        out.writeObject( queue.isEmpty() ? null : queue );
+        PriorityBlockingQueue<DefaultTimerJobInstance> jobs = queue;
+        if ( wheel != null ) {
+            jobs = new PriorityBlockingQueue<>();
+            for (TimerJobInstance jobInstance : wheel.getItems()) {
+                jobs.add( (DefaultTimerJobInstance) jobInstance );
+            }
+        }
+        out.writeObject( jobs.isEmpty() ? null : jobs );
+        out.writeBoolean( wheel != null );
+    }
+
+    public boolean isTimingWheel() {
+        return wheel != null;
     }
 
     public void setTimerJobFactoryManager(TimerJobFactoryManager timerJobFactoryManager) {
@@ -117,7 +152,9 @@ public class PseudoClockScheduler
         Date date = trigger.hasNextFireTime();
 
         if ( date != null ) {
-            DefaultJobHandle jobHandle = new DefaultJobHandle( idCounter.getAndIncrement() );
+            DefaultJobHandle jobHandle = wheel != null ?
+                    new TimingWheelTimerService.TimingWheelJobHandle( idCounter.getAndIncrement() ) :
+                    new DefaultJobHandle( idCounter.getAndIncrement() );
             TimerJobInstance jobInstance = jobFactoryManager.createTimerJobInstance( job,
                                                                                    ctx,
                                                                                    trigger,
@@ -135,10 +172,19 @@ public class PseudoClockScheduler
     public void internalSchedule(TimerJobInstance timerJobInstance) {
         jobFactoryManager.addTimerJobInstance(timerJobInstance);
         synchronized (this) {
-            queue.add( ( DefaultTimerJobInstance ) timerJobInstance );
+            if ( wheel != null ) {
+                scheduleInWheel( timerJobInstance );
+            } else {
+                queue.add( ( DefaultTimerJobInstance ) timerJobInstance );
+            }
         }
     }
 
+    private void scheduleInWheel(TimerJobInstance timerJobInstance) {
+        TimingWheelTimerService.TimingWheelJobHandle jobHandle = (TimingWheelTimerService.TimingWheelJobHandle) timerJobInstance.getJobHandle();
+        jobHandle.setEntry( wheel.schedule( timerJobInstance, timerJobInstance.getTrigger().hasNextFireTime().getTime() ) );
+    }
+
     /**
      * @inheritDoc
      * @see org.drools.core.time.TimerService#removeJob(JobHandle)
@@ -146,6 +192,10 @@ public class PseudoClockScheduler
     public synchronized boolean removeJob(JobHandle jobHandle) {
         jobHandle.setCancel(true);
         jobFactoryManager.removeTimerJobInstance(((DefaultJobHandle) jobHandle).getTimerJobInstance());
+        if ( wheel != null ) {
+            TimingWheel.Entry<TimerJobInstance> entry = ((TimingWheelTimerService.TimingWheelJobHandle) jobHandle).getEntry();
+            return entry != null && wheel.cancel( entry );
+        }
         return this.queue.remove(((DefaultJobHandle) jobHandle).getTimerJobInstance());
     }
 
@@ -159,6 +209,14 @@ public class PseudoClockScheduler
 
     public void setStartupTime(long i) {
         this.timer.set( i );
+        if ( wheel != null ) {
+            synchronized (this) {
+                if ( wheel.isEmpty() ) {
+                    // realigns the wheel in case the clock has been moved back
+                    wheel.clear( i );
+                }
+            }
+        }
     }
 
     /**
@@ -180,6 +238,9 @@ public class PseudoClockScheduler
         idCounter.set(0);
         timer.set(0);
         queue.clear();
+        if ( wheel != null ) {
+            wheel.clear( 0 );
+        }
     }
 
     @Override
@@ -189,6 +250,9 @@ public class PseudoClockScheduler
 
     @SuppressWarnings("unchecked")
     private synchronized long runCallBacksAndIncreaseTimer( long increase ) {
+        if ( wheel != null ) {
+            return runWheelCallBacksAndIncreaseTimer( increase );
+        }
         long endTime = this.timer.get() + increase;
         TimerJobInstance item = queue.peek();
         long fireTime;
@@ -216,7 +280,34 @@ public class PseudoClockScheduler
         return this.timer.get();
     }
 
+    @SuppressWarnings("unchecked")
+    private long runWheelCallBacksAndIncreaseTimer( long increase ) {
+        long endTime = this.timer.get() + increase;
+        TimingWheel.Entry<TimerJobInstance> entry;
+        // all the jobs expiring in the same tick are moved together out of the wheel and then returned one by one
+        while ( (entry = wheel.poll( endTime )) != null ) {
+            TimerJobInstance item = entry.getItem();
+            if ( item.getJobHandle().isCancel() ) {
+                continue;
+            }
+            try {
+                // set the clock back to the trigger's fire time
+                this.timer.getAndSet( entry.getTime() );
+                // execute the call
+                ((Callable<Void>) item).call();
+            } catch ( Exception e ) {
+                logger.error( "Exception running callbacks: ", e );
+            }
+        }
+        this.timer.set( endTime );
+        return this.timer.get();
+    }
+
     public synchronized long getTimeToNextJob() {
+        if ( wheel != null ) {
+            long next = wheel.nextExpirationTime();
+            return next >= 0 ? next - this.timer.get() : -1;
+        }
         TimerJobInstance item = queue.peek();
         return (item != null) ? item.getTrigger().hasNextFireTime().getTime() - this.timer.get() : -1;
     }
@@ -0,0 +1,332 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A hierarchical timing wheel with a resolution of one time unit (usually a millisecond).
+ *
+ * The wheel has a level for each group of 6 bits of a timestamp, every level having 64 slots, one for each value of
+ * those bits. An item is kept at the level of the most significant group of bits where its timestamp differs
+ * from the current time of the wheel, in the slot given by its timestamp at that level. So both scheduling and
+ * cancelling an item take constant time. When the current time of the wheel moves into the block covered by a slot
+ * of a higher level, that slot is cascaded: its items are spread in the lower levels, and the ones expiring at the new
+ * current time are moved all together to the list of the due items. A bitmask of the not empty slots for each level
+ * allows to jump directly to the next block containing any item, so large time advances don't need to walk
+ * through all the empty slots. The items expiring at the same time are returned in the order they have been scheduled.
+ *
+ * This class is not thread safe: the timer services using it are in charge of its synchronization.
+ * The timestamps are expected to be not negative.
+ */
+public class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+
+    private static final int NOT_SCHEDULED = -2;
+    private static final int DUE = -1;
+
+    private final Entry<T>[][] slots;
+    private final Entry<T>[][] tails;
+    private final long[] occupied;
+
+    private Entry<T> dueHead;
+    private Entry<T> dueTail;
+
+    private long currentTime;
+    private long sequence;
+    private int size;
+
+    public TimingWheel(long currentTime) {
+        this.slots = new Entry[LEVELS][SLOTS];
+        this.tails = new Entry[LEVELS][SLOTS];
+        this.occupied = new long[LEVELS];
+        this.currentTime = currentTime;
+    }
+
+    public long getCurrentTime() {
+        return currentTime;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public Entry<T> schedule(T item, long time) {
+        Entry<T> entry = new Entry<>( item, time, sequence++ );
+        insert( entry );
+        size++;
+        return entry;
+    }
+
+    public boolean cancel(Entry<T> entry) {
+        if ( entry.level == NOT_SCHEDULED ) {
+            return false;
+        }
+        unlink( entry );
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns and removes the next item expiring not later than the given time, in order of expiration, moving
+     * the current time of the wheel forward up to that time. Returns null when there are no more items due by then.
+     */
+    public Entry<T> poll(long upTo) {
+        while ( true ) {
+            if ( dueHead != null && dueHead.time <= upTo ) {
+                Entry<T> entry = dueHead;
+                unlink( entry );
+                size--;
+                return entry;
+            }
+            long next = nextExpirationBound();
+            if ( next < 0 || next > upTo ) {
+                if ( upTo > currentTime ) {
+                    moveTo( upTo );
+                }
+                return null;
+            }
+            moveTo( next );
+        }
+    }
+
+    /**
+     * Returns a lower bound of the expiration time of the items that are not due yet, that is the expiration time
+     * of the first of them if it lies in the lowest level, or otherwise the start of the block of the first
+     * not empty slot. Returns -1 if there are no such items.
+     */
+    public long nextExpirationBound() {
+        for (int level = 0; level < LEVELS; level++) {
+            if ( occupied[level] != 0 ) {
+                int slot = Long.numberOfTrailingZeros( occupied[level] );
+                return blockStart( level, slot );
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the exact expiration time of the first item, or -1 if the wheel is empty. Differently from
+     * {@link #nextExpirationBound()} this may need to scan all the items in a slot.
+     */
+    public long nextExpirationTime() {
+        if ( dueHead != null ) {
+            return dueHead.time;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            if ( occupied[level] != 0 ) {
+                int slot = Long.numberOfTrailingZeros( occupied[level] );
+                return level == 0 ? blockStart( 0, slot ) : minTime( slots[level][slot] );
+            }
+        }
+        return -1;
+    }
+
+    public List<T> getItems() {
+        List<T> items = new ArrayList<>( size );
+        for (Entry<T> entry = dueHead; entry != null; entry = entry.next) {
+            items.add( entry.item );
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                for (Entry<T> entry = slots[level][slot]; entry != null; entry = entry.next) {
+                    items.add( entry.item );
+                }
+            }
+        }
+        return items;
+    }
+
+    public void clear(long currentTime) {
+        for (Entry<T> entry = dueHead; entry != null; entry = entry.next) {
+            entry.level = NOT_SCHEDULED;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                for (Entry<T> entry = slots[level][slot]; entry != null; entry = entry.next) {
+                    entry.level = NOT_SCHEDULED;
+                }
+                slots[level][slot] = null;
+                tails[level][slot] = null;
+            }
+            occupied[level] = 0;
+        }
+        dueHead = null;
+        dueTail = null;
+        size = 0;
+        this.currentTime = currentTime;
+    }
+
+    private long blockStart(int level, int slot) {
+        int higherBits = (level + 1) * SLOT_BITS;
+        long high = higherBits >= Long.SIZE ? 0 : (currentTime >>> higherBits) << higherBits;
+        return high | ((long) slot << (level * SLOT_BITS));
+    }
+
+    private static <T> long minTime(Entry<T> head) {
+        long min = Long.MAX_VALUE;
+        for (Entry<T> entry = head; entry != null; entry = entry.next) {
+            min = Math.min( min, entry.time );
+        }
+        return min;
+    }
+
+    private void moveTo(long time) {
+        long diff = currentTime ^ time;
+        currentTime = time;
+        if ( diff == 0 ) {
+            return;
+        }
+        // the slots of the current time in the levels below the highest changed one now cover the current block
+        int topLevel = (Long.SIZE - 1 - Long.numberOfLeadingZeros( diff )) / SLOT_BITS;
+        for (int level = topLevel; level >= 0; level--) {
+            int slot = (int) (time >>> (level * SLOT_BITS)) & MASK;
+            Entry<T> entry = slots[level][slot];
+            if ( entry != null ) {
+                slots[level][slot] = null;
+                tails[level][slot] = null;
+                occupied[level] &= ~(1L << slot);
+                while ( entry != null ) {
+                    Entry<T> next = entry.next;
+                    entry.prev = null;
+                    entry.next = null;
+                    insert( entry );
+                    entry = next;
+                }
+            }
+        }
+    }
+
+    private void insert(Entry<T> entry) {
+        long time = entry.time;
+        if ( time <= currentTime ) {
+            insertDue( entry );
+            return;
+        }
+        int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros( time ^ currentTime )) / SLOT_BITS;
+        int slot = (int) (time >>> (level * SLOT_BITS)) & MASK;
+        entry.level = level;
+        entry.slot = slot;
+        Entry<T> tail = tails[level][slot];
+        entry.prev = tail;
+        if ( tail == null ) {
+            slots[level][slot] = entry;
+            occupied[level] |= 1L << slot;
+        } else {
+            tail.next = entry;
+        }
+        tails[level][slot] = entry;
+    }
+
+    private void insertDue(Entry<T> entry) {
+        // the due list is kept sorted, since the slots preserve the scheduling order this is almost always an append
+        Entry<T> prev = dueTail;
+        while ( prev != null && prev.isAfter( entry ) ) {
+            prev = prev.prev;
+        }
+        Entry<T> next = prev == null ? dueHead : prev.next;
+        entry.level = DUE;
+        entry.prev = prev;
+        entry.next = next;
+        if ( prev == null ) {
+            dueHead = entry;
+        } else {
+            prev.next = entry;
+        }
+        if ( next == null ) {
+            dueTail = entry;
+        } else {
+            next.prev = entry;
+        }
+    }
+
+    private void unlink(Entry<T> entry) {
+        Entry<T> prev = entry.prev;
+        Entry<T> next = entry.next;
+        if ( entry.level == DUE ) {
+            if ( prev == null ) {
+                dueHead = next;
+            } else {
+                prev.next = next;
+            }
+            if ( next == null ) {
+                dueTail = prev;
+            } else {
+                next.prev = prev;
+            }
+        } else {
+            if ( prev == null ) {
+                slots[entry.level][entry.slot] = next;
+                if ( next == null ) {
+                    occupied[entry.level] &= ~(1L << entry.slot);
+                }
+            } else {
+                prev.next = next;
+            }
+            if ( next == null ) {
+                tails[entry.level][entry.slot] = prev;
+            } else {
+                next.prev = prev;
+            }
+        }
+        entry.prev = null;
+        entry.next = null;
+        entry.level = NOT_SCHEDULED;
+    }
+
+    public static class Entry<T> {
+        private final T item;
+        private final long time;
+        private final long sequence;
+
+        private int level;
+        private int slot;
+        private Entry<T> prev;
+        private Entry<T> next;
+
+        private Entry(T item, long time, long sequence) {
+            this.item = item;
+            this.time = time;
+            this.sequence = sequence;
+        }
+
+        private boolean isAfter(Entry<T> other) {
+            return time > other.time || (time == other.time && sequence > other.sequence);
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        public boolean isScheduled() {
+            return level != NOT_SCHEDULED;
+        }
+    }
+}
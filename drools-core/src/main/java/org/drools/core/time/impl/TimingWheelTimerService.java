@@ -0,0 +1,239 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.drools.core.time.InternalSchedulerService;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.JobHandle;
+import org.drools.core.time.TimerService;
+import org.drools.core.time.Trigger;
+import org.kie.api.time.SessionClock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Scheduler implementation using the system clock that keeps the scheduled jobs in a {@link TimingWheel}
+ * instead of submitting each of them to a ScheduledThreadPoolExecutor. A single thread, started with the first
+ * scheduled job, sleeps until the next expiration and then executes in a batch all the jobs due by then.
+ * Like for the JDKTimerService with its default size, the jobs are executed one after the other.
+ */
+public class TimingWheelTimerService
+        implements
+        TimerService,
+        SessionClock,
+        InternalSchedulerService {
+
+    private static final Logger logger = LoggerFactory.getLogger( TimingWheelTimerService.class );
+
+    private static final AtomicLong threadCounter = new AtomicLong();
+
+    private final AtomicLong idCounter = new AtomicLong( 0L );
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition wakeUp = lock.newCondition();
+
+    private final TimingWheel<TimerJobInstance> wheel = new TimingWheel<>( System.currentTimeMillis() );
+
+    // the time when the expiration thread is going to wake up, guarded by the lock
+    private long wakeUpTime = Long.MAX_VALUE;
+
+    private Thread expirationThread;
+    private volatile boolean running = true;
+
+    protected TimerJobFactoryManager jobFactoryManager = DefaultTimerJobFactoryManager.instance;
+
+    public void setTimerJobFactoryManager(TimerJobFactoryManager timerJobFactoryManager) {
+        this.jobFactoryManager = timerJobFactoryManager;
+    }
+
+    public TimerJobFactoryManager getTimerJobFactoryManager() {
+        return this.jobFactoryManager;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    public long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    public void reset() {
+        lock.lock();
+        try {
+            wheel.clear( System.currentTimeMillis() );
+            idCounter.set( 0L );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        lock.lock();
+        try {
+            running = false;
+            wheel.clear( System.currentTimeMillis() );
+            wakeUp.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public JobHandle scheduleJob(Job job,
+                                 JobContext ctx,
+                                 Trigger trigger) {
+        Date date = trigger.hasNextFireTime();
+        if ( date != null ) {
+            TimingWheelJobHandle jobHandle = new TimingWheelJobHandle( idCounter.getAndIncrement() );
+
+            TimerJobInstance jobInstance = jobFactoryManager.createTimerJobInstance( job,
+                                                                                    ctx,
+                                                                                    trigger,
+                                                                                    jobHandle,
+                                                                                    this );
+            jobHandle.setTimerJobInstance( jobInstance );
+            internalSchedule( jobInstance );
+
+            return jobHandle;
+        }
+        return null;
+    }
+
+    public void internalSchedule(TimerJobInstance timerJobInstance) {
+        long time = timerJobInstance.getTrigger().hasNextFireTime().getTime();
+        TimingWheelJobHandle jobHandle = (TimingWheelJobHandle) timerJobInstance.getJobHandle();
+        jobFactoryManager.addTimerJobInstance( timerJobInstance );
+
+        lock.lock();
+        try {
+            if ( !running ) {
+                return;
+            }
+            jobHandle.setEntry( wheel.schedule( timerJobInstance, time ) );
+            if ( expirationThread == null ) {
+                expirationThread = new Thread( this::expireJobs, "drools-timing-wheel-" + threadCounter.incrementAndGet() );
+                expirationThread.setDaemon( true );
+                expirationThread.start();
+            } else if ( time < wakeUpTime ) {
+                wakeUp.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean removeJob(JobHandle jobHandle) {
+        jobHandle.setCancel( true );
+        TimingWheelJobHandle wheelJobHandle = (TimingWheelJobHandle) jobHandle;
+        jobFactoryManager.removeTimerJobInstance( wheelJobHandle.getTimerJobInstance() );
+
+        lock.lock();
+        try {
+            TimingWheel.Entry<TimerJobInstance> entry = wheelJobHandle.getEntry();
+            return entry != null && wheel.cancel( entry );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void expireJobs() {
+        List<TimerJobInstance> dueJobs = new ArrayList<>();
+        while ( running ) {
+            lock.lock();
+            try {
+                long now = System.currentTimeMillis();
+                TimingWheel.Entry<TimerJobInstance> entry;
+                while ( (entry = wheel.poll( now )) != null ) {
+                    dueJobs.add( entry.getItem() );
+                }
+                if ( dueJobs.isEmpty() ) {
+                    long next = wheel.nextExpirationBound();
+                    wakeUpTime = next < 0 ? Long.MAX_VALUE : next;
+                    if ( next < 0 ) {
+                        wakeUp.await();
+                    } else {
+                        wakeUp.await( next - now, TimeUnit.MILLISECONDS );
+                    }
+                    wakeUpTime = Long.MAX_VALUE;
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            for (TimerJobInstance job : dueJobs) {
+                if ( running && !job.getJobHandle().isCancel() ) {
+                    try {
+                        ((Callable<Void>) job).call();
+                    } catch (Exception e) {
+                        logger.error( "Exception running timer job: ", e );
+                    }
+                }
+            }
+            dueJobs.clear();
+        }
+    }
+
+    public long getTimeToNextJob() {
+        lock.lock();
+        try {
+            long next = wheel.nextExpirationTime();
+            return next < 0 ? -1 : Math.max( 0, next - System.currentTimeMillis() );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Collection<TimerJobInstance> getTimerJobInstances(long id) {
+        return jobFactoryManager.getTimerJobInstances();
+    }
+
+    public static class TimingWheelJobHandle extends DefaultJobHandle
+            implements
+            JobHandle {
+
+        private static final long serialVersionUID = 510l;
+
+        private transient TimingWheel.Entry<TimerJobInstance> entry;
+
+        public TimingWheelJobHandle(long id) {
+            super( id );
+        }
+
+        public TimingWheel.Entry<TimerJobInstance> getEntry() {
+            return entry;
+        }
+
+        public void setEntry(TimingWheel.Entry<TimerJobInstance> entry) {
+            this.entry = entry;
+        }
+    }
+}
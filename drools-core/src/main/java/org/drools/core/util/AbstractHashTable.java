@@ -345,6 +345,28 @@ public abstract class AbstractHashTable
                             leftExtractor.getValue( tuple ) ) :
                    rightExtractor.getValue( null, tuple.getFactHandle().getObject() );
         }
+
+        public long indexedLongValueOf(Tuple tuple, boolean left) {
+            if ( !left ) {
+                return rightExtractor.getLongValue( null, tuple.getFactHandle().getObject() );
+            }
+            if ( leftExtractor instanceof Declaration ) {
+                Declaration declaration = (Declaration) leftExtractor;
+                return declaration.getLongValue( null, tuple.get( declaration ).getObject() );
+            }
+            return ( (Number) leftExtractor.getValue( tuple ) ).longValue();
+        }
+
+        public double indexedDoubleValueOf(Tuple tuple, boolean left) {
+            if ( !left ) {
+                return rightExtractor.getDoubleValue( null, tuple.getFactHandle().getObject() );
+            }
+            if ( leftExtractor instanceof Declaration ) {
+                Declaration declaration = (Declaration) leftExtractor;
+                return declaration.getDoubleValue( null, tuple.get( declaration ).getObject() );
+            }
+            return ( (Number) leftExtractor.getValue( tuple ) ).doubleValue();
+        }
     }
 
     public interface Index extends Externalizable {
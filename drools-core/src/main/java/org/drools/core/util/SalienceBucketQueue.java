@@ -0,0 +1,357 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+
+import org.drools.core.spi.Activation;
+
+/**
+ * A Queue keeping one bucket of activations for each distinct salience value, with the buckets sorted by descending
+ * salience. The activations with the same salience are dequeued in insertion order (FIFO) or in reverse insertion
+ * order (LIFO), without any comparison, so both the insertion and the removal of an activation take constant time
+ * as long as the number of distinct salience values stays small. Differently from the BinaryHeapQueue used with the
+ * PhreakConflictResolver, the rule load order isn't used to order the activations with the same salience.
+ *
+ * The queue index of an activation is its position inside the circular array of its bucket, so it can be removed
+ * from the middle of the queue without any search.
+ */
+public class SalienceBucketQueue implements Queue, Externalizable {
+
+    // the buckets left empty are kept to be reused, until they become too many
+    private static final int MAX_BUCKETS = 32;
+
+    private boolean lifo;
+
+    private int[] saliences;
+    private Bucket[] buckets;
+    private int bucketsNr;
+
+    // the index of the first not empty bucket, equal to bucketsNr if the queue is empty
+    private int top;
+    private int size;
+
+    public SalienceBucketQueue() {
+        this( false );
+    }
+
+    public SalienceBucketQueue(boolean lifo) {
+        this.lifo = lifo;
+        init();
+    }
+
+    private void init() {
+        this.saliences = new int[4];
+        this.buckets = new Bucket[4];
+        this.bucketsNr = 0;
+        this.top = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeBoolean( lifo );
+        out.writeObject( toArray( new Activation[size] ) );
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        lifo = in.readBoolean();
+        init();
+        Activation[] activations = (Activation[]) in.readObject();
+        // the activations are written in dequeue order, so a lifo bucket has to be refilled backward
+        if ( lifo ) {
+            for (int i = activations.length - 1; i >= 0; i--) {
+                enqueue( activations[i] );
+            }
+        } else {
+            for (Activation activation : activations) {
+                enqueue( activation );
+            }
+        }
+    }
+
+    public boolean isLifo() {
+        return lifo;
+    }
+
+    @Override
+    public void enqueue(Activation activation) {
+        int i = findOrCreateBucket( activation.getSalience() );
+        buckets[i].add( activation );
+        if ( i < top ) {
+            top = i;
+        }
+        size++;
+        activation.setQueued( true );
+    }
+
+    @Override
+    public Activation dequeue() {
+        if ( size == 0 ) {
+            return null;
+        }
+        Bucket bucket = buckets[top];
+        Activation activation = lifo ? bucket.pollLast() : bucket.pollFirst();
+        removed( activation, top );
+        return activation;
+    }
+
+    @Override
+    public void dequeue(Activation activation) {
+        int i = findBucket( activation.getSalience() );
+        if ( i >= 0 && buckets[i].remove( activation ) ) {
+            removed( activation, i );
+        }
+    }
+
+    private void removed(Activation activation, int bucketIndex) {
+        size--;
+        activation.setQueued( false );
+        activation.setQueueIndex( -1 );
+        if ( bucketIndex == top ) {
+            while ( top < bucketsNr && buckets[top].isEmpty() ) {
+                top++;
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        init();
+    }
+
+    @Override
+    public Activation[] getAndClear() {
+        Activation[] activations = (Activation[]) toArray( new Activation[size] );
+        clear();
+        return activations;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Activation peek() {
+        if ( size == 0 ) {
+            return null;
+        }
+        return lifo ? buckets[top].peekLast() : buckets[top].peekFirst();
+    }
+
+    @Override
+    public Object[] toArray(Object[] a) {
+        if ( a.length < size ) {
+            a = (Object[]) java.lang.reflect.Array.newInstance( a.getClass().getComponentType(), size );
+        }
+        int pos = 0;
+        for (int i = top; i < bucketsNr; i++) {
+            pos = buckets[i].copyTo( a, pos, lifo );
+        }
+        if ( a.length > size ) {
+            a[size] = null;
+        }
+        return a;
+    }
+
+    private int findBucket(int salience) {
+        // the saliences are sorted in descending order
+        int low = 0;
+        int high = bucketsNr - 1;
+        while ( low <= high ) {
+            int mid = (low + high) >>> 1;
+            int midSalience = saliences[mid];
+            if ( midSalience > salience ) {
+                low = mid + 1;
+            } else if ( midSalience < salience ) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int findOrCreateBucket(int salience) {
+        int i = findBucket( salience );
+        if ( i >= 0 ) {
+            return i;
+        }
+        if ( bucketsNr >= MAX_BUCKETS && bucketsNr > size ) {
+            purgeEmptyBuckets();
+            i = findBucket( salience );
+        }
+        int insertAt = -(i + 1);
+        if ( bucketsNr == buckets.length ) {
+            saliences = Arrays.copyOf( saliences, bucketsNr * 2 );
+            buckets = Arrays.copyOf( buckets, bucketsNr * 2 );
+        }
+        System.arraycopy( saliences, insertAt, saliences, insertAt + 1, bucketsNr - insertAt );
+        System.arraycopy( buckets, insertAt, buckets, insertAt + 1, bucketsNr - insertAt );
+        saliences[insertAt] = salience;
+        buckets[insertAt] = new Bucket();
+        bucketsNr++;
+        if ( insertAt <= top ) {
+            top++;
+        }
+        return insertAt;
+    }
+
+    private void purgeEmptyBuckets() {
+        int j = 0;
+        for (int i = 0; i < bucketsNr; i++) {
+            if ( !buckets[i].isEmpty() ) {
+                saliences[j] = saliences[i];
+                buckets[j++] = buckets[i];
+            }
+        }
+        Arrays.fill( buckets, j, bucketsNr, null );
+        bucketsNr = j;
+        top = 0;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString( toArray( new Activation[size] ) );
+    }
+
+    /**
+     * A circular array of activations. The slots of the activations removed from its middle are left empty until
+     * they are reached by one of its ends, or until the array is compacted to make room for a new activation.
+     */
+    private static class Bucket {
+        private Activation[] elements = new Activation[8];
+        private int head;
+        private int tail;
+        private int live;
+
+        void add(Activation activation) {
+            if ( tail - head == elements.length ) {
+                resize();
+            }
+            int pos = tail & (elements.length - 1);
+            elements[pos] = activation;
+            activation.setQueueIndex( pos );
+            tail++;
+            live++;
+        }
+
+        private void resize() {
+            // compacts the array in place when there are enough empty slots, otherwise doubles it
+            Activation[] newElements = live >= elements.length / 2 ? new Activation[elements.length * 2] : new Activation[elements.length];
+            int mask = elements.length - 1;
+            int j = 0;
+            for (int i = head; i != tail; i++) {
+                Activation activation = elements[i & mask];
+                if ( activation != null ) {
+                    newElements[j] = activation;
+                    activation.setQueueIndex( j++ );
+                }
+            }
+            elements = newElements;
+            head = 0;
+            tail = j;
+        }
+
+        Activation pollFirst() {
+            int pos = head & (elements.length - 1);
+            Activation activation = elements[pos];
+            elements[pos] = null;
+            live--;
+            trim();
+            return activation;
+        }
+
+        Activation pollLast() {
+            int pos = (tail - 1) & (elements.length - 1);
+            Activation activation = elements[pos];
+            elements[pos] = null;
+            live--;
+            trim();
+            return activation;
+        }
+
+        boolean remove(Activation activation) {
+            int pos = activation.getQueueIndex();
+            if ( pos < 0 || pos >= elements.length || elements[pos] != activation ) {
+                return false;
+            }
+            elements[pos] = null;
+            live--;
+            trim();
+            return true;
+        }
+
+        private void trim() {
+            if ( live == 0 ) {
+                head = 0;
+                tail = 0;
+                return;
+            }
+            int mask = elements.length - 1;
+            while ( elements[head & mask] == null ) {
+                head++;
+            }
+            while ( elements[(tail - 1) & mask] == null ) {
+                tail--;
+            }
+        }
+
+        Activation peekFirst() {
+            return elements[head & (elements.length - 1)];
+        }
+
+        Activation peekLast() {
+            return elements[(tail - 1) & (elements.length - 1)];
+        }
+
+        boolean isEmpty() {
+            return live == 0;
+        }
+
+        int copyTo(Object[] a, int pos, boolean reverse) {
+            int mask = elements.length - 1;
+            if ( reverse ) {
+                for (int i = tail - 1; i - head >= 0; i--) {
+                    Activation activation = elements[i & mask];
+                    if ( activation != null ) {
+                        a[pos++] = activation;
+                    }
+                }
+            } else {
+                for (int i = head; i != tail; i++) {
+                    Activation activation = elements[i & mask];
+                    if ( activation != null ) {
+                        a[pos++] = activation;
+                    }
+                }
+            }
+            return pos;
+        }
+    }
+}
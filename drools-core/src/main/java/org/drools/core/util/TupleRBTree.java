@@ -303,13 +303,13 @@ public class TupleRBTree<K extends Comparable< ? super K>> {
     public Node<K> insert(K key) {
         if (key == null) {
             if (nullNode == null) {
-                nullNode = new Node<K>( key );
+                nullNode = createNode( key );
             }
             return nullNode;
         }
         Node<K> insertedNode;
         if ( root == null ) {
-            insertedNode = new Node<K>( key );
+            insertedNode = createNode( key );
             root = insertedNode;
         } else {
             Node<K> n = root;
@@ -319,7 +319,7 @@ public class TupleRBTree<K extends Comparable< ? super K>> {
                     return n;
                 } else if ( compResult < 0 ) {
                     if ( n.left == null ) {
-                        insertedNode = new Node<K>( key );
+                        insertedNode = createNode( key );
                         n.left = insertedNode;
                         break;
                     } else {
@@ -327,7 +327,7 @@ public class TupleRBTree<K extends Comparable< ? super K>> {
                     }
                 } else {
                     if ( n.right == null ) {
-                        insertedNode = new Node<K>( key );
+                        insertedNode = createNode( key );
                         n.right = insertedNode;
                         break;
                     } else {
@@ -342,6 +342,10 @@ public class TupleRBTree<K extends Comparable< ? super K>> {
         return insertedNode;
     }
 
+    protected Node<K> createNode(K key) {
+        return new Node<K>( key );
+    }
+
     private void insertCase1(Node<K> n) {
         if ( n.parent == null ) n.color = Color.BLACK;
         else insertCase2( n );
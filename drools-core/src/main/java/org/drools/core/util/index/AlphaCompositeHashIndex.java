@@ -0,0 +1,184 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.drools.core.util.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.core.reteoo.AlphaNode;
+import org.drools.core.reteoo.CompositeObjectSinkAdapter;
+import org.drools.core.reteoo.CompositeObjectSinkAdapter.FieldIndex;
+import org.drools.core.reteoo.CompositeObjectSinkAdapter.HashKey;
+import org.drools.core.reteoo.ObjectSink;
+import org.drools.core.reteoo.ObjectSinkPropagator;
+import org.drools.core.reteoo.SingleObjectSinkAdapter;
+import org.drools.core.rule.IndexableConstraint;
+import org.drools.core.spi.InternalReadAccessor;
+
+/**
+ *
+ * Alpha Node composite hashing on the values of several fields at once.
+ *
+ * Rules testing the same fields for equality against literals, like the ones generated from a decision table,
+ * produce chains of AlphaNodes like type == "A" -&gt; region == "EU" -&gt; channel == "WEB". When every chain starting
+ * from a hashed field has the same sequence of fields, this index maps the tuple of values of those fields to the last
+ * AlphaNode of the chain, so that an inserted fact reaches it with a single lookup instead of going through a hash
+ * lookup or a linear evaluation for each level.
+ *
+ */
+public class AlphaCompositeHashIndex {
+
+    public static final int MAX_FIELDS = 4;
+
+    private final FieldIndex[] fieldIndexes;
+
+    private final Map<CompositeHashKey, AlphaNode> sinkMap;
+
+    private AlphaCompositeHashIndex(FieldIndex[] fieldIndexes, Map<CompositeHashKey, AlphaNode> sinkMap) {
+        this.fieldIndexes = fieldIndexes;
+        this.sinkMap = sinkMap;
+    }
+
+    /**
+     * Returns a composite index for the given hashed AlphaNodes or null if the AlphaNodes below them don't form
+     * chains of equality constraints on at least one more field that is the same for all of them.
+     */
+    public static AlphaCompositeHashIndex build(FieldIndex rootFieldIndex, Map<HashKey, AlphaNode> hashedSinks) {
+        List<FieldIndex> fieldIndexes = new ArrayList<>();
+        fieldIndexes.add( rootFieldIndex );
+
+        List<HashKey[]> keys = new ArrayList<>();
+        List<AlphaNode> nodes = new ArrayList<>();
+        for ( Map.Entry<HashKey, AlphaNode> entry : hashedSinks.entrySet() ) {
+            if ( entry.getKey().getIndex() == rootFieldIndex.getIndex() ) {
+                keys.add( new HashKey[] { entry.getKey() } );
+                nodes.add( entry.getValue() );
+            }
+        }
+        if ( nodes.isEmpty() ) {
+            return null;
+        }
+
+        while ( fieldIndexes.size() < MAX_FIELDS ) {
+            FieldIndex nextFieldIndex = findNextFieldIndex( nodes );
+            if ( nextFieldIndex == null ) {
+                break;
+            }
+
+            List<HashKey[]> nextKeys = new ArrayList<>();
+            List<AlphaNode> nextNodes = new ArrayList<>();
+            for ( int i = 0; i < nodes.size(); i++ ) {
+                for ( ObjectSink sink : nodes.get( i ).getObjectSinkPropagator().getSinks() ) {
+                    HashKey[] key = Arrays.copyOf( keys.get( i ), fieldIndexes.size() + 1 );
+                    key[fieldIndexes.size()] = new HashKey( nextFieldIndex.getIndex(), ( (IndexableConstraint) ( (AlphaNode) sink ).getConstraint() ).getField(),
+                                                            nextFieldIndex.getFieldExtractor() );
+                    nextKeys.add( key );
+                    nextNodes.add( (AlphaNode) sink );
+                }
+            }
+
+            fieldIndexes.add( nextFieldIndex );
+            keys = nextKeys;
+            nodes = nextNodes;
+        }
+
+        if ( fieldIndexes.size() < 2 ) {
+            return null;
+        }
+
+        Map<CompositeHashKey, AlphaNode> sinkMap = new HashMap<>();
+        for ( int i = 0; i < nodes.size(); i++ ) {
+            if ( sinkMap.put( new CompositeHashKey( keys.get( i ) ), nodes.get( i ) ) != null ) {
+                // 2 chains collapsing on the same values, keep using the AlphaNodes one level at a time
+                return null;
+            }
+        }
+        return new AlphaCompositeHashIndex( fieldIndexes.toArray( new FieldIndex[fieldIndexes.size()] ), sinkMap );
+    }
+
+    /**
+     * Returns the field that all the given AlphaNodes are followed by an equality check on, or null if there isn't
+     * such a field. In this case the AlphaNodes are the last ones of the chains covered by the index.
+     */
+    private static FieldIndex findNextFieldIndex(List<AlphaNode> nodes) {
+        FieldIndex nextFieldIndex = null;
+        for ( AlphaNode node : nodes ) {
+            ObjectSinkPropagator propagator = node.getObjectSinkPropagator();
+            if ( !( propagator instanceof SingleObjectSinkAdapter || propagator instanceof CompositeObjectSinkAdapter ) ) {
+                return null;
+            }
+            for ( ObjectSink sink : propagator.getSinks() ) {
+                if ( !( sink instanceof AlphaNode ) ) {
+                    return null;
+                }
+                AlphaNode alphaNode = (AlphaNode) sink;
+                InternalReadAccessor readAccessor = CompositeObjectSinkAdapter.getHashableAccessor( alphaNode );
+                if ( readAccessor == null || ( (IndexableConstraint) alphaNode.getConstraint() ).getField().isNull() ) {
+                    return null;
+                }
+                if ( nextFieldIndex == null ) {
+                    nextFieldIndex = new FieldIndex( readAccessor.getIndex(), readAccessor );
+                } else if ( nextFieldIndex.getIndex() != readAccessor.getIndex() ) {
+                    return null;
+                }
+            }
+        }
+        return nextFieldIndex;
+    }
+
+    /**
+     * Returns the last AlphaNode of the chain whose constraints are all satisfied by the given object, if any.
+     */
+    public AlphaNode get(Object object) {
+        HashKey[] keys = new HashKey[fieldIndexes.length];
+        for ( int i = 0; i < keys.length; i++ ) {
+            keys[i] = new HashKey( fieldIndexes[i], object );
+        }
+        return sinkMap.get( new CompositeHashKey( keys ) );
+    }
+
+    public FieldIndex[] getFieldIndexes() {
+        return fieldIndexes;
+    }
+
+    public int size() {
+        return sinkMap.size();
+    }
+
+    private static class CompositeHashKey {
+        private final HashKey[] keys;
+        private final int hashCode;
+
+        private CompositeHashKey(HashKey[] keys) {
+            this.keys = keys;
+            this.hashCode = Arrays.hashCode( keys );
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CompositeHashKey && Arrays.equals( keys, ( (CompositeHashKey) obj ).keys );
+        }
+    }
+}
@@ -346,10 +346,20 @@ public class IndexUtil {
             }
 
             if (indexSpec.constraintType == ConstraintType.EQUAL) {
-                return new TupleIndexHashTable( indexSpec.indexes, false );
+                if (indexSpec.comparisonIndex != null) {
+                    return new TupleIndexHashRBTree( indexSpec.indexes, indexSpec.comparisonType, indexSpec.comparisonIndex, false );
+                }
+                return indexSpec.isPrimitive( config ) ?
+                        new PrimitiveTupleIndexHashTable( indexSpec.indexes, false ) :
+                        new TupleIndexHashTable( indexSpec.indexes, false );
             }
 
             if (indexSpec.constraintType.isComparison()) {
+                if (indexSpec.comparisonIndex != null) {
+                    return indexSpec.constraintType.isAscending() ?
+                            new TupleIndexRangeRBTree( indexSpec.constraintType, indexSpec.indexes[0], indexSpec.comparisonType, indexSpec.comparisonIndex ) :
+                            new TupleIndexRangeRBTree( indexSpec.comparisonType, indexSpec.comparisonIndex, indexSpec.constraintType, indexSpec.indexes[0] );
+                }
                 return new TupleIndexRBTree( indexSpec.constraintType, indexSpec.indexes[0], false );
             }
 
@@ -365,10 +375,16 @@ public class IndexUtil {
             }
 
             if (indexSpec.constraintType == ConstraintType.EQUAL) {
-                return new TupleIndexHashTable( indexSpec.indexes, true );
+                if (indexSpec.comparisonIndex != null) {
+                    return new TupleIndexHashRBTree( indexSpec.indexes, indexSpec.comparisonType, indexSpec.comparisonIndex, true );
+                }
+                return indexSpec.isPrimitive( config ) ?
+                        new PrimitiveTupleIndexHashTable( indexSpec.indexes, true ) :
+                        new TupleIndexHashTable( indexSpec.indexes, true );
             }
 
             if (indexSpec.constraintType.isComparison()) {
+                // the left memory is sorted only on the first bound, the other one is evaluated while iterating
                 return new TupleIndexRBTree( indexSpec.constraintType, indexSpec.indexes[0], true );
             }
 
@@ -386,6 +402,11 @@ public class IndexUtil {
         private static class IndexSpec {
             private ConstraintType constraintType = ConstraintType.UNKNOWN;
             private FieldIndex[] indexes;
+            private boolean unification;
+
+            // the comparison that narrows down an equality bucket, or the upper/lower bound paired with a comparison index
+            private ConstraintType comparisonType;
+            private FieldIndex comparisonIndex;
 
             private IndexSpec(short nodeType, BetaNodeFieldConstraint[] constraints, RuleBaseConfiguration config) {
                 init(nodeType, constraints, config);
@@ -399,6 +420,7 @@ public class IndexUtil {
                         determineTypeWithPatternOrder(nodeType, constraints, config);
 
                 if (constraintType == ConstraintType.EQUAL) {
+                    unification = ((IndexableConstraint)constraints[firstIndexableConstraint]).isUnification();
                     List<FieldIndex> indexList = new ArrayList<>();
                     indexList.add(((IndexableConstraint)constraints[firstIndexableConstraint]).getFieldIndex());
 
@@ -410,12 +432,52 @@ public class IndexUtil {
                     }
                     indexes = indexList.toArray(new FieldIndex[indexList.size()]);
 
+                    // look for a comparison constraint to sort the tuples inside each equality bucket
+                    if (!unification) {
+                        findComparisonConstraint(nodeType, constraints, config, firstIndexableConstraint);
+                    }
+
                 } else if (constraintType.isComparison()) {
                     // look for a dual constraint to create a range index
                     indexes = new FieldIndex[]{ ((IndexableConstraint)constraints[firstIndexableConstraint]).getFieldIndex() };
+                    findDualConstraint(nodeType, constraints, config, firstIndexableConstraint);
+                }
+            }
+
+            private void findComparisonConstraint(short nodeType, BetaNodeFieldConstraint[] constraints, RuleBaseConfiguration config, int firstIndexableConstraint) {
+                for (int i = firstIndexableConstraint+1; i < constraints.length; i++) {
+                    ConstraintType type = ConstraintType.getType(constraints[i]);
+                    if ( type.isComparison() && type.isIndexableForNode(nodeType, (IndexableConstraint) constraints[i], config) ) {
+                        comparisonType = type;
+                        comparisonIndex = ((IndexableConstraint)constraints[i]).getFieldIndex();
+                        return;
+                    }
                 }
             }
 
+            private void findDualConstraint(short nodeType, BetaNodeFieldConstraint[] constraints, RuleBaseConfiguration config, int firstIndexableConstraint) {
+                for (int i = 0; i < constraints.length; i++) {
+                    if (i == firstIndexableConstraint) {
+                        continue;
+                    }
+                    ConstraintType type = ConstraintType.getType(constraints[i]);
+                    if ( type.isComparison() && type.isAscending() != constraintType.isAscending() &&
+                         type.isIndexableForNode(nodeType, (IndexableConstraint) constraints[i], config) ) {
+                        FieldIndex dualIndex = ((IndexableConstraint)constraints[i]).getFieldIndex();
+                        if ( dualIndex.getRightExtractor().equals( indexes[0].getRightExtractor() ) ) {
+                            comparisonType = type;
+                            comparisonIndex = dualIndex;
+                            return;
+                        }
+                    }
+                }
+            }
+
+            private boolean isPrimitive(RuleBaseConfiguration config) {
+                // unification joins may have to iterate the whole memory, so they keep the generic hash table
+                return config.isPrimitiveIndex() && !unification && PrimitiveTupleIndexHashTable.isPrimitiveIndexable(indexes);
+            }
+
             private int determineTypeWithEqualityPriority(short nodeType, BetaNodeFieldConstraint[] constraints, RuleBaseConfiguration config) {
                 int indexedConstraintPos = 0;
                 for (int i = 0; i < constraints.length; i++) {
@@ -0,0 +1,449 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util.index;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+
+import org.drools.core.base.ValueType;
+import org.drools.core.reteoo.TupleMemory;
+import org.drools.core.spi.Tuple;
+import org.drools.core.util.AbstractHashTable.FieldIndex;
+import org.drools.core.util.Entry;
+import org.drools.core.util.FastIterator;
+import org.drools.core.util.Iterator;
+import org.drools.core.util.LinkedList;
+
+/**
+ * Equality index for beta memories whose indexed fields are all primitive numbers on both sides of the join.
+ * Keys are kept as raw long bits (doubles through Double.doubleToLongBits, which matches Double.equals semantics)
+ * in an open addressing table with linear probing, so adding, removing and probing a tuple never boxes the
+ * indexed values nor allocates a hash entry. Each distinct key owns a TupleList bucket, exactly as in
+ * TupleIndexHashTable, so the Phreak nodes can keep relying on Tuple.getMemory() and the bucket linked lists.
+ */
+public class PrimitiveTupleIndexHashTable implements Externalizable, TupleMemory {
+
+    private static final int MAX_ARITY = 3;
+
+    private FieldIndex[]          indexes;
+    private boolean[]             decimal;
+    private int                   arity;
+    private boolean               left;
+
+    private float                 loadFactor;
+
+    // keys[slot * arity + i] holds the i-th key of the bucket at buckets[slot]
+    private long[]                keys;
+    private PrimitiveTupleList[]  buckets;
+    private int                   mask;
+    private int                   threshold;
+
+    private int                   size;
+    private int                   factSize;
+
+    // scratch key used to probe the table without allocating
+    private long[]                probe;
+
+    private transient FullFastIterator fullFastIterator;
+
+    private transient PrimitiveTupleIndexHashTableIterator tupleValueFullIterator;
+
+    public PrimitiveTupleIndexHashTable() {
+        // constructor for serialisation
+    }
+
+    public PrimitiveTupleIndexHashTable( FieldIndex[] indexes, boolean left ) {
+        this( 128, 0.5f, indexes, left );
+    }
+
+    public PrimitiveTupleIndexHashTable( int capacity, float loadFactor, FieldIndex[] indexes, boolean left ) {
+        if ( indexes.length == 0 || indexes.length > MAX_ARITY ) {
+            throw new IllegalArgumentException( "PrimitiveTupleIndexHashTable cannot use an index[] of length " + indexes.length );
+        }
+        this.left = left;
+        this.loadFactor = loadFactor;
+        setIndexes( indexes );
+        init( tableSizeFor( capacity ) );
+    }
+
+    private void setIndexes( FieldIndex[] indexes ) {
+        this.indexes = indexes;
+        this.arity = indexes.length;
+        this.decimal = new boolean[arity];
+        for ( int i = 0; i < arity; i++ ) {
+            this.decimal[i] = indexes[i].getRightExtractor().getValueType().isDecimalNumber();
+        }
+        this.probe = new long[arity];
+    }
+
+    @Override
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        out.writeObject( indexes );
+        out.writeBoolean( left );
+        out.writeFloat( loadFactor );
+    }
+
+    @Override
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        setIndexes( (FieldIndex[]) in.readObject() );
+        left = in.readBoolean();
+        loadFactor = in.readFloat();
+        init( 16 );
+    }
+
+    /**
+     * Returns true if all the given indexes compare primitive numbers of the same type on both sides, so that their
+     * values can be read without boxing and compared through their raw bits.
+     */
+    public static boolean isPrimitiveIndexable( FieldIndex[] indexes ) {
+        if ( indexes == null || indexes.length == 0 || indexes.length > MAX_ARITY ) {
+            return false;
+        }
+        for ( FieldIndex index : indexes ) {
+            if ( index.requiresCoercion() || !isPrimitiveNumber( index.getRightExtractor().getValueType() ) ||
+                 !isPrimitiveNumber( index.getLeftExtractor().getValueType() ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPrimitiveNumber( ValueType valueType ) {
+        if ( valueType == null ) {
+            return false;
+        }
+        switch ( valueType ) {
+            case PBYTE_TYPE:
+            case PSHORT_TYPE:
+            case PINTEGER_TYPE:
+            case PLONG_TYPE:
+            case PFLOAT_TYPE:
+            case PDOUBLE_TYPE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static int tableSizeFor( int capacity ) {
+        int n = 16;
+        while ( n < capacity ) {
+            n <<= 1;
+        }
+        return n;
+    }
+
+    private void init( int capacity ) {
+        this.keys = new long[capacity * arity];
+        this.buckets = new PrimitiveTupleList[capacity];
+        this.mask = capacity - 1;
+        this.threshold = (int) ( capacity * loadFactor );
+    }
+
+    private void loadProbe( Tuple tuple, boolean isLeftTuple ) {
+        for ( int i = 0; i < arity; i++ ) {
+            probe[i] = decimal[i] ?
+                    Double.doubleToLongBits( indexes[i].indexedDoubleValueOf( tuple, isLeftTuple ) ) :
+                    indexes[i].indexedLongValueOf( tuple, isLeftTuple );
+        }
+    }
+
+    private static int hash( long[] key ) {
+        long h = 0;
+        for ( long k : key ) {
+            h = 31 * h + k;
+        }
+        // murmur3 finalizer, spreads sequential ids over the whole table
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private boolean keyEquals( int slot, long[] key ) {
+        int base = slot * arity;
+        for ( int i = 0; i < arity; i++ ) {
+            if ( keys[base + i] != key[i] ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int findSlot( long[] key ) {
+        for ( int slot = hash( key ) & mask; buckets[slot] != null; slot = ( slot + 1 ) & mask ) {
+            if ( keyEquals( slot, key ) ) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private PrimitiveTupleList get( Tuple tuple, boolean isLeftTuple ) {
+        loadProbe( tuple, isLeftTuple );
+        int slot = findSlot( probe );
+        return slot >= 0 ? buckets[slot] : null;
+    }
+
+    private PrimitiveTupleList getOrCreate( Tuple tuple ) {
+        loadProbe( tuple, left );
+        int slot = hash( probe ) & mask;
+        for ( ; buckets[slot] != null; slot = ( slot + 1 ) & mask ) {
+            if ( keyEquals( slot, probe ) ) {
+                return buckets[slot];
+            }
+        }
+
+        PrimitiveTupleList bucket = new PrimitiveTupleList( probe.clone() );
+        System.arraycopy( probe, 0, keys, slot * arity, arity );
+        buckets[slot] = bucket;
+        if ( ++size > threshold ) {
+            resize( buckets.length << 1 );
+        }
+        return bucket;
+    }
+
+    private void resize( int newCapacity ) {
+        PrimitiveTupleList[] oldBuckets = buckets;
+        init( newCapacity );
+        for ( PrimitiveTupleList bucket : oldBuckets ) {
+            if ( bucket != null ) {
+                int slot = hash( bucket.key ) & mask;
+                while ( buckets[slot] != null ) {
+                    slot = ( slot + 1 ) & mask;
+                }
+                System.arraycopy( bucket.key, 0, keys, slot * arity, arity );
+                buckets[slot] = bucket;
+            }
+        }
+    }
+
+    private void removeBucket( PrimitiveTupleList bucket ) {
+        int slot = findSlot( bucket.key );
+        buckets[slot] = null;
+        size--;
+
+        // backward shift deletion: move back the following entries of the cluster, so no tombstone is needed
+        int hole = slot;
+        for ( int next = ( slot + 1 ) & mask; buckets[next] != null; next = ( next + 1 ) & mask ) {
+            int home = hash( buckets[next].key ) & mask;
+            if ( ( ( next - home ) & mask ) >= ( ( next - hole ) & mask ) ) {
+                buckets[hole] = buckets[next];
+                System.arraycopy( keys, next * arity, keys, hole * arity, arity );
+                buckets[next] = null;
+                hole = next;
+            }
+        }
+    }
+
+    @Override
+    public Tuple getFirst( Tuple tuple ) {
+        TupleList bucket = get( tuple, !left );
+        return bucket != null ? bucket.getFirst() : null;
+    }
+
+    @Override
+    public void removeAdd( Tuple tuple ) {
+        PrimitiveTupleList memory = (PrimitiveTupleList) tuple.getMemory();
+        loadProbe( tuple, left );
+        if ( Arrays.equals( probe, memory.key ) ) {
+            // it's the same bucket, so re-use it
+            memory.remove( tuple );
+            memory.add( tuple );
+            return;
+        }
+        remove( tuple );
+        add( tuple );
+    }
+
+    @Override
+    public void add( Tuple tuple ) {
+        getOrCreate( tuple ).add( tuple );
+        factSize++;
+    }
+
+    @Override
+    public void remove( Tuple tuple ) {
+        PrimitiveTupleList memory = (PrimitiveTupleList) tuple.getMemory();
+        memory.remove( tuple );
+        factSize--;
+        if ( memory.getFirst() == null ) {
+            removeBucket( memory );
+        }
+    }
+
+    @Override
+    public boolean contains( Tuple tuple ) {
+        return get( tuple, left ) != null;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return factSize;
+    }
+
+    @Override
+    public Iterator<Tuple> iterator() {
+        if ( tupleValueFullIterator == null ) {
+            tupleValueFullIterator = new PrimitiveTupleIndexHashTableIterator( this );
+        } else {
+            tupleValueFullIterator.reset();
+        }
+        return tupleValueFullIterator;
+    }
+
+    @Override
+    public FastIterator fastIterator() {
+        return LinkedList.fastIterator;
+    }
+
+    @Override
+    public FastIterator fullFastIterator() {
+        if ( fullFastIterator == null ) {
+            fullFastIterator = new FullFastIterator( this );
+        } else {
+            fullFastIterator.reset();
+        }
+        return fullFastIterator;
+    }
+
+    @Override
+    public FastIterator fullFastIterator( Tuple tuple ) {
+        if ( fullFastIterator == null ) {
+            fullFastIterator = new FullFastIterator( this );
+        }
+        fullFastIterator.resume( (PrimitiveTupleList) tuple.getMemory() );
+        return fullFastIterator;
+    }
+
+    @Override
+    public Tuple[] toArray() {
+        Tuple[] result = new Tuple[factSize];
+        int index = 0;
+        for ( PrimitiveTupleList bucket : buckets ) {
+            if ( bucket != null ) {
+                for ( Tuple entry = bucket.getFirst(); entry != null; entry = entry.getNext() ) {
+                    result[index++] = entry;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public IndexType getIndexType() {
+        return IndexType.EQUAL;
+    }
+
+    @Override
+    public void clear() {
+        init( 16 );
+        this.size = 0;
+        this.factSize = 0;
+        this.fullFastIterator = null;
+        this.tupleValueFullIterator = null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        Iterator<Tuple> it = iterator();
+        for ( Tuple tuple = it.next(); tuple != null; tuple = it.next() ) {
+            builder.append( tuple ).append( "\n" );
+        }
+        return builder.toString();
+    }
+
+    public static class PrimitiveTupleList extends TupleList {
+        private final long[] key;
+
+        PrimitiveTupleList( long[] key ) {
+            this.key = key;
+        }
+    }
+
+    public static class FullFastIterator implements FastIterator {
+        private final PrimitiveTupleIndexHashTable table;
+        private int row;
+
+        public FullFastIterator( PrimitiveTupleIndexHashTable table ) {
+            this.table = table;
+        }
+
+        public void reset() {
+            this.row = 0;
+        }
+
+        public void resume( PrimitiveTupleList bucket ) {
+            // row always points to the row after the current bucket
+            this.row = table.findSlot( bucket.key ) + 1;
+        }
+
+        @Override
+        public Entry next( Entry object ) {
+            Tuple tuple = (Tuple) object;
+            if ( tuple != null ) {
+                Tuple next = tuple.getNext();
+                if ( next != null ) {
+                    return next;
+                }
+            }
+            PrimitiveTupleList[] buckets = table.buckets;
+            while ( row < buckets.length ) {
+                PrimitiveTupleList bucket = buckets[row++];
+                if ( bucket != null ) {
+                    return bucket.getFirst();
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean isFullIterator() {
+            return true;
+        }
+    }
+
+    public static class PrimitiveTupleIndexHashTableIterator implements Iterator<Tuple> {
+        private final FullFastIterator it;
+        private Tuple tuple;
+
+        public PrimitiveTupleIndexHashTableIterator( PrimitiveTupleIndexHashTable table ) {
+            this.it = new FullFastIterator( table );
+        }
+
+        @Override
+        public Tuple next() {
+            tuple = (Tuple) it.next( tuple );
+            return tuple;
+        }
+
+        public void reset() {
+            it.reset();
+            tuple = null;
+        }
+    }
+}
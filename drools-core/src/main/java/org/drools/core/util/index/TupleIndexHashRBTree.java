@@ -0,0 +1,299 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util.index;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.core.reteoo.TupleMemory;
+import org.drools.core.spi.Tuple;
+import org.drools.core.util.AbstractHashTable;
+import org.drools.core.util.AbstractHashTable.FieldIndex;
+import org.drools.core.util.AbstractHashTable.HashEntry;
+import org.drools.core.util.Entry;
+import org.drools.core.util.FastIterator;
+import org.drools.core.util.Iterator;
+import org.drools.core.util.TupleRBTree;
+import org.drools.core.util.TupleRBTree.Boundary;
+import org.drools.core.util.TupleRBTree.Node;
+
+/**
+ * Composite index for beta nodes having both equality and comparison constraints, like
+ * <code>customer == $c &amp;&amp; price &lt; $max</code>. Tuples are first hashed on the equality fields and then
+ * each hash bucket is a red black tree sorted on the comparison field, so that a lookup only visits the tuples
+ * having the same equality key and falling on the right side of the comparison.
+ */
+public class TupleIndexHashRBTree implements Externalizable, TupleMemory {
+
+    private AbstractHashTable.Index equalityIndex;
+    private FieldIndex comparisonIndex;
+    private IndexUtil.ConstraintType constraintType;
+    private boolean left;
+
+    private Map<HashEntry, KeyedTupleRBTree> trees = new HashMap<>();
+
+    private int size;
+
+    public TupleIndexHashRBTree() {
+        // constructor for serialisation
+    }
+
+    public TupleIndexHashRBTree( FieldIndex[] equalityIndexes, IndexUtil.ConstraintType constraintType, FieldIndex comparisonIndex, boolean left ) {
+        this.equalityIndex = createEqualityIndex( equalityIndexes );
+        this.constraintType = constraintType;
+        this.comparisonIndex = comparisonIndex;
+        this.left = left;
+    }
+
+    private static AbstractHashTable.Index createEqualityIndex( FieldIndex[] indexes ) {
+        int startResult = TupleIndexHashTable.PRIME;
+        for ( FieldIndex i : indexes ) {
+            startResult += TupleIndexHashTable.PRIME * startResult + i.getRightExtractor().getIndex();
+        }
+        switch ( indexes.length ) {
+            case 1 :
+                return new AbstractHashTable.SingleIndex( indexes, startResult );
+            case 2 :
+                return new AbstractHashTable.DoubleCompositeIndex( indexes, startResult );
+            case 3 :
+                return new AbstractHashTable.TripleCompositeIndex( indexes, startResult );
+            default :
+                throw new IllegalArgumentException( "TupleIndexHashRBTree cannot use an equality index[] of length " + indexes.length );
+        }
+    }
+
+    /**
+     * Only the definition of the index is written, the tuples are propagated again by the marshaller
+     * when a session is restored
+     */
+    @Override
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        out.writeObject( equalityIndex );
+        out.writeObject( comparisonIndex );
+        out.writeObject( constraintType );
+        out.writeBoolean( left );
+    }
+
+    @Override
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        equalityIndex = (AbstractHashTable.Index) in.readObject();
+        comparisonIndex = (FieldIndex) in.readObject();
+        constraintType = (IndexUtil.ConstraintType) in.readObject();
+        left = in.readBoolean();
+        trees = new HashMap<>();
+        size = 0;
+    }
+
+    @Override
+    public void add( Tuple tuple ) {
+        HashEntry hashEntry = equalityIndex.hashCodeOf( tuple, left );
+        KeyedTupleRBTree tree = trees.computeIfAbsent( hashEntry, KeyedTupleRBTree::new );
+        tree.insert( TupleIndexRBTree.getIndexedValue( comparisonIndex, tuple, left ) ).add( tuple );
+        size++;
+    }
+
+    @Override
+    public void remove( Tuple tuple ) {
+        KeyedNode node = (KeyedNode) tuple.getMemory();
+        node.remove( tuple );
+        if ( node.getFirst() == null ) {
+            KeyedTupleRBTree tree = node.tree;
+            if ( node == tree.nullNode ) {
+                tree.nullNode = null;
+            } else {
+                tree.delete( node.key );
+            }
+            if ( tree.isEmpty() && tree.nullNode == null ) {
+                trees.remove( tree.hashEntry );
+            }
+        }
+        size--;
+    }
+
+    @Override
+    public void removeAdd( Tuple tuple ) {
+        remove( tuple );
+        add( tuple );
+    }
+
+    @Override
+    public Tuple getFirst( Tuple tuple ) {
+        KeyedTupleRBTree tree = trees.get( equalityIndex.hashCodeOf( tuple, !left ) );
+        if ( tree == null ) {
+            return null;
+        }
+        Comparable key = TupleIndexRBTree.coerceType( comparisonIndex, tree, TupleIndexRBTree.getIndexedValue( comparisonIndex, tuple, !left ) );
+        Node<Comparable<Comparable>> firstNode = TupleIndexRBTree.findNextNode( tree, constraintType, left, key, true );
+        return firstNode == null ? null : firstNode.getFirst();
+    }
+
+    @Override
+    public boolean contains( Tuple tuple ) {
+        KeyedTupleRBTree tree = trees.get( equalityIndex.hashCodeOf( tuple, left ) );
+        return tree != null && tree.lookup( TupleIndexRBTree.getIndexedValue( comparisonIndex, tuple, left ) ) != null;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Tuple> iterator() {
+        FastIterator it = fullFastIterator();
+        return new FastIterator.IteratorAdapter( it, (Tuple) it.next( null ) );
+    }
+
+    @Override
+    public FastIterator fastIterator() {
+        return new TupleFastIterator();
+    }
+
+    @Override
+    public FastIterator fullFastIterator() {
+        return new FullFastIterator();
+    }
+
+    @Override
+    public FastIterator fullFastIterator( Tuple tuple ) {
+        FullFastIterator it = new FullFastIterator();
+        it.resume( (KeyedNode) tuple.getMemory() );
+        return it;
+    }
+
+    @Override
+    public Tuple[] toArray() {
+        List<Tuple> result = new ArrayList<>();
+        FastIterator it = fullFastIterator();
+        for ( Tuple tuple = (Tuple) it.next( null ); tuple != null; tuple = (Tuple) it.next( tuple ) ) {
+            result.add( tuple );
+        }
+        return result.toArray( new Tuple[result.size()] );
+    }
+
+    @Override
+    public IndexType getIndexType() {
+        return IndexType.COMPARISON;
+    }
+
+    @Override
+    public void clear() {
+        trees.clear();
+        size = 0;
+    }
+
+    /**
+     * Iterates the tuples of the same equality bucket in the direction given by the comparison constraint.
+     */
+    public class TupleFastIterator implements FastIterator {
+        public Entry next( Entry object ) {
+            if ( object == null ) {
+                return null;
+            }
+            Tuple tuple = (Tuple) object;
+            Tuple next = tuple.getNext();
+            if ( next != null ) {
+                return next;
+            }
+            KeyedNode node = (KeyedNode) tuple.getMemory();
+            if ( node.key == null ) {
+                return null;
+            }
+            Node<Comparable<Comparable>> nextNode = TupleIndexRBTree.findNextNode( node.tree, constraintType, left, node.key, false );
+            return nextNode == null ? null : nextNode.getFirst();
+        }
+
+        public boolean isFullIterator() {
+            return false;
+        }
+    }
+
+    /**
+     * Iterates all the tuples regardless of their bucket, in ascending order within each bucket.
+     */
+    public class FullFastIterator implements FastIterator {
+        private final KeyedTupleRBTree[] snapshot = trees.values().toArray( new KeyedTupleRBTree[trees.size()] );
+        private int row;
+
+        void resume( KeyedNode node ) {
+            for ( row = 0; row < snapshot.length && snapshot[row] != node.tree; row++ );
+        }
+
+        public Entry next( Entry object ) {
+            if ( object != null ) {
+                Tuple tuple = (Tuple) object;
+                Tuple next = tuple.getNext();
+                if ( next != null ) {
+                    return next;
+                }
+                KeyedNode node = (KeyedNode) tuple.getMemory();
+                Node<Comparable<Comparable>> nextNode = node.key == null ?
+                        node.tree.first() :
+                        node.tree.findNearestNode( node.key, false, Boundary.LOWER );
+                if ( nextNode != null ) {
+                    return nextNode.getFirst();
+                }
+                row++;
+            }
+            for ( ; row < snapshot.length; row++ ) {
+                KeyedTupleRBTree tree = snapshot[row];
+                // tuples with a null comparison value come first
+                Node<Comparable<Comparable>> first = tree.nullNode != null ? tree.nullNode : tree.first();
+                if ( first != null ) {
+                    return first.getFirst();
+                }
+            }
+            return null;
+        }
+
+        public boolean isFullIterator() {
+            return true;
+        }
+    }
+
+    private static class KeyedTupleRBTree extends TupleRBTree<Comparable<Comparable>> {
+        private final HashEntry hashEntry;
+
+        private KeyedTupleRBTree( HashEntry hashEntry ) {
+            this.hashEntry = hashEntry;
+        }
+
+        @Override
+        protected Node<Comparable<Comparable>> createNode( Comparable<Comparable> key ) {
+            return new KeyedNode( key, this );
+        }
+    }
+
+    private static class KeyedNode extends Node<Comparable<Comparable>> {
+        private final KeyedTupleRBTree tree;
+
+        private KeyedNode( Comparable<Comparable> key, KeyedTupleRBTree tree ) {
+            super( key );
+            this.tree = tree;
+        }
+    }
+}
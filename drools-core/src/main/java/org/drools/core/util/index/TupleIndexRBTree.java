@@ -36,14 +36,14 @@ import org.drools.core.util.TupleRBTree.Node;
 
 public class TupleIndexRBTree implements Externalizable, TupleMemory {
 
-    private TupleRBTree<Comparable<Comparable>> tree;
+    protected TupleRBTree<Comparable<Comparable>> tree;
 
-    private AbstractHashTable.FieldIndex index;
-    private IndexUtil.ConstraintType constraintType;
+    protected AbstractHashTable.FieldIndex index;
+    protected IndexUtil.ConstraintType constraintType;
 
     private int size;
 
-    private boolean left;
+    protected boolean left;
 
     public TupleIndexRBTree() {
         // constructor for serialisation
@@ -153,69 +153,71 @@ public class TupleIndexRBTree implements Externalizable, TupleMemory {
         return fastIterator;
     }
 
-    private Comparable getLeftIndexedValue( Tuple tuple ) {
-        return getIndexedValue( tuple, left );
+    protected Comparable getLeftIndexedValue( Tuple tuple ) {
+        return getIndexedValue( index, tuple, left );
     }
 
-    private Comparable getRightIndexedValue( Tuple tuple ) {
-        return getIndexedValue( tuple, !left );
+    protected Comparable getRightIndexedValue( Tuple tuple ) {
+        return getIndexedValue( index, tuple, !left );
     }
 
-    private Comparable getIndexedValue( Tuple tuple, boolean left ) {
+    static Comparable getIndexedValue( AbstractHashTable.FieldIndex index, Tuple tuple, boolean left ) {
         return left ?
                (Comparable) index.getLeftExtractor().getValue( tuple ) :
                (Comparable) index.getRightExtractor().getValue( tuple.getFactHandle().getObject() );
     }
 
     private Tuple getNext(Comparable key, boolean first) {
-        return left ? getNextLeft( key, first ) : getNextRight( key, first );
+        Node<Comparable<Comparable>> firstNode = findNextNode( tree, constraintType, left, coerceType(key), first );
+        return firstNode == null ? null : firstNode.getFirst();
+    }
+
+    static Node<Comparable<Comparable>> findNextNode(TupleRBTree<Comparable<Comparable>> tree, IndexUtil.ConstraintType constraintType,
+                                                     boolean left, Comparable key, boolean first) {
+        return left ? findNextNodeLeft( tree, constraintType, key, first ) : findNextNodeRight( tree, constraintType, key, first );
     }
 
-    private Tuple getNextLeft(Comparable key, boolean first) {
-        key = coerceType(key);
-        Node<Comparable<Comparable>> firstNode;
+    private static Node<Comparable<Comparable>> findNextNodeLeft(TupleRBTree<Comparable<Comparable>> tree, IndexUtil.ConstraintType constraintType,
+                                                                 Comparable key, boolean first) {
         switch (constraintType) {
             case LESS_THAN:
-                firstNode = tree.findNearestNode(key, false, Boundary.LOWER);
-                break;
+                return tree.findNearestNode(key, false, Boundary.LOWER);
             case LESS_OR_EQUAL:
-                firstNode = tree.findNearestNode(key, first, Boundary.LOWER);
-                break;
+                return tree.findNearestNode(key, first, Boundary.LOWER);
             case GREATER_THAN:
-                firstNode = tree.findNearestNode(key, false, Boundary.UPPER);
-                break;
+                return tree.findNearestNode(key, false, Boundary.UPPER);
             case GREATER_OR_EQUAL:
-                firstNode = tree.findNearestNode(key, first, Boundary.UPPER);
-                break;
+                return tree.findNearestNode(key, first, Boundary.UPPER);
             default:
                 throw new UnsupportedOperationException("Cannot call remove constraint of type: " + constraintType);
         }
-        return firstNode == null ? null : firstNode.getFirst();
     }
 
-    private Tuple getNextRight(Comparable key, boolean first) {
-        key = coerceType(key);
-        Node<Comparable<Comparable>> firstNode;
+    private static Node<Comparable<Comparable>> findNextNodeRight(TupleRBTree<Comparable<Comparable>> tree, IndexUtil.ConstraintType constraintType,
+                                                                  Comparable key, boolean first) {
         switch (constraintType) {
             case LESS_THAN:
-                firstNode = tree.findNearestNode(key, false, Boundary.UPPER);
-                break;
+                return tree.findNearestNode(key, false, Boundary.UPPER);
             case LESS_OR_EQUAL:
-                firstNode = tree.findNearestNode(key, first, Boundary.UPPER);
-                break;
+                return tree.findNearestNode(key, first, Boundary.UPPER);
             case GREATER_THAN:
-                firstNode = tree.findNearestNode(key, false, Boundary.LOWER);
-                break;
+                return tree.findNearestNode(key, false, Boundary.LOWER);
             case GREATER_OR_EQUAL:
-                firstNode = tree.findNearestNode(key, first, Boundary.LOWER);
-                break;
+                return tree.findNearestNode(key, first, Boundary.LOWER);
             default:
                 throw new UnsupportedOperationException("Cannot call remove constraint of type: " + constraintType);
         }
-        return firstNode == null ? null : firstNode.getFirst();
     }
 
-    private Comparable coerceType(Comparable key) {
+    protected Comparable coerceType(Comparable key) {
+        return coerceType(index, tree, key);
+    }
+
+    protected Comparable coerceType(AbstractHashTable.FieldIndex index, Comparable key) {
+        return coerceType(index, tree, key);
+    }
+
+    static Comparable coerceType(AbstractHashTable.FieldIndex index, TupleRBTree<Comparable<Comparable>> tree, Comparable key) {
         // We don't do dynamic coercion other than Numbers. See IndexUtil.areRangeIndexCompatibleOperands().
         if (index.requiresCoercion() && key != null && tree.root != null && !key.getClass().equals(tree.root.key.getClass())) {
             if (tree.root.key instanceof Number && key instanceof Number) {
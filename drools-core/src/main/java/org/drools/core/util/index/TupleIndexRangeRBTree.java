@@ -0,0 +1,147 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util.index;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import org.drools.core.spi.Tuple;
+import org.drools.core.util.AbstractHashTable;
+import org.drools.core.util.Entry;
+import org.drools.core.util.FastIterator;
+import org.drools.core.util.Iterator;
+import org.drools.core.util.TupleRBTree.Boundary;
+import org.drools.core.util.TupleRBTree.Node;
+
+/**
+ * Right memory index for a pair of comparison constraints on the same field bounding it from both sides,
+ * like <code>price &gt; $min &amp;&amp; price &lt; $max</code>. Tuples are kept sorted by the field value as in
+ * TupleIndexRBTree, but the lookup starts from the lower bound provided by the left tuple and the iteration
+ * stops as soon as the upper bound is passed, instead of scanning everything above the lower bound.
+ */
+public class TupleIndexRangeRBTree extends TupleIndexRBTree {
+
+    private AbstractHashTable.FieldIndex upperIndex;
+    private IndexUtil.ConstraintType upperConstraintType;
+
+    public TupleIndexRangeRBTree() {
+        // constructor for serialisation
+    }
+
+    public TupleIndexRangeRBTree( IndexUtil.ConstraintType lowerConstraintType, AbstractHashTable.FieldIndex lowerIndex,
+                                  IndexUtil.ConstraintType upperConstraintType, AbstractHashTable.FieldIndex upperIndex ) {
+        super( lowerConstraintType, lowerIndex, false );
+        if ( !lowerConstraintType.isAscending() || !upperConstraintType.isDescending() ) {
+            throw new IllegalArgumentException( "A range index requires a lower and an upper bound, found " +
+                                                lowerConstraintType + " and " + upperConstraintType );
+        }
+        this.upperIndex = upperIndex;
+        this.upperConstraintType = upperConstraintType;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        super.writeExternal( out );
+        out.writeObject( upperIndex );
+        out.writeObject( upperConstraintType );
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        super.readExternal( in );
+        upperIndex = (AbstractHashTable.FieldIndex) in.readObject();
+        upperConstraintType = (IndexUtil.ConstraintType) in.readObject();
+    }
+
+    @Override
+    public Tuple getFirst(Tuple leftTuple) {
+        return getFirst( leftTuple, null );
+    }
+
+    /**
+     * Returns the first tuple above the lower bound of the given left tuple and, when the iterator has been
+     * obtained from this memory, sets on it the upper bound where it has to stop. The bound is kept by the
+     * iterator, so lookups of different left tuples on the same memory never interfere.
+     */
+    @Override
+    public Tuple getFirst(Tuple leftTuple, FastIterator it) {
+        Comparable lowerBound = coerceType( getRightIndexedValue( leftTuple ) );
+        Comparable upperBound = coerceType( upperIndex, (Comparable) upperIndex.getLeftExtractor().getValue( leftTuple ) );
+        if ( it instanceof RangeTupleFastIterator ) {
+            ( (RangeTupleFastIterator) it ).upperBound = upperBound;
+        }
+        if ( lowerBound == null || upperBound == null ) {
+            return null;
+        }
+        Node<Comparable<Comparable>> firstNode = tree.findNearestNode( lowerBound, constraintType == IndexUtil.ConstraintType.GREATER_OR_EQUAL, Boundary.LOWER );
+        return firstNode != null && isBelowUpperBound( firstNode.key, upperBound ) ? firstNode.getFirst() : null;
+    }
+
+    private boolean isBelowUpperBound(Comparable key, Comparable upperBound) {
+        int comparison = key.compareTo( upperBound );
+        return upperConstraintType == IndexUtil.ConstraintType.LESS_OR_EQUAL ? comparison <= 0 : comparison < 0;
+    }
+
+    @Override
+    public Iterator<Tuple> iterator() {
+        TupleList list = tree.first();
+        Tuple firstTuple = list != null ? list.getFirst() : null;
+        return new FastIterator.IteratorAdapter( fullFastIterator(), firstTuple );
+    }
+
+    @Override
+    public FastIterator fastIterator() {
+        return new RangeTupleFastIterator();
+    }
+
+    @Override
+    public FastIterator fullFastIterator() {
+        return new TupleFastIterator();
+    }
+
+    @Override
+    public IndexType getIndexType() {
+        return IndexType.RANGE;
+    }
+
+    /**
+     * Iterates the tuples in ascending order up to the upper bound set by the last getFirst(Tuple, FastIterator)
+     * call, or up to the end of the tree if no bound has been set. The constraints are evaluated on each tuple
+     * anyway, so the bound only allows to stop early.
+     */
+    public class RangeTupleFastIterator implements FastIterator {
+        private Comparable upperBound;
+
+        public Entry next(Entry object) {
+            if (object == null) {
+                Node<Comparable<Comparable>> firstNode = tree.first();
+                return firstNode == null ? null : firstNode.getFirst();
+            }
+            Tuple tuple = (Tuple) object;
+            Tuple next = tuple.getNext();
+            if (next != null) {
+                return next;
+            }
+            Node<Comparable<Comparable>> nextNode = tree.findNearestNode( ((Node<Comparable<Comparable>>) tuple.getMemory()).key, false, Boundary.LOWER );
+            return nextNode != null && ( upperBound == null || isBelowUpperBound( nextNode.key, upperBound ) ) ? nextNode.getFirst() : null;
+        }
+
+        public boolean isFullIterator() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MinMaxAccumulateFunctionTest {
+
+    @Test
+    public void testReverseCurrentMaxWithDuplicates() {
+        IntegerMaxAccumulateFunction max = new IntegerMaxAccumulateFunction();
+        IntegerMaxAccumulateFunction.MaxData data = max.createContext();
+        max.init( data );
+
+        for (int value : new int[] { 5, 9, 3, 9, 7 }) {
+            max.accumulate( data, value );
+        }
+        assertEquals( 9, max.getResult( data ) );
+
+        assertTrue( max.tryReverse( data, 9 ) );
+        assertEquals( 9, max.getResult( data ) );
+        assertTrue( max.tryReverse( data, 9 ) );
+        assertEquals( 7, max.getResult( data ) );
+        assertTrue( max.tryReverse( data, 3 ) );
+        assertEquals( 7, max.getResult( data ) );
+        assertTrue( max.tryReverse( data, 7 ) );
+        assertTrue( max.tryReverse( data, 5 ) );
+        assertNull( max.getResult( data ) );
+    }
+
+    @Test
+    public void testReverseMutatedValue() {
+        MaxAccumulateFunction max = new MaxAccumulateFunction();
+        MaxAccumulateFunction.MaxData data = max.createContext();
+        max.init( data );
+
+        MutableValue mutated = new MutableValue( 1 );
+        max.accumulate( data, mutated );
+        max.accumulate( data, new MutableValue( 5 ) );
+        max.accumulate( data, new MutableValue( 9 ) );
+
+        // the value changed after being accumulated, so it cannot be found anymore and a reaccumulation is required
+        mutated.value = 100;
+        assertFalse( max.tryReverse( data, mutated ) );
+
+        IntegerMinAccumulateFunction min = new IntegerMinAccumulateFunction();
+        IntegerMinAccumulateFunction.MinData minData = min.createContext();
+        min.init( minData );
+        min.accumulate( minData, 3 );
+        assertFalse( min.tryReverse( minData, 4 ) );
+        assertTrue( min.tryReverse( minData, null ) );
+        assertTrue( min.tryReverse( minData, 3 ) );
+    }
+
+    @Test
+    public void testRandomUpdates() {
+        MinAccumulateFunction min = new MinAccumulateFunction();
+        MinAccumulateFunction.MinData data = min.createContext();
+        min.init( data );
+
+        Random random = new Random( 0 );
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            if ( values.isEmpty() || random.nextInt( 3 ) > 0 ) {
+                String value = "v" + random.nextInt( 100 );
+                values.add( value );
+                min.accumulate( data, value );
+            } else {
+                assertTrue( min.tryReverse( data, values.remove( random.nextInt( values.size() ) ) ) );
+            }
+            assertEquals( values.stream().min( String::compareTo ).orElse( null ), min.getResult( data ) );
+        }
+    }
+
+    @Test
+    public void testNumericKeepsAccumulatedNumbers() {
+        NumericMaxAccumulateFunction max = new NumericMaxAccumulateFunction();
+        NumericMaxAccumulateFunction.MaxData data = max.createContext();
+        max.init( data );
+
+        max.accumulate( data, 3 );
+        max.accumulate( data, 4.5 );
+        max.accumulate( data, 4L );
+        assertEquals( 4.5, max.getResult( data ) );
+
+        max.tryReverse( data, 4.5 );
+        assertEquals( 4L, max.getResult( data ) );
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        LongMinAccumulateFunction min = new LongMinAccumulateFunction();
+        LongMinAccumulateFunction.MinData data = min.createContext();
+        min.init( data );
+        for (long value : new long[] { 8L, 2L, 2L, 6L }) {
+            min.accumulate( data, value );
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream( bytes )) {
+            out.writeObject( data );
+        }
+        LongMinAccumulateFunction.MinData copy;
+        try (ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) )) {
+            copy = (LongMinAccumulateFunction.MinData) in.readObject();
+        }
+
+        assertEquals( 2L, min.getResult( copy ) );
+        min.tryReverse( copy, 2L );
+        assertEquals( 2L, min.getResult( copy ) );
+        min.tryReverse( copy, 2L );
+        assertEquals( 6L, min.getResult( copy ) );
+    }
+
+    private static class MutableValue implements Comparable<MutableValue> {
+        private int value;
+
+        private MutableValue(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(MutableValue other) {
+            return Integer.compare( value, other.value );
+        }
+    }
+}
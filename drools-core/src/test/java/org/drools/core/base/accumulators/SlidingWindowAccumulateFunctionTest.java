@@ -0,0 +1,235 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.drools.core.base.accumulators.SlidingWindowAccumulateFunction.SlidingWindowData;
+import org.drools.core.spi.Accumulator;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class SlidingWindowAccumulateFunctionTest {
+
+    @Test
+    public void testOnlyMinAndMaxAreReplaced() {
+        assertEquals( SlidingWindowAccumulateFunction.class, SlidingWindowAccumulateFunction.forSlidingWindow( new MaxAccumulateFunction() ).getClass() );
+        assertEquals( SlidingWindowAccumulateFunction.class, SlidingWindowAccumulateFunction.forSlidingWindow( new IntegerMinAccumulateFunction() ).getClass() );
+        assertEquals( SlidingWindowAccumulateFunction.class, SlidingWindowAccumulateFunction.forSlidingWindow( new NumericMaxAccumulateFunction() ).getClass() );
+        assertEquals( SumAccumulateFunction.class, SlidingWindowAccumulateFunction.forSlidingWindow( new SumAccumulateFunction() ).getClass() );
+        assertEquals( Integer.class, SlidingWindowAccumulateFunction.forSlidingWindow( new IntegerMaxAccumulateFunction() ).getResultType() );
+    }
+
+    @Test
+    public void testDecoratingDoesNotChangeTheAccumulator() {
+        MaxAccumulateFunction function = new MaxAccumulateFunction();
+        JavaAccumulatorFunctionExecutor executor = new JavaAccumulatorFunctionExecutor( function );
+
+        Accumulator windowAccumulator = executor.forSlidingWindow( true );
+        assertEquals( SlidingWindowAccumulator.class, windowAccumulator.getClass() );
+        assertSame( executor, ((SlidingWindowAccumulator) windowAccumulator).getDelegate() );
+        // the accumulator of the rule can be shared with nodes not over a window, so it must stay the same
+        assertSame( function, executor.getAccumulateFunction() );
+
+        JavaAccumulatorFunctionExecutor sum = new JavaAccumulatorFunctionExecutor( new SumAccumulateFunction() );
+        assertSame( sum, sum.forSlidingWindow( true ) );
+    }
+
+    @Test
+    public void testExpireInOrder() {
+        SlidingWindowAccumulateFunction max = maxFunction();
+        SlidingWindowData data = max.createContext();
+        max.init( data );
+
+        List<Object> entries = new ArrayList<>();
+        int[] values = { 5, 3, 8, 1, 8, 2, 7, 6 };
+        for (int i = 0; i < values.length; i++) {
+            entries.add( max.accumulateValue( data, values[i], i ) );
+        }
+        assertEquals( 8, max.getResult( data ) );
+
+        // the window slides removing the oldest values
+        int[] expected = { 8, 8, 8, 8, 7, 7, 6 };
+        for (int i = 0; i < expected.length; i++) {
+            max.tryReverse( data, entries.get( i ) );
+            assertEquals( expected[i], max.getResult( data ) );
+        }
+        max.tryReverse( data, entries.get( values.length - 1 ) );
+        assertNull( max.getResult( data ) );
+    }
+
+    @Test
+    public void testBatchesInReverseOrder() {
+        SlidingWindowAccumulateFunction min = minFunction();
+        SlidingWindowData data = min.createContext();
+        min.init( data );
+
+        // the facts inserted together are accumulated and reversed starting from the last one
+        Object[] entries = new Object[9];
+        for (int batch = 0; batch < 3; batch++) {
+            for (int i = batch * 3 + 2; i >= batch * 3; i--) {
+                entries[i] = min.accumulateValue( data, 10 - i, i );
+            }
+        }
+        assertEquals( 2, min.getResult( data ) );
+
+        for (int i = 0; i < 8; i++) {
+            min.tryReverse( data, entries[i] );
+            assertEquals( 2, min.getResult( data ) );
+        }
+        min.tryReverse( data, entries[8] );
+        assertNull( min.getResult( data ) );
+    }
+
+    @Test
+    public void testRemoveOutOfOrder() {
+        SlidingWindowAccumulateFunction max = maxFunction();
+        SlidingWindowData data = max.createContext();
+        max.init( data );
+
+        Object e1 = max.accumulateValue( data, 4, 1 );
+        Object e2 = max.accumulateValue( data, 9, 2 );
+        Object e3 = max.accumulateValue( data, 6, 3 );
+        Object nullEntry = max.accumulateValue( data, null, 4 );
+        assertEquals( 9, max.getResult( data ) );
+
+        // a fact deleted before expiring
+        max.tryReverse( data, e2 );
+        max.tryReverse( data, nullEntry );
+        assertEquals( 6, max.getResult( data ) );
+
+        Object e5 = max.accumulateValue( data, 5, 5 );
+        max.tryReverse( data, e3 );
+        assertEquals( 5, max.getResult( data ) );
+        max.tryReverse( data, e5 );
+        assertEquals( 4, max.getResult( data ) );
+        max.tryReverse( data, e1 );
+        assertNull( max.getResult( data ) );
+    }
+
+    @Test
+    public void testExpireInTimestampOrder() {
+        SlidingWindowAccumulateFunction min = minFunction();
+        SlidingWindowData data = min.createContext();
+        min.init( data );
+
+        // the events arrive out of order, but the window expires them by timestamp
+        Object e30 = min.accumulateValue( data, 3, 30 );
+        Object e10 = min.accumulateValue( data, 1, 10 );
+        Object e20 = min.accumulateValue( data, 2, 20 );
+        Object e40 = min.accumulateValue( data, 4, 40 );
+        assertEquals( 1, min.getResult( data ) );
+
+        min.tryReverse( data, e10 );
+        assertEquals( 2, min.getResult( data ) );
+
+        // a late event older than the values already moved to the front stack
+        Object e15 = min.accumulateValue( data, 5, 15 );
+        Object e25 = min.accumulateValue( data, 0, 25 );
+        assertEquals( 0, min.getResult( data ) );
+
+        min.tryReverse( data, e15 );
+        assertEquals( 0, min.getResult( data ) );
+        min.tryReverse( data, e20 );
+        assertEquals( 0, min.getResult( data ) );
+        min.tryReverse( data, e25 );
+        assertEquals( 3, min.getResult( data ) );
+        min.tryReverse( data, e30 );
+        assertEquals( 4, min.getResult( data ) );
+        min.tryReverse( data, e40 );
+        assertNull( min.getResult( data ) );
+    }
+
+    @Test
+    public void testEqualValuesReturnTheOldest() {
+        SlidingWindowAccumulateFunction min = (SlidingWindowAccumulateFunction) SlidingWindowAccumulateFunction.forSlidingWindow( new NumericMinAccumulateFunction() );
+        SlidingWindowData data = min.createContext();
+        min.init( data );
+
+        Long l1 = 3L;
+        Integer i2 = 3;
+        Double d3 = 3.0;
+        Object e1 = min.accumulateValue( data, l1, 1 );
+        min.accumulateValue( data, i2, 2 );
+        min.accumulateValue( data, d3, 3 );
+        assertSame( l1, min.getResult( data ) );
+        min.tryReverse( data, e1 );
+        assertSame( i2, min.getResult( data ) );
+    }
+
+    @Test
+    public void testRandomWindow() throws Exception {
+        Random random = new Random( 0 );
+        SlidingWindowAccumulateFunction max = maxFunction();
+        SlidingWindowData data = max.createContext();
+        max.init( data );
+
+        List<Integer> values = new ArrayList<>();
+        List<Object> entries = new ArrayList<>();
+        long sequence = 0;
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt( 10 );
+            if ( operation < 5 || values.isEmpty() ) {
+                int value = random.nextInt( 1000 );
+                values.add( value );
+                entries.add( max.accumulateValue( data, value, sequence++ ) );
+            } else {
+                // mostly removes the oldest value, sometimes a random one
+                int index = operation < 9 ? 0 : random.nextInt( values.size() );
+                values.remove( index );
+                max.tryReverse( data, entries.remove( index ) );
+            }
+            assertEquals( values.stream().max( Integer::compare ).orElse( null ), max.getResult( data ) );
+
+            if ( i % 1000 == 999 ) {
+                // the entries are serialized together with the data, as the matches reversing them
+                Object[] deserialized = serialize( data, entries );
+                data = (SlidingWindowData) deserialized[0];
+                entries = (List<Object>) deserialized[1];
+                assertEquals( values.stream().max( Integer::compare ).orElse( null ), max.getResult( data ) );
+            }
+        }
+    }
+
+    private static SlidingWindowAccumulateFunction maxFunction() {
+        return (SlidingWindowAccumulateFunction) SlidingWindowAccumulateFunction.forSlidingWindow( new MaxAccumulateFunction() );
+    }
+
+    private static SlidingWindowAccumulateFunction minFunction() {
+        return (SlidingWindowAccumulateFunction) SlidingWindowAccumulateFunction.forSlidingWindow( new MinAccumulateFunction() );
+    }
+
+    private static Object[] serialize(SlidingWindowData data, List<Object> entries) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream( baos )) {
+            out.writeObject( data );
+            out.writeObject( entries );
+        }
+        try (ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( baos.toByteArray() ) )) {
+            return new Object[] { in.readObject(), in.readObject() };
+        }
+    }
+}
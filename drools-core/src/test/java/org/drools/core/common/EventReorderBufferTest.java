@@ -0,0 +1,129 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.common;
+
+import org.drools.core.factmodel.traits.TraitTypeEnum;
+import org.drools.core.rule.EntryPointId;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class EventReorderBufferTest {
+
+    @Test
+    public void testReleaseInTimestampOrder() {
+        EventReorderBuffer buffer = new EventReorderBuffer( 10 );
+        EventFactHandle e1 = event( 1, 100 );
+        EventFactHandle e2 = event( 2, 95 );
+        EventFactHandle e3 = event( 3, 95 );
+        EventFactHandle e4 = event( 4, 112 );
+
+        buffer.add( e1 );
+        buffer.add( e2 );
+        buffer.add( e3 );
+        assertEquals( 90, buffer.getWatermark() );
+        assertNull( buffer.poll() );
+
+        buffer.add( e4 );
+        assertEquals( 102, buffer.getWatermark() );
+        assertSame( e2, buffer.poll() );
+        assertSame( e3, buffer.poll() );
+        assertSame( e1, buffer.poll() );
+        assertNull( buffer.poll() );
+
+        assertTrue( buffer.isLate( 102 ) );
+        assertFalse( buffer.isLate( 103 ) );
+
+        assertFalse( buffer.advanceWatermark( 100 ) );
+        assertTrue( buffer.advanceWatermark( 112 ) );
+        assertSame( e4, buffer.poll() );
+        assertTrue( buffer.isEmpty() );
+    }
+
+    @Test
+    public void testRemoveHeldEvent() {
+        EventReorderBuffer buffer = new EventReorderBuffer( Long.MAX_VALUE );
+        EventFactHandle e1 = event( 1, 100 );
+        EventFactHandle e2 = event( 2, 50 );
+        buffer.add( e1 );
+        buffer.add( e2 );
+
+        assertTrue( buffer.contains( e1 ) );
+        assertTrue( buffer.remove( e2 ) );
+        assertFalse( buffer.remove( e2 ) );
+        assertFalse( buffer.contains( event( 3, 200 ) ) );
+
+        buffer.advanceWatermark( 1000 );
+        assertSame( e1, buffer.poll() );
+        assertNull( buffer.poll() );
+    }
+
+    @Test
+    public void testFindHeldEventByIdentity() {
+        EventReorderBuffer buffer = new EventReorderBuffer( 10 );
+        EventFactHandle e1 = event( 1, 100 );
+        buffer.add( e1 );
+
+        assertSame( e1, buffer.getHandleForObject( e1.getObject() ) );
+        assertNull( buffer.getHandleForObject( new Object() ) );
+
+        buffer.advanceWatermark( 100 );
+        assertSame( e1, buffer.poll() );
+        // once released the event is not held anymore
+        assertNull( buffer.getHandleForObject( e1.getObject() ) );
+        assertFalse( buffer.contains( e1 ) );
+    }
+
+    @Test
+    public void testUpdateHeldEvent() {
+        EventReorderBuffer buffer = new EventReorderBuffer( 10 );
+        EventFactHandle e1 = event( 1, 100 );
+        EventFactHandle e2 = event( 2, 105 );
+        buffer.add( e1 );
+        buffer.add( e2 );
+        assertEquals( 95, buffer.getWatermark() );
+
+        Object oldObject = e1.getObject();
+        Object newObject = new Object();
+        buffer.update( e1, newObject, 110, 5 );
+        assertSame( newObject, e1.getObject() );
+        assertEquals( 110, e1.getStartTimestamp() );
+        assertEquals( 115, e1.getEndTimestamp() );
+        assertNull( buffer.getHandleForObject( oldObject ) );
+        assertSame( e1, buffer.getHandleForObject( newObject ) );
+        assertEquals( 100, buffer.getWatermark() );
+
+        // the updated event is now after the other one
+        buffer.advanceWatermark( 110 );
+        assertSame( e2, buffer.poll() );
+        assertSame( e1, buffer.poll() );
+        assertTrue( buffer.isEmpty() );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeLateness() {
+        new EventReorderBuffer( -1 );
+    }
+
+    private static EventFactHandle event(long id, long timestamp) {
+        return new EventFactHandle( id, (int) id, id, id, timestamp, 0, EntryPointId.DEFAULT, TraitTypeEnum.NON_TRAIT );
+    }
+}
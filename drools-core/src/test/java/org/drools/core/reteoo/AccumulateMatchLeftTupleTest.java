@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.reteoo;
+
+import org.drools.core.base.accumulators.IntegerSumAccumulateFunction;
+import org.drools.core.base.accumulators.LongSumAccumulateFunction;
+import org.drools.core.base.accumulators.SumAccumulateFunction;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AccumulateMatchLeftTupleTest {
+
+    @Test
+    public void testAccumulatedObjectKeepsTheSourceType() {
+        AccumulateMatchLeftTuple match = new AccumulateMatchLeftTuple();
+
+        match.setIntegralValue( 42 );
+        assertEquals( Integer.valueOf( 42 ), match.getAccumulatedObject() );
+        assertEquals( 42L, match.getLongValue() );
+
+        match.setIntegralValue( (short) -3 );
+        assertEquals( Short.valueOf( (short) -3 ), match.getAccumulatedObject() );
+
+        match.setIntegralValue( (byte) 7 );
+        assertEquals( Byte.valueOf( (byte) 7 ), match.getAccumulatedObject() );
+
+        match.setIntegralValue( Long.MAX_VALUE );
+        assertEquals( Long.valueOf( Long.MAX_VALUE ), match.getAccumulatedObject() );
+
+        match.setFloatingPointValue( 1.5f );
+        assertEquals( Float.valueOf( 1.5f ), match.getAccumulatedObject() );
+        assertEquals( 1.5, match.getDoubleValue(), 0 );
+
+        match.setFloatingPointValue( -0.1 );
+        assertEquals( Double.valueOf( -0.1 ), match.getAccumulatedObject() );
+
+        match.setNullValue();
+        assertTrue( match.isNullValue() );
+        assertNull( match.getAccumulatedObject() );
+    }
+
+    @Test
+    public void testIntegralSumsDoNotAccumulateDoublesUnboxed() {
+        assertFalse( new IntegerSumAccumulateFunction().supportsDoubleValues() );
+        assertFalse( new LongSumAccumulateFunction().supportsDoubleValues() );
+        assertTrue( new SumAccumulateFunction().supportsDoubleValues() );
+    }
+}
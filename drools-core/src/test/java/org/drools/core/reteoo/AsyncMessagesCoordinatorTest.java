@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.reteoo;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncMessagesCoordinatorTest {
+
+    @Test
+    public void testRegisterAndDeregister() {
+        AsyncMessagesCoordinator coordinator = AsyncMessagesCoordinator.get();
+        AtomicInteger received = new AtomicInteger();
+        Consumer<AsyncMessage> receiver = m -> received.incrementAndGet();
+
+        coordinator.registerReceiver( "testRegisterAndDeregister", receiver );
+        coordinator.propagate( "testRegisterAndDeregister", null );
+        assertEquals( 1, received.get() );
+
+        coordinator.deregisterReceiver( "testRegisterAndDeregister", receiver );
+        assertFalse( coordinator.getListeners().containsKey( "testRegisterAndDeregister" ) );
+        coordinator.propagate( "testRegisterAndDeregister", null );
+        assertEquals( 1, received.get() );
+    }
+
+    @Test(timeout = 20000L)
+    public void testConcurrentRegistrationsAndPropagations() throws Exception {
+        AsyncMessagesCoordinator coordinator = AsyncMessagesCoordinator.get();
+        String messageId = "testConcurrentRegistrationsAndPropagations";
+        int threadNr = 8;
+        int loops = 1000;
+
+        AtomicInteger permanentlyReceived = new AtomicInteger();
+        coordinator.registerReceiver( messageId, m -> permanentlyReceived.incrementAndGet() );
+
+        ExecutorService executor = Executors.newFixedThreadPool( threadNr );
+        try {
+            Future<?>[] futures = new Future<?>[threadNr];
+            for (int i = 0; i < threadNr; i++) {
+                futures[i] = executor.submit( () -> {
+                    for (int j = 0; j < loops; j++) {
+                        Consumer<AsyncMessage> receiver = m -> { };
+                        coordinator.registerReceiver( messageId, receiver );
+                        coordinator.propagate( messageId, null );
+                        coordinator.deregisterReceiver( messageId, receiver );
+                    }
+                } );
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue( executor.awaitTermination( 5, TimeUnit.SECONDS ) );
+        }
+
+        assertEquals( threadNr * loops, permanentlyReceived.get() );
+        assertEquals( 1, coordinator.getListeners().get( messageId ).size() );
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.reteoo;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.drools.core.reteoo.AccumulateNode.AccumulateContextEntry;
+import org.drools.core.util.index.TupleList;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class GroupByMapTest {
+
+    @Test
+    public void testNullKey() {
+        GroupByMap map = new GroupByMap();
+        TupleList<AccumulateContextEntry> group = new TupleList<>( new AccumulateContextEntry( null ) );
+        map.add( group );
+        assertSame( group, map.get( null ) );
+        assertSame( group, map.remove( null ) );
+        assertNull( map.get( null ) );
+        assertEquals( 0, map.size() );
+    }
+
+    @Test
+    public void testRandomOperationsWithCollidingKeys() {
+        GroupByMap map = new GroupByMap();
+        Map<Object, TupleList<AccumulateContextEntry>> expected = new HashMap<>();
+        Random random = new Random( 0 );
+
+        for (int i = 0; i < 100_000; i++) {
+            // few distinct hash codes, so many keys share the same probe sequence
+            Object key = new CollidingKey( random.nextInt( 2000 ) );
+            if ( random.nextInt( 3 ) > 0 ) {
+                if ( map.get( key ) == null ) {
+                    TupleList<AccumulateContextEntry> group = new TupleList<>( new AccumulateContextEntry( key ) );
+                    map.add( group );
+                    expected.put( key, group );
+                }
+            } else {
+                assertSame( expected.remove( key ), map.remove( key ) );
+            }
+            assertSame( expected.get( key ), map.get( key ) );
+        }
+
+        assertEquals( expected.size(), map.size() );
+        for (Map.Entry<Object, TupleList<AccumulateContextEntry>> entry : expected.entrySet()) {
+            assertSame( entry.getValue(), map.get( entry.getKey() ) );
+        }
+
+        Set<Object> iterated = new HashSet<>();
+        map.forEach( group -> iterated.add( group.getContext().getKey() ) );
+        assertEquals( expected.keySet(), iterated );
+
+        map.clear();
+        assertEquals( 0, map.size() );
+        assertNull( map.get( expected.keySet().iterator().next() ) );
+    }
+
+    private static class CollidingKey {
+        private final int value;
+
+        private CollidingKey( int value ) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals( Object o ) {
+            return o instanceof CollidingKey && ( (CollidingKey) o ).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value % 37;
+        }
+    }
+}
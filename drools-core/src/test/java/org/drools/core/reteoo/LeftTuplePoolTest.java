@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.reteoo;
+
+import org.drools.core.common.DefaultFactHandle;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LeftTuplePoolTest {
+
+    @Test
+    public void testReuseReleasedTuple() {
+        LeftTuplePool pool = new LeftTuplePool( 4 );
+
+        LeftTuple parent = new LeftTupleImpl( new DefaultFactHandle( 1, "a" ), null, false );
+        RightTuple rightTuple = new RightTupleImpl( new DefaultFactHandle( 2, "b" ) );
+
+        JoinNodeLeftTuple child = (JoinNodeLeftTuple) pool.acquire( parent, rightTuple, null, null, null, true );
+        assertSame( child, parent.getFirstChild() );
+        assertSame( child, rightTuple.getFirstChild() );
+        assertTrue( child.isReusable() );
+
+        child.unlinkFromRightParent();
+        child.unlinkFromLeftParent();
+        assertTrue( pool.release( child ) );
+        assertEquals( 1, pool.size() );
+        // the released tuple doesn't retain any reference to its former content
+        assertNull( child.getFactHandle() );
+        assertNull( child.getLeftParent() );
+        assertNull( child.getRightParent() );
+
+        RightTuple otherRightTuple = new RightTupleImpl( new DefaultFactHandle( 3, "c" ) );
+        LeftTuple reused = pool.acquire( parent, otherRightTuple, null, null, null, true );
+        assertSame( child, reused );
+        assertEquals( 0, pool.size() );
+        assertSame( parent, reused.getLeftParent() );
+        assertSame( otherRightTuple, reused.getRightParent() );
+        assertEquals( "c", reused.getFactHandle().getObject() );
+        assertEquals( 1, reused.getIndex() );
+        assertSame( reused, parent.getFirstChild() );
+    }
+
+    @Test
+    public void testTupleWithChildrenIsNotReusable() {
+        LeftTuple parent = new LeftTupleImpl( new DefaultFactHandle( 1, "a" ), null, false );
+        JoinNodeLeftTuple child = new JoinNodeLeftTuple( parent, new RightTupleImpl( new DefaultFactHandle( 2, "b" ) ), null, true );
+        assertTrue( child.isReusable() );
+
+        JoinNodeLeftTuple grandChild = new JoinNodeLeftTuple( child, new RightTupleImpl( new DefaultFactHandle( 3, "c" ) ), null, true );
+        grandChild.unlinkFromLeftParent();
+        // the grand child still references it, even if it isn't one of its children anymore
+        assertNull( child.getFirstChild() );
+        assertFalse( child.isReusable() );
+    }
+
+    @Test
+    public void testPeersAreNotReusable() {
+        LeftTuple parent = new LeftTupleImpl( new DefaultFactHandle( 1, "a" ), null, false );
+        JoinNodeLeftTuple original = new JoinNodeLeftTuple( parent, new RightTupleImpl( new DefaultFactHandle( 2, "b" ) ), null, true );
+
+        JoinNodeLeftTuple peer = new JoinNodeLeftTuple();
+        peer.initPeer( original, null );
+        original.setPeer( peer );
+
+        // the original has a peer, while the last peer is still referenced by the original
+        assertFalse( original.isReusable() );
+        assertNull( peer.getPeer() );
+        assertFalse( peer.isReusable() );
+    }
+
+    @Test
+    public void testPoolIsBounded() {
+        LeftTuplePool pool = new LeftTuplePool( 2 );
+        LeftTuple parent = new LeftTupleImpl( new DefaultFactHandle( 1, "a" ), null, false );
+
+        JoinNodeLeftTuple[] tuples = new JoinNodeLeftTuple[3];
+        for (int i = 0; i < tuples.length; i++) {
+            tuples[i] = new JoinNodeLeftTuple( parent, new RightTupleImpl( new DefaultFactHandle( i + 2, "b" ) ), null, false );
+        }
+
+        assertTrue( pool.release( tuples[0] ) );
+        assertTrue( pool.release( tuples[1] ) );
+        assertFalse( pool.release( tuples[2] ) );
+        assertEquals( 2, pool.size() );
+
+        RightTuple rightTuple = new RightTupleImpl( new DefaultFactHandle( 10, "c" ) );
+        assertSame( tuples[1], pool.acquire( parent, rightTuple, null, null, null, false ) );
+        assertSame( tuples[0], pool.acquire( parent, rightTuple, null, null, null, false ) );
+        // an empty pool creates new tuples
+        LeftTuple created = pool.acquire( parent, rightTuple, null, null, null, false );
+        assertNotSame( tuples[2], created );
+        assertTrue( created instanceof JoinNodeLeftTuple );
+    }
+}
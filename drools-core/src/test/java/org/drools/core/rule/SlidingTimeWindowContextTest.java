@@ -0,0 +1,164 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.rule;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.drools.core.common.EventFactHandle;
+import org.drools.core.factmodel.traits.TraitTypeEnum;
+import org.drools.core.rule.SlidingTimeWindow.SlidingTimeWindowContext;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SlidingTimeWindowContextTest {
+
+    @Test
+    public void testInOrderEvents() {
+        SlidingTimeWindowContext context = new SlidingTimeWindowContext();
+        List<EventFactHandle> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            EventFactHandle event = event( i, i / 3 );
+            events.add( event );
+            context.add( event );
+        }
+        assertEquals( 100, context.size() );
+
+        // removes some events from the middle, the first and the last one
+        context.remove( events.get( 50 ) );
+        context.remove( events.get( 51 ) );
+        context.remove( events.get( 0 ) );
+        context.remove( events.get( 99 ) );
+        context.remove( events.get( 99 ) );
+        assertEquals( 96, context.size() );
+        assertEquals( 96, context.getFactHandles().size() );
+
+        for (int i = 1; i < 99; i++) {
+            if ( i != 50 && i != 51 ) {
+                assertSame( events.get( i ), context.peek() );
+                assertSame( events.get( i ), context.poll() );
+            }
+        }
+        assertTrue( context.isEmpty() );
+        assertNull( context.peek() );
+        assertNull( context.poll() );
+    }
+
+    @Test
+    public void testOutOfOrderEvents() {
+        SlidingTimeWindowContext context = new SlidingTimeWindowContext();
+        EventFactHandle e1 = event( 1, 10 );
+        EventFactHandle e2 = event( 2, 20 );
+        EventFactHandle e3 = event( 3, 5 );
+        EventFactHandle e4 = event( 4, 15 );
+        context.add( e1 );
+        context.add( e2 );
+        context.add( e3 );
+        context.add( e4 );
+        context.remove( e4 );
+
+        assertSame( e3, context.poll() );
+        assertSame( e1, context.poll() );
+        assertSame( e2, context.poll() );
+        assertTrue( context.isEmpty() );
+
+        // once empty the events arriving in order are kept again in the ring buffer
+        context.add( e3 );
+        context.add( e1 );
+        assertSame( e3, context.remove() );
+        assertSame( e1, context.remove() );
+    }
+
+    @Test
+    public void testSameOrderOfPriorityQueue() {
+        Random random = new Random( 0 );
+        SlidingTimeWindowContext context = new SlidingTimeWindowContext();
+        PriorityQueue<EventFactHandle> queue = new PriorityQueue<>();
+        List<EventFactHandle> events = new ArrayList<>();
+
+        long time = 0;
+        for (int i = 0; i < 10000; i++) {
+            // a few events arrive late
+            long timestamp = random.nextInt( 100 ) == 0 ? time - random.nextInt( 50 ) : (time += random.nextInt( 3 ));
+            EventFactHandle event = event( i, timestamp );
+            events.add( event );
+            context.add( event );
+            queue.add( event );
+
+            int action = random.nextInt( 10 );
+            if ( action < 3 ) {
+                assertEquals( queue.poll().getStartTimestamp(), context.poll().getStartTimestamp() );
+            } else if ( action == 3 ) {
+                EventFactHandle removed = events.get( random.nextInt( events.size() ) );
+                queue.remove( removed );
+                context.remove( removed );
+            }
+            assertEquals( queue.size(), context.size() );
+        }
+        while ( !queue.isEmpty() ) {
+            assertEquals( queue.poll().getStartTimestamp(), context.poll().getStartTimestamp() );
+        }
+        assertTrue( context.isEmpty() );
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        SlidingTimeWindowContext context = new SlidingTimeWindowContext();
+        for (int i = 0; i < 20; i++) {
+            context.add( event( i, i * 10 ) );
+        }
+        context.poll();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream( bytes )) {
+            out.writeObject( context );
+        }
+        SlidingTimeWindowContext read;
+        try (ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) )) {
+            read = (SlidingTimeWindowContext) in.readObject();
+        }
+
+        assertEquals( 19, read.size() );
+        for (int i = 1; i < 20; i++) {
+            assertEquals( i * 10, read.poll().getStartTimestamp() );
+        }
+        assertTrue( read.markExpirationPending() );
+        assertFalse( read.markExpirationPending() );
+    }
+
+    private static EventFactHandle event(long id, long timestamp) {
+        return new TestEventFactHandle( id, timestamp );
+    }
+
+    private static class TestEventFactHandle extends EventFactHandle {
+
+        private TestEventFactHandle(long id, long timestamp) {
+            super( id, (int) id, id, id, timestamp, 0, EntryPointId.DEFAULT, TraitTypeEnum.NON_TRAIT );
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.time.impl;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CronScheduleTest {
+
+    private static final String[] EXPRESSIONS = new String[] {
+            "* * * * * ?",
+            "0/5 * * * * ?",
+            "0 0/15 * * * ?",
+            "30 10-20 3,5,23 * * ?",
+            "0 0 12 ? * MON-FRI",
+            "0 30 6 ? * SAT,SUN",
+            "0 0 0 1,15 * ?",
+            "0 0 0 31 * ?",
+            "0 0 2 29 2 ?",
+            "0 15 10 ? JAN,JUN,DEC *",
+            "0 0 22-2 * * ?",
+            "0 0 12 L * ?",
+            "0 0 12 ? * 6#3",
+            "0 15 10 * * ? 2030"
+    };
+
+    private static final TimeZone[] TIME_ZONES = new TimeZone[] {
+            TimeZone.getTimeZone("UTC"),
+            TimeZone.getTimeZone("US/Eastern"),
+            TimeZone.getTimeZone("Europe/Rome"),
+            TimeZone.getTimeZone("Australia/Lord_Howe"),
+            TimeZone.getTimeZone("Asia/Kolkata")
+    };
+
+    @Test
+    public void testSameFireTimesOfCalendar() throws Exception {
+        for (String expression : EXPRESSIONS) {
+            for (TimeZone timeZone : TIME_ZONES) {
+                CronExpression cronExpression = new CronExpression(expression);
+                cronExpression.setTimeZone(timeZone);
+
+                Calendar calendar = Calendar.getInstance(timeZone);
+                calendar.set(2021, Calendar.JANUARY, 1, 0, 0, 0);
+                long time = calendar.getTimeInMillis() + 123;
+                // spans two daylight saving time transitions and the end of a leap february
+                for (int i = 0; i < 2000; i++) {
+                    Date expected = cronExpression.computeTimeAfter(new Date(time));
+                    assertEquals(expression + " in " + timeZone.getID() + " after " + new Date(time),
+                                 expected, cronExpression.getTimeAfter(new Date(time)));
+                    time += 4 * 3600 * 1000L + 17 * 60 * 1000L + 7 * 1000L;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCompiledExpressions() throws Exception {
+        assertTrue(new CronExpression("0 0/15 * * * ?").schedule.isSupported());
+        assertTrue(new CronExpression("0 0 12 ? * MON-FRI").schedule.isSupported());
+        assertFalse(new CronExpression("0 0 12 L * ?").schedule.isSupported());
+        assertFalse(new CronExpression("0 0 12 15W * ?").schedule.isSupported());
+        assertFalse(new CronExpression("0 0 12 ? * 6#3").schedule.isSupported());
+        assertFalse(new CronExpression("0 0 12 ? * 6L").schedule.isSupported());
+        assertFalse(new CronExpression("0 15 10 * * ? 2030").schedule.isSupported());
+    }
+
+    @Test
+    public void testSharedParsedExpression() throws Exception {
+        CronExpression first = CronExpression.of("0 0/5 * * * ?");
+        CronExpression second = CronExpression.of("0 0/5 * * * ?");
+        assertNotSame(first, second);
+        assertSame(first.schedule, second.schedule);
+
+        first.setTimeZone(TimeZone.getTimeZone("US/Eastern"));
+        second.setTimeZone(TimeZone.getTimeZone("Asia/Kolkata"));
+        assertEquals(TimeZone.getTimeZone("US/Eastern"), first.getTimeZone());
+
+        Date date = new Date(1_600_000_000_000L);
+        assertEquals(new CronExpression("0 0/5 * * * ?").getNextValidTimeAfter(date), first.getNextValidTimeAfter(date));
+    }
+}
@@ -41,6 +41,7 @@ import org.drools.core.time.Trigger;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class JDKTimerServiceTest {
     
@@ -85,6 +86,36 @@ public class JDKTimerServiceTest {
         assertEquals( 5, ctx.getList().size() );
     }
 
+    @Test
+    public void testRepeatedExecutionJobWithTimingWheel() throws Exception {
+        SessionConfiguration config = SessionConfiguration.newInstance();
+        config.setClockType(ClockType.REALTIME_CLOCK);
+        config.setTimingWheel(true);
+        TimerService timeService = TimerServiceFactory.getTimerService( config );
+        assertTrue( timeService instanceof TimingWheelTimerService );
+        Trigger trigger = new DelayedTrigger(  new long[] { 100, 100, 100} );
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService);
+        timeService.scheduleJob( new HelloWorldJob(), ctx,  trigger);
+        Thread.sleep( 500 );
+        timeService.shutdown();
+        assertEquals( 3, ctx.getList().size() );
+    }
+
+    @Test
+    public void testRepeatedExecutionJobWithRemoveWithTimingWheel() throws Exception {
+        SessionConfiguration config = SessionConfiguration.newInstance();
+        config.setClockType(ClockType.REALTIME_CLOCK);
+        config.setTimingWheel(true);
+        TimerService timeService = TimerServiceFactory.getTimerService( config );
+        Trigger trigger = new DelayedTrigger(  new long[] {100, 100, 100, 100, 100, 100, 100, 100} );
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService);
+        ctx.setLimit( 3 );
+        timeService.scheduleJob( new HelloWorldJob(), ctx,  trigger);
+        Thread.sleep( 1000 );
+        timeService.shutdown();
+        assertEquals( 5, ctx.getList().size() );
+    }
+
     public static class HelloWorldJob implements Job {
         public void execute(JobContext c) {
             HelloWorldJobContext ctx = (HelloWorldJobContext) c;
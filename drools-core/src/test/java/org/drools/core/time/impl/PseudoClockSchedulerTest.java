@@ -16,6 +16,8 @@
 
 package org.drools.core.time.impl;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -25,6 +27,8 @@ import org.drools.core.time.JobContext;
 import org.drools.core.time.JobHandle;
 import org.drools.core.time.Trigger;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -35,8 +39,14 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+@RunWith(Parameterized.class)
 public class PseudoClockSchedulerTest {
 
+    @Parameterized.Parameters(name = "timingWheel={0}")
+    public static Collection<Object[]> getParameters() {
+        return Arrays.asList( new Object[][] { { false }, { true } } );
+    }
+
     private Job mockJob_1 = mock(Job.class, "mockJob_1");
     private JobContext mockContext_1 = mock(JobContext.class, "mockContext_1");
     private Trigger mockTrigger_1 = mock(Trigger.class, "mockTrigger_1");
@@ -45,7 +55,11 @@ public class PseudoClockSchedulerTest {
     private JobContext mockContext_2 = mock(JobContext.class, "mockContext_2");
     private Trigger mockTrigger_2 = mock(Trigger.class, "mockTrigger_2");
 
-    private PseudoClockScheduler scheduler = new PseudoClockScheduler();
+    private final PseudoClockScheduler scheduler;
+
+    public PseudoClockSchedulerTest(boolean timingWheel) {
+        this.scheduler = new PseudoClockScheduler( timingWheel );
+    }
 
     @Test public void removeExistingJob() {
         final Date triggerTime = new Date(1000);
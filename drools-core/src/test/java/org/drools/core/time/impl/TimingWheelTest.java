@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TimingWheelTest {
+
+    @Test
+    public void testExpirationOrder() {
+        TimingWheel<String> wheel = new TimingWheel<>( 1000 );
+        wheel.schedule( "c", 1000 + 70000 );
+        wheel.schedule( "a", 1000 + 5 );
+        wheel.schedule( "b", 1000 + 300 );
+        wheel.schedule( "a2", 1000 + 5 );
+        assertEquals( 4, wheel.size() );
+        assertEquals( 1005, wheel.nextExpirationTime() );
+
+        assertNull( wheel.poll( 1004 ) );
+        assertEquals( 1004, wheel.getCurrentTime() );
+        assertEquals( "a", wheel.poll( 2000 ).getItem() );
+        assertEquals( "a2", wheel.poll( 2000 ).getItem() );
+        assertEquals( "b", wheel.poll( 2000 ).getItem() );
+        assertNull( wheel.poll( 2000 ) );
+        assertEquals( 71000, wheel.nextExpirationTime() );
+
+        TimingWheel.Entry<String> entry = wheel.poll( Long.MAX_VALUE / 2 );
+        assertEquals( "c", entry.getItem() );
+        assertEquals( 71000, entry.getTime() );
+        assertFalse( entry.isScheduled() );
+        assertTrue( wheel.isEmpty() );
+        assertEquals( -1, wheel.nextExpirationTime() );
+    }
+
+    @Test
+    public void testCancel() {
+        TimingWheel<String> wheel = new TimingWheel<>( 0 );
+        TimingWheel.Entry<String> a = wheel.schedule( "a", 10 );
+        TimingWheel.Entry<String> b = wheel.schedule( "b", 10 );
+        TimingWheel.Entry<String> c = wheel.schedule( "c", 5000 );
+
+        assertTrue( wheel.cancel( b ) );
+        assertFalse( wheel.cancel( b ) );
+        assertTrue( wheel.cancel( c ) );
+        assertEquals( 1, wheel.size() );
+        assertEquals( 10, wheel.nextExpirationTime() );
+
+        assertEquals( a, wheel.poll( 100000 ) );
+        assertNull( wheel.poll( 100000 ) );
+        assertFalse( wheel.cancel( a ) );
+    }
+
+    @Test
+    public void testItemsScheduledInThePast() {
+        TimingWheel<String> wheel = new TimingWheel<>( 100 );
+        wheel.schedule( "late", 200 );
+        assertNull( wheel.poll( 150 ) );
+
+        // the items already expired are due immediately, still ordered by their expiration time
+        wheel.schedule( "past", 120 );
+        wheel.schedule( "now", 150 );
+        wheel.schedule( "older", 50 );
+        assertEquals( 50, wheel.nextExpirationTime() );
+        assertEquals( "older", wheel.poll( 150 ).getItem() );
+        assertEquals( "past", wheel.poll( 150 ).getItem() );
+        assertEquals( "now", wheel.poll( 150 ).getItem() );
+        assertNull( wheel.poll( 150 ) );
+        assertEquals( "late", wheel.poll( 200 ).getItem() );
+    }
+
+    @Test
+    public void testSameOrderOfPriorityQueue() {
+        Random random = new Random( 0 );
+        TimingWheel<long[]> wheel = new TimingWheel<>( 0 );
+        PriorityQueue<long[]> queue = new PriorityQueue<>( (a, b) -> a[0] != b[0] ? Long.compare( a[0], b[0] ) : Long.compare( a[1], b[1] ) );
+        List<TimingWheel.Entry<long[]>> entries = new ArrayList<>();
+
+        long now = 0;
+        long sequence = 0;
+        for (int round = 0; round < 200; round++) {
+            for (int i = 0; i < 50; i++) {
+                // mixes near and very far expirations, with many of them at the same time
+                long delay = random.nextInt( 4 ) == 0 ? random.nextInt( 1 << 20 ) : random.nextInt( 100 );
+                long[] item = new long[] { now + delay, sequence++ };
+                entries.add( wheel.schedule( item, item[0] ) );
+                queue.add( item );
+            }
+            for (int i = 0; i < 10; i++) {
+                TimingWheel.Entry<long[]> entry = entries.get( random.nextInt( entries.size() ) );
+                if ( wheel.cancel( entry ) ) {
+                    queue.remove( entry.getItem() );
+                }
+            }
+            now += random.nextInt( 3 ) == 0 ? random.nextInt( 1 << 16 ) : random.nextInt( 50 );
+
+            TimingWheel.Entry<long[]> entry;
+            while ( (entry = wheel.poll( now )) != null ) {
+                assertEquals( queue.poll(), entry.getItem() );
+            }
+            assertTrue( queue.isEmpty() || queue.peek()[0] > now );
+            assertEquals( queue.size(), wheel.size() );
+            assertEquals( queue.isEmpty() ? -1 : queue.peek()[0], wheel.nextExpirationTime() );
+        }
+    }
+
+    @Test
+    public void testClear() {
+        TimingWheel<String> wheel = new TimingWheel<>( 0 );
+        TimingWheel.Entry<String> a = wheel.schedule( "a", 0 );
+        TimingWheel.Entry<String> b = wheel.schedule( "b", 1000 );
+        wheel.clear( 500 );
+
+        assertTrue( wheel.isEmpty() );
+        assertFalse( a.isScheduled() );
+        assertFalse( b.isScheduled() );
+        assertEquals( 500, wheel.getCurrentTime() );
+        assertTrue( wheel.getItems().isEmpty() );
+        assertNull( wheel.poll( 2000 ) );
+    }
+}
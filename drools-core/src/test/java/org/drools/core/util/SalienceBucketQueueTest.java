@@ -0,0 +1,145 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.drools.core.common.AgendaItemImpl;
+import org.drools.core.spi.Activation;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SalienceBucketQueueTest {
+
+    @Test
+    public void testFifoWithinSalience() {
+        SalienceBucketQueue queue = new SalienceBucketQueue( false );
+        Activation a1 = activation( 1, 0 );
+        Activation a2 = activation( 2, 10 );
+        Activation a3 = activation( 3, 0 );
+        Activation a4 = activation( 4, 10 );
+        Activation a5 = activation( 5, -5 );
+
+        queue.enqueue( a1 );
+        queue.enqueue( a2 );
+        queue.enqueue( a3 );
+        queue.enqueue( a4 );
+        queue.enqueue( a5 );
+        assertEquals( 5, queue.size() );
+        assertTrue( a1.isQueued() );
+
+        assertArrayEquals( new Activation[] { a2, a4, a1, a3, a5 }, queue.toArray( new Activation[0] ) );
+        assertSame( a2, queue.peek() );
+        assertSame( a2, queue.dequeue() );
+        assertFalse( a2.isQueued() );
+        assertSame( a4, queue.dequeue() );
+        assertSame( a1, queue.dequeue() );
+        assertSame( a3, queue.dequeue() );
+        assertSame( a5, queue.dequeue() );
+        assertTrue( queue.isEmpty() );
+        assertNull( queue.dequeue() );
+    }
+
+    @Test
+    public void testLifoWithinSalience() {
+        SalienceBucketQueue queue = new SalienceBucketQueue( true );
+        Activation a1 = activation( 1, 0 );
+        Activation a2 = activation( 2, 10 );
+        Activation a3 = activation( 3, 0 );
+        Activation a4 = activation( 4, 10 );
+
+        queue.enqueue( a1 );
+        queue.enqueue( a2 );
+        queue.enqueue( a3 );
+        queue.enqueue( a4 );
+
+        assertArrayEquals( new Activation[] { a4, a2, a3, a1 }, queue.getAndClear() );
+        assertTrue( queue.isEmpty() );
+    }
+
+    @Test
+    public void testRemoveFromTheMiddle() {
+        SalienceBucketQueue queue = new SalienceBucketQueue( false );
+        List<Activation> activations = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Activation activation = activation( i, i % 3 );
+            activations.add( activation );
+            queue.enqueue( activation );
+        }
+
+        for (int i = 0; i < 100; i += 2) {
+            queue.dequeue( activations.get( i ) );
+            assertFalse( activations.get( i ).isQueued() );
+        }
+        // removing an activation twice has no effect
+        queue.dequeue( activations.get( 0 ) );
+        assertEquals( 50, queue.size() );
+
+        // the remaining activations are still found in the right order after growing the buckets
+        for (int i = 100; i < 200; i++) {
+            queue.enqueue( activation( i, i % 3 ) );
+        }
+
+        int lastSalience = Integer.MAX_VALUE;
+        long lastNumber = -1;
+        int count = 0;
+        while ( !queue.isEmpty() ) {
+            Activation activation = queue.dequeue();
+            if ( activation.getSalience() != lastSalience ) {
+                assertTrue( activation.getSalience() < lastSalience );
+                lastSalience = activation.getSalience();
+                lastNumber = -1;
+            }
+            assertTrue( activation.getActivationNumber() > lastNumber );
+            assertTrue( activation.getActivationNumber() >= 100 || activation.getActivationNumber() % 2 == 1 );
+            lastNumber = activation.getActivationNumber();
+            count++;
+        }
+        assertEquals( 150, count );
+    }
+
+    @Test
+    public void testManyDistinctSaliences() {
+        SalienceBucketQueue queue = new SalienceBucketQueue( false );
+        Random random = new Random( 0 );
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 500; i++) {
+                queue.enqueue( activation( i, random.nextInt( 200 ) - 100 ) );
+            }
+            int lastSalience = Integer.MAX_VALUE;
+            for (int i = 0; i < 400; i++) {
+                Activation activation = queue.dequeue();
+                assertTrue( activation.getSalience() <= lastSalience );
+                lastSalience = activation.getSalience();
+            }
+        }
+        assertEquals( 1000, queue.size() );
+        assertEquals( 1000, queue.getAndClear().length );
+    }
+
+    private static Activation activation(long number, int salience) {
+        return new AgendaItemImpl( number, null, salience, null, null, null );
+    }
+}
@@ -46,6 +46,7 @@ import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.event.AgendaEventSupport;
 import org.drools.core.impl.RuleBase;
 import org.drools.core.phreak.ExecutableEntry;
+import org.drools.core.phreak.LockFreePropagationList;
 import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.phreak.PropagationList;
 import org.drools.core.phreak.RuleAgendaItem;
@@ -227,8 +228,12 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
             return new ThreadUnsafePropagationList( workingMemory );
         }
 
-        return workingMemory.getSessionConfiguration().hasForceEagerActivationFilter() ?
-               new SynchronizedBypassPropagationList( workingMemory ) :
+        if (workingMemory.getSessionConfiguration().hasForceEagerActivationFilter()) {
+            return new SynchronizedBypassPropagationList( workingMemory );
+        }
+
+        return workingMemory.getSessionConfiguration().isLockFreePropagation() ?
+               new LockFreePropagationList( workingMemory ) :
                new SynchronizedPropagationList( workingMemory );
     }
 
@@ -804,17 +809,13 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
                 }
 
                 PropagationEntry head;
-                // this must use the same sync target as takeAllPropagations, to ensure this entire block is atomic, up to the point of wait
-                synchronized (agenda.propagationList) {
-                    head = agenda.propagationList.takeAll();
-
-                    // if halt() has called, the thread should not be put into a wait state
-                    // instead this is just a safe way to make sure the queue is flushed before exiting the loop
-                    if (head == null && (
-                            agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.FIRING_UNTIL_HALT ||
-                            agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.INACTIVE_ON_FIRING_UNTIL_HALT )) {
-                        agenda.propagationList.waitOnRest();
-                        head = agenda.propagationList.takeAll();
+                if (agenda.propagationList.isWaitOnRestLockFree()) {
+                    // the list itself guarantees that an entry added before the wait wakes the consumer up
+                    head = takeAllOrWaitOnRest(agenda);
+                } else {
+                    // this must use the same sync target as takeAllPropagations, to ensure this entire block is atomic, up to the point of wait
+                    synchronized (agenda.propagationList) {
+                        head = takeAllOrWaitOnRest(agenda);
                     }
                 }
 
@@ -824,6 +825,20 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
 
                 return head;
             }
+
+            private static PropagationEntry takeAllOrWaitOnRest(DefaultAgenda agenda) {
+                PropagationEntry head = agenda.propagationList.takeAll();
+
+                // if halt() has called, the thread should not be put into a wait state
+                // instead this is just a safe way to make sure the queue is flushed before exiting the loop
+                if (head == null && (
+                        agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.FIRING_UNTIL_HALT ||
+                        agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.INACTIVE_ON_FIRING_UNTIL_HALT )) {
+                    agenda.propagationList.waitOnRest();
+                    head = agenda.propagationList.takeAll();
+                }
+                return head;
+            }
         }
     }
 
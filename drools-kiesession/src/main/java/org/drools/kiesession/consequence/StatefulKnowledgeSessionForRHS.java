@@ -274,6 +274,18 @@ public class StatefulKnowledgeSessionForRHS
         return delegate.insert(object);
     }
 
+    public void setAllowedLateness(long allowedLateness) {
+        delegate.setAllowedLateness(allowedLateness);
+    }
+
+    public void advanceWatermark(long watermark) {
+        delegate.advanceWatermark(watermark);
+    }
+
+    public long getWatermark() {
+        return delegate.getWatermark();
+    }
+
     public void submit(AtomicAction action) {
         delegate.submit(action);
     }
@@ -31,8 +31,10 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.base.TraitHelper;
 import org.drools.core.common.ClassAwareObjectStore;
+import org.drools.core.common.CompactEventFactHandle;
 import org.drools.core.common.EqualityKey;
 import org.drools.core.common.EventFactHandle;
+import org.drools.core.common.EventReorderBuffer;
 import org.drools.core.common.IdentityObjectStore;
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.InternalWorkingMemoryEntryPoint;
@@ -90,6 +92,9 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
 
     protected Set<InternalFactHandle> dynamicFacts = null;
 
+    // the events waiting for the watermark, only when an allowed lateness has been set
+    private EventReorderBuffer reorderBuffer;
+
     private boolean isEqualityBehaviour = false;
 
     protected NamedEntryPoint() {
@@ -129,6 +134,9 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
 
     public void reset() {
         this.objectStore.clear();
+        if (reorderBuffer != null) {
+            reorderBuffer.clear();
+        }
         if (TruthMaintenanceSystemFactory.present()) {
             TruthMaintenanceSystemFactory.get().clearTruthMaintenanceSystem(this);
         }
@@ -188,6 +196,10 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
                 return handle;
             }
 
+            if ( reorderBuffer != null && rule == null && !dynamic && isReorderable( typeConf ) ) {
+                return insertReordered( object, typeConf );
+            }
+
             InternalFactHandle handle;
             try {
                 lock();
@@ -234,6 +246,210 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
 
     }
 
+    private static boolean isReorderable(ObjectTypeConf typeConf) {
+        return typeConf.isEvent() && !typeConf.isTMSEnabled() && !typeConf.isDynamic() &&
+                typeConf.getTypeDeclaration() != null && typeConf.getTypeDeclaration().getTimestampExtractor() != null;
+    }
+
+    private FactHandle insertReordered(Object object, ObjectTypeConf typeConf) {
+        try {
+            lock();
+
+            InternalFactHandle existingHandle = this.objectStore.getHandleForObject( object );
+            if ( existingHandle == null ) {
+                // the object could be inserted again while it is still held
+                existingHandle = reorderBuffer.getHandleForObject( object );
+            }
+            if ( existingHandle != null ) {
+                return existingHandle;
+            }
+
+            EventFactHandle handle = (EventFactHandle) createHandle( object, typeConf );
+            if ( reorderBuffer.isLate( handle.getStartTimestamp() ) ) {
+                insert( handle, object, null, null, typeConf );
+            } else {
+                reorderBuffer.add( handle );
+                releaseReordered();
+            }
+            return handle;
+        } finally {
+            unlock();
+        }
+    }
+
+    private void updateReordered(EventFactHandle handle, Object object) {
+        ObjectTypeConf typeConf = getObjectTypeConfigurationRegistry().getOrCreateObjectTypeConf( this.entryPoint, object );
+        if ( !isReorderable( typeConf ) ) {
+            // the new object cannot be reordered, so it is inserted right away
+            reorderBuffer.remove( handle );
+            handle.setObject( object );
+            insert( handle, object, null, null, typeConf );
+            return;
+        }
+
+        // the event is not in the network yet, so it is moved to the position of its new timestamp
+        TypeDeclaration typeDeclaration = typeConf.getTypeDeclaration();
+        long timestamp = typeDeclaration.getTimestampExtractor().getLongValue( this.reteEvaluator, object );
+        long duration = typeDeclaration.getDurationExtractor() != null ?
+                typeDeclaration.getDurationExtractor().getLongValue( this.reteEvaluator, object ) :
+                0;
+        reorderBuffer.update( handle, object, timestamp, duration );
+        releaseReordered();
+    }
+
+    private void releaseReordered() {
+        EventFactHandle handle;
+        while ( (handle = reorderBuffer.poll()) != null ) {
+            Object object = handle.getObject();
+            insert( handle, object, null, null, getObjectTypeConfigurationRegistry().getOrCreateObjectTypeConf( this.entryPoint, object ) );
+        }
+    }
+
+    @Override
+    public void setAllowedLateness(long allowedLateness) {
+        if ( isEqualityBehaviour ) {
+            // the held events are tracked by identity, while an equality based session would look them up by equality
+            throw new UnsupportedOperationException( "The events cannot be reordered with the equality assert behaviour" );
+        }
+        lock();
+        try {
+            if ( reorderBuffer == null ) {
+                reorderBuffer = new EventReorderBuffer( allowedLateness );
+            } else {
+                reorderBuffer.setAllowedLateness( allowedLateness );
+            }
+        } finally {
+            unlock();
+        }
+    }
+
+    @Override
+    public void advanceWatermark(long watermark) {
+        if ( reorderBuffer == null ) {
+            throw new IllegalStateException( "The entry point '" + getEntryPointId() + "' has no allowed lateness, so it doesn't reorder the events" );
+        }
+        lock();
+        try {
+            this.reteEvaluator.startOperation();
+            if ( reorderBuffer.advanceWatermark( watermark ) ) {
+                releaseReordered();
+            }
+        } finally {
+            this.reteEvaluator.endOperation();
+            unlock();
+        }
+    }
+
+    @Override
+    public long getWatermark() {
+        return reorderBuffer != null ? reorderBuffer.getWatermark() : Long.MIN_VALUE;
+    }
+
+    /**
+     * Returns true if some events are held by the reorder buffer of this entry point, waiting for the watermark
+     */
+    public boolean hasHeldEvents() {
+        return reorderBuffer != null && !reorderBuffer.isEmpty();
+    }
+
+    /**
+     * Inserts all the given facts under a single lock acquisition. Consecutive facts of the same type are staged
+     * and propagated into the network at once, so that the ObjectTypeNodes are entered only once per run of facts
+     * of the same type, while the insertion order across different types is preserved. Every fact still gets its
+     * own propagation context, since the nodes inspect the fact handle of the context that propagated a tuple.
+     * Facts whose type requires truth maintenance or property change support are inserted one at a time, as well as
+     * the events going through the reorder buffer of this entry point.
+     */
+    @Override
+    public List<FactHandle> insertBatch(Collection<?> objects) {
+        List<FactHandle> handles = new ArrayList<>(objects.size());
+        if ( this.reteEvaluator.isSequential() ) {
+            for ( Object object : objects ) {
+                handles.add( insert( object ) );
+            }
+            return handles;
+        }
+
+        try {
+            this.reteEvaluator.startOperation();
+            lock();
+
+            this.ruleBase.executeQueuedActions();
+
+            StagedInsertions staged = new StagedInsertions();
+            for ( Object object : objects ) {
+                handles.add( stageInsert( object, staged ) );
+            }
+            insertStaged( staged );
+        } finally {
+            unlock();
+            this.reteEvaluator.endOperation();
+        }
+        return handles;
+    }
+
+    private FactHandle stageInsert(Object object, StagedInsertions staged) {
+        if ( object == null ) {
+            return null;
+        }
+
+        ObjectTypeConf typeConf = getObjectTypeConfigurationRegistry().getOrCreateObjectTypeConf( this.entryPoint, object );
+        if ( typeConf.isTMSEnabled() || typeConf.isDynamic() ) {
+            // propagate what has been staged so far to preserve the insertion order
+            insertStaged( staged );
+            return insert( object );
+        }
+
+        if ( reorderBuffer != null && isReorderable( typeConf ) ) {
+            insertStaged( staged );
+            return insertReordered( object, typeConf );
+        }
+
+        InternalFactHandle handle = this.objectStore.getHandleForObject( object );
+        if ( handle != null ) {
+            return handle;
+        }
+
+        if ( staged.typeConf != typeConf ) {
+            insertStaged( staged );
+            staged.typeConf = typeConf;
+        }
+
+        handle = createHandle( object, typeConf );
+        this.objectStore.addHandle( handle, object );
+        staged.handles.add( handle );
+        staged.contexts.add( this.pctxFactory.createPropagationContext(this.reteEvaluator.getNextPropagationIdCounter(),
+                PropagationContext.Type.INSERTION,
+                null,
+                null,
+                handle,
+                entryPoint) );
+        return handle;
+    }
+
+    private void insertStaged(StagedInsertions staged) {
+        if ( staged.handles.isEmpty() ) {
+            return;
+        }
+
+        InternalFactHandle[] typeHandles = staged.handles.toArray( new InternalFactHandle[staged.handles.size()] );
+        PropagationContext[] contexts = staged.contexts.toArray( new PropagationContext[staged.contexts.size()] );
+        this.entryPointNode.assertObjects( typeHandles, contexts, staged.typeConf, this.reteEvaluator );
+
+        for ( int i = 0; i < typeHandles.length; i++ ) {
+            this.reteEvaluator.getRuleRuntimeEventSupport().fireObjectInserted( contexts[i], typeHandles[i], typeHandles[i].getObject(), this.reteEvaluator );
+        }
+
+        staged.handles.clear();
+        staged.contexts.clear();
+    }
+
+    private static class StagedInsertions {
+        private final List<InternalFactHandle> handles = new ArrayList<>();
+        private final List<PropagationContext> contexts = new ArrayList<>();
+        private ObjectTypeConf typeConf;
+    }
+
     public void insert(InternalFactHandle handle,
                        Object object,
                        RuleImpl rule,
@@ -319,12 +535,20 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
                                      final BitMask mask,
                                      final Class<?> modifiedClass,
                                      final Activation activation) {
+        if (handle instanceof CompactEventFactHandle) {
+            throw new UnsupportedOperationException("The event " + handle.getObject() + " has a compact fact handle and cannot be updated");
+        }
         lock();
         try {
             this.reteEvaluator.startOperation();
             try {
                 this.ruleBase.executeQueuedActions();
 
+                if (reorderBuffer != null && reorderBuffer.contains(handle)) {
+                    updateReordered((EventFactHandle) handle, object);
+                    return handle;
+                }
+
                 // the handle might have been disconnected, so reconnect if it has
                 if (handle.isDisconnected()) {
                     handle = this.objectStore.reconnect(handle);
@@ -420,6 +644,12 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
                     return;
                 }
 
+                if (reorderBuffer != null && reorderBuffer.remove(handle)) {
+                    // the event has never been inserted in the network
+                    this.handleFactory.destroyFactHandle( handle );
+                    return;
+                }
+
                 // the handle might have been disconnected, so reconnect if it has
                 if (handle.isDisconnected()) {
                     handle = this.objectStore.reconnect(handle);
@@ -26,6 +26,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -41,8 +42,9 @@ import org.drools.core.SessionConfiguration;
 import org.drools.core.WorkingMemoryEntryPoint;
 import org.drools.core.base.CalendarsImpl;
 import org.drools.core.base.DroolsQuery;
-import org.drools.core.base.InternalViewChangedEventListener;
+import org.drools.core.base.AbstractQueryViewListener;
 import org.drools.core.base.MapGlobalResolver;
+import org.drools.core.base.MaterializedQueryView;
 import org.drools.core.base.NonCloningQueryViewListener;
 import org.drools.core.base.QueryRowWithSubruleIndex;
 import org.drools.core.base.StandardQueryViewChangedEventListener;
@@ -235,6 +237,12 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
 
     private NamedEntryPointsManager entryPointsManager;
 
+    // the maximum number of materialized queries kept open, the least recently used ones are closed beyond it
+    private static final int MAX_MATERIALIZED_QUERIES = 64;
+
+    // the views of the materialized queries, indexed by query name followed by the arguments, in access order
+    private LinkedHashMap<List<Object>, MaterializedQueryView> materializedQueries;
+
     // ------------------------------------------------------------
     // Constructors
     // ------------------------------------------------------------
@@ -632,6 +640,10 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
                 agenda.executeFlush();
             }
 
+            if (!calledFromRHS && config.isMaterializedQueries()) {
+                return getMaterializedQueryResults(queryName, arguments);
+            }
+
             DroolsQuery queryObject = new DroolsQuery( queryName,
                                                        arguments,
                                                        getQueryListenerInstance(),
@@ -669,7 +681,128 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         }
     }
 
-    private InternalViewChangedEventListener getQueryListenerInstance() {
+    private QueryResultsImpl getMaterializedQueryResults(String queryName, Object[] arguments) {
+        if (materializedQueries == null) {
+            materializedQueries = new LinkedHashMap<>( 16, 0.75f, true );
+        }
+        List<Object> key = materializedQueryKey( queryName, arguments );
+
+        MaterializedQueryView view = materializedQueries.get( key );
+        if (view != null && !refreshMaterializedQuery( view )) {
+            // the query has been removed or rebuilt by an update of the kbase after the view was opened
+            materializedQueries.remove( key );
+            closeMaterializedQuery( view );
+            view = null;
+        }
+        if (view == null) {
+            view = openMaterializedQuery( queryName, arguments );
+            materializedQueries.put( key, view );
+            if (materializedQueries.size() > MAX_MATERIALIZED_QUERIES) {
+                Iterator<MaterializedQueryView> eldest = materializedQueries.values().iterator();
+                closeMaterializedQuery( eldest.next() );
+                eldest.remove();
+            }
+        }
+
+        return new QueryResultsImpl( view.getResults(),
+                                     view.getDeclarations(),
+                                     this,
+                                     view.getParameters() );
+    }
+
+    private MaterializedQueryView openMaterializedQuery(String queryName, Object[] arguments) {
+        MaterializedQueryView view = new MaterializedQueryView( getQueryListenerInstance() );
+
+        DroolsQuery queryObject = new DroolsQuery( queryName,
+                                                   arguments,
+                                                   view,
+                                                   true );
+        InternalFactHandle handle = this.handleFactory.newFactHandle( queryObject,
+                                                                      null,
+                                                                      this,
+                                                                      this );
+
+        final PropagationContext pCtx = pctxFactory.createPropagationContext(getNextPropagationIdCounter(), PropagationContext.Type.INSERTION,
+                                                                             null, null, handle, getEntryPoint());
+
+        QueryTerminalNode[] tnodes = evalQuery( queryName, queryObject, handle, pCtx, false );
+
+        List<Map<String, Declaration>> decls = new ArrayList<>();
+        if ( tnodes != null ) {
+            for ( TerminalNode node : tnodes ) {
+                decls.add( node.getSubRule().getOuterDeclarations() );
+            }
+        }
+
+        view.init( handle,
+                   tnodes,
+                   decls.toArray( new Map[decls.size()] ),
+                   ( queryObject.getQuery() != null ) ? queryObject.getQuery().getParameters()  : new Declaration[0] );
+        return view;
+    }
+
+    private static List<Object> materializedQueryKey(String queryName, Object[] arguments) {
+        // the arguments array belongs to the caller, so the key must be a copy of it
+        List<Object> key = new ArrayList<>( arguments != null ? arguments.length + 1 : 1 );
+        key.add( queryName );
+        if (arguments != null) {
+            Collections.addAll( key, arguments );
+        }
+        return key;
+    }
+
+    private boolean refreshMaterializedQuery(MaterializedQueryView view) {
+        ExecuteRefreshMaterializedQuery refresh = new ExecuteRefreshMaterializedQuery( view );
+        addPropagation( refresh );
+        return refresh.getResult();
+    }
+
+    private void closeMaterializedQuery(MaterializedQueryView view) {
+        ExecuteCloseMaterializedQuery close = new ExecuteCloseMaterializedQuery( view );
+        addPropagation( close );
+        close.getResult();
+    }
+
+    /**
+     * Closes the materialized view of the given query and arguments, if any. The following getQueryResults with
+     * the same arguments opens it again.
+     */
+    public void closeMaterializedQuery(String queryName, Object... arguments) {
+        try {
+            startOperation();
+            this.lock.lock();
+            if (materializedQueries != null) {
+                MaterializedQueryView view = materializedQueries.remove( materializedQueryKey( queryName, arguments ) );
+                if (view != null) {
+                    closeMaterializedQuery( view );
+                }
+            }
+        } finally {
+            this.lock.unlock();
+            endOperation();
+        }
+    }
+
+    /**
+     * Closes all the materialized views of the queries, releasing the memory they use.
+     */
+    public void closeMaterializedQueries() {
+        try {
+            startOperation();
+            this.lock.lock();
+            if (materializedQueries != null) {
+                for (MaterializedQueryView view : materializedQueries.values()) {
+                    closeMaterializedQuery( view );
+                }
+                materializedQueries = null;
+            }
+        } finally {
+            this.lock.unlock();
+            endOperation();
+        }
+    }
+
+    private AbstractQueryViewListener getQueryListenerInstance() {
         switch ( this.config.getQueryListenerOption() ) {
             case STANDARD :
                 return new StandardQueryViewChangedEventListener();
@@ -742,20 +875,107 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
 
         @Override
         public void execute( ReteEvaluator reteEvaluator ) {
-            LeftInputAdapterNode lian = factHandle.getFirstLeftTuple().getTupleSource();
-            LeftInputAdapterNode.LiaNodeMemory lmem = getNodeMemory(lian);
-            SegmentMemory lsmem = lmem.getSegmentMemory();
+            doCloseLiveQuery( factHandle );
+            done(null);
+        }
+    }
+
+    private void doCloseLiveQuery( InternalFactHandle factHandle ) {
+        LeftInputAdapterNode lian = factHandle.getFirstLeftTuple().getTupleSource();
+        LeftInputAdapterNode.LiaNodeMemory lmem = getNodeMemory(lian);
+        SegmentMemory lsmem = lmem.getSegmentMemory();
+
+        LeftTuple childLeftTuple = factHandle.getFirstLeftTuple(); // there is only one, all other LTs are peers
+        LeftInputAdapterNode.doDeleteObject( childLeftTuple, childLeftTuple.getPropagationContext(),  lsmem, StatefulKnowledgeSessionImpl.this, lian, false, lmem );
+
+        for ( PathMemory rm : lmem.getSegmentMemory().getPathMemories() ) {
+            RuleAgendaItem evaluator = agenda.createRuleAgendaItem( Integer.MAX_VALUE, rm, (TerminalNode) rm.getPathEndNode() );
+            evaluator.getRuleExecutor().setDirty( true );
+            evaluator.getRuleExecutor().evaluateNetworkAndFire( StatefulKnowledgeSessionImpl.this, null, 0, -1 );
+        }
 
-            LeftTuple childLeftTuple = factHandle.getFirstLeftTuple(); // there is only one, all other LTs are peers
-            LeftInputAdapterNode.doDeleteObject( childLeftTuple, childLeftTuple.getPropagationContext(),  lsmem, StatefulKnowledgeSessionImpl.this, lian, false, lmem );
+        getFactHandleFactory().destroyFactHandle( factHandle );
+    }
+
+    /**
+     * Returns true if the query of the given view has been removed or rebuilt by an update of the kbase after the
+     * view was opened, so the view is no longer attached to the network of the query.
+     */
+    private boolean isStale( MaterializedQueryView view ) {
+        LeftTuple leftTuple = view.getQueryHandle().getFirstLeftTuple();
+        if ( leftTuple == null ) {
+            return true;
+        }
+        // the terminal nodes are compared by identity, as a rebuilt query has equal ones
+        QueryTerminalNode[] tnodes = kBase.getReteooBuilder().getTerminalNodesForQuery( view.getQueryName() );
+        QueryTerminalNode[] viewTnodes = view.getTerminalNodes();
+        if ( tnodes == null || tnodes.length != viewTnodes.length ) {
+            return true;
+        }
+        for ( int i = 0; i < tnodes.length; i++ ) {
+            if ( tnodes[i] != viewTnodes[i] ) {
+                return true;
+            }
+        }
+        LeftInputAdapterNode.LiaNodeMemory lmem = getNodeMemory( (LeftInputAdapterNode) leftTuple.getTupleSource() );
+        return lmem.getSegmentMemory() == null;
+    }
+
+    /**
+     * Evaluates the changes pending on the paths of a materialized query, so its view reflects the current facts.
+     * The query agenda items are otherwise evaluated only when the rules depending on them are.
+     * The result is false if the view is stale and has to be opened again.
+     */
+    private class ExecuteRefreshMaterializedQuery extends PropagationEntry.PropagationEntryWithResult<Boolean> {
+
+        private final MaterializedQueryView view;
+
+        private ExecuteRefreshMaterializedQuery( MaterializedQueryView view ) {
+            this.view = view;
+        }
+
+        @Override
+        public void execute( ReteEvaluator reteEvaluator ) {
+            if ( isStale( view ) ) {
+                done(false);
+                return;
+            }
+
+            LeftInputAdapterNode lian = view.getQueryHandle().getFirstLeftTuple().getTupleSource();
+            LeftInputAdapterNode.LiaNodeMemory lmem = getNodeMemory(lian);
 
             for ( PathMemory rm : lmem.getSegmentMemory().getPathMemories() ) {
-                RuleAgendaItem evaluator = agenda.createRuleAgendaItem( Integer.MAX_VALUE, rm, (TerminalNode) rm.getPathEndNode() );
-                evaluator.getRuleExecutor().setDirty( true );
-                evaluator.getRuleExecutor().evaluateNetworkAndFire( StatefulKnowledgeSessionImpl.this, null, 0, -1 );
+                RuleAgendaItem evaluator = rm.getRuleAgendaItem();
+                if ( evaluator != null && evaluator.getRuleExecutor().isDirty() ) {
+                    evaluator.getRuleExecutor().evaluateNetworkAndFire( StatefulKnowledgeSessionImpl.this, null, 0, -1 );
+                }
             }
 
-            getFactHandleFactory().destroyFactHandle( factHandle );
+            done(true);
+        }
+    }
+
+    /**
+     * Closes the query of a materialized view as closeLiveQuery does. A stale view is just detached from the
+     * tuples left by the network it was opened on.
+     */
+    private class ExecuteCloseMaterializedQuery extends PropagationEntry.PropagationEntryWithResult<Void> {
+
+        private final MaterializedQueryView view;
+
+        private ExecuteCloseMaterializedQuery( MaterializedQueryView view ) {
+            this.view = view;
+        }
+
+        @Override
+        public void execute( ReteEvaluator reteEvaluator ) {
+            InternalFactHandle factHandle = view.getQueryHandle();
+            if ( isStale( view ) ) {
+                factHandle.clearLeftTuples();
+                getFactHandleFactory().destroyFactHandle( factHandle );
+            } else {
+                doCloseLiveQuery( factHandle );
+            }
             done(null);
         }
     }
@@ -837,6 +1057,7 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         }
 
         this.agenda.reset();
+        this.materializedQueries = null;
 
         this.globalResolver.clear();
         this.kieBaseEventListeners.clear();
@@ -869,6 +1090,7 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
             nodeMemories.clear();
         }
         this.agenda.clear();
+        this.materializedQueries = null;
 
         for ( WorkingMemoryEntryPoint ep : this.entryPointsManager.getEntryPoints() ) {
             // clear the state for each entry point
@@ -1221,6 +1443,28 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
                        null );
     }
 
+    @Override
+    public List<FactHandle> insertBatch(final Collection<?> objects) {
+        checkAlive();
+        return this.entryPointsManager.getDefaultEntryPoint().insertBatch( objects );
+    }
+
+    @Override
+    public void setAllowedLateness(long allowedLateness) {
+        this.entryPointsManager.getDefaultEntryPoint().setAllowedLateness( allowedLateness );
+    }
+
+    @Override
+    public void advanceWatermark(long watermark) {
+        checkAlive();
+        this.entryPointsManager.getDefaultEntryPoint().advanceWatermark( watermark );
+    }
+
+    @Override
+    public long getWatermark() {
+        return this.entryPointsManager.getDefaultEntryPoint().getWatermark();
+    }
+
     public void submit(AtomicAction action) {
         agenda.addPropagation( new PropagationEntry.AbstractPropagationEntry() {
             @Override
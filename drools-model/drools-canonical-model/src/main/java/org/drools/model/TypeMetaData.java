@@ -18,8 +18,17 @@
 package org.drools.model;
 
 import java.util.Map;
+import java.util.function.ToLongFunction;
 
 public interface TypeMetaData extends NamedModelItem {
     Class<?> getType();
     Map<String, AnnotationValue[]> getAnnotations();
+
+    default ToLongFunction<Object> getTimestampAccessor() {
+        return null;
+    }
+
+    default ToLongFunction<Object> getDurationAccessor() {
+        return null;
+    }
 }
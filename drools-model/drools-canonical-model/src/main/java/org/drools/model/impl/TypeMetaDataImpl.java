@@ -20,6 +20,7 @@ import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.ToLongFunction;
 
 import org.drools.model.AnnotationValue;
 import org.drools.model.TypeMetaData;
@@ -33,6 +34,9 @@ public class TypeMetaDataImpl implements TypeMetaData, ModelComponent {
     private final String name;
     private final Map<String, AnnotationValue[]> annotations = new HashMap<>();
 
+    private ToLongFunction<Object> timestampAccessor;
+    private ToLongFunction<Object> durationAccessor;
+
     public TypeMetaDataImpl( Class<?> type ) {
         this.type = type;
         this.pkg = type.getPackage().getName();
@@ -64,6 +68,26 @@ public class TypeMetaDataImpl implements TypeMetaData, ModelComponent {
         return this;
     }
 
+    @Override
+    public ToLongFunction<Object> getTimestampAccessor() {
+        return timestampAccessor;
+    }
+
+    public <T> TypeMetaDataImpl withTimestampAccessor( ToLongFunction<T> timestampAccessor ) {
+        this.timestampAccessor = (ToLongFunction<Object>) timestampAccessor;
+        return this;
+    }
+
+    @Override
+    public ToLongFunction<Object> getDurationAccessor() {
+        return durationAccessor;
+    }
+
+    public <T> TypeMetaDataImpl withDurationAccessor( ToLongFunction<T> durationAccessor ) {
+        this.durationAccessor = (ToLongFunction<Object>) durationAccessor;
+        return this;
+    }
+
     @Override
     public boolean isEqualTo( ModelComponent o ) {
         if ( this == o ) return true;
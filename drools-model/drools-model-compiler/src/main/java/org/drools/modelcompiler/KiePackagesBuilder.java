@@ -990,7 +990,11 @@ public class KiePackagesBuilder {
             return new LambdaAccumulator.FixedValueAcc((org.kie.api.runtime.rule.AccumulateFunction) functionObject, (( Value ) accFunction.getSource()).getValue());
         }
         if (functionObject instanceof org.kie.api.runtime.rule.AccumulateFunction) {
-            return createLambdaAccumulator(usedVariableName, binding, (org.kie.api.runtime.rule.AccumulateFunction) functionObject);
+            LambdaAccumulator accumulator = createLambdaAccumulator(usedVariableName, binding, (org.kie.api.runtime.rule.AccumulateFunction) functionObject);
+            if (accFunction.getSource() != null) {
+                accumulator.setSourceType(accFunction.getSource().getType());
+            }
+            return accumulator;
         }
         if (functionObject instanceof Accumulator) {
             return (Accumulator) functionObject;
@@ -998,7 +1002,7 @@ public class KiePackagesBuilder {
         throw new RuntimeException("Unknown functionClass" + functionObject.getClass().getCanonicalName());
     }
 
-    private Accumulator createLambdaAccumulator(Collection<String> usedVariableName, BindingEvaluator binding, org.kie.api.runtime.rule.AccumulateFunction function) {
+    private LambdaAccumulator createLambdaAccumulator(Collection<String> usedVariableName, BindingEvaluator binding, org.kie.api.runtime.rule.AccumulateFunction function) {
         if (binding == null) {
             return new LambdaAccumulator.NotBindingAcc(function);
         } else {
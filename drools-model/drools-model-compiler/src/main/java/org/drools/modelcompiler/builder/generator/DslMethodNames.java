@@ -36,6 +36,8 @@ public class DslMethodNames {
     public static final String BUILD_CALL = "build";
     public static final String ADD_ANNOTATION_CALL = "addAnnotation";
     public static final String ANNOTATION_VALUE_CALL = "annotationValue";
+    public static final String TIMESTAMP_ACCESSOR_CALL = "withTimestampAccessor";
+    public static final String DURATION_ACCESSOR_CALL = "withDurationAccessor";
 
     // queries
     public static final String QUERY_INVOCATION_CALL = "call";
@@ -17,13 +17,17 @@
 
 package org.drools.modelcompiler.builder.generator.declaredtype;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.TypeDeclaration;
@@ -38,6 +42,7 @@ import org.drools.core.addon.TypeResolver;
 import org.drools.core.definitions.InternalKnowledgePackage;
 import org.drools.core.factmodel.AccessibleFact;
 import org.drools.core.factmodel.GeneratedFact;
+import org.drools.core.util.ClassUtils;
 import org.drools.modelcompiler.builder.GeneratedClassWithPackage;
 import org.drools.modelcompiler.builder.ModelBuilderImpl;
 import org.drools.modelcompiler.builder.PackageModel;
@@ -45,11 +50,15 @@ import org.drools.modelcompiler.builder.errors.DuplicatedDeclarationError;
 import org.drools.modelcompiler.builder.errors.InvalidExpressionErrorResult;
 import org.drools.modelcompiler.builder.generator.declaredtype.generator.GeneratedClassDeclaration;
 
+import static com.github.javaparser.StaticJavaParser.parseExpression;
+import static org.drools.core.util.ClassUtils.getGetterMethod;
 import static org.drools.core.util.Drools.hasMvel;
 import static org.drools.modelcompiler.builder.JavaParserCompiler.compileAll;
 import static org.drools.modelcompiler.builder.generator.DrlxParseUtil.toStringLiteral;
 import static org.drools.modelcompiler.builder.generator.DslMethodNames.ADD_ANNOTATION_CALL;
 import static org.drools.modelcompiler.builder.generator.DslMethodNames.ANNOTATION_VALUE_CALL;
+import static org.drools.modelcompiler.builder.generator.DslMethodNames.DURATION_ACCESSOR_CALL;
+import static org.drools.modelcompiler.builder.generator.DslMethodNames.TIMESTAMP_ACCESSOR_CALL;
 import static org.drools.modelcompiler.builder.generator.DslMethodNames.TYPE_META_DATA_CALL;
 import static org.drools.modelcompiler.builder.generator.DslMethodNames.createDslTopLevelMethod;
 
@@ -64,6 +73,11 @@ public class POJOGenerator {
 
     private static final List<String> exprAnnotations = Arrays.asList("duration", "timestamp");
 
+    private static final Set<String> longCompatibleTypes = new HashSet<>(Arrays.asList(
+            "long", "int", "short", "byte",
+            Long.class.getName(), Integer.class.getName(), Short.class.getName(), Byte.class.getName(),
+            Long.class.getSimpleName(), Integer.class.getSimpleName(), Short.class.getSimpleName(), Byte.class.getSimpleName()));
+
     public POJOGenerator(ModelBuilderImpl builder, InternalKnowledgePackage pkg, PackageDescr packageDescr, PackageModel packageModel) {
         this.builder = builder;
         this.pkg = pkg;
@@ -135,7 +149,16 @@ public class POJOGenerator {
                                                                                    MARKER_INTERFACES)
                 .toClassDeclaration();
         packageModel.addGeneratedPOJO(generatedClass);
-        addTypeMetadata(typeDescr.getTypeName());
+
+        String typeName = pkg.getName() + "." + typeDescr.getTypeName();
+        MethodCallExpr typeMetaDataCall = registerTypeMetaData(typeName);
+        typeMetaDataCall = addEventAccessors(typeMetaDataCall, typeName, typeDescr.getAnnotations(), field ->
+                descrDeclaredTypeDefinition.getFields().stream()
+                        .filter(f -> f.getFieldName().equals(field) && f.createAccessors())
+                        .findFirst()
+                        .map(f -> toLongAccessor(getGetterMethod(field), f.getObjectType()))
+                        .orElse(null));
+        packageModel.addTypeMetaDataExpressions(typeMetaDataCall);
     }
 
     private void addTypeMetadata(String typeName) {
@@ -166,9 +189,66 @@ public class POJOGenerator {
             }
         }
 
+        if (Modifier.isPublic(type.getModifiers()) && type.getCanonicalName() != null) {
+            typeMetaDataCall = addEventAccessors(typeMetaDataCall, type.getCanonicalName(), annotations, field -> {
+                Method accessor = ClassUtils.getAccessor(type, field);
+                return accessor != null && Modifier.isPublic(accessor.getModifiers()) ?
+                        toLongAccessor(accessor.getName(), accessor.getReturnType().getName()) :
+                        null;
+            });
+        }
+
         packageModel.addTypeMetaDataExpressions(typeMetaDataCall);
     }
 
+    /**
+     * Adds to the type metadata a lambda reading the timestamp or the duration of the events directly through the
+     * getter of the annotated property, so that the event handles can be created without any reflective access.
+     * When the annotation refers to an expression, or to a property whose type cannot be converted to a long by the
+     * lambda, the field is instead read by reflection at runtime.
+     */
+    private static MethodCallExpr addEventAccessors(MethodCallExpr typeMetaDataCall, String typeName, Collection<AnnotationDescr> annotations,
+                                                    Function<String, String> accessorFactory) {
+        for (AnnotationDescr ann : annotations) {
+            if (!exprAnnotations.contains(ann.getName()) || ann.getValueAsString(AnnotationDescr.VALUE) == null) {
+                continue;
+            }
+            String field = AnnotationDescr.unquote(ann.getValueAsString(AnnotationDescr.VALUE).trim());
+            if (!isPropertyName(field)) {
+                continue;
+            }
+            String accessor = accessorFactory.apply(field);
+            if (accessor != null) {
+                String methodName = ann.getName().equals("timestamp") ? TIMESTAMP_ACCESSOR_CALL : DURATION_ACCESSOR_CALL;
+                typeMetaDataCall = new MethodCallExpr(typeMetaDataCall, methodName);
+                typeMetaDataCall.addArgument(parseExpression("(" + typeName + " _this) -> _this." + accessor));
+            }
+        }
+        return typeMetaDataCall;
+    }
+
+    private static String toLongAccessor(String getter, String returnType) {
+        if (longCompatibleTypes.contains(returnType)) {
+            return getter + "()";
+        }
+        if (Date.class.getName().equals(returnType)) {
+            return getter + "().getTime()";
+        }
+        return null;
+    }
+
+    private static boolean isPropertyName(String field) {
+        if (field.isEmpty() || !Character.isJavaIdentifierStart(field.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < field.length(); i++) {
+            if (!Character.isJavaIdentifierPart(field.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static MethodCallExpr registerTypeMetaData(String className) {
         MethodCallExpr typeMetaDataCall = createDslTopLevelMethod(TYPE_META_DATA_CALL);
         typeMetaDataCall.addArgument(className + ".class");
@@ -21,16 +21,19 @@ import java.io.Serializable;
 import java.util.Collection;
 import java.util.Objects;
 
+import org.drools.core.base.accumulators.PrimitiveAccumulateFunction;
+import org.drools.core.base.accumulators.SlidingWindowAccumulator;
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.common.ReteEvaluator;
+import org.drools.core.reteoo.AccumulateMatchLeftTuple;
 import org.drools.core.reteoo.SubnetworkTuple;
 import org.drools.core.rule.Declaration;
 import org.drools.core.spi.Accumulator;
 import org.drools.core.spi.Tuple;
 import org.kie.api.runtime.rule.AccumulateFunction;
 
-public abstract class LambdaAccumulator implements Accumulator {
+public abstract class LambdaAccumulator implements SlidingWindowAccumulator.FunctionAccumulator {
 
     @Override
     public boolean equals(Object o) {
@@ -51,10 +54,38 @@ public abstract class LambdaAccumulator implements Accumulator {
 
     private final AccumulateFunction accumulateFunction;
 
+    private PrimitiveAccumulateFunction primitiveFunction;
+    private boolean integralSource;
+
     protected LambdaAccumulator(AccumulateFunction accumulateFunction) {
         this.accumulateFunction = accumulateFunction;
     }
 
+    /**
+     * Notifies this accumulator of the type of the values it accumulates, switching to the unboxed accumulation
+     * when they are numbers and the function supports it
+     */
+    public void setSourceType(Class<?> sourceType) {
+        if (accumulateFunction instanceof PrimitiveAccumulateFunction) {
+            if (isIntegral(sourceType)) {
+                this.primitiveFunction = (PrimitiveAccumulateFunction) accumulateFunction;
+                this.integralSource = true;
+            } else if (isFloatingPoint(sourceType) && ((PrimitiveAccumulateFunction) accumulateFunction).supportsDoubleValues()) {
+                this.primitiveFunction = (PrimitiveAccumulateFunction) accumulateFunction;
+                this.integralSource = false;
+            }
+        }
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == Integer.class || type == int.class || type == Long.class || type == long.class ||
+               type == Short.class || type == short.class || type == Byte.class || type == byte.class;
+    }
+
+    private static boolean isFloatingPoint(Class<?> type) {
+        return type == Double.class || type == double.class || type == Float.class || type == float.class;
+    }
+
     @Override
     public Object createWorkingMemoryContext() {
         // no working memory context needed
@@ -78,6 +109,58 @@ public abstract class LambdaAccumulator implements Accumulator {
         return accumulateFunction.accumulateValue( (Serializable) context, accumulatedObject);
     }
 
+    @Override
+    public Object evaluate(Object workingMemoryContext, Tuple leftTuple, InternalFactHandle handle, Declaration[] declarations, Declaration[] innerDeclarations, ReteEvaluator reteEvaluator) {
+        return getAccumulatedObject(declarations, innerDeclarations, handle, leftTuple, reteEvaluator);
+    }
+
+    @Override
+    public AccumulateFunction getAccumulateFunction() {
+        return accumulateFunction;
+    }
+
+    @Override
+    public boolean isPrimitive() {
+        return primitiveFunction != null;
+    }
+
+    @Override
+    public void accumulatePrimitive(Object workingMemoryContext, Object context, Tuple leftTuple, InternalFactHandle handle, AccumulateMatchLeftTuple match,
+                                    Declaration[] declarations, Declaration[] innerDeclarations, ReteEvaluator reteEvaluator) {
+        final Number accumulatedObject = (Number) getAccumulatedObject(declarations, innerDeclarations, handle, leftTuple, reteEvaluator);
+        if (accumulatedObject == null) {
+            // nulls are passed as they are to the function, that already knows how to deal with them
+            accumulateFunction.accumulateValue( (Serializable) context, null );
+            if (match != null) {
+                match.setNullValue();
+            }
+        } else if (integralSource) {
+            primitiveFunction.accumulateLong( (Serializable) context, accumulatedObject.longValue() );
+            if (match != null) {
+                match.setIntegralValue( accumulatedObject );
+            }
+        } else {
+            primitiveFunction.accumulateDouble( (Serializable) context, accumulatedObject.doubleValue() );
+            if (match != null) {
+                match.setFloatingPointValue( accumulatedObject );
+            }
+        }
+    }
+
+    @Override
+    public boolean tryReversePrimitive(Object workingMemoryContext, Object context, Tuple leftTuple, InternalFactHandle handle, AccumulateMatchLeftTuple match,
+                                       Declaration[] declarations, Declaration[] innerDeclarations, ReteEvaluator reteEvaluator) {
+        if (match.isNullValue()) {
+            return accumulateFunction.tryReverse( (Serializable) context, null );
+        }
+        if (integralSource) {
+            primitiveFunction.reverseLong( (Serializable) context, match.getLongValue() );
+        } else {
+            primitiveFunction.reverseDouble( (Serializable) context, match.getDoubleValue() );
+        }
+        return true;
+    }
+
     protected abstract Object getAccumulatedObject( Declaration[] declarations, Declaration[] innerDeclarations, InternalFactHandle handle, Tuple tuple, ReteEvaluator reteEvaluator );
 
     @Override
@@ -94,6 +177,11 @@ public abstract class LambdaAccumulator implements Accumulator {
         return accumulateFunction.tryReverse( (Serializable) context, value);
     }
 
+    @Override
+    public Accumulator forSlidingWindow(boolean timeOrdered) {
+        return SlidingWindowAccumulator.decorate(this, timeOrdered);
+    }
+
     @Override
     public Object getResult(Object workingMemoryContext, Object context, Tuple leftTuple, Declaration[] declarations, ReteEvaluator reteEvaluator) {
         try {
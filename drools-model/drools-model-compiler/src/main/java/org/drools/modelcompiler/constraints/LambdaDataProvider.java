@@ -81,6 +81,11 @@ public class LambdaDataProvider implements DataProvider {
         return Collections.singletonList( result ).iterator();
     }
 
+    @Override
+    public Object getResultSource( Tuple tuple, ReteEvaluator reteEvaluator ) {
+        return getResult( tuple, reteEvaluator );
+    }
+
     private Object getResult( Tuple tuple, ReteEvaluator reteEvaluator ) {
         Object result;
         if (declarations.length == 0) {
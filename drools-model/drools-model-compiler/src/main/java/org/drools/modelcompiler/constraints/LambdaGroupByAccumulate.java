@@ -17,9 +17,11 @@ package org.drools.modelcompiler.constraints;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.Arrays;
 
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.ReteEvaluator;
+import org.drools.core.reteoo.AccumulateMatchLeftTuple;
 import org.drools.core.reteoo.AccumulateNode.AccumulateContextEntry;
 import org.drools.core.reteoo.AccumulateNode.GroupByContext;
 import org.drools.core.reteoo.LeftTuple;
@@ -120,6 +122,29 @@ public class LambdaGroupByAccumulate extends Accumulate {
         return innerAccumulate.accumulate(workingMemoryContext, tupleList.getContext(), match, handle, reteEvaluator);
     }
 
+    @Override
+    public boolean isPrimitive() {
+        return innerAccumulate.isPrimitive();
+    }
+
+    @Override
+    public void accumulatePrimitive( Object workingMemoryContext, Object context, Tuple match, InternalFactHandle handle,
+                                     AccumulateMatchLeftTuple accumulateMatch, ReteEvaluator reteEvaluator ) {
+        GroupByContext groupByContext = ( GroupByContext ) context;
+        TupleList<AccumulateContextEntry> tupleList = groupByContext.getGroup(workingMemoryContext, innerAccumulate,
+                                                                              match, getKey(match, handle, reteEvaluator), reteEvaluator);
+
+        accumulatePrimitive(workingMemoryContext, match, handle, groupByContext, tupleList, accumulateMatch, reteEvaluator);
+    }
+
+    @Override
+    public void accumulatePrimitive(Object workingMemoryContext, Tuple match, InternalFactHandle handle,
+                                    GroupByContext groupByContext, TupleList<AccumulateContextEntry> tupleList,
+                                    AccumulateMatchLeftTuple accumulateMatch, ReteEvaluator reteEvaluator) {
+        groupByContext.moveToPropagateTupleList(tupleList);
+        innerAccumulate.accumulatePrimitive(workingMemoryContext, tupleList.getContext(), match, handle, accumulateMatch, reteEvaluator);
+    }
+
     @Override
     public boolean tryReverse(Object workingMemoryContext, Object context, Tuple leftTuple, InternalFactHandle handle,
                               RightTuple rightParent, LeftTuple match, ReteEvaluator reteEvaluator) {
@@ -176,4 +201,23 @@ public class LambdaGroupByAccumulate extends Accumulate {
     public boolean isGroupBy() {
         return true;
     }
+
+    @Override
+    public boolean equals( Object o ) {
+        if ( this == o ) {
+            return true;
+        }
+        if ( o == null || getClass() != o.getClass() ) {
+            return false;
+        }
+        LambdaGroupByAccumulate that = ( LambdaGroupByAccumulate ) o;
+        return innerAccumulate.equals( that.innerAccumulate ) &&
+               Arrays.equals( groupingDeclarations, that.groupingDeclarations ) &&
+               groupingFunction.equals( that.groupingFunction );
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * innerAccumulate.hashCode() + groupingFunction.hashCode();
+    }
 }
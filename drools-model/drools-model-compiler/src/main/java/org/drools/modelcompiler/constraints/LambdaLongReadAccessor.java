@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.constraints;
+
+import java.util.function.ToLongFunction;
+
+import org.drools.core.common.ReteEvaluator;
+
+/**
+ * Reads a long value, like the timestamp or the duration of an event, through a lambda generated in the executable
+ * model, without boxing it.
+ */
+public class LambdaLongReadAccessor extends LambdaReadAccessor {
+
+    private final ToLongFunction<Object> accessor;
+
+    public LambdaLongReadAccessor( ToLongFunction<Object> accessor ) {
+        super( long.class, accessor::applyAsLong );
+        this.accessor = accessor;
+    }
+
+    @Override
+    public long getLongValue( ReteEvaluator reteEvaluator, Object object ) {
+        return accessor.applyAsLong( object );
+    }
+}
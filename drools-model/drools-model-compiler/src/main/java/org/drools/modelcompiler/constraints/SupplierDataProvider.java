@@ -51,10 +51,7 @@ public class SupplierDataProvider implements DataProvider {
 
     @Override
     public Iterator getResults(Tuple tuple, ReteEvaluator reteEvaluator, PropagationContext ctx, Object providerContext ) {
-        Object result = null;
-        if (supplierFunction != null) {
-            result = supplierFunction.apply();
-        }
+        Object result = getResultSource( tuple, reteEvaluator );
 
         if ( result instanceof Object[] ) {
             return Arrays.asList( (Object[]) result ).iterator();
@@ -68,6 +65,11 @@ public class SupplierDataProvider implements DataProvider {
         return Collections.singletonList( result ).iterator();
     }
 
+    @Override
+    public Object getResultSource( Tuple tuple, ReteEvaluator reteEvaluator ) {
+        return supplierFunction != null ? supplierFunction.apply() : null;
+    }
+
     @Override
     public DataProvider clone() {
         return new SupplierDataProvider(supplierFunction );
@@ -34,6 +34,7 @@ import org.drools.core.util.ClassUtils;
 import org.drools.model.AnnotationValue;
 import org.drools.model.TypeMetaData;
 import org.drools.modelcompiler.constraints.LambdaFieldReader;
+import org.drools.modelcompiler.constraints.LambdaLongReadAccessor;
 import org.drools.modelcompiler.constraints.LambdaReadAccessor;
 import org.kie.api.definition.type.Duration;
 import org.kie.api.definition.type.Expires;
@@ -56,6 +57,7 @@ public class TypeDeclarationUtil {
 
         wireClassAnnotations( typeClass, typeDeclaration );
         wireMetaTypeAnnotations( metaType, typeDeclaration );
+        wireGeneratedAccessors( metaType, typeDeclaration );
         wireFields(typeClass, typeDeclaration);
 
         return typeDeclaration;
@@ -118,6 +120,15 @@ public class TypeDeclarationUtil {
         }
     }
 
+    private static void wireGeneratedAccessors( TypeMetaData metaType, TypeDeclaration typeDeclaration ) {
+        if (typeDeclaration.getTimestampExtractor() != null && metaType.getTimestampAccessor() != null) {
+            typeDeclaration.setTimestampExtractor( new LambdaLongReadAccessor( metaType.getTimestampAccessor() ) );
+        }
+        if (typeDeclaration.getDurationExtractor() != null && metaType.getDurationAccessor() != null) {
+            typeDeclaration.setDurationExtractor( new LambdaLongReadAccessor( metaType.getDurationAccessor() ) );
+        }
+    }
+
     private static void wireFields(Class<?> typeClass, TypeDeclaration typeDeclaration) {
         ClassDefinitionForModel typeClassDef = (ClassDefinitionForModel) typeDeclaration.getTypeClassDef();
         List<String> properties = ClassUtils.getAccessibleProperties(typeClass);
@@ -47,6 +47,7 @@ import java.util.stream.IntStream;
 import org.apache.commons.math3.util.Pair;
 import org.assertj.core.api.Assertions;
 import org.drools.core.base.accumulators.IntegerMaxAccumulateFunction;
+import org.drools.core.reteoo.AccumulateNode;
 import org.drools.core.spi.Activation;
 import org.drools.model.functions.accumulate.GroupKey;
 import org.drools.modelcompiler.domain.Adult;
@@ -2963,7 +2964,8 @@ public class AccumulateTest extends BaseModelTest {
         ksession.fireAllRules();
         assertEquals(1, result.size());
         assertEquals(36, result.get(0).intValue());
-        assertEquals(2, accFunction.getAccumulateCount());
+        // reversing the current max doesn't reaccumulate the other facts
+        assertEquals(1, accFunction.getAccumulateCount());
     }
 
     public static class CountingIntegerMaxAccumulateFunction extends IntegerMaxAccumulateFunction {
@@ -4132,4 +4134,61 @@ public class AccumulateTest extends BaseModelTest {
             Assertions.fail("Should not have thrown.", ex);
         }
     }
+
+    @Test
+    public void testPrimitiveAccumulatesWithUpdates() {
+        String str =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "global java.util.Map results;\n" +
+                "rule Sum when\n" +
+                "  accumulate ( $p: Person ( name.startsWith(\"M\") ); $sum : sum($p.getAge()) )\n" +
+                "then\n" +
+                "  results.put(\"sum\", $sum);\n" +
+                "end\n" +
+                "rule LongSum when\n" +
+                "  accumulate ( $p: Person ( name.startsWith(\"M\") ); $sum : sum($p.getAgeLong()) )\n" +
+                "then\n" +
+                "  results.put(\"longSum\", $sum);\n" +
+                "end\n" +
+                "rule Average when\n" +
+                "  accumulate ( $p: Person ( name.startsWith(\"M\") ); $avg : average($p.getAge()) )\n" +
+                "then\n" +
+                "  results.put(\"avg\", $avg);\n" +
+                "end";
+
+        KieSession ksession = getKieSession( str );
+        Map<String, Number> results = new HashMap<>();
+        ksession.setGlobal( "results", results );
+
+        if (testRunType.isExecutableModel()) {
+            assertTrue( ReteDumper.collectNodes( ksession ).stream()
+                                .filter( AccumulateNode.class::isInstance )
+                                .allMatch( n -> (( AccumulateNode ) n).getAccumulate().isPrimitive() ) );
+        }
+
+        Person mark = new Person( "Mark", 37 ).setAgeLong( 37 );
+        Person mario = new Person( "Mario", 40 ).setAgeLong( 40 );
+        FactHandle markFH = ksession.insert( mark );
+        FactHandle marioFH = ksession.insert( mario );
+        ksession.insert( new Person( "Edson", 35 ).setAgeLong( 35 ) );
+        ksession.fireAllRules();
+
+        assertEquals( 77, results.get( "sum" ).intValue() );
+        assertEquals( 77L, results.get( "longSum" ).longValue() );
+        assertEquals( 38.5, results.get( "avg" ).doubleValue(), 0.0 );
+
+        ksession.update( markFH, mark.setAge( 43 ).setAgeLong( 43 ) );
+        ksession.fireAllRules();
+
+        assertEquals( 83, results.get( "sum" ).intValue() );
+        assertEquals( 83L, results.get( "longSum" ).longValue() );
+        assertEquals( 41.5, results.get( "avg" ).doubleValue(), 0.0 );
+
+        ksession.delete( marioFH );
+        ksession.fireAllRules();
+
+        assertEquals( 43, results.get( "sum" ).intValue() );
+        assertEquals( 43L, results.get( "longSum" ).longValue() );
+        assertEquals( 43.0, results.get( "avg" ).doubleValue(), 0.0 );
+    }
 }
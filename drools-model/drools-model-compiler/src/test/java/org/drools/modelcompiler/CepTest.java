@@ -1261,4 +1261,41 @@ public class CepTest extends BaseModelTest {
             Locale.setDefault(defaultLoc);
         }
     }
+
+    @Test
+    public void testTimestampAndDurationFromDeclaredFields() {
+        String str =
+                "package org.test;\n" +
+                "import " + StockTick.class.getCanonicalName() + ";\n" +
+                "declare StockTick @timestamp(timeFieldAsLong) end\n" +
+                "declare Tick\n" +
+                "  @role( event )\n" +
+                "  @timestamp( time )\n" +
+                "  @duration( length )\n" +
+                "  symbol : String\n" +
+                "  time : java.util.Date\n" +
+                "  length : int\n" +
+                "end\n" +
+                "rule Init when\n" +
+                "  StockTick( $time : timeFieldAsLong )\n" +
+                "then\n" +
+                "  insert( new Tick( \"ACME\", new java.util.Date( $time + 1000 ), 50 ) );\n" +
+                "end\n";
+
+        KieSession ksession = getKieSession(getCepKieModuleModel(), str);
+
+        EventFactHandle stockHandle = (EventFactHandle) ksession.insert( new StockTick( "ACME" ).setTimeField( 5000 ) );
+        assertEquals( 5000, stockHandle.getStartTimestamp() );
+        assertEquals( 0, stockHandle.getDuration() );
+
+        assertEquals( 1, ksession.fireAllRules() );
+
+        FactType tickType = ksession.getKieBase().getFactType( "org.test", "Tick" );
+        EventFactHandle tickHandle = ksession.getFactHandles( o -> o.getClass() == tickType.getFactClass() ).stream()
+                .map( EventFactHandle.class::cast )
+                .findFirst().get();
+        assertEquals( 6000, tickHandle.getStartTimestamp() );
+        assertEquals( 50, tickHandle.getDuration() );
+        assertEquals( 6050, tickHandle.getEndTimestamp() );
+    }
 }
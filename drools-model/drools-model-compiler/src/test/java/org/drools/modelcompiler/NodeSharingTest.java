@@ -18,12 +18,15 @@ package org.drools.modelcompiler;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.drools.core.base.ClassObjectType;
+import org.drools.core.base.accumulators.IntegerSumAccumulateFunction;
 import org.drools.kiesession.rulebase.InternalKnowledgeBase;
 import org.drools.core.reteoo.AccumulateNode;
 import org.drools.core.reteoo.AlphaNode;
@@ -35,10 +38,18 @@ import org.drools.core.reteoo.JoinNode;
 import org.drools.core.reteoo.LeftInputAdapterNode;
 import org.drools.core.reteoo.NotNode;
 import org.drools.core.reteoo.ObjectTypeNode;
+import org.drools.model.Global;
+import org.drools.model.Model;
+import org.drools.model.Rule;
+import org.drools.model.Variable;
+import org.drools.model.functions.Function1;
+import org.drools.model.impl.ModelImpl;
+import org.drools.modelcompiler.builder.KieBaseBuilder;
 import org.drools.modelcompiler.domain.Address;
 import org.drools.modelcompiler.domain.Person;
 import org.drools.modelcompiler.domain.Result;
 import org.drools.modelcompiler.domain.StockTick;
+import org.drools.modelcompiler.dsl.pattern.D;
 import org.junit.Test;
 import org.kie.api.KieBase;
 import org.kie.api.runtime.KieSession;
@@ -523,4 +534,97 @@ public class NodeSharingTest extends BaseModelTest {
 
         assertEquals(1, ReteDumper.collectNodes(ksession).stream().filter(JoinNode.class::isInstance).count());
     }
+
+    @Test
+    public void testShareAccumulateOverWindow() {
+        String str =
+                "import " + StockTick.class.getCanonicalName() + ";" +
+                     "import " + Result.class.getCanonicalName() + ";" +
+                     "rule X1 when\n" +
+                     "  accumulate ( StockTick ( company == \"DROO\" ) over window:time( 5s ); \n" +
+                     "                $count : count()  \n" +
+                     "              )                          \n" +
+                     "then\n" +
+                     "  insert(new Result($count));\n" +
+                     "end\n" +
+                     "rule X2 when\n" +
+                     "  accumulate ( StockTick ( company == \"DROO\" ) over window:time( 5s ); \n" +
+                     "                $count : count()  \n" +
+                     "              )                          \n" +
+                     "then\n" +
+                     "  insert(new Result($count));\n" +
+                     "end";
+
+        KieSession ksession = getKieSession(CepTest.getCepKieModuleModel(), str);
+
+        SessionPseudoClock clock = ksession.getSessionClock();
+
+        ksession.insert(new StockTick("DROO"));
+        clock.advanceTime(3, TimeUnit.SECONDS);
+        ksession.insert(new StockTick("DROO"));
+        ksession.insert(new StockTick("ACME"));
+
+        assertEquals(2, ksession.fireAllRules());
+
+        Collection<Result> results = getObjectsIntoList(ksession, Result.class);
+        assertEquals(2, results.size());
+        assertEquals(2L, results.iterator().next().getValue());
+
+        assertEquals(1, ReteDumper.collectNodes(ksession).stream().filter(AccumulateNode.class::isInstance).count());
+    }
+
+    @Test
+    public void testShareGroupBy() {
+        Global<Map> var_results1 = D.globalOf(Map.class, "defaultpkg", "results1");
+        Global<Map> var_results2 = D.globalOf(Map.class, "defaultpkg", "results2");
+
+        Variable<String> var_$key = D.declarationOf(String.class);
+        Variable<Person> var_$p = D.declarationOf(Person.class);
+        Variable<Integer> var_$age = D.declarationOf(Integer.class);
+        Variable<Integer> var_$sumOfAges = D.declarationOf(Integer.class);
+
+        // both rules use the same groupBy, so they have to share a single AccumulateNode
+        Function1<Person, Integer> ageFunction = Person::getAge;
+        Function1<Person, String> initialFunction = person -> person.getName().substring(0, 1);
+
+        Rule rule1 = D.rule("R1").build(
+                D.groupBy(
+                        D.pattern(var_$p).bind(var_$age, ageFunction, D.reactOn("age")),
+                        var_$p, var_$key, initialFunction,
+                        D.accFunction(IntegerSumAccumulateFunction::new, var_$age).as(var_$sumOfAges)),
+                D.on(var_$key, var_results1, var_$sumOfAges)
+                        .execute(($key, results, $sumOfAges) -> results.put($key, $sumOfAges))
+        );
+
+        Rule rule2 = D.rule("R2").build(
+                D.groupBy(
+                        D.pattern(var_$p).bind(var_$age, ageFunction, D.reactOn("age")),
+                        var_$p, var_$key, initialFunction,
+                        D.accFunction(IntegerSumAccumulateFunction::new, var_$age).as(var_$sumOfAges)),
+                D.on(var_$key, var_results2, var_$sumOfAges)
+                        .execute(($key, results, $sumOfAges) -> results.put($key, $sumOfAges))
+        );
+
+        Model model = new ModelImpl().addRule( rule1 ).addRule( rule2 ).addGlobal( var_results1 ).addGlobal( var_results2 );
+        KieSession ksession = KieBaseBuilder.createKieBaseFromModel( model ).newKieSession();
+
+        assertEquals(1, ReteDumper.collectNodes(ksession).stream().filter(AccumulateNode.class::isInstance).count());
+
+        Map results1 = new HashMap();
+        Map results2 = new HashMap();
+        ksession.setGlobal( "results1", results1 );
+        ksession.setGlobal( "results2", results2 );
+
+        ksession.insert(new Person("Mark", 42));
+        ksession.insert(new Person("Edson", 38));
+        ksession.insert(new Person("Mario", 45));
+        ksession.insert(new Person("Maciej", 39));
+
+        assertEquals(4, ksession.fireAllRules());
+
+        assertEquals(2, results1.size());
+        assertEquals(126, results1.get("M"));
+        assertEquals(38, results1.get("E"));
+        assertEquals(results1, results2);
+    }
 }
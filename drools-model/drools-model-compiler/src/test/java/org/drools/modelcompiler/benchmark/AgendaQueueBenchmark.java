@@ -0,0 +1,117 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.common.AgendaItemImpl;
+import org.drools.core.conflict.PhreakConflictResolver;
+import org.drools.core.definitions.rule.impl.RuleImpl;
+import org.drools.core.spi.Activation;
+import org.drools.core.util.BinaryHeapQueue;
+import org.drools.core.util.Queue;
+import org.drools.core.util.SalienceBucketQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Enqueues a burst of activations with a few distinct salience values and then fires them all, removing part of them
+ * before firing as it happens when their matches are cancelled, comparing the BinaryHeapQueue used by default by the
+ * agenda groups with the SalienceBucketQueue selected through the AgendaQueueOption.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AgendaQueueBenchmark {
+
+    @Param({"binaryheap", "saliencefifo"})
+    private String queueType;
+
+    @Param({"1000000"})
+    private int activationsNr;
+
+    @Param({"4"})
+    private int saliencesNr;
+
+    private Activation[] activations;
+
+    @Setup(Level.Trial)
+    public void createActivations() {
+        RuleImpl[] rules = new RuleImpl[saliencesNr];
+        for (int i = 0; i < saliencesNr; i++) {
+            rules[i] = new RuleImpl( "R" + i );
+            rules[i].setLoadOrder( i );
+        }
+
+        Random random = new Random( 0 );
+        activations = new Activation[activationsNr];
+        for (int i = 0; i < activationsNr; i++) {
+            int ruleIndex = random.nextInt( saliencesNr );
+            activations[i] = new BenchmarkActivation( i, ruleIndex * 10, rules[ruleIndex] );
+        }
+    }
+
+    private Queue createQueue() {
+        return queueType.equals( "binaryheap" ) ? new BinaryHeapQueue( new PhreakConflictResolver() ) : new SalienceBucketQueue( false );
+    }
+
+    @Benchmark
+    public int enqueueAndFire() {
+        Queue queue = createQueue();
+        for (Activation activation : activations) {
+            queue.enqueue( activation );
+        }
+        for (int i = 0; i < activations.length; i += 10) {
+            queue.dequeue( activations[i] );
+        }
+        int fired = 0;
+        while ( !queue.isEmpty() ) {
+            queue.dequeue();
+            fired++;
+        }
+        return fired;
+    }
+
+    private static class BenchmarkActivation extends AgendaItemImpl {
+
+        private final RuleImpl rule;
+
+        private BenchmarkActivation(long activationNumber, int salience, RuleImpl rule) {
+            super( activationNumber, null, salience, null, null, null );
+            this.rule = rule;
+        }
+
+        @Override
+        public RuleImpl getRule() {
+            return rule;
+        }
+    }
+}
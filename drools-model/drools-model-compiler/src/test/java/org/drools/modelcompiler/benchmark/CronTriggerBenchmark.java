@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.time.impl.CronTrigger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creates a cron trigger and reschedules it many times, as it happens for the timers of the rules. The expressions
+ * with an explicit year field are not compiled, so they measure the calendar based evaluation of the same schedule.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CronTriggerBenchmark {
+
+    @Param({"0/5 * * * * ?", "0/5 * * * * ? 1970-2299",
+            "0 0 12 ? * MON-FRI", "0 0 12 ? * MON-FRI 1970-2299"})
+    private String cronExpression;
+
+    @Param({"100000"})
+    private int firesNr;
+
+    @Benchmark
+    public long rescheduleTrigger() {
+        CronTrigger trigger = new CronTrigger( 0, null, null, -1, cronExpression, null, null );
+        long last = 0;
+        for (int i = 0; i < firesNr; i++) {
+            Date fireTime = trigger.nextFireTime();
+            last = fireTime.getTime();
+        }
+        return last;
+    }
+}
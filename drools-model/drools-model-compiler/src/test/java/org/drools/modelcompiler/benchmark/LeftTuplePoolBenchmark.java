@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.modelcompiler.ExecutableModelProject;
+import org.drools.modelcompiler.domain.Person;
+import org.kie.api.KieBase;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.LeftTuplePoolSizeOption;
+import org.kie.internal.utils.KieHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Inserts and then deletes a batch of facts matched by a chain of joins, with and without the reuse of the deleted
+ * left tuples. Run it with the gc profiler (-prof gc) to compare the allocation rates.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LeftTuplePoolBenchmark {
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + ";\n" +
+            "rule R when\n" +
+            "    $p1 : Person( $age : age )\n" +
+            "    $p2 : Person( age > $age, age < $age + 20 )\n" +
+            "    $p3 : Person( age == $p2.age + 1, name == $p1.name )\n" +
+            "then\n" +
+            "end\n";
+
+    @Param({"0", "1024"})
+    private int poolSize;
+
+    @Param({"200"})
+    private int factsNr;
+
+    private KieSession ksession;
+
+    private Person[] people;
+    private FactHandle[] handles;
+
+    @Setup(Level.Trial)
+    public void setUpSession() {
+        KieBase kieBase = new KieHelper().addContent( DRL, ResourceType.DRL )
+                                         .build( ExecutableModelProject.class, LeftTuplePoolSizeOption.get( poolSize ) );
+        ksession = kieBase.newKieSession();
+
+        people = new Person[factsNr];
+        for (int i = 0; i < factsNr; i++) {
+            people[i] = new Person( "name" + ( i % 10 ), i );
+        }
+        handles = new FactHandle[factsNr];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownSession() {
+        ksession.dispose();
+    }
+
+    @Benchmark
+    public int insertAndDelete() {
+        for (int i = 0; i < factsNr; i++) {
+            handles[i] = ksession.insert( people[i] );
+        }
+        int fired = ksession.fireAllRules();
+        for (int i = 0; i < factsNr; i++) {
+            ksession.delete( handles[i] );
+        }
+        return fired + ksession.fireAllRules();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.phreak.LockFreePropagationList;
+import org.drools.core.phreak.PropagationEntry;
+import org.drools.core.phreak.PropagationList;
+import org.drools.core.phreak.SynchronizedPropagationList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time needed by many threads to enqueue propagations in the same PropagationList while a single
+ * consumer drains it in the same way a session firing until halt does.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PropagationListBenchmark {
+
+    public enum ListType {
+        SYNCHRONIZED, LOCK_FREE;
+
+        PropagationList create() {
+            return this == LOCK_FREE ? new LockFreePropagationList( null ) : new SynchronizedPropagationList( null );
+        }
+    }
+
+    @Param({"SYNCHRONIZED", "LOCK_FREE"})
+    private ListType type;
+
+    @Param({"8", "16", "32"})
+    private int producers;
+
+    @Param({"10000"})
+    private int entriesPerProducer;
+
+    private ExecutorService executor;
+
+    private PropagationList propagationList;
+    private Consumer consumer;
+
+    @Setup(Level.Trial)
+    public void setUpExecutor() {
+        executor = Executors.newFixedThreadPool( producers );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Setup(Level.Invocation)
+    public void startConsumer() {
+        propagationList = type.create();
+        propagationList.setFiringUntilHalt( true );
+        consumer = new Consumer( propagationList, producers * entriesPerProducer );
+        consumer.start();
+    }
+
+    @TearDown(Level.Invocation)
+    public void stopConsumer() throws InterruptedException {
+        consumer.join();
+    }
+
+    @Benchmark
+    public int addEntries() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch( producers );
+        for (int i = 0; i < producers; i++) {
+            executor.execute( () -> {
+                for (int j = 0; j < entriesPerProducer; j++) {
+                    propagationList.addEntry( new CountingEntry( consumer ) );
+                }
+                done.countDown();
+            } );
+        }
+        done.await();
+        consumer.join();
+        return consumer.executed;
+    }
+
+    private static class Consumer extends Thread {
+        private final PropagationList propagationList;
+        private final int expected;
+        private int executed;
+
+        private Consumer( PropagationList propagationList, int expected ) {
+            this.propagationList = propagationList;
+            this.expected = expected;
+            setDaemon( true );
+        }
+
+        @Override
+        public void run() {
+            while (executed < expected) {
+                PropagationEntry head;
+                // same protocol of the rest handler used by fireUntilHalt
+                synchronized (propagationList) {
+                    head = propagationList.takeAll();
+                    if (head == null) {
+                        propagationList.waitOnRest();
+                        head = propagationList.takeAll();
+                    }
+                }
+                propagationList.flush( head );
+            }
+        }
+    }
+
+    private static class CountingEntry extends PropagationEntry.AbstractPropagationEntry {
+        private final Consumer consumer;
+
+        private CountingEntry( Consumer consumer ) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void execute( ReteEvaluator reteEvaluator ) {
+            consumer.executed++;
+        }
+    }
+}
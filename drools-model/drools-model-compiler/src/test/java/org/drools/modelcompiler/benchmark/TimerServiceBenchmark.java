@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.JobHandle;
+import org.drools.core.time.impl.PointInTimeTrigger;
+import org.drools.core.time.impl.PseudoClockScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Schedules the expiration of a large number of events on a pseudo clock, cancels part of them as it happens when
+ * the events are deleted before expiring, and then advances the clock in small steps expiring all the others,
+ * comparing the priority queue used by default by the PseudoClockScheduler with the timing wheel.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TimerServiceBenchmark {
+
+    @Param({"false", "true"})
+    private boolean timingWheel;
+
+    @Param({"1000000"})
+    private int jobsNr;
+
+    private long[] expirations;
+
+    @Setup(Level.Trial)
+    public void createExpirations() {
+        Random random = new Random( 0 );
+        expirations = new long[jobsNr];
+        for (int i = 0; i < jobsNr; i++) {
+            expirations[i] = 1 + random.nextInt( 60_000 );
+        }
+    }
+
+    @Benchmark
+    public int scheduleCancelAndExpire() {
+        PseudoClockScheduler scheduler = new PseudoClockScheduler( timingWheel );
+        CountingJobContext ctx = new CountingJobContext();
+        JobHandle[] handles = new JobHandle[jobsNr];
+        for (int i = 0; i < jobsNr; i++) {
+            handles[i] = scheduler.scheduleJob( CountingJob.INSTANCE, ctx, new PointInTimeTrigger( expirations[i] ) );
+        }
+        for (int i = 0; i < jobsNr; i += 10) {
+            scheduler.removeJob( handles[i] );
+        }
+        while ( scheduler.getTimeToNextJob() >= 0 ) {
+            scheduler.advanceTime( 100, TimeUnit.MILLISECONDS );
+        }
+        return ctx.counter;
+    }
+
+    private static class CountingJob implements Job {
+
+        private static final CountingJob INSTANCE = new CountingJob();
+
+        @Override
+        public void execute(JobContext ctx) {
+            ((CountingJobContext) ctx).counter++;
+        }
+    }
+
+    private static class CountingJobContext implements JobContext {
+
+        private int counter;
+
+        @Override
+        public void setJobHandle(JobHandle jobHandle) { }
+
+        @Override
+        public JobHandle getJobHandle() {
+            return null;
+        }
+
+        @Override
+        public ReteEvaluator getReteEvaluator() {
+            return null;
+        }
+    }
+}
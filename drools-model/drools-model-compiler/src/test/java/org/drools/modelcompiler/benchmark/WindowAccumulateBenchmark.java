@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.modelcompiler.ExecutableModelProject;
+import org.drools.modelcompiler.domain.StockTick;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.internal.utils.KieHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Streams events with decreasing values through a sliding length window calculating their maximum, so that each new
+ * event makes the current maximum expire out of the window and, without an incremental aggregate, forces the
+ * accumulate to recalculate the whole window.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WindowAccumulateBenchmark {
+
+    private static final String DRL =
+            "import " + StockTick.class.getCanonicalName() + ";\n" +
+            "declare StockTick @role( event ) end\n" +
+            "rule R when\n" +
+            "    $n : Number() from accumulate( StockTick( company == \"ACME\", $t : timeFieldAsLong ) over window:length( %d ), max( $t ) )\n" +
+            "then\n" +
+            "end\n";
+
+    @Param({"100000"})
+    private int eventsNr;
+
+    @Param({"10", "1000"})
+    private int windowSize;
+
+    @Param({"100"})
+    private int eventsPerFire;
+
+    private KieBase kieBase;
+    private KieSession ksession;
+
+    @Setup(Level.Trial)
+    public void setUpKieBase() {
+        kieBase = new KieHelper().addContent( String.format( DRL, windowSize ), ResourceType.DRL )
+                                 .build( ExecutableModelProject.class, EventProcessingOption.STREAM );
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpSession() {
+        KieSessionConfiguration conf = KieServices.Factory.get().newKieSessionConfiguration();
+        conf.setOption( ClockTypeOption.PSEUDO );
+        ksession = kieBase.newKieSession( conf, null );
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownSession() {
+        ksession.dispose();
+    }
+
+    @Benchmark
+    public int streamEvents() {
+        int fired = 0;
+        for (int i = 0; i < eventsNr; i++) {
+            ksession.insert( new StockTick( "ACME" ).setTimeField( eventsNr - i ) );
+            if ( i % eventsPerFire == eventsPerFire - 1 ) {
+                fired += ksession.fireAllRules();
+            }
+        }
+        return fired;
+    }
+}
@@ -119,6 +119,11 @@ public class MVELKnowledgePackageImpl extends KnowledgePackageImpl {
 
     @Override
     public InternalReadAccessor getFieldExtractor( TypeDeclaration type, String timestampField, Class<?> returnType ) {
+        if ( isPlainProperty( type.getTypeClass(), timestampField ) ) {
+            // a plain property is read through an accessor generated with ASM and cached in the ClassFieldAccessorCache
+            return classFieldAccessorStore.getReader( type.getTypeClass().getName(), timestampField, null );
+        }
+
         InternalReadAccessor reader = classFieldAccessorStore.getMVELReader( ClassUtils.getPackage( type.getTypeClass() ),
                                                                              type.getTypeClass().getName(),
                                                                              timestampField,
@@ -129,6 +134,18 @@ public class MVELKnowledgePackageImpl extends KnowledgePackageImpl {
         return reader;
     }
 
+    private boolean isPlainProperty( Class<?> typeClass, String field ) {
+        if ( field.isEmpty() || !Character.isJavaIdentifierStart( field.charAt( 0 ) ) ) {
+            return false;
+        }
+        for ( int i = 1; i < field.length(); i++ ) {
+            if ( !Character.isJavaIdentifierPart( field.charAt( i ) ) ) {
+                return false;
+            }
+        }
+        return ClassUtils.getAccessor( typeClass, field ) != null;
+    }
+
     /**
      * Handles the write serialization of the Package. Patterns in Rules may
      * reference generated data which cannot be serialized by default methods.
@@ -124,6 +124,11 @@ public class MVELDataProvider implements DataProvider, MVELCompileable, External
         return asIterator( evaluate( tuple, reteEvaluator ) );
     }
 
+    @Override
+    public Object getResultSource( Tuple tuple, ReteEvaluator reteEvaluator ) {
+        return evaluate( tuple, reteEvaluator );
+    }
+
     protected Object evaluate( Tuple tuple, ReteEvaluator reteEvaluator ) {
         VariableResolverFactory factory = unit.getFactory( null, null, null, null, tuple, null, reteEvaluator, reteEvaluator.getGlobalResolver() );
         return evaluator.evaluate( factory );
@@ -41,6 +41,12 @@ public class RuleUnitFactHandleFactory extends ReteooFactHandleFactory {
         return new RuleUnitEventFactHandle(id, object, recency, timestamp, duration, entryPoint, isTrait);
     }
 
+    @Override
+    protected EventFactHandle createCompactEventFactHandle(long id, Object object, long recency, WorkingMemoryEntryPoint entryPoint, long timestamp, long duration) {
+        // the rule unit handles need to keep track of their data source
+        return createEventFactHandle(id, object, recency, entryPoint, false, timestamp, duration);
+    }
+
     @Override
     public FactHandleFactory newInstance() {
         return new RuleUnitFactHandleFactory();
@@ -18,6 +18,8 @@ package org.drools.ruleunits.impl.sessions;
 import org.drools.core.SessionConfiguration;
 import org.drools.core.SessionConfigurationImpl;
 import org.drools.core.time.TimerService;
+import org.drools.core.time.impl.PseudoClockScheduler;
+import org.drools.core.time.impl.TimingWheelTimerService;
 import org.drools.wiring.api.ComponentsFactory;
 
 public class RuleUnitTimerServiceFactory {
@@ -29,7 +31,7 @@ public class RuleUnitTimerServiceFactory {
                 service = newTimerService((SessionConfigurationImpl) config);
                 break;
             case PSEUDO_CLOCK:
-                service = (TimerService) config.getClockType().createInstance();
+                service = config.isTimingWheel() ? new PseudoClockScheduler( true ) : (TimerService) config.getClockType().createInstance();
                 break;
             default:
                 throw new IllegalArgumentException("Unsupported clock type: " + config.getClockType());
@@ -39,6 +41,9 @@ public class RuleUnitTimerServiceFactory {
     }
 
     private static TimerService newTimerService(SessionConfigurationImpl config) {
+        if (config.isTimingWheel() && config.getPropertyValue("drools.timerService", null) == null) {
+            return new TimingWheelTimerService();
+        }
         String className = config.getPropertyValue("drools.timerService", "org.drools.core.time.impl.JDKTimerService");
         if (className == null) {
             return null;
@@ -60,12 +60,14 @@ import org.drools.kiesession.session.StatefulKnowledgeSessionImpl;
 import org.drools.core.marshalling.MarshallerWriteContext;
 import org.drools.serialization.protobuf.marshalling.ProcessMarshaller;
 import org.drools.serialization.protobuf.marshalling.ProcessMarshallerFactory;
+import org.drools.serialization.protobuf.timers.ExpireJobContextTimerOutputMarshaller;
 import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.phreak.RuleAgendaItem;
 import org.drools.core.process.instance.WorkItem;
 import org.drools.core.reteoo.BaseTuple;
 import org.drools.core.reteoo.LeftTuple;
 import org.drools.core.reteoo.NodeTypeEnums;
+import org.drools.core.reteoo.ExpirationQueue;
 import org.drools.core.reteoo.ObjectTypeConf;
 import org.drools.core.reteoo.ObjectTypeNode;
 import org.drools.core.reteoo.ObjectTypeNode.ObjectTypeNodeMemory;
@@ -137,6 +139,14 @@ public class ProtobufOutputMarshaller {
                 }
             }
 
+            for (EntryPoint ep : wm.getEntryPoints()) {
+                if (ep instanceof NamedEntryPoint && ((NamedEntryPoint)ep).hasHeldEvents()) {
+                    // the held events aren't part of the working memory yet, so they have to be released before
+                    throw new IllegalStateException( "The entry point '" + ep.getEntryPointId() + "' holds events waiting for the watermark, " +
+                                                     "advance its watermark before marshalling the session" );
+                }
+            }
+
             evaluateRuleActivations( wm );
 
             ProtobufMessages.RuleData.Builder _ruleData = ProtobufMessages.RuleData.newBuilder();
@@ -773,7 +783,8 @@ public class ProtobufOutputMarshaller {
 
     private static ProtobufMessages.Timers writeTimers(Collection<TimerJobInstance> timers,
                                                        MarshallerWriteContext outCtx) {
-        if ( !timers.isEmpty() ) {
+        List<Timer> expirationQueueTimers = writeExpirationQueues( outCtx );
+        if ( !timers.isEmpty() || !expirationQueueTimers.isEmpty() ) {
             List<TimerJobInstance> sortedTimers = new ArrayList<TimerJobInstance>( timers );
             Collections.sort( sortedTimers,
                               new Comparator<TimerJobInstance>() {
@@ -793,17 +804,51 @@ public class ProtobufOutputMarshaller {
                     !((ObjectTypeNode.ExpireJobContext) jctx).getExpireAction().getFactHandle().isValid()) {                    
                     continue;
                 }
+                if (jctx instanceof ExpirationQueue.ExpireQueueJobContext) {
+                    // the queued events are written one by one below
+                    continue;
+                }
                 TimersOutputMarshaller writer = ( TimersOutputMarshaller ) outCtx.getWriterForClass( jctx.getClass() );
                 Timer _timer = writer.serialize( jctx, outCtx );
                 if ( _timer != null ) {
                     _timers.addTimer( _timer );
                 }
             }
+            _timers.addAllTimer( expirationQueueTimers );
             return _timers.build();
         }
         return null;
     }
 
+    /**
+     * Writes an expire timer for each event waiting in the expiration queue of an ObjectTypeNode, so that once
+     * unmarshalled each event is expired by its own job as when the expiration queues are not in use
+     */
+    private static List<Timer> writeExpirationQueues(MarshallerWriteContext outCtx) {
+        if ( !outCtx.getWorkingMemory().getSessionConfiguration().isExpirationBuckets() ) {
+            return Collections.emptyList();
+        }
+        List<Timer> _timers = new ArrayList<>();
+        for ( EntryPoint wmep : outCtx.getWorkingMemory().getEntryPoints() ) {
+            for ( ObjectTypeConf otc : ((WorkingMemoryEntryPoint) wmep).getObjectTypeConfigurationRegistry().values() ) {
+                ObjectTypeNode objectTypeNode = otc.getConcreteObjectTypeNode();
+                if ( objectTypeNode == null ) {
+                    continue;
+                }
+                ObjectTypeNodeMemory memory = (ObjectTypeNodeMemory) outCtx.getWorkingMemory().getNodeMemories().peekNodeMemory( objectTypeNode );
+                ExpirationQueue queue = memory != null ? memory.peekExpirationQueue() : null;
+                if ( queue != null ) {
+                    queue.forEach( (handle, time) -> {
+                        if ( handle.isValid() ) {
+                            _timers.add( ExpireJobContextTimerOutputMarshaller.serialize( handle.getId(), time ) );
+                        }
+                    } );
+                }
+            }
+        }
+        return _timers;
+    }
+
     public static ProtobufMessages.Trigger writeTrigger(Trigger trigger, MarshallerWriteContext outCtx) {
         if ( trigger instanceof CronTrigger ) {
             CronTrigger cronTrigger = (CronTrigger) trigger;
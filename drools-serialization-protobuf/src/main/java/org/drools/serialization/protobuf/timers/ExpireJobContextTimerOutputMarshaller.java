@@ -54,16 +54,20 @@ public class ExpireJobContextTimerOutputMarshaller
         PointInTimeTrigger trigger = (PointInTimeTrigger) jobHandle.getTimerJobInstance().getTrigger();
         Date nextFireTime = trigger.hasNextFireTime();
         if (nextFireTime != null) {
-            return ProtobufMessages.Timers.Timer.newBuilder()
-                    .setType(ProtobufMessages.Timers.TimerType.EXPIRE)
-                    .setExpire(ProtobufMessages.Timers.ExpireTimer.newBuilder()
-                            .setHandleId(expireAction.getFactHandle().getId())
-                            .setNextFireTimestamp(nextFireTime.getTime())
-                            .build())
-                    .build();
+            return serialize(expireAction.getFactHandle().getId(), nextFireTime.getTime());
         } else {
             // There is no reason to serialize a timer when it has no future execution time.
             return null;
         }
     }
+
+    public static ProtobufMessages.Timers.Timer serialize(long handleId, long nextFireTimestamp) {
+        return ProtobufMessages.Timers.Timer.newBuilder()
+                .setType(ProtobufMessages.Timers.TimerType.EXPIRE)
+                .setExpire(ProtobufMessages.Timers.ExpireTimer.newBuilder()
+                        .setHandleId(handleId)
+                        .setNextFireTimestamp(nextFireTimestamp)
+                        .build())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.drools.core.reteoo.CompositeObjectSinkAdapter;
+import org.drools.core.reteoo.ObjectTypeNode;
+import org.drools.core.util.index.AlphaCompositeHashIndex;
+import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+@RunWith(Parameterized.class)
+public class AlphaNodeCompositeHashingTest {
+
+    private static final String[] NAMES = { "Mario", "Luigi", "Peach", "Toad" };
+    private static final String[] LIKES = { "pizza", "pasta", "cheese" };
+    private static final int[] AGES = { 20, 30 };
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public AlphaNodeCompositeHashingTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    private static String getDecisionTableLikeDrl(String additionalRules) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("import ").append(Person.class.getCanonicalName()).append(";\n");
+        sb.append("global java.util.List list;\n");
+        for (String name : NAMES) {
+            for (String likes : LIKES) {
+                for (int age : AGES) {
+                    String ruleName = name + "_" + likes + "_" + age;
+                    sb.append("rule ").append(ruleName).append(" when\n")
+                      .append("  Person( name == \"").append(name).append("\", likes == \"").append(likes).append("\", age == ").append(age).append(" )\n")
+                      .append("then\n")
+                      .append("  list.add( \"").append(ruleName).append("\" );\n")
+                      .append("end\n");
+                }
+            }
+        }
+        sb.append(additionalRules);
+        return sb.toString();
+    }
+
+    @Test
+    public void testCompositeHashOnDecisionTableLikeRules() {
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("composite-hashing-test", kieBaseTestConfiguration, getDecisionTableLikeDrl(""));
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            ksession.insert(new Person("Luigi", "pasta", 30));
+            ksession.insert(new Person("Toad", "pizza", 20));
+            ksession.insert(new Person("Toad", "pizza", 25));
+            ksession.insert(new Person("Bowser", "pizza", 20));
+            ksession.insert(new Person("Peach", null, 20));
+            ksession.fireAllRules();
+
+            Assertions.assertThat(list).containsExactlyInAnyOrder("Luigi_pasta_30", "Toad_pizza_20");
+
+            AlphaCompositeHashIndex compositeHashIndex = getCompositeHashIndex(kbase);
+            if (compositeHashIndex != null) {
+                assertEquals(3, compositeHashIndex.getFieldIndexes().length);
+                assertEquals(NAMES.length * LIKES.length * AGES.length, compositeHashIndex.size());
+            }
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testCompositeHashStopsAtNonEqualityConstraint() {
+        final String additionalRule =
+                "rule Mario_pizza_old when\n" +
+                "  Person( name == \"Mario\", likes == \"pizza\", age > 25 )\n" +
+                "then\n" +
+                "  list.add( \"Mario_pizza_old\" );\n" +
+                "end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("composite-hashing-test", kieBaseTestConfiguration, getDecisionTableLikeDrl(additionalRule));
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            ksession.insert(new Person("Mario", "pizza", 30));
+            ksession.insert(new Person("Peach", "cheese", 20));
+            ksession.fireAllRules();
+
+            Assertions.assertThat(list).containsExactlyInAnyOrder("Mario_pizza_30", "Mario_pizza_old", "Peach_cheese_20");
+
+            AlphaCompositeHashIndex compositeHashIndex = getCompositeHashIndex(kbase);
+            if (compositeHashIndex != null) {
+                // the age > 25 constraint prevents hashing on the age
+                assertEquals(2, compositeHashIndex.getFieldIndexes().length);
+            }
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testCompositeHashAfterRuleRemoval() {
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("composite-hashing-test", kieBaseTestConfiguration, getDecisionTableLikeDrl(""));
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            ksession.insert(new Person("Mario", "cheese", 20));
+            ksession.fireAllRules();
+            Assertions.assertThat(list).containsExactly("Mario_cheese_20");
+
+            list.clear();
+            kbase.removeRule("defaultpkg", "Mario_cheese_20");
+            kbase.removeRule("defaultpkg", "Mario_cheese_30");
+
+            ksession.insert(new Person("Mario", "cheese", 20));
+            ksession.insert(new Person("Mario", "pizza", 20));
+            ksession.fireAllRules();
+            Assertions.assertThat(list).containsExactly("Mario_pizza_20");
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testModifyWithWatchedProperties() {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R1 when\n" +
+                "  Person( name == \"Mario\", likes == \"pizza\" ) @watch( !likes )\n" +
+                "then\n" +
+                "  list.add( \"R1\" );\n" +
+                "end\n" +
+                "rule R2 when\n" +
+                "  Person( name == \"Luigi\", likes == \"pizza\" )\n" +
+                "then\n" +
+                "  list.add( \"R2\" );\n" +
+                "end\n" +
+                "rule R3 when\n" +
+                "  Person( name == \"Peach\", likes == \"cake\" )\n" +
+                "then\n" +
+                "  list.add( \"R3\" );\n" +
+                "end\n" +
+                "rule R4 when\n" +
+                "  $p : Person( name == \"Mario\", likes == \"pizza\", age < 30 )\n" +
+                "then\n" +
+                "  modify( $p ) { setLikes( \"pasta\" ), setAge( 30 ) };\n" +
+                "end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("composite-hashing-test", kieBaseTestConfiguration, drl);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            ksession.insert(new Person("Mario", "pizza", 20));
+            ksession.fireAllRules();
+
+            Assertions.assertThat(list).containsExactly("R1");
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private AlphaCompositeHashIndex getCompositeHashIndex(KieBase kbase) {
+        if (kieBaseTestConfiguration.useAlphaNetworkCompiler()) {
+            // the compiled alpha network doesn't go through the CompositeObjectSinkAdapter
+            return null;
+        }
+        final ObjectTypeNode otn = KieUtil.getObjectTypeNode(kbase, Person.class);
+        assertNotNull(otn);
+        final CompositeObjectSinkAdapter sinkAdapter = (CompositeObjectSinkAdapter) otn.getObjectSinkPropagator();
+        assertEquals(1, sinkAdapter.getHashedFieldIndexes().size());
+        AlphaCompositeHashIndex compositeHashIndex = sinkAdapter.getHashedFieldIndexes().get(0).getCompositeHashIndex();
+        assertNotNull(compositeHashIndex);
+        return compositeHashIndex;
+    }
+}
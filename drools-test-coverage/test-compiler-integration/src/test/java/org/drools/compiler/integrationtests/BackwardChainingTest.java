@@ -2551,4 +2551,73 @@ public class BackwardChainingTest extends AbstractBackwardChainingTest {
             }
         }
     }
+
+    @Test(timeout = 10000)
+    public void testRepeatedClosedRecursiveQueries() {
+        // the DroolsQuery of closed queries are reused among invocations, this checks they don't leak any state
+        final String drl = "" +
+                "package org.drools.compiler.test  \n" +
+                "import java.util.List\n" +
+                "import " + Person.class.getCanonicalName() + "\n" +
+                "global List list\n" +
+                "declare Location\n" +
+                "    thing : String \n" +
+                "    location : String \n" +
+                "end\n" +
+                "query isContainedIn( String x, String y ) \n" +
+                "    Location(x, y;)\n" +
+                "    or \n" +
+                "    ( Location(z, y;) and ?isContainedIn(x, z;) )\n" +
+                "end\n" +
+                "rule look when \n" +
+                "    Person( $l : likes ) \n" +
+                "    ?isContainedIn( $l, 'office'; )\n" +
+                "then\n" +
+                "    list.add( $l );\n" +
+                "end\n" +
+                "rule init when\n" +
+                "then\n" +
+                "    insert( new Location(\"desk\", \"office\") );\n" +
+                "    insert( new Location(\"envelope\", \"desk\") );\n" +
+                "    insert( new Location(\"key\", \"envelope\") );\n" +
+                "    insert( new Location(\"lamp\", \"desk\") );\n" +
+                "end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("backward-chaining-test", kieBaseTestConfiguration, drl);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            ksession.fireAllRules();
+
+            for (int i = 0; i < 20; i++) {
+                final Set<String> things = new HashSet<>();
+                for (final QueryResultsRow row : ksession.getQueryResults("isContainedIn", v, "office")) {
+                    things.add((String) row.get("x"));
+                }
+                assertEquals(new HashSet<>(Arrays.asList("desk", "envelope", "key", "lamp")), things);
+                assertEquals(1, ksession.getQueryResults("isContainedIn", "key", "office").size());
+                assertEquals(1, ksession.getQueryResults("isContainedIn", "key", "desk").size());
+                assertEquals(0, ksession.getQueryResults("isContainedIn", "desk", "key").size());
+            }
+
+            for (int i = 0; i < 10; i++) {
+                final FactHandle key = ksession.insert(new Person("p" + i, "key"));
+                final FactHandle chair = ksession.insert(new Person("q" + i, "chair"));
+                final FactHandle lamp = ksession.insert(new Person("r" + i, "lamp"));
+                ksession.fireAllRules();
+                Collections.sort(list);
+                assertEquals(Arrays.asList("key", "lamp"), list);
+                list.clear();
+
+                ksession.delete(key);
+                ksession.delete(chair);
+                ksession.delete(lamp);
+                ksession.fireAllRules();
+                assertEquals(0, list.size());
+            }
+        } finally {
+            ksession.dispose();
+        }
+    }
 }
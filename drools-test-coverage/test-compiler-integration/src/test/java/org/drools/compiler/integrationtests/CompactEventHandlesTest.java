@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.common.CompactEventFactHandle;
+import org.drools.core.time.SessionPseudoClock;
+import org.drools.testcoverage.common.model.StockTick;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieModule;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.CompactEventHandlesOption;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+@RunWith(Parameterized.class)
+public class CompactEventHandlesTest {
+
+    private static final String DRL =
+            "import " + StockTick.class.getCanonicalName() + ";\n" +
+            "global java.util.List list;\n" +
+            "declare StockTick @role( event ) @timestamp( time ) @expires( 10s ) end\n" +
+            "rule Window when\n" +
+            "    $n : Long() from accumulate( StockTick( company == \"ACME\" ) over window:time( 3s ), count() )\n" +
+            "then\n" +
+            "    list.add( $n );\n" +
+            "end\n" +
+            "rule Join when\n" +
+            "    $a : StockTick( company == \"ACME\" )\n" +
+            "    $b : StockTick( company == \"DROO\", this after[0s,2s] $a )\n" +
+            "then\n" +
+            "    list.add( -$b.getSeq() );\n" +
+            "end\n";
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public CompactEventHandlesTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseStreamConfigurations(true);
+    }
+
+    @Test
+    public void testSameResultsOfDefaultHandles() {
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("compact-event-handles-test", kieBaseTestConfiguration, DRL);
+        final List<Long> expected = runStream(newSession(KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration)), false);
+        final List<Long> actual = runStream(newSession(KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, CompactEventHandlesOption.ENABLED)), true);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testUpdateIsNotSupported() {
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("compact-event-handles-test", kieBaseTestConfiguration, DRL);
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, CompactEventHandlesOption.ENABLED);
+        final KieSession ksession = newSession(kbase);
+        try {
+            ksession.setGlobal("list", new ArrayList<Long>());
+            final StockTick tick = new StockTick(1, "ACME", 10, 0);
+            final FactHandle handle = ksession.insert(tick);
+            try {
+                ksession.update(handle, tick);
+                fail("The events with a compact handle cannot be updated");
+            } catch (UnsupportedOperationException e) {
+                // expected
+            }
+            ksession.delete(handle);
+            assertEquals(0, ksession.getFactCount());
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private KieSession newSession(final KieBase kbase) {
+        final KieSessionConfiguration sessionConfig = KieServices.get().newKieSessionConfiguration();
+        sessionConfig.setOption(ClockTypeOption.PSEUDO);
+        return kbase.newKieSession(sessionConfig, null);
+    }
+
+    private List<Long> runStream(final KieSession ksession, final boolean compact) {
+        try {
+            final List<Long> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            final SessionPseudoClock clock = ksession.getSessionClock();
+            for (int i = 0; i < 30; i++) {
+                final FactHandle handle = ksession.insert(new StockTick(i, i % 3 == 0 ? "DROO" : "ACME", 10, clock.getCurrentTime()));
+                assertEquals(compact, handle instanceof CompactEventFactHandle);
+                if (i % 7 == 6) {
+                    ksession.delete(handle);
+                }
+                clock.advanceTime(700, TimeUnit.MILLISECONDS);
+                ksession.fireAllRules();
+                list.add(ksession.getFactCount());
+            }
+            clock.advanceTime(20, TimeUnit.SECONDS);
+            ksession.fireAllRules();
+            assertEquals(0, ksession.getFactCount());
+            return list;
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
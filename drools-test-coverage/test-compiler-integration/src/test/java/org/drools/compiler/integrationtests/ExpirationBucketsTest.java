@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.time.SessionPseudoClock;
+import org.drools.testcoverage.common.model.StockTick;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.SerializationHelper;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.internal.runtime.conf.ExpirationBucketsOption;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(Parameterized.class)
+public class ExpirationBucketsTest {
+
+    private static final String DRL =
+            "import " + StockTick.class.getCanonicalName() + ";\n" +
+            "global java.util.List list;\n" +
+            "declare StockTick @role( event ) @timestamp( time ) @expires( 10s ) end\n" +
+            "rule R when\n" +
+            "    $n : Long() from accumulate( StockTick( company == \"ACME\" ), count() )\n" +
+            "then\n" +
+            "    list.add( $n );\n" +
+            "end\n";
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public ExpirationBucketsTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseStreamConfigurations(true);
+    }
+
+    @Test
+    public void testSameExpirationsOfTimerJobs() {
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("expiration-buckets-test", kieBaseTestConfiguration, DRL);
+        final List<Long> expected = runStream(newSession(kbase, false));
+        assertEquals(0L, (long) expected.get(expected.size() - 1));
+        assertEquals(runStream(newSession(kbase, true)), expected);
+    }
+
+    @Test
+    public void testSerializeQueuedExpirations() throws Exception {
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("expiration-buckets-test", kieBaseTestConfiguration, DRL);
+        KieSession ksession = newSession(kbase, true);
+        try {
+            ksession.setGlobal("list", new ArrayList<Long>());
+            final SessionPseudoClock clock = ksession.getSessionClock();
+            for (int i = 0; i < 5; i++) {
+                ksession.insert(new StockTick(i, "ACME", 10, clock.getCurrentTime()));
+                clock.advanceTime(1, TimeUnit.SECONDS);
+            }
+            ksession.fireAllRules();
+            assertEquals(5, ksession.getFactCount());
+
+            ksession = SerializationHelper.getSerialisedStatefulKnowledgeSession(ksession, true);
+            final SessionPseudoClock restoredClock = ksession.getSessionClock();
+            restoredClock.advanceTime(6, TimeUnit.SECONDS);
+            ksession.fireAllRules();
+            assertEquals(4, ksession.getFactCount());
+
+            restoredClock.advanceTime(4, TimeUnit.SECONDS);
+            ksession.fireAllRules();
+            assertEquals(0, ksession.getFactCount());
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private KieSession newSession(final KieBase kbase, final boolean expirationBuckets) {
+        final KieSessionConfiguration sessionConfig = KieServices.get().newKieSessionConfiguration();
+        sessionConfig.setOption(ClockTypeOption.PSEUDO);
+        sessionConfig.setOption(expirationBuckets ? ExpirationBucketsOption.YES : ExpirationBucketsOption.NO);
+        return kbase.newKieSession(sessionConfig, null);
+    }
+
+    private List<Long> runStream(final KieSession ksession) {
+        try {
+            final List<Long> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            final SessionPseudoClock clock = ksession.getSessionClock();
+            for (int i = 0; i < 40; i++) {
+                ksession.insert(new StockTick(i, "ACME", 10, clock.getCurrentTime()));
+                if (i % 7 == 3) {
+                    // an event arriving late expires before the ones already queued
+                    ksession.insert(new StockTick(i, "ACME", 10, clock.getCurrentTime() - 3000));
+                }
+                if (i % 10 == 9) {
+                    // events deleted before expiring
+                    ksession.delete(ksession.insert(new StockTick(i, "ACME", 10, clock.getCurrentTime())));
+                }
+                clock.advanceTime(500, TimeUnit.MILLISECONDS);
+                ksession.fireAllRules();
+                list.add(ksession.getFactCount());
+            }
+            for (int i = 0; i < 20; i++) {
+                clock.advanceTime(1, TimeUnit.SECONDS);
+                ksession.fireAllRules();
+                list.add(ksession.getFactCount());
+            }
+            return list;
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
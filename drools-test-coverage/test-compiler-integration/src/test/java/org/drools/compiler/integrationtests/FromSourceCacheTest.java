@@ -0,0 +1,163 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.drools.core.phreak.ReactiveList;
+import org.drools.core.reteoo.FromNode;
+import org.drools.core.reteoo.ReteDumper;
+import org.drools.testcoverage.common.model.Cheese;
+import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.builder.KieModule;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.FromSourceCacheOption;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+public class FromSourceCacheTest {
+
+    private static final String DRL =
+            "import " + Cheese.class.getCanonicalName() + ";\n" +
+            "import " + Person.class.getCanonicalName() + ";\n" +
+            "global java.util.List cheeses;\n" +
+            "global java.util.List list;\n" +
+            "rule R when\n" +
+            "    $p : Person( $likes : likes )\n" +
+            "    $c : Cheese( type == $likes, price < 10 ) from cheeses\n" +
+            "then\n" +
+            "    list.add( $p.getName() + \":\" + $c.getPrice() );\n" +
+            "end\n";
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public FromSourceCacheTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    @Test
+    public void testSameResultsOfUncachedFrom() {
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("from-source-cache-test", kieBaseTestConfiguration, DRL);
+
+        final KieBase uncachedKieBase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration);
+        assertFalse(getFromNode(uncachedKieBase).isSourceCached());
+        final KieBase cachedKieBase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, FromSourceCacheOption.ENABLED);
+        assertTrue(getFromNode(cachedKieBase).isSourceCached());
+
+        final List<String> expected = run(uncachedKieBase.newKieSession());
+        final List<String> actual = run(cachedKieBase.newKieSession());
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    private List<String> run(final KieSession ksession) {
+        try {
+            final List<Cheese> cheeses = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                cheeses.add(new Cheese("cheese" + (i % 10), i % 20));
+            }
+            // the same object twice
+            cheeses.add(cheeses.get(0));
+            ksession.setGlobal("cheeses", cheeses);
+
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            final Person mark = new Person("Mark", "cheese0");
+            final Person mario = new Person("Mario", "cheese3");
+            final FactHandle markHandle = ksession.insert(mark);
+            final FactHandle marioHandle = ksession.insert(mario);
+            ksession.insert(new Person("Edson", "cheddar"));
+            ksession.fireAllRules();
+
+            mark.setLikes("cheese5");
+            ksession.update(markHandle, mark);
+            ksession.fireAllRules();
+
+            mario.setLikes("cheese3");
+            ksession.update(marioHandle, mario);
+            ksession.fireAllRules();
+
+            ksession.delete(markHandle);
+            ksession.insert(new Person("Luca", "cheese0"));
+            ksession.fireAllRules();
+
+            Collections.sort(list);
+            return list;
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testReactiveListInvalidatesCache() {
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("from-source-cache-test", kieBaseTestConfiguration, DRL);
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, FromSourceCacheOption.ENABLED);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final ReactiveList<Cheese> cheeses = new ReactiveList<>();
+            cheeses.add(new Cheese("stilton", 5));
+            cheeses.add(new Cheese("brie", 3));
+            ksession.setGlobal("cheeses", cheeses);
+
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            ksession.insert(new Person("Mark", "stilton"));
+            assertEquals(1, ksession.fireAllRules());
+            assertEquals(Arrays.asList("Mark:5"), list);
+            list.clear();
+
+            cheeses.add(new Cheese("stilton", 7));
+            cheeses.remove(0);
+            ksession.insert(new Person("Mario", "stilton"));
+            assertEquals(1, ksession.fireAllRules());
+            assertEquals(Arrays.asList("Mario:7"), list);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private FromNode getFromNode(final KieBase kbase) {
+        return ReteDumper.collectRete(kbase).stream()
+                .filter(FromNode.class::isInstance)
+                .map(FromNode.class::cast)
+                .findFirst()
+                .get();
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.drools.testcoverage.common.model.Cheese;
+import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.model.StockTick;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.runtime.rule.EntryPoint;
+import org.kie.api.event.rule.DefaultRuleRuntimeEventListener;
+import org.kie.api.event.rule.ObjectInsertedEvent;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.api.time.SessionPseudoClock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+@RunWith(Parameterized.class)
+public class InsertBatchTest {
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public InsertBatchTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    @Test
+    public void testInsertBatch() {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R when\n" +
+                "    $p : Person( $likes : likes )\n" +
+                "    Cheese( type == $likes )\n" +
+                "then\n" +
+                "    list.add( $p.getName() );\n" +
+                "end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            final Person mario = new Person("Mario", "cheddar");
+            final Person luigi = new Person("Luigi", "stilton");
+            final Person peach = new Person("Peach", "brie");
+            final Cheese cheddar = new Cheese("cheddar");
+            final Cheese stilton = new Cheese("stilton");
+
+            final List<FactHandle> handles = ksession.insertBatch(Arrays.asList(mario, cheddar, null, luigi, stilton, peach, mario));
+            assertEquals(7, handles.size());
+            assertSame(mario, ksession.getObject(handles.get(0)));
+            assertSame(cheddar, ksession.getObject(handles.get(1)));
+            assertNull(handles.get(2));
+            assertSame(stilton, ksession.getObject(handles.get(4)));
+            // the same fact inserted twice gets the same handle
+            assertSame(handles.get(0), handles.get(6));
+            assertEquals(5, ksession.getFactCount());
+
+            assertEquals(2, ksession.fireAllRules());
+            Assertions.assertThat(list).containsExactlyInAnyOrder("Mario", "Luigi");
+
+            list.clear();
+            ksession.insertBatch(Arrays.asList(new Cheese("brie")));
+            assertEquals(1, ksession.fireAllRules());
+            assertEquals(Arrays.asList("Peach"), list);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testInsertBatchPreservesOrderAcrossTypes() {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";
+" +
+                "import " + Cheese.class.getCanonicalName() + ";
+" +
+                "rule R when
+" +
+                "    Person()
+" +
+                "    Cheese()
+" +
+                "then
+" +
+                "end
+";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<Object> inserted = new ArrayList<>();
+            ksession.addEventListener(new DefaultRuleRuntimeEventListener() {
+                @Override
+                public void objectInserted(final ObjectInsertedEvent event) {
+                    // every fact is notified with its own handle
+                    assertSame(event.getObject(), ksession.getObject(event.getFactHandle()));
+                    inserted.add(event.getObject());
+                }
+            });
+
+            final List<Object> facts = Arrays.asList(new Person("Mario"), new Cheese("cheddar"), new Person("Luigi"),
+                                                     new Person("Peach"), new Cheese("stilton"), new Person("Toad"));
+            ksession.insertBatch(facts);
+            assertEquals(facts, inserted);
+            assertEquals(6, ksession.fireAllRules());
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testInsertBatchIntoEntryPoint() {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R when\n" +
+                "    $p : Person( age >= 18 ) from entry-point \"people\"\n" +
+                "then\n" +
+                "    list.add( $p.getName() );\n" +
+                "end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            final List<Person> people = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                people.add(new Person("p" + i, i));
+            }
+
+            final EntryPoint entryPoint = ksession.getEntryPoint("people");
+            final List<FactHandle> handles = entryPoint.insertBatch(people);
+            assertEquals(100, handles.size());
+            assertEquals(100, entryPoint.getFactCount());
+            assertEquals(0, ksession.getFactCount());
+
+            assertEquals(82, ksession.fireAllRules());
+
+            for (int i = 0; i < 50; i++) {
+                entryPoint.delete(handles.get(i));
+            }
+            assertEquals(50, entryPoint.getFactCount());
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testInsertBatchOfExpiringEvents() {
+        final String drl =
+                "import " + StockTick.class.getCanonicalName() + ";\n" +
+                "declare StockTick @role( event ) @expires( 10s ) end\n" +
+                "global java.util.List list;\n" +
+                "rule R when\n" +
+                "    $s : StockTick( company == \"ACME\" )\n" +
+                "then\n" +
+                "    list.add( $s.getSeq() );\n" +
+                "end\n";
+
+        final KieBaseTestConfiguration streamConfig = TestParametersUtil.getStreamInstanceOf(kieBaseTestConfiguration);
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", streamConfig, drl);
+
+        final KieSessionConfiguration sessionConfig = KieServices.get().newKieSessionConfiguration();
+        sessionConfig.setOption(ClockTypeOption.PSEUDO);
+        final KieSession ksession = kbase.newKieSession(sessionConfig, null);
+        try {
+            final List<Long> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            final SessionPseudoClock clock = ksession.getSessionClock();
+
+            ksession.insertBatch(Arrays.asList(new StockTick(1, "ACME", 10),
+                                               new StockTick(2, "RHT", 20),
+                                               new StockTick(3, "ACME", 30)));
+            assertEquals(2, ksession.fireAllRules());
+            Assertions.assertThat(list).containsExactlyInAnyOrder(1L, 3L);
+            assertEquals(3, ksession.getFactCount());
+
+            clock.advanceTime(11, TimeUnit.SECONDS);
+            ksession.fireAllRules();
+            assertEquals(0, ksession.getFactCount());
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
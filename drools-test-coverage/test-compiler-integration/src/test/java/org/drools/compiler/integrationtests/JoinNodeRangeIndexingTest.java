@@ -48,6 +48,7 @@ import org.kie.api.KieBase;
 import org.kie.api.builder.KieModule;
 import org.kie.api.conf.BetaRangeIndexOption;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -531,4 +532,91 @@ public class JoinNodeRangeIndexingTest {
             ksession.dispose();
         }
     }
+
+    @Test
+    public void testTwoSidedRangeIndex() {
+        final String drl = "import " + Person.class.getCanonicalName() + ";\n" +
+                           "import " + Pet.class.getCanonicalName() + ";\n" +
+                           "global java.util.Set result;\n" +
+                           "rule R1\n" +
+                           "when\n" +
+                           "   $pet : Pet()\n" +
+                           "   $person : Person( age > $pet.age, age <= $pet.age * 2 )\n" +
+                           "then\n" +
+                           "   result.add( $person.getName() + \" > \" + $pet.getName() );\n" +
+                           "end\n";
+
+        final KieBase kbase = getKieBaseWithRangeIndexOption(drl);
+
+        assertIndexedTrue(kbase, Person.class);
+
+        final KieSession ksession = kbase.newKieSession();
+        Set<String> result = new HashSet<>();
+        ksession.setGlobal("result", result);
+        try {
+            ksession.insert(new Pet("Charlie", 5));
+            ksession.insert(new Pet("Max", 10));
+
+            ksession.insert(new Person("John", 5));
+            ksession.insert(new Person("Paul", 10));
+            final Person george = new Person("George", 15);
+            final FactHandle georgeFh = ksession.insert(george);
+            ksession.insert(new Person("Ringo", 20));
+            ksession.insert(new Person("Pete", 21));
+
+            assertEquals(3, ksession.fireAllRules());
+            Assertions.assertThat(result).containsExactlyInAnyOrder("Paul > Charlie", "George > Max", "Ringo > Max");
+
+            result.clear();
+            george.setAge(8);
+            ksession.update(georgeFh, george);
+            assertEquals(1, ksession.fireAllRules());
+            Assertions.assertThat(result).containsExactly("George > Charlie");
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testEqualityAndRangeIndex() {
+        final String drl = "import " + Person.class.getCanonicalName() + ";\n" +
+                           "import " + Cheese.class.getCanonicalName() + ";\n" +
+                           "global java.util.Set result;\n" +
+                           "rule R1\n" +
+                           "when\n" +
+                           "   $cheese : Cheese()\n" +
+                           "   $person : Person( likes == $cheese.type, age < $cheese.price )\n" +
+                           "then\n" +
+                           "   result.add( $person.getName() + \" likes \" + $cheese.getType() );\n" +
+                           "end\n";
+
+        final KieBase kbase = getKieBaseWithRangeIndexOption(drl);
+
+        assertIndexedTrue(kbase, Person.class);
+
+        final KieSession ksession = kbase.newKieSession();
+        Set<String> result = new HashSet<>();
+        ksession.setGlobal("result", result);
+        try {
+            ksession.insert(new Cheese("stilton", 20));
+            ksession.insert(new Cheese("brie", 30));
+
+            ksession.insert(new Person("John", "stilton", 10));
+            ksession.insert(new Person("Paul", "stilton", 25));
+            final FactHandle georgeFh = ksession.insert(new Person("George", "brie", 25));
+            ksession.insert(new Person("Ringo", "brie", 35));
+            ksession.insert(new Person("Pete", "cheddar", 5));
+
+            assertEquals(2, ksession.fireAllRules());
+            Assertions.assertThat(result).containsExactlyInAnyOrder("John likes stilton", "George likes brie");
+
+            result.clear();
+            ksession.delete(georgeFh);
+            ksession.insert(new Cheese("cheddar", 10));
+            assertEquals(1, ksession.fireAllRules());
+            Assertions.assertThat(result).containsExactly("Pete likes cheddar");
+        } finally {
+            ksession.dispose();
+        }
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.drools.testcoverage.common.model.Cheese;
+import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.builder.KieModule;
+import org.kie.api.event.rule.DefaultAgendaEventListener;
+import org.kie.api.event.rule.MatchCancelledEvent;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.LeftTuplePoolSizeOption;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(Parameterized.class)
+public class LeftTuplePoolTest {
+
+    private static final String[] TYPES = { "cheddar", "stilton", "brie", "gouda" };
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public LeftTuplePoolTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    @Test
+    public void testJoinChain() {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R when\n" +
+                "    $p1 : Person( $likes : likes, $age : age )\n" +
+                "    $c : Cheese( type == $likes, price > $age )\n" +
+                "    $p2 : Person( age == $c.price )\n" +
+                "then\n" +
+                "    list.add( $p1.getName() + \":\" + $c.getPrice() + \":\" + $p2.getName() );\n" +
+                "end\n";
+
+        assertSameFirings(drl);
+    }
+
+    @Test
+    public void testJoinChainWithNot() {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R when\n" +
+                "    $p1 : Person( $likes : likes, $age : age )\n" +
+                "    $c : Cheese( type == $likes, price > $age )\n" +
+                "    not Person( age == $c.price )\n" +
+                "    $p2 : Person( age == $age + 1 )\n" +
+                "then\n" +
+                "    list.add( $p1.getName() + \":\" + $c.getPrice() + \":\" + $p2.getName() );\n" +
+                "end\n";
+
+        assertSameFirings(drl);
+    }
+
+    private void assertSameFirings(final String drl) {
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("left-tuple-pool-test", kieBaseTestConfiguration, drl);
+        final KieBase kieBase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration);
+        final KieBase pooledKieBase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration,
+                                                                                               LeftTuplePoolSizeOption.get(64));
+
+        final List<String> firings = fire(kieBase);
+        final List<String> pooledFirings = fire(pooledKieBase);
+
+        assertFalse(firings.isEmpty());
+        assertEquals(firings, pooledFirings);
+    }
+
+    private List<String> fire(final KieBase kbase) {
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            // the objects of the cancelled matches are read after the deletion of their tuples
+            ksession.addEventListener(new DefaultAgendaEventListener() {
+                @Override
+                public void matchCancelled(final MatchCancelledEvent event) {
+                    list.add("cancelled:" + event.getMatch().getObjects());
+                }
+            });
+
+            final List<Person> people = new ArrayList<>();
+            final List<FactHandle> peopleHandles = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                final Person person = new Person("p" + i, TYPES[i % TYPES.length], i);
+                people.add(person);
+                peopleHandles.add(ksession.insert(person));
+            }
+
+            for (int round = 0; round < 5; round++) {
+                final List<FactHandle> cheeses = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    cheeses.add(ksession.insert(new Cheese(TYPES[i % TYPES.length], (i + round) % 60)));
+                }
+                // cancels some of the matches before they fire
+                for (int i = 0; i < cheeses.size(); i += 5) {
+                    ksession.delete(cheeses.get(i));
+                }
+                ksession.fireAllRules();
+
+                // deleted tuples are given back to the pool and then reused by the following insertions
+                for (int i = round % 2; i < cheeses.size(); i += 2) {
+                    if (ksession.getObject(cheeses.get(i)) != null) {
+                        ksession.delete(cheeses.get(i));
+                    }
+                }
+                for (int i = round; i < people.size(); i += 7) {
+                    final Person person = people.get(i);
+                    person.setAge((person.getAge() + 13) % 50);
+                    ksession.update(peopleHandles.get(i), person);
+                }
+                ksession.fireAllRules();
+
+                for (FactHandle cheese : cheeses) {
+                    if (ksession.getObject(cheese) != null) {
+                        ksession.delete(cheese);
+                    }
+                }
+                ksession.fireAllRules();
+            }
+
+            list.add("facts:" + ksession.getFactCount());
+            return list;
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
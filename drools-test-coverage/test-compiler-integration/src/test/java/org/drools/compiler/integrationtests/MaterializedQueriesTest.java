@@ -0,0 +1,216 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import org.drools.kiesession.session.StatefulKnowledgeSessionImpl;
+import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.api.runtime.rule.QueryResults;
+import org.kie.api.runtime.rule.QueryResultsRow;
+import org.kie.api.runtime.rule.Variable;
+import org.kie.internal.runtime.conf.MaterializedQueriesOption;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(Parameterized.class)
+public class MaterializedQueriesTest {
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + ";\n" +
+            "query olderThan( int $min, String $name, int $age )\n" +
+            "    Person( $name : name, $age : age > $min )\n" +
+            "end\n";
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public MaterializedQueriesTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    @Test
+    public void testSameResultsOfQueryEvaluation() {
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("materialized-queries-test", kieBaseTestConfiguration, DRL);
+        final KieSession materialized = newSession(kbase, true);
+        final KieSession evaluated = newSession(kbase, false);
+        try {
+            final Random random = new Random(0);
+            final List<FactHandle[]> handles = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                final int op = random.nextInt(4);
+                if (handles.isEmpty() || op == 0) {
+                    final String name = "p" + i;
+                    final int age = random.nextInt(100);
+                    handles.add(new FactHandle[] { materialized.insert(new Person(name, age)), evaluated.insert(new Person(name, age)) });
+                } else if (op == 1) {
+                    final FactHandle[] pair = handles.remove(random.nextInt(handles.size()));
+                    materialized.delete(pair[0]);
+                    evaluated.delete(pair[1]);
+                } else {
+                    final FactHandle[] pair = handles.get(random.nextInt(handles.size()));
+                    final int age = random.nextInt(100);
+                    final Person p1 = (Person) materialized.getObject(pair[0]);
+                    p1.setAge(age);
+                    materialized.update(pair[0], p1);
+                    final Person p2 = (Person) evaluated.getObject(pair[1]);
+                    p2.setAge(age);
+                    evaluated.update(pair[1], p2);
+                }
+
+                final int min = random.nextInt(3) * 30;
+                assertEquals(getRows(evaluated, min), getRows(materialized, min));
+            }
+        } finally {
+            materialized.dispose();
+            evaluated.dispose();
+        }
+    }
+
+    @Test
+    public void testResultsAreNotAffectedByLaterChanges() {
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("materialized-queries-test", kieBaseTestConfiguration, DRL);
+        final KieSession ksession = newSession(kbase, true);
+        try {
+            final FactHandle mario = ksession.insert(new Person("Mario", 45));
+            final QueryResults results = ksession.getQueryResults("olderThan", 40, "Mario", 45);
+            assertEquals(1, results.size());
+
+            ksession.insert(new Person("Mark", 42));
+            ksession.delete(mario);
+            assertEquals(1, results.size());
+            assertEquals("Mario", results.iterator().next().get("$name"));
+
+            final QueryResults updated = ksession.getQueryResults("olderThan", 40, "Mark", 42);
+            assertEquals(1, updated.size());
+            assertEquals(0, ksession.getQueryResults("olderThan", 40, "Mario", 45).size());
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testCloseMaterializedQueries() {
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("materialized-queries-test", kieBaseTestConfiguration, DRL);
+        final KieSession ksession = newSession(kbase, true);
+        try {
+            ksession.insert(new Person("Mario", 45));
+            assertEquals(1, getRows(ksession, 40).size());
+            assertEquals(1, getRows(ksession, 0).size());
+
+            ((StatefulKnowledgeSessionImpl) ksession).closeMaterializedQuery("olderThan", 40, Variable.v, Variable.v);
+            ksession.insert(new Person("Mark", 42));
+            assertEquals(2, getRows(ksession, 40).size());
+            assertEquals(2, getRows(ksession, 0).size());
+
+            ((StatefulKnowledgeSessionImpl) ksession).closeMaterializedQueries();
+            ksession.insert(new Person("Edson", 30));
+            assertEquals(2, getRows(ksession, 40).size());
+            assertEquals(3, getRows(ksession, 0).size());
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testLeastRecentlyUsedViewsAreClosed() {
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("materialized-queries-test", kieBaseTestConfiguration, DRL);
+        final KieSession materialized = newSession(kbase, true);
+        final KieSession evaluated = newSession(kbase, false);
+        try {
+            // more distinct arguments than the views kept by a session
+            for (int i = 0; i < 200; i++) {
+                materialized.insert(new Person("p" + i, i % 100));
+                evaluated.insert(new Person("p" + i, i % 100));
+                assertEquals(getRows(evaluated, i % 100), getRows(materialized, i % 100));
+                assertEquals(getRows(evaluated, 50), getRows(materialized, 50));
+            }
+        } finally {
+            materialized.dispose();
+            evaluated.dispose();
+        }
+    }
+
+    @Test
+    public void testViewsAreOpenedAgainAfterUpdatingTheQuery() {
+        final String drl2 =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "query olderThan( int $min, String $name, int $age )\n" +
+                "    Person( $name : name, $age : age >= $min )\n" +
+                "end\n";
+
+        final KieServices ks = KieServices.Factory.get();
+        final ReleaseId releaseId1 = ks.newReleaseId("org.kie", "materialized-queries-upgrade", "1.0.0");
+        KieUtil.getKieModuleFromDrls(releaseId1, kieBaseTestConfiguration, DRL);
+        final KieContainer kc = ks.newKieContainer(releaseId1);
+
+        final KieSessionConfiguration sessionConfig = KieServices.get().newKieSessionConfiguration();
+        sessionConfig.setOption(MaterializedQueriesOption.YES);
+        final KieSession ksession = kc.newKieSession(sessionConfig);
+        try {
+            ksession.insert(new Person("Mario", 40));
+            ksession.insert(new Person("Mark", 42));
+            assertEquals(1, getRows(ksession, 40).size());
+
+            final ReleaseId releaseId2 = ks.newReleaseId("org.kie", "materialized-queries-upgrade", "1.1.0");
+            KieUtil.getKieModuleFromDrls(releaseId2, kieBaseTestConfiguration, drl2);
+            kc.updateToVersion(releaseId2);
+
+            assertEquals(2, getRows(ksession, 40).size());
+            ksession.insert(new Person("Edson", 41));
+            assertEquals(3, getRows(ksession, 40).size());
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private KieSession newSession(final KieBase kbase, final boolean materializedQueries) {
+        final KieSessionConfiguration sessionConfig = KieServices.get().newKieSessionConfiguration();
+        sessionConfig.setOption(materializedQueries ? MaterializedQueriesOption.YES : MaterializedQueriesOption.NO);
+        return kbase.newKieSession(sessionConfig, null);
+    }
+
+    private static List<String> getRows(final KieSession ksession, final int min) {
+        final List<String> rows = new ArrayList<>();
+        for (final QueryResultsRow row : ksession.getQueryResults("olderThan", min, Variable.v, Variable.v)) {
+            rows.add(row.get("$name") + ":" + row.get("$age"));
+        }
+        rows.sort(String::compareTo);
+        return rows;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.drools.testcoverage.common.model.Cheese;
+import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.builder.KieModule;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.ParallelJoinThresholdOption;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(Parameterized.class)
+public class ParallelJoinTest {
+
+    private static final String[] TYPES = { "cheddar", "stilton", "brie", "gouda" };
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public ParallelJoinTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    @Test
+    public void testIndexedParallelJoin() {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R when\n" +
+                "    $p : Person( $likes : likes )\n" +
+                "    $c : Cheese( type == $likes, price > $p.age )\n" +
+                "then\n" +
+                "    list.add( $p.getName() + \":\" + $c.getType() + \":\" + $c.getPrice() );\n" +
+                "end\n";
+
+        assertSameFirings(drl);
+    }
+
+    @Test
+    public void testNotIndexedParallelJoin() {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R when\n" +
+                "    $p : Person()\n" +
+                "    $c : Cheese( price > $p.age, price < $p.age + 5 )\n" +
+                "then\n" +
+                "    list.add( $p.getName() + \":\" + $c.getType() + \":\" + $c.getPrice() );\n" +
+                "end\n";
+
+        assertSameFirings(drl);
+    }
+
+    private void assertSameFirings(final String drl) {
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("parallel-join-test", kieBaseTestConfiguration, drl);
+        final KieBase sequentialKieBase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration);
+        final KieBase parallelKieBase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration,
+                                                                                                 ParallelJoinThresholdOption.get(10));
+
+        final List<String> sequentialFirings = fire(sequentialKieBase);
+        final List<String> parallelFirings = fire(parallelKieBase);
+
+        assertFalse(sequentialFirings.isEmpty());
+        // the child tuples are created in the same order, so also the firings have to be the same
+        assertEquals(sequentialFirings, parallelFirings);
+    }
+
+    private List<String> fire(final KieBase kbase) {
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            for (int i = 0; i < 40; i++) {
+                ksession.insert(new Person("p" + i, TYPES[i % TYPES.length], i));
+            }
+            // links the rule and populates the left memory, so that the right insertions have to be matched against it
+            ksession.insert(new Cheese("seed", 0));
+            ksession.fireAllRules();
+
+            final List<FactHandle> cheeses = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                cheeses.add(ksession.insert(new Cheese(TYPES[i % TYPES.length], i % 50)));
+            }
+            ksession.fireAllRules();
+
+            // a batch below the threshold is still evaluated sequentially
+            for (int i = 0; i < 5; i++) {
+                ksession.insert(new Cheese(TYPES[i % TYPES.length], 45));
+            }
+            ksession.fireAllRules();
+
+            for (int i = 0; i < cheeses.size(); i += 2) {
+                ksession.delete(cheeses.get(i));
+            }
+            ksession.insert(new Person("late", "brie", 10));
+            ksession.fireAllRules();
+
+            return list;
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
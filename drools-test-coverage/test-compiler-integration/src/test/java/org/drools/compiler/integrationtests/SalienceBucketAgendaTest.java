@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.drools.testcoverage.common.model.Cheese;
+import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.builder.KieModule;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.conf.AgendaQueueOption;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(Parameterized.class)
+public class SalienceBucketAgendaTest {
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public SalienceBucketAgendaTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    @Test
+    public void testSameFiringsOfBinaryHeap() {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule Low salience -10 when\n" +
+                "    $p : Person( age < 20 )\n" +
+                "then\n" +
+                "    list.add( \"Low:\" + $p.getName() );\n" +
+                "end\n" +
+                "rule Default when\n" +
+                "    $c : Cheese()\n" +
+                "then\n" +
+                "    list.add( \"Default:\" + $c.getType() );\n" +
+                "    if ( $c.getPrice() > 5 ) { insert( new Person( \"from \" + $c.getType(), $c.getPrice() ) ); }\n" +
+                "end\n" +
+                "rule High salience 10 when\n" +
+                "    $p : Person( age >= 20 )\n" +
+                "then\n" +
+                "    list.add( \"High:\" + $p.getName() );\n" +
+                "end\n" +
+                "rule Dynamic salience( $p.getAge() ) when\n" +
+                "    $p : Person( name.startsWith( \"from\" ) )\n" +
+                "then\n" +
+                "    list.add( \"Dynamic:\" + $p.getName() );\n" +
+                "end\n";
+
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("salience-bucket-test", kieBaseTestConfiguration, drl);
+        final List<String> firings = fire(KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration));
+        assertFalse(firings.isEmpty());
+
+        for (AgendaQueueOption agendaQueue : new AgendaQueueOption[] { AgendaQueueOption.SALIENCE_FIFO, AgendaQueueOption.SALIENCE_LIFO }) {
+            final KieBase kieBase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, agendaQueue);
+            assertEquals(agendaQueue.toString(), firings, fire(kieBase));
+        }
+    }
+
+    private List<String> fire(final KieBase kbase) {
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            for (int i = 0; i < 40; i++) {
+                ksession.insert(new Person("p" + i, i));
+                ksession.insert(new Cheese("c" + i, i % 10));
+                if (i % 10 == 9) {
+                    ksession.fireAllRules();
+                }
+            }
+            return list;
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.drools.testcoverage.common.model.StockTick;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.SerializationHelper;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.runtime.rule.EntryPoint;
+import org.kie.api.runtime.rule.FactHandle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+@RunWith(Parameterized.class)
+public class WatermarkTest {
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public WatermarkTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseStreamConfigurations(true);
+    }
+
+    private static String getDrl(final String source) {
+        return "import " + StockTick.class.getCanonicalName() + ";\n" +
+                "import java.util.List;\n" +
+                "global java.util.List list;\n" +
+                "declare StockTick @role( event ) @timestamp( time ) end\n" +
+                "rule R when\n" +
+                "    $l : List() from accumulate( StockTick( $s : seq ) over window:length( 2 )" + source + ", collectList( $s ) )\n" +
+                "then\n" +
+                "    list.add( $l );\n" +
+                "end\n";
+    }
+
+    private KieSession newSession(final String drl) {
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("watermark-test", kieBaseTestConfiguration, drl);
+        final KieSessionConfiguration sessionConfig = KieServices.get().newKieSessionConfiguration();
+        sessionConfig.setOption(ClockTypeOption.PSEUDO);
+        return kbase.newKieSession(sessionConfig, null);
+    }
+
+    @Test
+    public void testReorderEventsUpToWatermark() {
+        final KieSession ksession = newSession(getDrl(""));
+        try {
+            final List<List<Long>> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            ksession.setAllowedLateness(10);
+
+            ksession.insert(new StockTick(1, "ACME", 10, 100));
+            ksession.insert(new StockTick(2, "ACME", 10, 95));
+            assertEquals(90, ksession.getWatermark());
+            assertEquals(0, ksession.getFactCount());
+
+            // moves the watermark to 110, releasing the first 2 events in timestamp order
+            ksession.insert(new StockTick(3, "ACME", 10, 120));
+            assertEquals(110, ksession.getWatermark());
+            assertEquals(2, ksession.getFactCount());
+
+            // a late event is inserted immediately
+            ksession.insert(new StockTick(4, "ACME", 10, 105));
+            assertEquals(3, ksession.getFactCount());
+            ksession.fireAllRules();
+            Assertions.assertThat(list.get(list.size() - 1)).containsExactlyInAnyOrder(1L, 4L);
+
+            ksession.advanceWatermark(200);
+            assertEquals(4, ksession.getFactCount());
+            ksession.fireAllRules();
+            Assertions.assertThat(list.get(list.size() - 1)).containsExactlyInAnyOrder(3L, 4L);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testDeleteAndUpdateHeldEvents() {
+        final KieSession ksession = newSession(getDrl(" from entry-point \"ticks\""));
+        try {
+            final List<List<Long>> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            final EntryPoint ticks = ksession.getEntryPoint("ticks");
+            ticks.setAllowedLateness(Long.MAX_VALUE);
+
+            final StockTick tick1 = new StockTick(1, "ACME", 10, 100);
+            final FactHandle handle1 = ticks.insert(tick1);
+            final FactHandle handle2 = ticks.insert(new StockTick(2, "ACME", 10, 90));
+            final FactHandle handle3 = ticks.insert(new StockTick(3, "ACME", 10, 80));
+            assertEquals(0, ticks.getFactCount());
+            assertNull(ticks.getFactHandle(tick1));
+
+            ticks.delete(handle2);
+            final StockTick updated = new StockTick(4, "ACME", 10, 80);
+            ticks.update(handle3, updated);
+
+            ticks.advanceWatermark(100);
+            assertEquals(2, ticks.getFactCount());
+            assertSame(handle1, ticks.getFactHandle(tick1));
+            assertSame(updated, ticks.getObject(handle3));
+            ksession.fireAllRules();
+            Assertions.assertThat(list.get(list.size() - 1)).containsExactlyInAnyOrder(4L, 1L);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testReinsertUpdateAndBatchInsertHeldEvents() {
+        final KieSession ksession = newSession(getDrl(" from entry-point \"ticks\""));
+        try {
+            final List<List<Long>> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            final EntryPoint ticks = ksession.getEntryPoint("ticks");
+            ticks.setAllowedLateness(Long.MAX_VALUE);
+
+            final StockTick tick1 = new StockTick(1, "ACME", 10, 100);
+            final StockTick tick2 = new StockTick(2, "ACME", 10, 90);
+            final FactHandle handle1 = ticks.insert(tick1);
+            final FactHandle handle2 = ticks.insert(tick2);
+            // inserting again a held event doesn't create another handle
+            assertSame(handle1, ticks.insert(tick1));
+
+            // the updated event is moved after the other ones
+            tick2.setTime(120);
+            ticks.update(handle2, tick2);
+
+            // the batch insertion goes through the reorder buffer too
+            final List<FactHandle> handles = ticks.insertBatch(Arrays.asList(new StockTick(3, "ACME", 10, 110), tick1));
+            assertSame(handle1, handles.get(1));
+            assertEquals(0, ticks.getFactCount());
+
+            ticks.advanceWatermark(200);
+            assertEquals(3, ticks.getFactCount());
+            ksession.fireAllRules();
+            Assertions.assertThat(list.get(list.size() - 1)).containsExactlyInAnyOrder(3L, 2L);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testMarshallingWithHeldEvents() throws Exception {
+        KieSession ksession = newSession(getDrl(""));
+        try {
+            ksession.setGlobal("list", new ArrayList<>());
+            ksession.setAllowedLateness(10);
+            ksession.insert(new StockTick(1, "ACME", 10, 100));
+
+            final KieSession session = ksession;
+            Assertions.assertThatThrownBy(() -> SerializationHelper.getSerialisedStatefulKnowledgeSession(session, false))
+                    .isInstanceOf(IllegalStateException.class);
+
+            // once the events are released the session can be marshalled
+            ksession.advanceWatermark(100);
+            ksession = SerializationHelper.getSerialisedStatefulKnowledgeSession(ksession, true);
+            assertEquals(1, ksession.getFactCount());
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.drools.mvel.compiler.command;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.phreak.LockFreePropagationList;
+import org.drools.core.phreak.PropagationEntry;
+import org.drools.core.phreak.PropagationList;
+import org.drools.mvel.compiler.command.PropagationListTest.Checker;
+import org.drools.mvel.compiler.command.PropagationListTest.TestEntry;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LockFreePropagationListTest {
+
+    @Test
+    public void testTakeAllKeepsInsertionOrder() {
+        final PropagationList propagationList = new LockFreePropagationList(null);
+        assertTrue(propagationList.isEmpty());
+        assertNull(propagationList.takeAll());
+
+        final Checker checker = new Checker(1);
+        final List<TestEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final TestEntry entry = new TestEntry(checker, 0, i);
+            entries.add(entry);
+            propagationList.addEntry(entry);
+        }
+        assertFalse(propagationList.isEmpty());
+
+        final Iterator<PropagationEntry> iterator = propagationList.iterator();
+        for (TestEntry entry : entries) {
+            assertSame(entry, iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+
+        // the checker fails if the entries are not executed in the same order they have been added
+        propagationList.flush();
+        assertTrue(propagationList.isEmpty());
+    }
+
+    @Test(timeout = 20000L)
+    public void testConcurrentProducers() throws InterruptedException {
+        final int threadNr = 8;
+        final int entryNr = 50000;
+
+        final PropagationList propagationList = new LockFreePropagationList(null);
+        final Checker checker = new Checker(threadNr);
+
+        final Thread[] producers = new Thread[threadNr];
+        for (int i = 0; i < threadNr; i++) {
+            final int threadId = i;
+            producers[i] = new Thread(() -> {
+                for (int j = 0; j < entryNr; j++) {
+                    propagationList.addEntry(new TestEntry(checker, threadId, j));
+                }
+            });
+            producers[i].start();
+        }
+
+        boolean running = true;
+        while (running) {
+            running = false;
+            for (Thread producer : producers) {
+                running |= producer.isAlive();
+            }
+            propagationList.flush();
+        }
+        propagationList.flush();
+
+        for (int i = 0; i < threadNr; i++) {
+            assertEquals(entryNr, checker.counters[i]);
+        }
+    }
+
+    @Test(timeout = 10000L)
+    public void testWaitOnRestIsWokenUpByNewEntry() throws InterruptedException {
+        final PropagationList propagationList = new LockFreePropagationList(null);
+        propagationList.setFiringUntilHalt(true);
+
+        final CountDownLatch waiting = new CountDownLatch(1);
+        final PropagationEntry[] taken = new PropagationEntry[1];
+        final Thread consumer = new Thread(() -> {
+            waiting.countDown();
+            propagationList.waitOnRest();
+            taken[0] = propagationList.takeAll();
+        });
+        consumer.start();
+
+        assertTrue(waiting.await(5, TimeUnit.SECONDS));
+        final TestEntry entry = new TestEntry(new Checker(1), 0, 0);
+        propagationList.addEntry(entry);
+
+        consumer.join();
+        assertSame(entry, taken[0]);
+    }
+
+    @Test(timeout = 10000L)
+    public void testNotificationBeforeWaitOnRestIsNotLost() {
+        final PropagationList propagationList = new LockFreePropagationList(null);
+
+        // the consumer must not be parked by a notification it arrived too late to see
+        propagationList.notifyWaitOnRest();
+        propagationList.waitOnRest();
+        assertTrue(propagationList.isEmpty());
+    }
+}
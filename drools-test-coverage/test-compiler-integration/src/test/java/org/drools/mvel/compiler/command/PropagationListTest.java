@@ -146,7 +146,7 @@ public class PropagationListTest {
     }
 
     public static class Checker {
-        private final int[] counters;
+        final int[] counters;
 
         public Checker(final int nr) {
             counters = new int[nr];
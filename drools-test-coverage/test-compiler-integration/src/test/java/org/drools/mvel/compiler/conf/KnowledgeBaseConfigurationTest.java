@@ -28,16 +28,22 @@ import org.kie.api.conf.EventProcessingOption;
 import org.kie.api.conf.RemoveIdentitiesOption;
 import org.kie.api.conf.SequentialOption;
 import org.kie.api.runtime.rule.ConsequenceExceptionHandler;
+import org.kie.internal.conf.AgendaQueueOption;
 import org.kie.internal.conf.AlphaRangeIndexThresholdOption;
 import org.kie.internal.conf.AlphaThresholdOption;
+import org.kie.internal.conf.CompactEventHandlesOption;
 import org.kie.internal.conf.CompositeKeyDepthOption;
 import org.kie.internal.conf.ConsequenceExceptionHandlerOption;
+import org.kie.internal.conf.FromSourceCacheOption;
 import org.kie.internal.conf.IndexLeftBetaMemoryOption;
 import org.kie.internal.conf.IndexPrecedenceOption;
 import org.kie.internal.conf.IndexRightBetaMemoryOption;
+import org.kie.internal.conf.LeftTuplePoolSizeOption;
 import org.kie.internal.conf.MaxThreadsOption;
 import org.kie.internal.conf.MultithreadEvaluationOption;
+import org.kie.internal.conf.ParallelJoinThresholdOption;
 import org.kie.internal.conf.PermGenThresholdOption;
+import org.kie.internal.conf.PrimitiveIndexOption;
 import org.kie.internal.conf.SequentialAgendaOption;
 import org.kie.internal.conf.ShareAlphaNodesOption;
 import org.kie.internal.conf.ShareBetaNodesOption;
@@ -331,6 +337,174 @@ public class KnowledgeBaseConfigurationTest {
                       config.getProperty( AlphaRangeIndexThresholdOption.PROPERTY_NAME ) );
     }
 
+    @Test
+    public void testParallelJoinThresholdConfiguration() {
+        // disabled by default
+        assertEquals( ParallelJoinThresholdOption.get(ParallelJoinThresholdOption.DEFAULT_VALUE),
+                      config.getOption( ParallelJoinThresholdOption.class ) );
+
+        // setting the option using the type safe method
+        config.setOption( ParallelJoinThresholdOption.get(1000) );
+
+        // checking the type safe getOption() method
+        assertEquals( ParallelJoinThresholdOption.get(1000),
+                      config.getOption( ParallelJoinThresholdOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "1000",
+                      config.getProperty( ParallelJoinThresholdOption.PROPERTY_NAME ) );
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( ParallelJoinThresholdOption.PROPERTY_NAME,
+                            "500" );
+
+        // checking the type safe getOption() method
+        assertEquals( ParallelJoinThresholdOption.get(500),
+                      config.getOption( ParallelJoinThresholdOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "500",
+                      config.getProperty( ParallelJoinThresholdOption.PROPERTY_NAME ) );
+    }
+
+    @Test
+    public void testLeftTuplePoolSizeConfiguration() {
+        // disabled by default
+        assertEquals( LeftTuplePoolSizeOption.get(LeftTuplePoolSizeOption.DEFAULT_VALUE),
+                      config.getOption( LeftTuplePoolSizeOption.class ) );
+
+        // setting the option using the type safe method
+        config.setOption( LeftTuplePoolSizeOption.get(1024) );
+
+        // checking the type safe getOption() method
+        assertEquals( LeftTuplePoolSizeOption.get(1024),
+                      config.getOption( LeftTuplePoolSizeOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "1024",
+                      config.getProperty( LeftTuplePoolSizeOption.PROPERTY_NAME ) );
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( LeftTuplePoolSizeOption.PROPERTY_NAME,
+                            "64" );
+
+        // checking the type safe getOption() method
+        assertEquals( LeftTuplePoolSizeOption.get(64),
+                      config.getOption( LeftTuplePoolSizeOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "64",
+                      config.getProperty( LeftTuplePoolSizeOption.PROPERTY_NAME ) );
+    }
+
+    @Test
+    public void testCompactEventHandlesConfiguration() {
+        // disabled by default
+        assertEquals( CompactEventHandlesOption.DISABLED,
+                      config.getOption( CompactEventHandlesOption.class ) );
+
+        // setting the option using the type safe method
+        config.setOption( CompactEventHandlesOption.ENABLED );
+
+        // checking the type safe getOption() method
+        assertEquals( CompactEventHandlesOption.ENABLED,
+                      config.getOption( CompactEventHandlesOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "true",
+                      config.getProperty( CompactEventHandlesOption.PROPERTY_NAME ) );
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( CompactEventHandlesOption.PROPERTY_NAME,
+                            "false" );
+
+        // checking the type safe getOption() method
+        assertEquals( CompactEventHandlesOption.DISABLED,
+                      config.getOption( CompactEventHandlesOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "false",
+                      config.getProperty( CompactEventHandlesOption.PROPERTY_NAME ) );
+    }
+
+    @Test
+    public void testFromSourceCacheConfiguration() {
+        // disabled by default
+        assertEquals( FromSourceCacheOption.DISABLED,
+                      config.getOption( FromSourceCacheOption.class ) );
+
+        // setting the option using the type safe method
+        config.setOption( FromSourceCacheOption.ENABLED );
+
+        // checking the type safe getOption() method
+        assertEquals( FromSourceCacheOption.ENABLED,
+                      config.getOption( FromSourceCacheOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "true",
+                      config.getProperty( FromSourceCacheOption.PROPERTY_NAME ) );
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( FromSourceCacheOption.PROPERTY_NAME,
+                            "false" );
+
+        // checking the type safe getOption() method
+        assertEquals( FromSourceCacheOption.DISABLED,
+                      config.getOption( FromSourceCacheOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "false",
+                      config.getProperty( FromSourceCacheOption.PROPERTY_NAME ) );
+    }
+
+    @Test
+    public void testPrimitiveIndexConfiguration() {
+        // enabled by default
+        assertEquals( PrimitiveIndexOption.ENABLED,
+                      config.getOption( PrimitiveIndexOption.class ) );
+
+        // setting the option using the type safe method
+        config.setOption( PrimitiveIndexOption.DISABLED );
+
+        // checking the type safe getOption() method
+        assertEquals( PrimitiveIndexOption.DISABLED,
+                      config.getOption( PrimitiveIndexOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "false",
+                      config.getProperty( PrimitiveIndexOption.PROPERTY_NAME ) );
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( PrimitiveIndexOption.PROPERTY_NAME,
+                            "true" );
+
+        // checking the type safe getOption() method
+        assertEquals( PrimitiveIndexOption.ENABLED,
+                      config.getOption( PrimitiveIndexOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "true",
+                      config.getProperty( PrimitiveIndexOption.PROPERTY_NAME ) );
+    }
+
+    @Test
+    public void testAgendaQueueConfiguration() {
+        // binary heap by default
+        assertEquals( AgendaQueueOption.BINARY_HEAP,
+                      config.getOption( AgendaQueueOption.class ) );
+
+        // setting the option using the type safe method
+        config.setOption( AgendaQueueOption.SALIENCE_FIFO );
+
+        // checking the type safe getOption() method
+        assertEquals( AgendaQueueOption.SALIENCE_FIFO,
+                      config.getOption( AgendaQueueOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "saliencefifo",
+                      config.getProperty( AgendaQueueOption.PROPERTY_NAME ) );
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( AgendaQueueOption.PROPERTY_NAME,
+                            "saliencelifo" );
+
+        // checking the type safe getOption() method
+        assertEquals( AgendaQueueOption.SALIENCE_LIFO,
+                      config.getOption( AgendaQueueOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "saliencelifo",
+                      config.getProperty( AgendaQueueOption.PROPERTY_NAME ) );
+    }
+
     @Test
     public void testBetaRangeIndexenabledConfiguration() {
         // setting the option using the enum
@@ -19,6 +19,8 @@ package org.drools.mvel.integrationtests;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.drools.mvel.compiler.Cheese;
 import org.drools.mvel.compiler.Person;
@@ -29,14 +31,18 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.kie.api.KieBase;
+import org.kie.api.KieServices;
 import org.kie.api.io.ResourceType;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.rule.EntryPoint;
 import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.runtime.conf.LockFreePropagationOption;
 import org.kie.internal.utils.KieHelper;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(Parameterized.class)
 public class FireUntilHaltTest {
@@ -98,6 +104,51 @@ public class FireUntilHaltTest {
         kSession.dispose();
     }
 
+    @Test(timeout = 20000L)
+    public void testConcurrentInsertsWithLockFreePropagation() throws InterruptedException {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + "\n" +
+                "global java.util.concurrent.CountDownLatch latch;" +
+                "rule R when\n" +
+                "    Person( age >= 18 )\n" +
+                "then\n" +
+                "    latch.countDown();" +
+                "end";
+
+        final int threadNr = 8;
+        final int personNr = 1000;
+
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(LockFreePropagationOption.YES);
+        KieSession kSession = kbase.newKieSession(conf, null);
+
+        final CountDownLatch latch = new CountDownLatch(threadNr * personNr);
+        kSession.setGlobal("latch", latch);
+
+        new Thread(kSession::fireUntilHalt).start();
+        try {
+            final Thread[] producers = new Thread[threadNr];
+            for (int i = 0; i < threadNr; i++) {
+                final int threadId = i;
+                producers[i] = new Thread(() -> {
+                    for (int j = 0; j < personNr; j++) {
+                        kSession.insert(new Person("p" + threadId + "_" + j, 18 + j % 10));
+                    }
+                });
+                producers[i].start();
+            }
+            for (Thread producer : producers) {
+                producer.join();
+            }
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } finally {
+            kSession.halt();
+            kSession.dispose();
+        }
+    }
+
     @Test
     public void testFireAllWhenFiringUntilHalt() throws InterruptedException {
         KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration); // empty
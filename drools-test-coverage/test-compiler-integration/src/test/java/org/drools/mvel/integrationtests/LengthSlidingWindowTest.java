@@ -132,6 +132,50 @@ public class LengthSlidingWindowTest {
         assertEquals( expectedPrice, (double)list.get(0), 0.01 );
     }
 
+    @Test
+    public void testMaxOverSlidingWindow() {
+        String drl =
+                "import " + StockTick.class.getCanonicalName() + "\n" +
+                "global java.util.List list;\n" +
+                "declare StockTick @role( event ) end\n" +
+                "rule R\n" +
+                "when \n" +
+                "   accumulate( StockTick( company == \"RHT\", $price : price ) over window:length( 4 ); $max : max($price), $min : min($price) )\n"  +
+                "then \n" +
+                "    list.add($max + \"/\" + $min);\n" +
+                "end \n";
+
+        KieSessionConfiguration sessionConfig = RuleBaseFactory.newKnowledgeSessionConfiguration();
+        sessionConfig.setOption( ClockTypeOption.get( ClockType.PSEUDO_CLOCK.getId() ) );
+
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
+        KieSession ksession = kbase.newKieSession(sessionConfig, null);
+
+        List<String> list = new ArrayList<String>();
+        ksession.setGlobal( "list", list );
+
+        double[] prices = { 5, 3, 8, 1, 8, 2, 7, 6, 4, 9, 1, 1, 3, 2, 5, 6, 7, 8 };
+        for (int i = 0; i < prices.length; i++) {
+            ksession.insert( new StockTick( i, "RHT", prices[i] ) );
+            // inserts some ticks together and an ignored one in the middle
+            if ( i % 3 == 1 ) {
+                ksession.insert( new StockTick( i, "ABC", 100.0 ) );
+            }
+            if ( i % 3 == 2 ) {
+                ksession.fireAllRules();
+
+                double max = Double.NEGATIVE_INFINITY;
+                double min = Double.POSITIVE_INFINITY;
+                for (int j = Math.max( 0, i - 3 ); j <= i; j++) {
+                    max = Math.max( max, prices[j] );
+                    min = Math.min( min, prices[j] );
+                }
+                assertEquals( max + "/" + min, list.get( list.size() - 1 ) );
+            }
+        }
+        ksession.dispose();
+    }
+
     @Test
     public void testCompilationFailureWithUnknownWindow() {
         // DROOLS-841
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.drools.core.impl.RuleBaseFactory;
+import org.drools.mvel.compiler.StockTick;
 import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
 import org.drools.testcoverage.common.util.KieBaseUtil;
 import org.drools.testcoverage.common.util.TestParametersUtil;
@@ -244,6 +245,45 @@ public class WindowTest {
         }
     }
 
+    @Test
+    public void testMinOverTimeWindow() {
+        String minDrl =
+                "import " + StockTick.class.getCanonicalName() + "\n" +
+                "global java.util.List result;\n" +
+                "declare StockTick @role( event ) end\n" +
+                "rule R\n" +
+                "when \n" +
+                "   accumulate( StockTick( $price : price ) over window:time( 30ms ); $min : min($price) )\n"  +
+                "then \n" +
+                "    result.add($min);\n" +
+                "end \n";
+
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, minDrl);
+        KieSessionConfiguration ksconfig = RuleBaseFactory.newKnowledgeSessionConfiguration();
+        ksconfig.setOption(ClockTypeOption.PSEUDO);
+        KieSession minSession = kbase.newKieSession(ksconfig, null);
+        SessionPseudoClock minClock = minSession.getSessionClock();
+
+        List<Object> result = new ArrayList<Object>();
+        minSession.setGlobal("result", result);
+
+        // two ticks each 10ms, so the window always contains the last 6 prices
+        double[] prices = { 3, 1, 4, 1, 5, 9, 2, 6, 5, 3, 5, 8, 9, 7, 9, 3, 2, 3, 8, 4 };
+        for (int i = 0; i < prices.length; i += 2) {
+            minSession.insert(new StockTick(i, "RHT", prices[i]));
+            minSession.insert(new StockTick(i + 1, "RHT", prices[i + 1]));
+            minSession.fireAllRules();
+
+            double min = Double.POSITIVE_INFINITY;
+            for (int j = Math.max(0, i - 4); j <= i + 1; j++) {
+                min = Math.min(min, prices[j]);
+            }
+            assertEquals(min, ((Number) result.get(result.size() - 1)).doubleValue(), 0.01);
+            minClock.advanceTime(10, TimeUnit.MILLISECONDS);
+        }
+        minSession.dispose();
+    }
+
     public class TestEvent implements Serializable {
 
         private static final long serialVersionUID = -6985691286327371275L;
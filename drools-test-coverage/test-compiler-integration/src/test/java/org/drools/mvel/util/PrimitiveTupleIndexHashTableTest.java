@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2022. Red Hat, Inc. and/or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.mvel.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.core.base.ClassFieldAccessorCache;
+import org.drools.core.base.ClassObjectType;
+import org.drools.core.common.DefaultFactHandle;
+import org.drools.core.reteoo.LeftTupleImpl;
+import org.drools.core.reteoo.RightTuple;
+import org.drools.core.reteoo.RightTupleImpl;
+import org.drools.core.rule.Declaration;
+import org.drools.core.rule.Pattern;
+import org.drools.core.spi.InternalReadAccessor;
+import org.drools.core.spi.Tuple;
+import org.drools.core.test.model.Cheese;
+import org.drools.core.util.AbstractHashTable.FieldIndex;
+import org.drools.core.util.FastIterator;
+import org.drools.core.util.index.PrimitiveTupleIndexHashTable;
+import org.drools.mvel.accessors.ClassFieldAccessorStore;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PrimitiveTupleIndexHashTableTest {
+
+    ClassFieldAccessorStore store = new ClassFieldAccessorStore();
+
+    private FieldIndex priceIndex;
+
+    @Before
+    public void setUp() throws Exception {
+        store.setClassFieldAccessorCache( new ClassFieldAccessorCache( Thread.currentThread().getContextClassLoader() ) );
+        store.setEagerWire( true );
+
+        final InternalReadAccessor extractor = store.getReader( Cheese.class, "price" );
+        final Pattern pattern = new Pattern( 0, new ClassObjectType( Cheese.class ) );
+        final Declaration declaration = new Declaration( "priceOfCheese", extractor, pattern );
+        priceIndex = new FieldIndex( extractor, declaration );
+    }
+
+    @Test
+    public void testIsPrimitiveIndexable() {
+        assertTrue( PrimitiveTupleIndexHashTable.isPrimitiveIndexable( new FieldIndex[] { priceIndex } ) );
+
+        final InternalReadAccessor typeExtractor = store.getReader( Cheese.class, "type" );
+        final Declaration typeDeclaration = new Declaration( "typeOfCheese", typeExtractor, new Pattern( 0, new ClassObjectType( Cheese.class ) ) );
+        assertFalse( PrimitiveTupleIndexHashTable.isPrimitiveIndexable( new FieldIndex[] { new FieldIndex( typeExtractor, typeDeclaration ) } ) );
+    }
+
+    @Test
+    public void testAddGetRemove() {
+        final PrimitiveTupleIndexHashTable map = new PrimitiveTupleIndexHashTable( new FieldIndex[] { priceIndex }, false );
+
+        assertEquals( 0, map.size() );
+        assertNull( map.getFirst( newLeftTuple( 0, new Cheese( "cheddar", 10 ) ) ) );
+
+        final RightTuple stilton1 = newRightTuple( 1, new Cheese( "stilton", 35 ) );
+        final RightTuple stilton2 = newRightTuple( 2, new Cheese( "stilton", 35 ) );
+        final RightTuple brie = newRightTuple( 3, new Cheese( "brie", 80 ) );
+        map.add( stilton1 );
+        map.add( stilton2 );
+        map.add( brie );
+        assertEquals( 3, map.size() );
+
+        Tuple first = map.getFirst( newLeftTuple( 4, new Cheese( "cheddar", 35 ) ) );
+        assertSame( stilton1, first );
+        assertSame( stilton2, first.getNext() );
+        assertNull( first.getNext().getNext() );
+
+        assertSame( brie, map.getFirst( newLeftTuple( 5, new Cheese( "cheddar", 80 ) ) ) );
+
+        map.remove( stilton1 );
+        map.remove( stilton2 );
+        assertEquals( 1, map.size() );
+        assertNull( map.getFirst( newLeftTuple( 6, new Cheese( "cheddar", 35 ) ) ) );
+        assertSame( brie, map.getFirst( newLeftTuple( 7, new Cheese( "cheddar", 80 ) ) ) );
+    }
+
+    @Test
+    public void testRemoveAddMovesBucket() {
+        final PrimitiveTupleIndexHashTable map = new PrimitiveTupleIndexHashTable( new FieldIndex[] { priceIndex }, false );
+
+        final Cheese cheese = new Cheese( "stilton", 35 );
+        final RightTuple rightTuple = newRightTuple( 1, cheese );
+        map.add( rightTuple );
+
+        cheese.setPrice( 40 );
+        map.removeAdd( rightTuple );
+
+        assertEquals( 1, map.size() );
+        assertNull( map.getFirst( newLeftTuple( 2, new Cheese( "cheddar", 35 ) ) ) );
+        assertSame( rightTuple, map.getFirst( newLeftTuple( 3, new Cheese( "cheddar", 40 ) ) ) );
+    }
+
+    @Test
+    public void testSerialize() throws Exception {
+        final PrimitiveTupleIndexHashTable map = new PrimitiveTupleIndexHashTable( new FieldIndex[] { priceIndex }, false );
+        map.add( newRightTuple( 1, new Cheese( "stilton", 35 ) ) );
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream( bytes )) {
+            out.writeObject( map );
+        }
+        final PrimitiveTupleIndexHashTable copy;
+        try (ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) )) {
+            copy = (PrimitiveTupleIndexHashTable) in.readObject();
+        }
+
+        // the tuples are propagated again when a session is restored, only the definition of the index is kept
+        assertEquals( 0, copy.size() );
+        assertEquals( 0, countWithFullIterator( copy ) );
+
+        final RightTuple brie = newRightTuple( 2, new Cheese( "brie", 80 ) );
+        copy.add( brie );
+        assertSame( brie, copy.getFirst( newLeftTuple( 3, new Cheese( "cheddar", 80 ) ) ) );
+        assertNull( copy.getFirst( newLeftTuple( 4, new Cheese( "cheddar", 35 ) ) ) );
+    }
+
+    @Test
+    public void testResizeAndRemoveKeepAllEntriesReachable() {
+        final PrimitiveTupleIndexHashTable map = new PrimitiveTupleIndexHashTable( 16, 0.5f, new FieldIndex[] { priceIndex }, false );
+
+        final int size = 1000;
+        final List<RightTuple> tuples = new ArrayList<>();
+        for ( int i = 0; i < size; i++ ) {
+            RightTuple rightTuple = newRightTuple( i, new Cheese( "cheese" + i, i ) );
+            tuples.add( rightTuple );
+            map.add( rightTuple );
+        }
+        assertEquals( size, map.size() );
+        assertEquals( size, countWithFullIterator( map ) );
+
+        // remove every other entry, so that the backward shift deletion has to move entries around
+        for ( int i = 0; i < size; i += 2 ) {
+            map.remove( tuples.get( i ) );
+        }
+        assertEquals( size / 2, map.size() );
+        assertEquals( size / 2, countWithFullIterator( map ) );
+
+        for ( int i = 0; i < size; i++ ) {
+            Tuple first = map.getFirst( newLeftTuple( size + i, new Cheese( "cheddar", i ) ) );
+            if ( i % 2 == 0 ) {
+                assertNull( first );
+            } else {
+                assertSame( tuples.get( i ), first );
+            }
+        }
+    }
+
+    private int countWithFullIterator( PrimitiveTupleIndexHashTable map ) {
+        int count = 0;
+        FastIterator it = map.fullFastIterator();
+        for ( Tuple tuple = (Tuple) it.next( null ); tuple != null; tuple = (Tuple) it.next( tuple ) ) {
+            count++;
+        }
+        return count;
+    }
+
+    private LeftTupleImpl newLeftTuple( int id, Cheese cheese ) {
+        return new LeftTupleImpl( new DefaultFactHandle( id, cheese ), null, true );
+    }
+
+    private RightTuple newRightTuple( int id, Cheese cheese ) {
+        return new RightTupleImpl( new DefaultFactHandle( id, cheese ), null );
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2022. Red Hat, Inc. and/or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.mvel.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.core.base.ClassFieldAccessorCache;
+import org.drools.core.base.ClassObjectType;
+import org.drools.core.common.DefaultFactHandle;
+import org.drools.core.reteoo.LeftTupleImpl;
+import org.drools.core.reteoo.RightTuple;
+import org.drools.core.reteoo.RightTupleImpl;
+import org.drools.core.reteoo.TupleMemory;
+import org.drools.core.rule.Declaration;
+import org.drools.core.rule.Pattern;
+import org.drools.core.spi.InternalReadAccessor;
+import org.drools.core.spi.Tuple;
+import org.drools.core.test.model.Cheese;
+import org.drools.core.util.AbstractHashTable.FieldIndex;
+import org.drools.core.util.FastIterator;
+import org.drools.core.util.index.IndexUtil.ConstraintType;
+import org.drools.core.util.index.TupleIndexHashRBTree;
+import org.drools.core.util.index.TupleIndexRangeRBTree;
+import org.drools.mvel.accessors.ClassFieldAccessorStore;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+public class TupleIndexRangeRBTreeTest {
+
+    ClassFieldAccessorStore store = new ClassFieldAccessorStore();
+
+    private FieldIndex typeIndex;
+    private FieldIndex lowerPriceIndex;
+    private FieldIndex upperPriceIndex;
+
+    @Before
+    public void setUp() throws Exception {
+        store.setClassFieldAccessorCache( new ClassFieldAccessorCache( Thread.currentThread().getContextClassLoader() ) );
+        store.setEagerWire( true );
+
+        final Pattern minPattern = new Pattern( 0, new ClassObjectType( Cheese.class ) );
+        final Pattern maxPattern = new Pattern( 1, 1, 1, new ClassObjectType( Cheese.class ), null );
+
+        final InternalReadAccessor typeExtractor = store.getReader( Cheese.class, "type" );
+        typeIndex = new FieldIndex( typeExtractor, new Declaration( "typeOfCheese", typeExtractor, minPattern ) );
+
+        final InternalReadAccessor priceExtractor = store.getReader( Cheese.class, "price" );
+        lowerPriceIndex = new FieldIndex( priceExtractor, new Declaration( "minPrice", priceExtractor, minPattern ) );
+        upperPriceIndex = new FieldIndex( priceExtractor, new Declaration( "maxPrice", priceExtractor, maxPattern ) );
+    }
+
+    @Test
+    public void testRangeLookup() {
+        // price > $minPrice && price <= $maxPrice
+        final TupleIndexRangeRBTree tree = new TupleIndexRangeRBTree( ConstraintType.GREATER_THAN, lowerPriceIndex,
+                                                                      ConstraintType.LESS_OR_EQUAL, upperPriceIndex );
+        final List<RightTuple> tuples = new ArrayList<>();
+        for ( int i = 0; i < 10; i++ ) {
+            RightTuple rightTuple = newRightTuple( i, new Cheese( "cheese" + i, i * 10 ) );
+            tuples.add( rightTuple );
+            tree.add( rightTuple );
+        }
+        assertEquals( 10, tree.size() );
+
+        assertThat( collect( tree, newLeftTuple( 20, 50 ) ) ).containsExactly( tuples.get( 3 ), tuples.get( 4 ), tuples.get( 5 ) );
+        assertThat( collect( tree, newLeftTuple( 25, 35 ) ) ).containsExactly( tuples.get( 3 ) );
+        assertThat( collect( tree, newLeftTuple( 30, 30 ) ) ).isEmpty();
+        assertThat( collect( tree, newLeftTuple( 90, 200 ) ) ).isEmpty();
+
+        tree.remove( tuples.get( 4 ) );
+        assertEquals( 9, tree.size() );
+        assertThat( collect( tree, newLeftTuple( 20, 50 ) ) ).containsExactly( tuples.get( 3 ), tuples.get( 5 ) );
+        assertThat( countWithFullIterator( tree ) ).isEqualTo( 9 );
+    }
+
+    @Test
+    public void testRangeLookupAfterModify() {
+        // price >= $minPrice && price < $maxPrice
+        final TupleIndexRangeRBTree tree = new TupleIndexRangeRBTree( ConstraintType.GREATER_OR_EQUAL, lowerPriceIndex,
+                                                                      ConstraintType.LESS_THAN, upperPriceIndex );
+        final Cheese cheese = new Cheese( "stilton", 10 );
+        final RightTuple rightTuple = newRightTuple( 1, cheese );
+        tree.add( rightTuple );
+        tree.add( newRightTuple( 2, new Cheese( "brie", 50 ) ) );
+
+        assertThat( collect( tree, newLeftTuple( 10, 50 ) ) ).containsExactly( rightTuple );
+
+        cheese.setPrice( 60 );
+        tree.removeAdd( rightTuple );
+        assertThat( collect( tree, newLeftTuple( 10, 50 ) ) ).isEmpty();
+        assertThat( collect( tree, newLeftTuple( 50, 70 ) ) ).hasSize( 2 );
+    }
+
+    @Test
+    public void testNestedRangeLookups() {
+        // price > $minPrice && price < $maxPrice
+        final TupleIndexRangeRBTree tree = new TupleIndexRangeRBTree( ConstraintType.GREATER_THAN, lowerPriceIndex,
+                                                                      ConstraintType.LESS_THAN, upperPriceIndex );
+        final List<RightTuple> tuples = new ArrayList<>();
+        for ( int i = 0; i < 10; i++ ) {
+            RightTuple rightTuple = newRightTuple( i, new Cheese( "cheese" + i, i * 10 ) );
+            tuples.add( rightTuple );
+            tree.add( rightTuple );
+        }
+
+        // a lookup started while iterating another one must not change where the outer iteration stops
+        final List<Tuple> outer = new ArrayList<>();
+        final FastIterator it = tree.fastIterator();
+        for ( Tuple tuple = tree.getFirst( newLeftTuple( 10, 60 ), it ); tuple != null; tuple = (Tuple) it.next( tuple ) ) {
+            outer.add( tuple );
+            assertThat( collect( tree, newLeftTuple( 0, 30 ) ) ).containsExactly( tuples.get( 1 ), tuples.get( 2 ) );
+        }
+        assertThat( outer ).containsExactly( tuples.get( 2 ), tuples.get( 3 ), tuples.get( 4 ), tuples.get( 5 ) );
+
+        // an iterator without any bound goes on up to the end of the tree, leaving the upper bound to the constraints
+        final FastIterator unbounded = tree.fastIterator();
+        int count = 0;
+        for ( Tuple tuple = tree.getFirst( newLeftTuple( 60, 75 ) ); tuple != null; tuple = (Tuple) unbounded.next( tuple ) ) {
+            count++;
+        }
+        assertEquals( 3, count );
+    }
+
+    @Test
+    public void testEqualityAndComparisonLookup() {
+        // type == $type && price < $minPrice
+        final TupleIndexHashRBTree memory = new TupleIndexHashRBTree( new FieldIndex[] { typeIndex },
+                                                                      ConstraintType.LESS_THAN, lowerPriceIndex, false );
+        final RightTuple stilton10 = newRightTuple( 1, new Cheese( "stilton", 10 ) );
+        final RightTuple stilton20 = newRightTuple( 2, new Cheese( "stilton", 20 ) );
+        final RightTuple stilton30 = newRightTuple( 3, new Cheese( "stilton", 30 ) );
+        final RightTuple brie5 = newRightTuple( 4, new Cheese( "brie", 5 ) );
+        memory.add( stilton10 );
+        memory.add( stilton20 );
+        memory.add( stilton30 );
+        memory.add( brie5 );
+        assertEquals( 4, memory.size() );
+        assertEquals( 4, countWithFullIterator( memory ) );
+
+        assertThat( collect( memory, newLeftTuple( new Cheese( "stilton", 25 ) ) ) ).containsExactlyInAnyOrder( stilton10, stilton20 );
+        assertThat( collect( memory, newLeftTuple( new Cheese( "brie", 25 ) ) ) ).containsExactly( brie5 );
+        assertThat( collect( memory, newLeftTuple( new Cheese( "cheddar", 25 ) ) ) ).isEmpty();
+        assertThat( collect( memory, newLeftTuple( new Cheese( "stilton", 10 ) ) ) ).isEmpty();
+
+        memory.remove( stilton10 );
+        memory.remove( brie5 );
+        assertEquals( 2, memory.size() );
+        assertEquals( 2, countWithFullIterator( memory ) );
+        assertThat( collect( memory, newLeftTuple( new Cheese( "stilton", 25 ) ) ) ).containsExactly( stilton20 );
+        assertThat( collect( memory, newLeftTuple( new Cheese( "brie", 25 ) ) ) ).isEmpty();
+    }
+
+    @Test
+    public void testSerializeEqualityAndComparisonIndex() throws Exception {
+        final TupleIndexHashRBTree memory = new TupleIndexHashRBTree( new FieldIndex[] { typeIndex },
+                                                                      ConstraintType.LESS_THAN, lowerPriceIndex, false );
+        memory.add( newRightTuple( 1, new Cheese( "stilton", 10 ) ) );
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream( bytes )) {
+            out.writeObject( memory );
+        }
+        final TupleIndexHashRBTree copy;
+        try (ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) )) {
+            copy = (TupleIndexHashRBTree) in.readObject();
+        }
+
+        // the tuples are propagated again when a session is restored, only the definition of the index is kept
+        assertEquals( 0, copy.size() );
+        assertEquals( TupleMemory.IndexType.COMPARISON, copy.getIndexType() );
+        assertEquals( 0, countWithFullIterator( copy ) );
+    }
+
+    private List<Tuple> collect( TupleMemory memory, Tuple leftTuple ) {
+        List<Tuple> result = new ArrayList<>();
+        FastIterator it = memory.fastIterator();
+        for ( Tuple tuple = memory.getFirst( leftTuple, it ); tuple != null; tuple = (Tuple) it.next( tuple ) ) {
+            result.add( tuple );
+        }
+        return result;
+    }
+
+    private int countWithFullIterator( TupleMemory memory ) {
+        int count = 0;
+        FastIterator it = memory.fullFastIterator();
+        for ( Tuple tuple = (Tuple) it.next( null ); tuple != null; tuple = (Tuple) it.next( tuple ) ) {
+            count++;
+        }
+        return count;
+    }
+
+    private LeftTupleImpl newLeftTuple( Cheese cheese ) {
+        return new LeftTupleImpl( new DefaultFactHandle( 100, cheese ), null, true );
+    }
+
+    private LeftTupleImpl newLeftTuple( int minPrice, int maxPrice ) {
+        LeftTupleImpl minTuple = newLeftTuple( new Cheese( "min", minPrice ) );
+        return new LeftTupleImpl( minTuple, newRightTuple( 101, new Cheese( "max", maxPrice ) ), null, true );
+    }
+
+    private RightTuple newRightTuple( int id, Cheese cheese ) {
+        return new RightTupleImpl( new DefaultFactHandle( id, cheese ), null );
+    }
+}
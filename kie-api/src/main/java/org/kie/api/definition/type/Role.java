@@ -32,5 +32,11 @@ public @interface Role {
 
     Type value() default Type.FACT;
 
+    /**
+     * Whether the events of this type are wrapped in compact fact handles. Such events
+     * take less memory but can be neither updated nor logically inserted.
+     */
+    boolean compact() default false;
+
     public enum Type { FACT, EVENT }
 }
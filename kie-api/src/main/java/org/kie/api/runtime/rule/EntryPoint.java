@@ -16,7 +16,9 @@
 
 package org.kie.api.runtime.rule;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.kie.api.runtime.ObjectFilter;
 
@@ -61,6 +63,63 @@ public interface EntryPoint {
      */
     FactHandle insert(Object object);
 
+    /**
+     * Inserts all the given facts into this entry point. Implementations may propagate them into the engine
+     * together, which is cheaper than inserting them one at a time.
+     *
+     * @param objects
+     *        the facts to be inserted
+     *
+     * @return the fact handles created for the given facts, in the same order of the facts
+     */
+    default List<FactHandle> insertBatch(Collection<?> objects) {
+        List<FactHandle> handles = new ArrayList<>(objects.size());
+        for (Object object : objects) {
+            handles.add(insert(object));
+        }
+        return handles;
+    }
+
+    /**
+     * Holds the events inserted into this entry point in a reorder buffer until the watermark passes their
+     * timestamp, so that they are propagated into the engine in timestamp order even when they arrive out of order.
+     * The watermark follows the highest timestamp inserted so far minus the given allowed lateness, and it can be
+     * also moved forward with {@link #advanceWatermark(long)}. Events whose timestamp is already passed by the
+     * watermark are late and are inserted immediately, as without reorder buffer.
+     * Only the events with a timestamp attribute are reordered. The held events are not in the working memory yet,
+     * so they are not returned by {@link #getObjects()} or {@link #getFactHandle(Object)} until released. Inserting
+     * again the object of a held event returns its handle, while updating it moves the event to its new timestamp.
+     * A session cannot be marshalled while some events are held, and the allowed lateness isn't marshalled with
+     * the session. The events cannot be reordered by a session with the equality assert behaviour.
+     * An entry point that doesn't support the reordering of the events, as the default implementation, ignores this
+     * call and keeps inserting the events immediately, so its {@link #getWatermark()} stays Long.MIN_VALUE.
+     *
+     * @param allowedLateness
+     *        the time, in the same unit of the event timestamps, an event can arrive after a newer one without being
+     *        late. Use Long.MAX_VALUE to move the watermark only explicitly.
+     */
+    default void setAllowedLateness(long allowedLateness) {
+    }
+
+    /**
+     * Moves the watermark of this entry point forward, releasing in timestamp order all the held events with a
+     * timestamp not after it. The watermark never moves backward. An entry point that doesn't support the
+     * reordering of the events, as the default implementation, ignores this call.
+     *
+     * @param watermark
+     *        the time up to which no more events are expected
+     */
+    default void advanceWatermark(long watermark) {
+    }
+
+    /**
+     * @return the current watermark of this entry point, or Long.MIN_VALUE if no event has been inserted yet
+     *         or the entry point doesn't reorder the events
+     */
+    default long getWatermark() {
+        return Long.MIN_VALUE;
+    }
+
     /**
      * Retracts the fact for which the given FactHandle was assigned.
      *
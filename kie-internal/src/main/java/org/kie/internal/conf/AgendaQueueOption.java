@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * An Enum for AgendaQueue option.
+ *
+ * drools.agendaQueue = &lt;binaryheap|saliencefifo|saliencelifo&gt;
+ *
+ * With BINARY_HEAP (default) the activations of an agenda group are kept in a binary heap ordered by salience and then
+ * by rule load order. SALIENCE_FIFO and SALIENCE_LIFO keep them in one bucket per distinct salience value, making both
+ * the insertion and the removal of an activation constant time, and order the activations with the same salience by
+ * insertion time instead of by rule load order. They are meant for rule bases using only a handful of salience values.
+ *
+ * DEFAULT = binaryheap
+ */
+public enum AgendaQueueOption implements SingleValueKieBaseOption {
+
+    BINARY_HEAP("binaryheap"),
+    SALIENCE_FIFO("saliencefifo"),
+    SALIENCE_LIFO("saliencelifo");
+
+    /**
+     * The property name for the agenda queue option
+     */
+    public static final String PROPERTY_NAME = "drools.agendaQueue";
+
+    private final String string;
+
+    AgendaQueueOption(String mode) {
+        this.string = mode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public String getMode() {
+        return string;
+    }
+
+    public String toString() {
+        return "AgendaQueueOption( " + string + " )";
+    }
+
+    public static AgendaQueueOption determineAgendaQueue(String mode) {
+        for (AgendaQueueOption option : values()) {
+            if (option.getMode().equalsIgnoreCase(mode)) {
+                return option;
+            }
+        }
+        throw new IllegalArgumentException( "Illegal enum value '" + mode + "' for AgendaQueue" );
+    }
+}
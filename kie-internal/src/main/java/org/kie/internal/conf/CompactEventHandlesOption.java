@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * An Enum for CompactEventHandles option. When enabled all the events are wrapped in compact fact handles that
+ * allocate their tuple links lazily and never hold an equality key, so the events can be neither updated nor
+ * logically inserted. A single event type can use them through @Role(value = Role.Type.EVENT, compact = true).
+ *
+ * drools.compactEventHandles = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum CompactEventHandlesOption implements SingleValueKieBaseOption {
+
+    ENABLED(true),
+    DISABLED(false);
+
+    /**
+     * The property name for the compact event handles option
+     */
+    public static final String PROPERTY_NAME = "drools.compactEventHandles";
+
+    private boolean value;
+
+    CompactEventHandlesOption( final boolean value ) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isCompactEventHandles() {
+        return this.value;
+    }
+
+}
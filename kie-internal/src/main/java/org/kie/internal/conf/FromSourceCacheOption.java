@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * An Enum for FromSourceCache option. When enabled a from whose expression doesn't depend on the tuple, like
+ * <code>from $catalog.items</code> reading a global, evaluates the alpha constraints on the returned objects only
+ * once and indexes them on the fields of its join constraints, so each left tuple only visits the candidate objects.
+ * The cached objects are reused as long as the expression returns the same instance, so that instance must not be
+ * modified, unless it is a ReactiveCollection, whose modifications invalidate the cache.
+ *
+ * drools.fromSourceCache = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum FromSourceCacheOption implements SingleValueKieBaseOption {
+
+    ENABLED(true),
+    DISABLED(false);
+
+    /**
+     * The property name for the from source cache option
+     */
+    public static final String PROPERTY_NAME = "drools.fromSourceCache";
+
+    private boolean value;
+
+    FromSourceCacheOption( final boolean value ) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isFromSourceCache() {
+        return this.value;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * A class for the left tuple pool size configuration. When positive, each join node of a session keeps up to this
+ * number of the deleted left tuples it created for a following join node and reuses them for its next matches,
+ * instead of allocating new ones. A non positive value, which is the default, disables the pooling.
+ * Only the tuples that never had children of their own are reused, and the pooling is disabled when the
+ * multithread evaluation is enabled.
+ */
+public class LeftTuplePoolSizeOption implements SingleValueKieBaseOption {
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name
+     */
+    public static final String PROPERTY_NAME = "drools.leftTuplePoolSize";
+
+    /**
+     * The default value for this option
+     */
+    public static final int DEFAULT_VALUE = 0;
+
+    /**
+     * left tuple pool size
+     */
+    private final int size;
+
+    /**
+     * Private constructor to enforce the use of the factory method
+     * @param size
+     */
+    private LeftTuplePoolSizeOption( int size ) {
+        this.size = size;
+    }
+
+    /**
+     * This is a factory method for this Left Tuple Pool Size configuration.
+     * The factory method is a best practice for the case where the
+     * actual object construction is changed in the future.
+     *
+     * @param size the maximum number of left tuples kept for reuse by each join node
+     *
+     * @return the actual type safe left tuple pool size configuration.
+     */
+    public static LeftTuplePoolSizeOption get( int size ) {
+        return new LeftTuplePoolSizeOption( size );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * Returns the maximum number of left tuples kept for reuse by each join node
+     *
+     * @return
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + size;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null ) { return false; }
+        if ( getClass() != obj.getClass() ) { return false; }
+        LeftTuplePoolSizeOption other = (LeftTuplePoolSizeOption) obj;
+        if ( size != other.size ) {
+            return false;
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * A class for the parallel join threshold configuration. When a join node has at least this number of staged
+ * right insertions to evaluate against a non empty left memory, they are split in chunks matched in parallel
+ * on the fork-join common pool. A non positive value, which is the default, disables the parallel join.
+ */
+public class ParallelJoinThresholdOption implements SingleValueKieBaseOption {
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name
+     */
+    public static final String PROPERTY_NAME = "drools.parallelJoinThreshold";
+
+    /**
+     * The default value for this option
+     */
+    public static final int DEFAULT_VALUE = -1;
+
+    /**
+     * parallel join threshold
+     */
+    private final int threshold;
+
+    /**
+     * Private constructor to enforce the use of the factory method
+     * @param threshold
+     */
+    private ParallelJoinThresholdOption( int threshold ) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * This is a factory method for this Parallel Join Threshold configuration.
+     * The factory method is a best practice for the case where the
+     * actual object construction is changed in the future.
+     *
+     * @param threshold the minimum number of right insertions evaluated in parallel
+     *
+     * @return the actual type safe parallel join threshold configuration.
+     */
+    public static ParallelJoinThresholdOption get( int threshold ) {
+        return new ParallelJoinThresholdOption( threshold );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * Returns the threshold value for the parallel join
+     *
+     * @return
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + threshold;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null ) { return false; }
+        if ( getClass() != obj.getClass() ) { return false; }
+        ParallelJoinThresholdOption other = (ParallelJoinThresholdOption) obj;
+        if ( threshold != other.threshold ) {
+            return false;
+        }
+        return true;
+    }
+
+}
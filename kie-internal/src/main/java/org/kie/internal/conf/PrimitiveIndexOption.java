@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * An Enum for PrimitiveIndex option. When enabled the equality indexes of the beta memories joining only on
+ * primitive numbers of the same type keep their keys unboxed in an open addressing table, instead of the generic
+ * TupleIndexHashTable.
+ *
+ * drools.primitiveIndex = &lt;true|false&gt;
+ *
+ * DEFAULT = true
+ */
+public enum PrimitiveIndexOption implements SingleValueKieBaseOption {
+
+    ENABLED(true),
+    DISABLED(false);
+
+    /**
+     * The property name for the primitive index option
+     */
+    public static final String PROPERTY_NAME = "drools.primitiveIndex";
+
+    private boolean value;
+
+    PrimitiveIndexOption( final boolean value ) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isPrimitiveIndex() {
+        return this.value;
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.runtime.conf.SingleValueKieSessionOption;
+
+/**
+ * An option to define if a KieSession should group the expirations of the events of each ObjectTypeNode in a queue
+ * ordered by expiration time, instead of scheduling a timer job for each event. When the events of a type with a
+ * fixed expiration arrive in order, a single timer job is scheduled for the oldest one and all the events expired
+ * by then are retracted in a single propagation.
+ *
+ * drools.expirationBuckets = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum ExpirationBucketsOption implements SingleValueKieSessionOption {
+
+    YES(true),
+    NO(false);
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the expiration buckets configuration
+     */
+    public static final String PROPERTY_NAME = "drools.expirationBuckets";
+
+    private final boolean expirationBuckets;
+
+    ExpirationBucketsOption( final boolean expirationBuckets ) {
+        this.expirationBuckets = expirationBuckets;
+    }
+
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isExpirationBuckets() {
+        return expirationBuckets;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.runtime.conf.SingleValueKieSessionOption;
+
+/**
+ * An option to define if a thread safe KieSession should enqueue the propagations coming from other threads,
+ * like the insertions performed while the session is firing until halt, in a lock-free queue instead of a
+ * synchronized one. This reduces the contention when many threads are inserting into the same session.
+ *
+ * drools.lockFreePropagation = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum LockFreePropagationOption implements SingleValueKieSessionOption {
+
+    YES(true),
+    NO(false);
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the lock-free propagation configuration
+     */
+    public static final String PROPERTY_NAME = "drools.lockFreePropagation";
+
+    private final boolean lockFreePropagation;
+
+    LockFreePropagationOption( final boolean lockFreePropagation ) {
+        this.lockFreePropagation = lockFreePropagation;
+    }
+
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isLockFreePropagation() {
+        return lockFreePropagation;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.runtime.conf.SingleValueKieSessionOption;
+
+/**
+ * An option to define if a KieSession should keep the results of the queries invoked through getQueryResults
+ * materialized. The first invocation of a query with a given set of arguments opens a view on it, updated
+ * incrementally as the facts change, and the following invocations with the same arguments just evaluate the
+ * pending changes and read the rows of that view. A view is kept for each distinct set of arguments, up to 64
+ * views per session, beyond which the least recently used one is closed. Views can also be closed explicitly
+ * through the closeMaterializedQuery and closeMaterializedQueries methods of the session, and are dropped and
+ * opened again when an update of the kbase removes or rebuilds their query.
+ *
+ * drools.materializedQueries = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum MaterializedQueriesOption implements SingleValueKieSessionOption {
+
+    YES(true),
+    NO(false);
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the materialized queries configuration
+     */
+    public static final String PROPERTY_NAME = "drools.materializedQueries";
+
+    private final boolean materializedQueries;
+
+    MaterializedQueriesOption( final boolean materializedQueries ) {
+        this.materializedQueries = materializedQueries;
+    }
+
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isMaterializedQueries() {
+        return materializedQueries;
+    }
+}
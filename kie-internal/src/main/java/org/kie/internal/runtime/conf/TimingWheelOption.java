@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.runtime.conf.SingleValueKieSessionOption;
+
+/**
+ * An option to define if the timer service of a KieSession, using either the realtime or the pseudo clock,
+ * should keep the scheduled jobs in a hierarchical timing wheel instead of a priority queue. Scheduling and
+ * cancelling a job then take constant time, and all the jobs expiring at the same time are expired in one batch.
+ *
+ * drools.timingWheel = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum TimingWheelOption implements SingleValueKieSessionOption {
+
+    YES(true),
+    NO(false);
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the timing wheel configuration
+     */
+    public static final String PROPERTY_NAME = "drools.timingWheel";
+
+    private final boolean timingWheel;
+
+    TimingWheelOption( final boolean timingWheel ) {
+        this.timingWheel = timingWheel;
+    }
+
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isTimingWheel() {
+        return timingWheel;
+    }
+}